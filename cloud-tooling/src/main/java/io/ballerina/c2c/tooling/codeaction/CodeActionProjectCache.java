@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tooling.codeaction;
+
+import io.ballerina.c2c.tooling.toml.ProbeStore;
+import io.ballerina.c2c.tooling.toml.TomlProbesVisitor;
+import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.toml.syntax.tree.DocumentNode;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the service info of a project and the probes of its Cloud.toml between code action requests.
+ * <p>
+ * Entries are keyed by the package of the project. Every didChange of a source file or the Cloud.toml replaces the
+ * package of the project, so an entry is recomputed on the first request after an edit and reused until the next one.
+ * Only the most recently used projects are kept, as the cache lives as long as the language server.
+ *
+ * @since 4.0.0
+ */
+public class CodeActionProjectCache {
+
+    private static final LanguageServerContext.Key<CodeActionProjectCache> CODE_ACTION_PROJECT_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+
+    private static final int MAX_PROJECTS = 16;
+
+    private final Map<Path, Entry> entries = new LinkedHashMap<>(MAX_PROJECTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+            return size() > MAX_PROJECTS;
+        }
+    };
+
+    private CodeActionProjectCache(LanguageServerContext context) {
+        context.put(CODE_ACTION_PROJECT_CACHE_KEY, this);
+    }
+
+    /**
+     * Returns a single instance of the cache for the language server.
+     *
+     * @param context {@link LanguageServerContext}
+     * @return {@link CodeActionProjectCache}
+     */
+    public static synchronized CodeActionProjectCache getInstance(LanguageServerContext context) {
+        CodeActionProjectCache cache = context.get(CODE_ACTION_PROJECT_CACHE_KEY);
+        if (cache == null) {
+            cache = new CodeActionProjectCache(context);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the service info of the current package of the project.
+     *
+     * @param project project of the Cloud.toml
+     * @return {@link ProjectServiceInfo}
+     */
+    public ProjectServiceInfo getProjectServiceInfo(Project project) {
+        return getEntry(project).getProjectServiceInfo(project);
+    }
+
+    /**
+     * Returns the probes declared in the Cloud.toml of the current package of the project.
+     *
+     * @param project project of the Cloud.toml
+     * @return {@link ProbeStore}
+     */
+    public ProbeStore getProbeStore(Project project) {
+        return getEntry(project).getProbeStore();
+    }
+
+    private Entry getEntry(Project project) {
+        Package currentPackage = project.currentPackage();
+        synchronized (entries) {
+            Entry entry = entries.get(project.sourceRoot());
+            if (entry == null || entry.currentPackage != currentPackage) {
+                entry = new Entry(currentPackage);
+                entries.put(project.sourceRoot(), entry);
+            }
+            return entry;
+        }
+    }
+
+    private static class Entry {
+
+        private final Package currentPackage;
+        private ProjectServiceInfo projectServiceInfo;
+        private ProbeStore probeStore;
+
+        Entry(Package currentPackage) {
+            this.currentPackage = currentPackage;
+        }
+
+        synchronized ProjectServiceInfo getProjectServiceInfo(Project project) {
+            if (projectServiceInfo == null) {
+                projectServiceInfo = new ProjectServiceInfo(project);
+            }
+            return projectServiceInfo;
+        }
+
+        synchronized ProbeStore getProbeStore() {
+            if (probeStore == null) {
+                //Code Actions gets called only from Cloud.toml in a project.
+                DocumentNode node = currentPackage.cloudToml().orElseThrow().tomlDocument().syntaxTree().rootNode();
+                TomlProbesVisitor probesVisitor = new TomlProbesVisitor();
+                node.accept(probesVisitor);
+                probeStore = probesVisitor.getStore();
+            }
+            return probeStore;
+        }
+    }
+}
@@ -20,12 +20,10 @@ package io.ballerina.c2c.tooling.codeaction.providers.kubernetes;
 import io.ballerina.c2c.tooling.toml.CommonUtil;
 import io.ballerina.c2c.tooling.toml.Probe;
 import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
-import io.ballerina.c2c.util.ListenerInfo;
 import io.ballerina.c2c.util.ProjectServiceInfo;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.projects.Project;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionKind;
@@ -42,7 +40,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Abstract class for handling Invalid resource related code actions.
@@ -52,38 +49,36 @@ import java.util.Optional;
 public abstract class AbstractInvalidResourceCodeAction extends ProbeBasedDiagnosticAction {
 
     public List<CodeAction> addResourceToService(Diagnostic diagnostic, CodeActionContext ctx, Probe probe) {
-        Optional<Project> project = ctx.workspace().project(ctx.filePath());
-        ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(project.orElseThrow());
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
+        ProjectServiceInfo projectServiceInfo = getProjectServiceInfo(ctx);
         List<CodeAction> codeActionList = new ArrayList<>();
-        for (ServiceInfo service : serviceList) {
+        String tomlPath = TomlSyntaxTreeUtil.trimResourcePath(probe.getPath().getValue());
+        for (ServiceInfo service : projectServiceInfo.getServiceIndex().getServices(probe.getPort().getValue())) {
+            // other services on the port cannot serve the path whatever resource they get
+            String serviceName = TomlSyntaxTreeUtil.trimResourcePath(service.getServicePath());
+            if (!serviceName.isEmpty() && !tomlPath.equals(serviceName) && !tomlPath.startsWith(serviceName + "/")) {
+                continue;
+            }
             String filePath = service.getNode().syntaxTree().filePath();
 
-            for (ListenerInfo listener : service.getListeners()) {
-                int port = listener.getPort();
-                if (probe.getPort().getValue() == port) {
-                    Path balFilePath = ctx.workspace().projectRoot(ctx.filePath()).resolve(filePath);
-                    NodeList<Node> members = service.getNode().members();
-                    Node lastResource = members.get(members.size() - 1);
-                    Position position = new Position(lastResource.lineRange().endLine().line() + 1, 0);
+            Path balFilePath = ctx.workspace().projectRoot(ctx.filePath()).resolve(filePath);
+            NodeList<Node> members = service.getNode().members();
+            Node lastResource = members.get(members.size() - 1);
+            Position position = new Position(lastResource.lineRange().endLine().line() + 1, 0);
 
-                    CodeAction action = new CodeAction();
-                    action.setKind(CodeActionKind.QuickFix);
-                    String importText = generateProbeFunctionText(service, probe);
-                    List<TextEdit> edits = Collections.singletonList(
-                            new TextEdit(new Range(position, position), importText));
-                    action.setEdit(new WorkspaceEdit(Collections.singletonList(Either.forLeft(
-                            new TextDocumentEdit(
-                                    new VersionedTextDocumentIdentifier(balFilePath.toUri().toString(), null),
-                                    edits)))));
-                    action.setTitle("Add Resource to Service");
-                    List<Diagnostic> cursorDiagnostics = new ArrayList<>();
-                    cursorDiagnostics.add(diagnostic);
-                    action.setDiagnostics(cursorDiagnostics);
-                    codeActionList.add(action);
-                    break;
-                }
-            }
+            CodeAction action = new CodeAction();
+            action.setKind(CodeActionKind.QuickFix);
+            String importText = generateProbeFunctionText(service, probe);
+            List<TextEdit> edits = Collections.singletonList(
+                    new TextEdit(new Range(position, position), importText));
+            action.setEdit(new WorkspaceEdit(Collections.singletonList(Either.forLeft(
+                    new TextDocumentEdit(
+                            new VersionedTextDocumentIdentifier(balFilePath.toUri().toString(), null),
+                            edits)))));
+            action.setTitle("Add Resource to Service");
+            List<Diagnostic> cursorDiagnostics = new ArrayList<>();
+            cursorDiagnostics.add(diagnostic);
+            action.setDiagnostics(cursorDiagnostics);
+            codeActionList.add(action);
         }
 
         return codeActionList;
@@ -17,11 +17,11 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers.kubernetes;
 
+import io.ballerina.c2c.tooling.codeaction.CodeActionProjectCache;
 import io.ballerina.c2c.tooling.codeaction.K8sDiagnosticsBasedCodeAction;
 import io.ballerina.c2c.tooling.toml.ProbeStore;
-import io.ballerina.c2c.tooling.toml.TomlProbesVisitor;
-import io.ballerina.toml.syntax.tree.DocumentNode;
-import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.projects.Project;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 
 /**
@@ -32,12 +32,12 @@ import org.ballerinalang.langserver.commons.CodeActionContext;
 public abstract class ProbeBasedDiagnosticAction implements K8sDiagnosticsBasedCodeAction {
 
     protected ProbeStore getProbe(CodeActionContext ctx) {
-        //Code Actions gets called only from Cloud.toml in a project.
-        SyntaxTree syntaxTree = ctx.workspace().project(ctx.filePath()).orElseThrow().currentPackage().cloudToml()
-                .orElseThrow().tomlDocument().syntaxTree();
-        DocumentNode node = syntaxTree.rootNode();
-        TomlProbesVisitor probesVisitor = new TomlProbesVisitor();
-        node.accept(probesVisitor);
-        return probesVisitor.getStore();
+        Project project = ctx.workspace().project(ctx.filePath()).orElseThrow();
+        return CodeActionProjectCache.getInstance(ctx.languageServercontext()).getProbeStore(project);
+    }
+
+    protected ProjectServiceInfo getProjectServiceInfo(CodeActionContext ctx) {
+        Project project = ctx.workspace().project(ctx.filePath()).orElseThrow();
+        return CodeActionProjectCache.getInstance(ctx.languageServercontext()).getProjectServiceInfo(project);
     }
 }
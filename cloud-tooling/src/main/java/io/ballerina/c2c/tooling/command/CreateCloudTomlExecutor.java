@@ -16,13 +16,12 @@
 package io.ballerina.c2c.tooling.command;
 
 import io.ballerina.c2c.tooling.toml.CommonUtil;
+import io.ballerina.c2c.util.CloudTomlSchema;
 import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.Project;
 import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
 import io.ballerina.toml.syntax.tree.SyntaxKind;
 import io.ballerina.toml.validator.BoilerplateGenerator;
-import io.ballerina.toml.validator.schema.Schema;
-import org.apache.commons.io.IOUtils;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.ExecuteCommandContext;
 import org.ballerinalang.langserver.commons.command.CommandArgument;
@@ -40,16 +39,11 @@ import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.Optional;
 
 /**
@@ -120,7 +114,8 @@ public class CreateCloudTomlExecutor implements LSCommandExecutor {
                         "# Uncomment Any field below if you want to override the default value." +
                         CommonUtil.LINE_SEPARATOR);
 
-        BoilerplateGenerator generator = new BoilerplateGenerator(Schema.from(getValidationSchema()));
+        BoilerplateGenerator generator = new BoilerplateGenerator(CloudTomlSchema.getInstance(
+                CommonUtil.SCHEMA_FILE_NAME, getClass().getClassLoader()).getSchema());
         Map<String, DocumentMemberDeclarationNode> nodes = generator.getNodes();
         
         // TODO Remove this from the Toml boilerplate side.
@@ -164,20 +159,4 @@ public class CreateCloudTomlExecutor implements LSCommandExecutor {
         }
         return applyWorkspaceEditParams;
     }
-
-    private String getValidationSchema() {
-        try {
-            InputStream inputStream =
-                    getClass().getClassLoader().getResourceAsStream(CommonUtil.SCHEMA_FILE_NAME);
-            if (inputStream == null) {
-                throw new MissingResourceException("Schema Not found", CommonUtil.SCHEMA_FILE_NAME, "");
-            }
-            StringWriter writer = new StringWriter();
-            IOUtils.copy(inputStream, writer, StandardCharsets.UTF_8.name());
-            return writer.toString();
-        } catch (IOException e) {
-            throw new MissingResourceException("Schema Not found", CommonUtil.SCHEMA_FILE_NAME, "");
-        }
-    }
 }
-
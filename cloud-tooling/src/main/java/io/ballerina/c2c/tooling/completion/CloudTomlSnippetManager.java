@@ -19,13 +19,10 @@
 package io.ballerina.c2c.tooling.completion;
 
 import io.ballerina.c2c.tooling.toml.CommonUtil;
-import org.apache.commons.io.IOUtils;
+import io.ballerina.c2c.util.CloudTomlSchema;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.toml.AbstractTomlSnippetManager;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-
 /**
  * Maintains all the supported snippets for Cloud Toml.
  *
@@ -55,11 +52,6 @@ public class CloudTomlSnippetManager extends AbstractTomlSnippetManager {
 
     @Override
     public String getValidationSchema() {
-        try {
-            return IOUtils
-                    .resourceToString(CommonUtil.SCHEMA_FILE_NAME, StandardCharsets.UTF_8, getClass().getClassLoader());
-        } catch (IOException e) {
-            throw new RuntimeException("Schema Not found");
-        }
+        return CloudTomlSchema.getInstance(CommonUtil.SCHEMA_FILE_NAME, getClass().getClassLoader()).getContent();
     }
 }
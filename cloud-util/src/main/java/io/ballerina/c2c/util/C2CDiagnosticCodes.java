@@ -55,6 +55,23 @@ public enum C2CDiagnosticCodes {
     INVALID_CONFIG_FILE_NAME_TAKEN("C2C_017", "duplicate file under the same config map", ERROR),
     FAILED_DEFAULTABLE_PORT_RETRIEVAL("C2C_018", "failed to retrieve port. defaultable ports are " +
             "not supported", WARNING),
+    INVALID_TERMINATION_GRACE_PERIOD("C2C_019", "termination grace period `%d` must be greater than the " +
+            "preStop drain duration `%d`", ERROR),
+    HEALTH_LISTENER_REQUIRES_HTTP("C2C_020", "health listener requires the package to import `ballerina/http`",
+            ERROR),
+    INVALID_INGRESS_CONFIG("C2C_021", "invalid ingress configuration: %s", ERROR),
+    CONFIG_DATA_TOO_LARGE("C2C_022", "%s `%s` cannot hold `%s` of %d bytes as it exceeds the Kubernetes limit of " +
+            "%d bytes", ERROR),
+    INVALID_PARTITION_CONFIG("C2C_023", "invalid deployment partition: %s", ERROR),
+    INVALID_METRICS_CONFIG("C2C_024", "invalid metrics configuration: %s", ERROR),
+    INVALID_TRACING_CONFIG("C2C_025", "invalid tracing configuration: %s", ERROR),
+    PERF_TEST_FAILED("C2C_026", "load test could not be run: %s", ERROR),
+    PERF_THRESHOLD_EXCEEDED("C2C_027", "load test exceeded its limits: %s", ERROR),
+    TEST_SHARDS_FAILED("C2C_028", "tests could not be run in shards: %s", ERROR),
+    INVALID_ROLLING_UPDATE("C2C_029", "`max_surge` and `max_unavailable` cannot both be zero as the rollout " +
+            "could not make progress", ERROR),
+    UNKNOWN_LISTENER_PORT("C2C_030", "`cloud.deployment.listeners` port `%d` does not match any service listener",
+            ERROR),
     ;
 
     private final String code;
@@ -223,6 +223,8 @@ public class C2CVisitor extends NodeVisitor {
         if (listenerInfos.size() == 0) {
             return;
         }
+        Optional<String> listenerType = getNativelySupportedListenerType(typeSymbols);
+        listenerInfos.forEach(listenerInfo -> listenerInfo.setType(listenerType.orElse(null)));
         ServiceInfo serviceInfo = new ServiceInfo(listenerInfos, serviceDeclarationNode, servicePath);
         NodeList<Node> function = serviceDeclarationNode.members();
         for (Node node : function) {
@@ -432,34 +434,41 @@ public class C2CVisitor extends NodeVisitor {
     }
 
     private boolean isC2CNativelySupportedListener(List<TypeSymbol> typeSymbols) {
+        return getNativelySupportedListenerType(typeSymbols).isPresent();
+    }
+
+    private Optional<String> getNativelySupportedListenerType(List<TypeSymbol> typeSymbols) {
         for (TypeSymbol typeSymbol : typeSymbols) {
-            if (isC2CNativelySupportedListener(typeSymbol)) {
-                return true;
+            Optional<String> listenerType = getNativelySupportedListenerType(typeSymbol);
+            if (listenerType.isPresent()) {
+                return listenerType;
             }
         }
-        return false;
+        return Optional.empty();
     }
 
-    private boolean isC2CNativelySupportedListener(TypeSymbol typeSymbol) {
+    private Optional<String> getNativelySupportedListenerType(TypeSymbol typeSymbol) {
         //To process http:Listener|error recursively.
         if (typeSymbol.typeKind() == TypeDescKind.UNION) {
             UnionTypeSymbol unionTypeSymbol = (UnionTypeSymbol) typeSymbol;
             List<TypeSymbol> typeSymbols = unionTypeSymbol.memberTypeDescriptors();
             for (TypeSymbol symbol : typeSymbols) {
                 if (symbol.typeKind() != TypeDescKind.ERROR) {
-                    return isC2CNativelySupportedListener(symbol);
+                    return getNativelySupportedListenerType(symbol);
                 }
             }
         }
         if (typeSymbol.typeKind() == TypeDescKind.TYPE_REFERENCE) {
             Optional<ModuleSymbol> module = typeSymbol.getModule();
             if (module.isEmpty() || module.get().getName().isEmpty()) {
-                return false;
+                return Optional.empty();
             }
             String moduleName = module.get().getName().get();
-            return C2C_SUPPORTED_LISTENERS.contains(moduleName);
+            if (C2C_SUPPORTED_LISTENERS.contains(moduleName)) {
+                return Optional.of(moduleName);
+            }
         }
-        return false;
+        return Optional.empty();
     }
 
     private String toAbsoluteServicePath(NodeList<Node> servicePathNodes) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.util;
+
+import io.ballerina.toml.validator.schema.Schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.WeakHashMap;
+
+/**
+ * Process wide cache of the Cloud.toml schema. The schema is read from the classpath and parsed once per class loader,
+ * and shared by the validation of every compilation and by the language server features. Entries are weakly keyed by
+ * the class loader so that a reloaded plugin reads its own schema and the old one can be collected.
+ *
+ * @since 4.0.0
+ */
+public class CloudTomlSchema {
+
+    private static final Map<ClassLoader, Map<String, CloudTomlSchema>> SCHEMAS = new WeakHashMap<>();
+
+    private final String content;
+    private volatile Schema schema;
+
+    private CloudTomlSchema(String content) {
+        this.content = content;
+    }
+
+    /**
+     * Returns the schema read from the given classpath resource, reading it on the first call.
+     *
+     * @param resourceName name of the schema resource
+     * @param classLoader  class loader to read the resource from
+     * @return {@link CloudTomlSchema}
+     */
+    public static CloudTomlSchema getInstance(String resourceName, ClassLoader classLoader) {
+        synchronized (SCHEMAS) {
+            return SCHEMAS.computeIfAbsent(classLoader, loader -> new HashMap<>())
+                    .computeIfAbsent(resourceName, name -> new CloudTomlSchema(read(name, classLoader)));
+        }
+    }
+
+    private static String read(String resourceName, ClassLoader classLoader) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new MissingResourceException("Schema Not found", resourceName, "");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MissingResourceException("Schema Not found", resourceName, "");
+        }
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the parsed schema, parsing it on the first call.
+     *
+     * @return {@link Schema}
+     */
+    public Schema getSchema() {
+        Schema parsed = schema;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = schema;
+                if (parsed == null) {
+                    parsed = Schema.from(content);
+                    schema = parsed;
+                }
+            }
+        }
+        return parsed;
+    }
+}
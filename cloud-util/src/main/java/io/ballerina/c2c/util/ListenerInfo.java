@@ -31,6 +31,7 @@ import lombok.Setter;
 public class ListenerInfo {
     private String name;
     private int port;
+    private String type;
 
     public ListenerInfo(String name, int port) {
         this.name = name;
@@ -42,6 +42,7 @@ public class ProjectServiceInfo {
 
     private final List<ServiceInfo> serviceList;
     private Task task = null;
+    private ServiceIndex serviceIndex;
 
     public ProjectServiceInfo(Project project) {
         this(project, new ArrayList<>());
@@ -71,7 +72,10 @@ public class ProjectServiceInfo {
                 Node node = document.syntaxTree().rootNode();
                 C2CVisitor visitor = new C2CVisitor(moduleLevelVariables, semanticModel, diagnostics);
                 node.accept(visitor);
-                serviceList.addAll(visitor.getServices());
+                for (ServiceInfo serviceInfo : visitor.getServices()) {
+                    serviceInfo.setModuleName(module.moduleName().toString());
+                    serviceList.add(serviceInfo);
+                }
                 this.task = visitor.getTask();
             }
         }
@@ -80,4 +84,16 @@ public class ProjectServiceInfo {
     public Optional<Task> getTask() {
         return Optional.ofNullable(task);
     }
+
+    /**
+     * Returns the services indexed by listener port, building the index on the first call.
+     *
+     * @return {@link ServiceIndex}
+     */
+    public synchronized ServiceIndex getServiceIndex() {
+        if (serviceIndex == null) {
+            serviceIndex = new ServiceIndex(serviceList);
+        }
+        return serviceIndex;
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the services of a project by listener port, along with the normalized paths of their resources, so that
+ * probe paths can be checked without walking every service.
+ *
+ * @since 4.0.0
+ */
+public class ServiceIndex {
+
+    private final Map<Long, List<ServiceInfo>> servicesByPort = new HashMap<>();
+    private final Map<ServiceInfo, Set<String>> resourcePaths = new IdentityHashMap<>();
+
+    ServiceIndex(List<ServiceInfo> services) {
+        for (ServiceInfo service : services) {
+            String servicePath = trimPath(service.getServicePath());
+            Set<String> paths = new HashSet<>();
+            for (ResourceInfo resource : service.getResourceInfo()) {
+                String resourcePath = trimPath(resource.getPath());
+                paths.add(".".equals(resourcePath) ? servicePath : trimPath(servicePath + "/" + resourcePath));
+            }
+            resourcePaths.put(service, paths);
+            for (ListenerInfo listener : service.getListeners()) {
+                List<ServiceInfo> portServices = servicesByPort.computeIfAbsent((long) listener.getPort(),
+                        port -> new ArrayList<>());
+                if (!portServices.contains(service)) {
+                    portServices.add(service);
+                }
+            }
+        }
+    }
+
+    public boolean hasPort(long port) {
+        return servicesByPort.containsKey(port);
+    }
+
+    /**
+     * Returns the services attached to a listener of the given port.
+     *
+     * @param port listener port
+     * @return services in declaration order
+     */
+    public List<ServiceInfo> getServices(long port) {
+        return servicesByPort.getOrDefault(port, Collections.emptyList());
+    }
+
+    /**
+     * Checks whether the given service has a resource serving the given path.
+     *
+     * @param service service of the project
+     * @param path    path including the base path of the service
+     * @return true if a resource serves the path
+     */
+    public boolean hasResource(ServiceInfo service, String path) {
+        return resourcePaths.getOrDefault(service, Collections.emptySet()).contains(trimPath(path));
+    }
+
+    /**
+     * Removes a leading and a trailing slash from a path.
+     *
+     * @param path path to trim
+     * @return trimmed path
+     */
+    public static String trimPath(String path) {
+        path = path.trim();
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+}
@@ -32,6 +32,7 @@ public class ServiceInfo {
     private String servicePath;
     private List<ListenerInfo> listeners;
     private List<ResourceInfo> resourceInfo;
+    private String moduleName;
 
     public ServiceInfo(List<ListenerInfo> listeners, ServiceDeclarationNode node, String servicePath) {
         this.listeners = listeners;
@@ -68,6 +69,14 @@ public class ServiceInfo {
         this.resourceInfo.add(resourceInfo);
     }
 
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public void setModuleName(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
     public List<ListenerInfo> getListeners() {
         return listeners;
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.DockerGenConstants;
+import io.ballerina.c2c.util.CloudTomlSchema;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.projects.CloudToml;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.validator.TomlValidator;
+import io.ballerina.toml.validator.schema.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the cached Cloud.toml schema against the schema parsed on every validation.
+ *
+ * @since 4.0.0
+ */
+public class CloudTomlSchemaTest {
+
+    private static final Path PROJECT_PATH = Paths.get("src", "test", "resources", "diagnostics", "invalid-input");
+
+    @Test
+    public void testSchemaIsParsedOnce() throws IOException {
+        ClassLoader classLoader = getClass().getClassLoader();
+        CloudTomlSchema schema = CloudTomlSchema.getInstance(DockerGenConstants.SCHEMA_FILE_NAME, classLoader);
+
+        Assert.assertSame(CloudTomlSchema.getInstance(DockerGenConstants.SCHEMA_FILE_NAME, classLoader), schema);
+        Assert.assertSame(schema.getSchema(), schema.getSchema());
+        // a reloaded plugin has a class loader of its own and reads its own schema
+        try (URLClassLoader reloaded = new URLClassLoader(new URL[0], classLoader)) {
+            CloudTomlSchema reloadedSchema = CloudTomlSchema.getInstance(DockerGenConstants.SCHEMA_FILE_NAME,
+                    reloaded);
+            Assert.assertNotSame(reloadedSchema, schema);
+            Assert.assertEquals(reloadedSchema.getContent(), schema.getContent());
+        }
+    }
+
+    @Test
+    public void testCachedSchemaMatchesUncachedValidation() throws IOException {
+        CloudToml cloudToml = BuildProject.load(PROJECT_PATH).currentPackage().cloudToml().orElseThrow();
+        String content;
+        try (InputStream inputStream = getClass().getClassLoader()
+                .getResourceAsStream(DockerGenConstants.SCHEMA_FILE_NAME)) {
+            Assert.assertNotNull(inputStream);
+            content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> uncached = validate(cloudToml, Schema.from(content));
+        Schema cachedSchema = CloudTomlSchema.getInstance(DockerGenConstants.SCHEMA_FILE_NAME,
+                getClass().getClassLoader()).getSchema();
+
+        Assert.assertEquals(uncached.size(), 2);
+        Assert.assertEquals(validate(cloudToml, cachedSchema), uncached);
+        // the shared schema is not changed by a validation
+        Assert.assertEquals(validate(cloudToml, cachedSchema), uncached);
+    }
+
+    private static List<String> validate(CloudToml cloudToml, Schema schema) {
+        // the diagnostics are cleared from the shared document whenever it is read again
+        Toml toml = TomlHelper.createK8sTomlFromProject(cloudToml.tomlDocument());
+        new TomlValidator(schema).validate(toml);
+        return toml.diagnostics().stream()
+                .map(diagnostic -> diagnostic.diagnosticInfo().code() + ": " + diagnostic.message() + " at " +
+                        diagnostic.location().lineRange())
+                .collect(Collectors.toList());
+    }
+}
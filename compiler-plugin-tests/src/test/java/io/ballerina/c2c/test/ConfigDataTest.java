@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.CONFIG_HASH_ANNOTATION;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Config map and secret data generation tests.
+ */
+public class ConfigDataTest {
+
+    private static final Path RESOURCES_PATH = Paths.get("src", "test", "resources", "config-data");
+    private static final int TEMPLATE_SIZE = 400 * 1024;
+    private final Map<String, String> templates = new HashMap<>();
+    private final byte[] weights = new byte[64 * 1024];
+
+    @BeforeClass
+    public void createDataFiles() throws IOException {
+        // Large inputs are created at build time rather than being checked in.
+        Path templatesDir = RESOURCES_PATH.resolve("large-config").resolve("templates");
+        Files.createDirectories(templatesDir);
+        for (int i = 0; i < 3; i++) {
+            String content = createContent("template " + i + " \"quoted\" \\path\t\u00e9\n", TEMPLATE_SIZE);
+            Files.writeString(templatesDir.resolve("template" + i + ".tmpl"), content);
+            templates.put("template" + i + ".tmpl", content);
+        }
+        Files.writeString(RESOURCES_PATH.resolve("oversized-file").resolve("model.txt"),
+                createContent("weights\n", 1024 * 1024 + 1));
+        Path modelDir = RESOURCES_PATH.resolve("binary-config").resolve("model");
+        Files.createDirectories(modelDir);
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (byte) i;
+        }
+        Files.write(modelDir.resolve("weights.bin"), weights);
+        Files.writeString(modelDir.resolve("labels.txt"), "cat\ndog\n");
+    }
+
+    @Test
+    public void testOversizedDirectoryIsSharded() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("large-config");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("largeconfig")
+                .resolve("largeconfig.yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+
+        List<ConfigMap> configMaps = new ArrayList<>();
+        Deployment deployment = null;
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(artifactYaml);
+        for (HasMetadata data : k8sItems) {
+            if ("ConfigMap".equals(data.getKind())) {
+                configMaps.add((ConfigMap) data);
+            } else if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertEquals(configMaps.size(), 2);
+        Map<String, String> data = new HashMap<>();
+        configMaps.forEach(configMap -> data.putAll(configMap.getData()));
+        Assert.assertEquals(data, templates);
+
+        Assert.assertNotNull(deployment);
+        List<Volume> volumes = deployment.getSpec().getTemplate().getSpec().getVolumes();
+        Assert.assertEquals(volumes.size(), 1);
+        Assert.assertEquals(volumes.get(0).getProjected().getSources().size(), 2);
+        Assert.assertEquals(volumes.get(0).getProjected().getSources().get(0).getConfigMap().getName(),
+                configMaps.get(0).getMetadata().getName());
+    }
+
+    @Test
+    public void testOversizedFile() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("oversized-file");
+        KubernetesTestUtils.compileBallerinaProject(projectPath);
+        Assert.assertFalse(Files.exists(projectPath.resolve("target").resolve(KUBERNETES).resolve("oversized")
+                .resolve("oversized.yaml")));
+    }
+
+    @Test
+    public void testBinaryData() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("binary-config");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("binaryconfig")
+                .resolve("binaryconfig.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(artifactYaml);
+        ConfigMap configMap = (ConfigMap) k8sItems.stream()
+                .filter(data -> "ConfigMap".equals(data.getKind()))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(configMap.getData().size(), 1);
+        Assert.assertEquals(configMap.getData().get("labels.txt"), "cat\ndog\n");
+        Assert.assertEquals(configMap.getBinaryData().size(), 1);
+        Assert.assertEquals(Base64.getDecoder().decode(configMap.getBinaryData().get("weights.bin")), weights);
+    }
+
+    @Test
+    public void testConfigHashAnnotation() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("config-hash");
+        Files.writeString(projectPath.resolve("Config.toml"), "[confighash]\ngreeting = \"Hello\"\n");
+        String initialHash = getConfigHash(projectPath);
+        Assert.assertNotNull(initialHash);
+        Assert.assertEquals(getConfigHash(projectPath), initialHash);
+
+        Files.writeString(projectPath.resolve("Config.toml"), "[confighash]\ngreeting = \"Hi\"\n");
+        Assert.assertNotEquals(getConfigHash(projectPath), initialHash);
+    }
+
+    @Test
+    public void testImmutableConfig() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("immutable-config");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("immutable")
+                .resolve("immutable.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(artifactYaml);
+        ConfigMap configMap = null;
+        ConfigMap configFile = null;
+        Deployment deployment = null;
+        for (HasMetadata data : k8sItems) {
+            if ("ConfigMap".equals(data.getKind())) {
+                if (data.getMetadata().getName().startsWith("immutable-application")) {
+                    configFile = (ConfigMap) data;
+                } else {
+                    configMap = (ConfigMap) data;
+                }
+            } else if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertNotNull(configMap);
+        Assert.assertTrue(configMap.getImmutable());
+        Assert.assertTrue(configMap.getMetadata().getName().matches(".*cfg0-[0-9a-f]{10}"));
+
+        // the long name is truncated so that the volume name still fits in a DNS label
+        Assert.assertNotNull(configFile);
+        Assert.assertTrue(configFile.getMetadata().getName().matches("immutable-application-configuration-with-a" +
+                "-lo-[0-9a-f]{10}"));
+
+        Assert.assertNotNull(deployment);
+        String configMapName = configMap.getMetadata().getName();
+        List<Volume> volumes = deployment.getSpec().getTemplate().getSpec().getVolumes();
+        Assert.assertTrue(volumes.stream().anyMatch(volume -> volume.getConfigMap() != null &&
+                configMapName.equals(volume.getConfigMap().getName())));
+        for (Volume volume : volumes) {
+            Assert.assertTrue(volume.getName().length() <= 63, volume.getName());
+        }
+    }
+
+    private String getConfigHash(Path projectPath) throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("confighash")
+                .resolve("confighash.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(artifactYaml);
+        Deployment deployment = (Deployment) k8sItems.stream()
+                .filter(data -> "Deployment".equals(data.getKind()))
+                .findFirst()
+                .orElseThrow();
+        return deployment.getSpec().getTemplate().getMetadata().getAnnotations().get(CONFIG_HASH_ANNOTATION);
+    }
+
+    private static String createContent(String line, int size) {
+        StringBuilder content = new StringBuilder();
+        int lineSize = line.getBytes(StandardCharsets.UTF_8).length;
+        for (int written = 0; written < size; written += lineSize) {
+            content.append(line);
+        }
+        return content.toString();
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException, IOException {
+        File[] projects = RESOURCES_PATH.toFile().listFiles();
+        if (projects == null) {
+            return;
+        }
+        for (File project : projects) {
+            KubernetesUtils.deleteDirectory(project.toPath().resolve("target"));
+        }
+        KubernetesUtils.deleteDirectory(RESOURCES_PATH.resolve("large-config").resolve("templates"));
+        Files.deleteIfExists(RESOURCES_PATH.resolve("oversized-file").resolve("model.txt"));
+        KubernetesUtils.deleteDirectory(RESOURCES_PATH.resolve("binary-config").resolve("model"));
+        Files.deleteIfExists(RESOURCES_PATH.resolve("config-hash").resolve("Config.toml"));
+    }
+}
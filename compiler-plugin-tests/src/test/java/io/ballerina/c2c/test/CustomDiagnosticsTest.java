@@ -15,6 +15,8 @@
  */
 package io.ballerina.c2c.test;
 
+import io.ballerina.projects.CloudToml;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -110,6 +112,56 @@ public class CustomDiagnosticsTest {
         Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Liveness Probe Resource Path");
     }
 
+    @Test
+    public void testIncrementalValidation() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "invalid-res-path");
+        BuildProject project = BuildProject.load(projectPath);
+        CloudToml cloudToml = project.currentPackage().cloudToml().orElseThrow();
+        String content = cloudToml.tomlDocument().textDocument().toString();
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.iterator().next().location().lineRange().startLine().line(), 7);
+
+        // an edit outside the probes moves the diagnostic along with the probe
+        Package shifted = cloudToml.modify().withContent("# probes\n" + content).apply();
+        diagnostics = getC2CDiagnostics(shifted.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.iterator().next().location().lineRange().startLine().line(), 8);
+
+        Package fixed = shifted.cloudToml().orElseThrow().modify()
+                .withContent(content.replace("/helloWorld/test", "/helloWorld/sayHello")).apply();
+        diagnostics = getC2CDiagnostics(fixed.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 0);
+    }
+
+    @Test
+    public void testMultipleServicesOnPort() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "multi-service");
+        BuildProject project = BuildProject.load(projectPath);
+        CloudToml cloudToml = project.currentPackage().cloudToml().orElseThrow();
+        String content = cloudToml.tomlDocument().textDocument().toString();
+        // the root path is served by the `.` resource of the root service and the other path by the other service
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 0);
+
+        Package missingResource = cloudToml.modify()
+                .withContent(content.replace("/helloWorld/sayHello", "/helloWorld/readyz")).apply();
+        diagnostics = getC2CDiagnostics(missingResource.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Liveness Probe Resource Path");
+
+        Package unknownPort = cloudToml.modify()
+                .withContent(content.replace("port = 9090\npath = \"/helloWorld", "port = 9092\npath = \"/helloWorld"))
+                .apply();
+        diagnostics = getC2CDiagnostics(unknownPort.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 2);
+        Iterator<Diagnostic> iterator = diagnostics.iterator();
+        Assert.assertEquals(iterator.next().message(), "Invalid Liveness Probe Port");
+        Assert.assertEquals(iterator.next().message(), "Invalid Liveness Probe Path");
+    }
+
     @Test
     public void testDefaultConfigValueError() {
         Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "default-config-value");
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.DockerGenConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DockerModel;
+import io.ballerina.c2c.test.utils.FakeDockerEngine;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.ArtifactInputManifest;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.RollingUpdateDeployment;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+import static io.ballerina.c2c.test.utils.KubernetesTestUtils.getC2CDiagnostics;
+import static io.ballerina.c2c.test.utils.KubernetesTestUtils.getDockerImage;
+
+/**
+ * Deployment generation tests.
+ */
+public class DeploymentTest {
+
+    private static final Path RESOURCES_PATH = Paths.get("src", "test", "resources", "deployment");
+    private static final String MISSING_IMAGE = "anuruddhal/missing-image:v1";
+    private static final String NATIVE_IMAGE = "anuruddhal/native-oci:v1";
+
+    @Test
+    public void testRollingUpdateStrategy() throws IOException, InterruptedException {
+        Deployment deployment = compileAndGetDeployment("rolling-update", "rolling");
+        Assert.assertEquals(deployment.getSpec().getStrategy().getType(), "RollingUpdate");
+        RollingUpdateDeployment rollingUpdate = deployment.getSpec().getStrategy().getRollingUpdate();
+        Assert.assertEquals(rollingUpdate.getMaxSurge().getIntVal().intValue(), 1);
+        Assert.assertEquals(rollingUpdate.getMaxUnavailable().getStrVal(), "0%");
+        Assert.assertEquals(deployment.getSpec().getMinReadySeconds().intValue(), 5);
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getTerminationGracePeriodSeconds()
+                .longValue(), 45L);
+
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getLifecycle().getPreStop().getExec().getCommand(), List.of("sleep", "20"));
+    }
+
+    @Test
+    public void testDrainDerivedFromReadinessProbe() throws IOException, InterruptedException {
+        Deployment deployment = compileAndGetDeployment("probe-drain", "probedrain");
+        Assert.assertNull(deployment.getSpec().getStrategy());
+        Assert.assertNull(deployment.getSpec().getTemplate().getSpec().getTerminationGracePeriodSeconds());
+
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getLifecycle().getPreStop().getExec().getCommand(), List.of("sleep", "15"));
+    }
+
+    @Test
+    public void testStartupProbeAndProbeTimings() throws IOException, InterruptedException {
+        Deployment deployment = compileAndGetDeployment("startup-probe", "startupprobe");
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        Probe startupProbe = container.getStartupProbe();
+        Assert.assertNotNull(startupProbe);
+        Assert.assertEquals(startupProbe.getHttpGet().getPort().getIntVal().intValue(), 9090);
+        Assert.assertEquals(startupProbe.getPeriodSeconds().intValue(), 5);
+        Assert.assertEquals(startupProbe.getFailureThreshold().intValue(), 5);
+
+        Probe readinessProbe = container.getReadinessProbe();
+        Assert.assertEquals(readinessProbe.getInitialDelaySeconds().intValue(), 0);
+        Assert.assertEquals(readinessProbe.getPeriodSeconds().intValue(), 5);
+        Assert.assertEquals(readinessProbe.getTimeoutSeconds().intValue(), 2);
+        Assert.assertEquals(readinessProbe.getFailureThreshold().intValue(), 2);
+        Assert.assertEquals(readinessProbe.getSuccessThreshold().intValue(), 2);
+
+        Probe livenessProbe = container.getLivenessProbe();
+        Assert.assertEquals(livenessProbe.getInitialDelaySeconds().intValue(), 0);
+        Assert.assertEquals(livenessProbe.getPeriodSeconds().intValue(), 20);
+        Assert.assertNull(livenessProbe.getTimeoutSeconds());
+
+        // Drain follows the configured readiness period.
+        Assert.assertEquals(container.getLifecycle().getPreStop().getExec().getCommand(), List.of("sleep", "10"));
+    }
+
+    @Test
+    public void testHealthListenerProbes() throws IOException, InterruptedException {
+        Deployment deployment = compileAndGetDeployment("health-listener", "healthlistener");
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertTrue(container.getPorts().stream()
+                .anyMatch(port -> "health".equals(port.getName()) && port.getContainerPort() == 9091));
+
+        Probe readinessProbe = container.getReadinessProbe();
+        Assert.assertEquals(readinessProbe.getHttpGet().getPort().getIntVal().intValue(), 9091);
+        Assert.assertEquals(readinessProbe.getHttpGet().getPath(), "/probes/readyz");
+        Probe livenessProbe = container.getLivenessProbe();
+        Assert.assertEquals(livenessProbe.getHttpGet().getPort().getIntVal().intValue(), 9091);
+        Assert.assertEquals(livenessProbe.getHttpGet().getPath(), "/probes/healthz");
+
+        // the health port serves no resource that can take the pod out of rotation
+        Assert.assertNull(container.getLifecycle().getPreStop().getHttpGet());
+        Assert.assertEquals(container.getLifecycle().getPreStop().getExec().getCommand(), List.of("sleep", "15"));
+
+        Service service = (Service) loadArtifacts("health-listener", "healthlistener").stream()
+                .filter(data -> "Service".equals(data.getKind()))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(service.getSpec().getPorts().size(), 1);
+        Assert.assertEquals(service.getSpec().getPorts().get(0).getPort().intValue(), 9090);
+    }
+
+    @Test
+    public void testHealthListenerWithoutHttp() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("health-listener-no-http");
+        Assert.assertNotEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        Assert.assertFalse(Files.exists(projectPath.resolve("target").resolve(KUBERNETES).resolve("healthnohttp")
+                .resolve("healthnohttp.yaml")));
+    }
+
+    @Test
+    public void testInvalidHealthListenerProbePath() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("health-listener-invalid-path");
+        Assert.assertNotEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+
+        List<Diagnostic> diagnostics = getDiagnostics(projectPath);
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C002");
+        Assert.assertEquals(diagnostics.get(0).message(), "Invalid Readiness Probe Path");
+    }
+
+    @Test
+    public void testUnchangedInputsSkipRegeneration() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("rolling-update");
+        Path outputDir = projectPath.resolve("target").resolve(KUBERNETES).resolve("rolling");
+        Path dockerOutputDir = projectPath.resolve("target").resolve(DOCKER).resolve("rolling");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        Assert.assertTrue(Files.exists(dockerOutputDir.resolve(ArtifactInputManifest.MANIFEST_FILE_NAME)));
+        FileTime generatedTime = Files.getLastModifiedTime(outputDir.resolve("rolling.yaml"));
+        FileTime dockerfileTime = Files.getLastModifiedTime(dockerOutputDir.resolve("Dockerfile"));
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        Assert.assertEquals(Files.getLastModifiedTime(outputDir.resolve("rolling.yaml")), generatedTime);
+        Assert.assertEquals(Files.getLastModifiedTime(dockerOutputDir.resolve("Dockerfile")), dockerfileTime);
+    }
+
+    @Test
+    public void testMissingImageIsRebuilt() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("missing-image");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        Assert.assertNotNull(getDockerImage(MISSING_IMAGE));
+
+        // unchanged inputs do not make up for an image which is gone
+        KubernetesTestUtils.deleteDockerImage(MISSING_IMAGE);
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        Assert.assertNotNull(getDockerImage(MISSING_IMAGE));
+        KubernetesTestUtils.deleteDockerImage(MISSING_IMAGE);
+    }
+
+    @Test
+    public void testNativeImageWithOciBuilder() throws Exception {
+        Path dockerOutputDir = Files.createTempDirectory("c2c-native-oci-");
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName(NATIVE_IMAGE);
+        dockerModel.setImageBuilder(DockerGenConstants.OCI_IMAGE_BUILDER);
+        dockerModel.setGraalVMBuild(true);
+        try (FakeDockerEngine engine = new FakeDockerEngine()) {
+            engine.setAsDockerHost();
+            engine.handle("GET", "/images/", (request, out) -> FakeDockerEngine.writeResponse(out, 200,
+                    "application/json", "{\"Id\":\"sha256:0123abcd\",\"Size\":4096}"));
+            // native images are built by the daemon, hence no archive is written
+            Assert.assertTrue(ArtifactInputManifest.isImageUpToDate(dockerModel, dockerOutputDir));
+
+            engine.handle("GET", "/images/", (request, out) -> FakeDockerEngine.writeResponse(out, 404,
+                    "application/json", "{\"message\":\"no such image\"}"));
+            Files.writeString(dockerOutputDir.resolve(DockerGenConstants.OCI_ARCHIVE_FILE), "");
+            Assert.assertFalse(ArtifactInputManifest.isImageUpToDate(dockerModel, dockerOutputDir));
+
+            dockerModel.setGraalVMBuild(false);
+            Assert.assertTrue(ArtifactInputManifest.isImageUpToDate(dockerModel, dockerOutputDir));
+            Files.delete(dockerOutputDir.resolve(DockerGenConstants.OCI_ARCHIVE_FILE));
+            Assert.assertFalse(ArtifactInputManifest.isImageUpToDate(dockerModel, dockerOutputDir));
+        } finally {
+            KubernetesUtils.deleteDirectory(dockerOutputDir);
+        }
+    }
+
+    @Test
+    public void testPartitions() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(RESOURCES_PATH.resolve("partitions")), 0);
+        Map<String, HasMetadata> artifacts = new HashMap<>();
+        for (HasMetadata data : loadArtifacts("partitions", "partitions")) {
+            artifacts.put(data.getKind() + "/" + data.getMetadata().getName(), data);
+        }
+
+        Deployment deployment = (Deployment) artifacts.get("Deployment/partitions-deployment");
+        Assert.assertEquals(deployment.getSpec().getSelector().getMatchLabels().get("app"), "partitions");
+        Deployment adminDeployment = (Deployment) artifacts.get("Deployment/partitions-admin-deployment");
+        Assert.assertEquals(adminDeployment.getSpec().getSelector().getMatchLabels().get("app"), "partitions-admin");
+        Assert.assertEquals(adminDeployment.getSpec().getReplicas().intValue(), 2);
+        Container container = adminDeployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getImage(), deployment.getSpec().getTemplate().getSpec().getContainers().get(0)
+                .getImage());
+        Assert.assertTrue(container.getEnv().stream()
+                .anyMatch(env -> "C2C_PARTITION".equals(env.getName()) && "admin".equals(env.getValue())));
+
+        Service service = (Service) artifacts.get("Service/partitions-svc");
+        Assert.assertEquals(service.getSpec().getSelector().get("app"), "partitions");
+        Assert.assertEquals(service.getSpec().getPorts().size(), 1);
+        Assert.assertEquals(service.getSpec().getPorts().get(0).getPort().intValue(), 9090);
+        Service adminService = (Service) artifacts.get("Service/partitions-admin-svc");
+        Assert.assertEquals(adminService.getSpec().getSelector().get("app"), "partitions-admin");
+        Assert.assertEquals(adminService.getSpec().getPorts().size(), 1);
+        Assert.assertEquals(adminService.getSpec().getPorts().get(0).getPort().intValue(), 9091);
+
+        HorizontalPodAutoscaler adminHpa =
+                (HorizontalPodAutoscaler) artifacts.get("HorizontalPodAutoscaler/partitions-admin-hpa");
+        Assert.assertEquals(adminHpa.getSpec().getScaleTargetRef().getName(), "partitions-admin-deployment");
+        Assert.assertEquals(adminHpa.getSpec().getMinReplicas().intValue(), 2);
+        Assert.assertEquals(adminHpa.getSpec().getMaxReplicas().intValue(), 4);
+        Assert.assertTrue(artifacts.containsKey("HorizontalPodAutoscaler/partitions-hpa"));
+    }
+
+    @Test
+    public void testInvalidTerminationGracePeriod() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("invalid-grace-period");
+        Assert.assertNotEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        Assert.assertFalse(Files.exists(projectPath.resolve("target").resolve(KUBERNETES).resolve("invalidgrace")
+                .resolve("invalidgrace.yaml")));
+
+        List<Diagnostic> diagnostics = getDiagnostics(projectPath);
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_019");
+        Assert.assertEquals(diagnostics.get(0).message(),
+                "termination grace period `30` must be greater than the preStop drain duration `40`");
+    }
+
+    @Test
+    public void testZeroSurgeAndUnavailable() throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve("invalid-rolling-update");
+        Assert.assertNotEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+
+        List<Diagnostic> diagnostics = getDiagnostics(projectPath);
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_029");
+        Assert.assertEquals(diagnostics.get(0).message(), "`max_surge` and `max_unavailable` cannot both be zero " +
+                "as the rollout could not make progress");
+    }
+
+    private List<Diagnostic> getDiagnostics(Path projectPath) {
+        BuildProject project = BuildProject.load(projectPath);
+        return new ArrayList<>(getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult()
+                .diagnostics()));
+    }
+
+    private Deployment compileAndGetDeployment(String project, String outputName)
+            throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve(project);
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        for (HasMetadata data : loadArtifacts(project, outputName)) {
+            if ("Deployment".equals(data.getKind())) {
+                return (Deployment) data;
+            }
+        }
+        Assert.fail("Deployment not found for " + project);
+        return null;
+    }
+
+    private List<HasMetadata> loadArtifacts(String project, String outputName) throws IOException {
+        File artifactYaml = RESOURCES_PATH.resolve(project).resolve("target").resolve(KUBERNETES).resolve(outputName)
+                .resolve(outputName + ".yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        return KubernetesTestUtils.loadYaml(artifactYaml);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        File[] projects = RESOURCES_PATH.toFile().listFiles();
+        if (projects == null) {
+            return;
+        }
+        for (File project : projects) {
+            KubernetesUtils.deleteDirectory(project.toPath().resolve("target"));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressPath;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Ingress and Gateway API route generation tests.
+ */
+public class IngressTest {
+
+    private static final Path RESOURCES_PATH = Paths.get("src", "test", "resources", "ingress");
+
+    @Test
+    public void testIngressWithRouteTimeouts() throws IOException, InterruptedException {
+        Map<String, Ingress> ingresses = compileAndGetArtifacts("http-ingress", "httpingress").stream()
+                .filter(data -> "Ingress".equals(data.getKind()))
+                .map(data -> (Ingress) data)
+                .collect(Collectors.toMap(ingress -> ingress.getMetadata().getName(), ingress -> ingress));
+        Assert.assertEquals(ingresses.size(), 2);
+
+        Ingress ingress = ingresses.get("httpingress-ingress");
+        Assert.assertEquals(ingress.getSpec().getIngressClassName(), "nginx");
+        Assert.assertEquals(ingress.getSpec().getRules().get(0).getHost(), "hello.example.com");
+        Map<String, String> annotations = ingress.getMetadata().getAnnotations();
+        Assert.assertEquals(annotations.get("nginx.ingress.kubernetes.io/proxy-read-timeout"), "30");
+        Assert.assertEquals(annotations.get("nginx.ingress.kubernetes.io/proxy-buffer-size"), "16k");
+        Assert.assertFalse(annotations.containsKey("nginx.ingress.kubernetes.io/backend-protocol"));
+        HTTPIngressPath path = ingress.getSpec().getRules().get(0).getHttp().getPaths().get(0);
+        Assert.assertEquals(path.getPath(), "/hello");
+        Assert.assertEquals(path.getPathType(), "Prefix");
+        Assert.assertEquals(path.getBackend().getService().getName(), "httpingress-svc");
+        Assert.assertEquals(path.getBackend().getService().getPort().getNumber().intValue(), 9090);
+        // services sharing a listener are routed by their own base paths
+        List<HTTPIngressPath> paths = ingress.getSpec().getRules().get(0).getHttp().getPaths();
+        Assert.assertEquals(paths.size(), 2);
+        Assert.assertEquals(paths.get(1).getPath(), "/admin");
+        Assert.assertEquals(paths.get(1).getBackend().getService().getPort().getNumber().intValue(), 9090);
+
+        Ingress reportIngress = ingresses.get("httpingress-300s-ingress");
+        Assert.assertEquals(reportIngress.getMetadata().getAnnotations()
+                .get("nginx.ingress.kubernetes.io/proxy-read-timeout"), "300");
+        Assert.assertEquals(reportIngress.getSpec().getRules().get(0).getHttp().getPaths().get(0).getPath(),
+                "/hello/report");
+    }
+
+    @Test
+    public void testGatewayHttpRoute() throws IOException, InterruptedException {
+        GenericKubernetesResource route = compileAndGetArtifacts("gateway-route", "gatewayroute").stream()
+                .filter(data -> "HTTPRoute".equals(data.getKind()))
+                .map(data -> (GenericKubernetesResource) data)
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(route.getApiVersion(), "gateway.networking.k8s.io/v1");
+        Assert.assertEquals(route.get("spec", "parentRefs", 0, "name"), "shared-gateway");
+        Assert.assertEquals(route.get("spec", "parentRefs", 0, "namespace"), "infra");
+        Assert.assertEquals(route.get("spec", "hostnames", 0), "hello.example.com");
+
+        List<Object> rules = route.get("spec", "rules");
+        Assert.assertEquals(rules.size(), 2);
+        Assert.assertEquals(route.get("spec", "rules", 0, "matches", 0, "path", "value"), "/hello/report");
+        Assert.assertEquals(route.get("spec", "rules", 0, "timeouts", "request"), "300s");
+        Assert.assertEquals(route.get("spec", "rules", 1, "matches", 0, "path", "value"), "/hello");
+        Assert.assertEquals(route.get("spec", "rules", 1, "timeouts", "request"), "30s");
+        Assert.assertEquals(route.get("spec", "rules", 1, "backendRefs", 0, "name"), "gatewayroute-svc");
+        Assert.assertEquals(route.<Integer>get("spec", "rules", 1, "backendRefs", 0, "port").intValue(), 9090);
+    }
+
+    private List<HasMetadata> compileAndGetArtifacts(String project, String outputName)
+            throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve(project);
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve(outputName)
+                .resolve(outputName + ".yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        return KubernetesTestUtils.loadYaml(artifactYaml);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        File[] projects = RESOURCES_PATH.toFile().listFiles();
+        if (projects == null) {
+            return;
+        }
+        for (File project : projects) {
+            KubernetesUtils.deleteDirectory(project.toPath().resolve("target"));
+        }
+    }
+}
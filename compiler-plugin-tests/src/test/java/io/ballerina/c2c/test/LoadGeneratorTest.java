@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import com.sun.net.httpserver.HttpServer;
+import io.ballerina.c2c.models.PerfTargetModel;
+import io.ballerina.c2c.utils.LoadGenerator;
+import io.ballerina.c2c.utils.LoadGenerator.LoadResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Load generator tests against an in-process HTTP server.
+ */
+public class LoadGeneratorTest {
+
+    private static final String HOST = "127.0.0.1";
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch stalled = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        server.createContext("/hello/sayHello", exchange -> {
+            byte[] response = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/hello/greet", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                bodies.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        server.createContext("/hello/fail", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.createContext("/hello/stall", exchange -> {
+            // send the headers but never the body, which the request timeout does not cover
+            exchange.sendResponseHeaders(200, 10);
+            exchange.getResponseBody().flush();
+            try {
+                stalled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        PerfTargetModel target = new PerfTargetModel("GET", "/hello/sayHello", 9090);
+        int port = server.getAddress().getPort();
+        LoadResult result;
+        try (LoadGenerator generator = new LoadGenerator()) {
+            Assert.assertTrue(generator.awaitReady(HOST, port, target, Duration.ofSeconds(5)));
+            result = generator.run(HOST, port, target, 100, Duration.ofSeconds(2));
+        }
+        Assert.assertTrue(result.getRequests() >= 180 && result.getRequests() <= 220,
+                "unexpected request count " + result.getRequests());
+        Assert.assertEquals(result.getErrors(), 0);
+        Assert.assertEquals(result.getUnfinished(), 0);
+        Assert.assertEquals(result.getErrorRate(), 0.0);
+        Assert.assertTrue(result.getLatencyMillis(50) <= result.getLatencyMillis(99));
+        Assert.assertEquals(result.getHistogram().values().stream().mapToLong(Long::longValue).sum(),
+                result.getRequests());
+    }
+
+    @Test
+    public void testPayloadTemplate() throws InterruptedException {
+        PerfTargetModel target = new PerfTargetModel("POST", "/hello/greet", 9090);
+        target.setBody("{\"id\": " + LoadGenerator.SEQUENCE_PLACEHOLDER + "}");
+        target.setContentType("application/json");
+
+        LoadResult result;
+        try (LoadGenerator generator = new LoadGenerator()) {
+            result = generator.run(HOST, server.getAddress().getPort(), target, 20, Duration.ofSeconds(1));
+        }
+        Assert.assertEquals(result.getErrors(), 0);
+        Assert.assertTrue(bodies.contains("{\"id\": 1}"));
+        Assert.assertTrue(bodies.contains("{\"id\": 2}"));
+    }
+
+    @Test
+    public void testServerErrors() throws InterruptedException {
+        PerfTargetModel target = new PerfTargetModel("GET", "/hello/fail", 9090);
+
+        LoadResult result;
+        try (LoadGenerator generator = new LoadGenerator()) {
+            result = generator.run(HOST, server.getAddress().getPort(), target, 20, Duration.ofSeconds(1));
+        }
+        Assert.assertTrue(result.getRequests() > 0);
+        Assert.assertEquals(result.getErrors(), result.getRequests());
+        Assert.assertEquals(result.getErrorRate(), 100.0);
+        Assert.assertEquals(result.getThroughput(), 0.0);
+    }
+
+    @Test
+    public void testUnfinishedRequests() throws InterruptedException {
+        PerfTargetModel target = new PerfTargetModel("GET", "/hello/stall", 9090);
+
+        LoadResult result;
+        try (LoadGenerator generator = new LoadGenerator(Duration.ofSeconds(1))) {
+            result = generator.run(HOST, server.getAddress().getPort(), target, 10, Duration.ofSeconds(1));
+        }
+        Assert.assertTrue(result.getUnfinished() > 0);
+        Assert.assertEquals(result.getRequests(), 0);
+        Assert.assertEquals(result.getErrors(), 0);
+
+        // closing the generator aborts the stalled requests, which must not be recorded afterwards
+        stalled.countDown();
+        Thread.sleep(500);
+        Assert.assertEquals(result.getRequests(), 0);
+    }
+
+    @AfterClass
+    public void stopServer() {
+        stalled.countDown();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
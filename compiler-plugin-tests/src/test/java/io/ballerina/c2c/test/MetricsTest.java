@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Prometheus metrics endpoint and monitor generation tests.
+ */
+public class MetricsTest {
+
+    private static final Path RESOURCES_PATH = Paths.get("src", "test", "resources", "metrics");
+
+    @Test
+    public void testServiceMonitor() throws IOException, InterruptedException {
+        Map<String, HasMetadata> artifacts = compileAndGetArtifacts("service-monitor", "servicemonitor");
+
+        Deployment deployment = (Deployment) artifacts.get("Deployment");
+        Map<String, String> podAnnotations = deployment.getSpec().getTemplate().getMetadata().getAnnotations();
+        Assert.assertEquals(podAnnotations.get("prometheus.io/scrape"), "true");
+        Assert.assertEquals(podAnnotations.get("prometheus.io/port"), "9797");
+        Assert.assertEquals(podAnnotations.get("prometheus.io/path"), "/metrics");
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertTrue(container.getPorts().stream()
+                .anyMatch(port -> "metrics".equals(port.getName()) && port.getContainerPort() == 9797));
+
+        Service service = (Service) artifacts.get("Service");
+        Assert.assertTrue(service.getSpec().getPorts().stream()
+                .anyMatch(port -> "metrics".equals(port.getName()) && port.getPort() == 9797));
+
+        GenericKubernetesResource monitor = (GenericKubernetesResource) artifacts.get("ServiceMonitor");
+        Assert.assertEquals(monitor.getApiVersion(), "monitoring.coreos.com/v1");
+        Assert.assertEquals(monitor.getMetadata().getLabels().get("release"), "prometheus");
+        Assert.assertEquals(monitor.get("spec", "selector", "matchExpressions", 0, "values"),
+                List.of("servicemonitor"));
+        Assert.assertEquals(monitor.get("spec", "endpoints", 0, "port"), "metrics");
+        Assert.assertEquals(monitor.get("spec", "endpoints", 0, "path"), "/metrics");
+        Assert.assertEquals(monitor.get("spec", "endpoints", 0, "interval"), "15s");
+        Assert.assertEquals(monitor.get("spec", "podTargetLabels", 0), "app");
+    }
+
+    @Test(dependsOnMethods = "testServiceMonitor")
+    public void testDashboardAndAlerts() throws IOException {
+        Path outputDir = RESOURCES_PATH.resolve("service-monitor").resolve("target").resolve(KUBERNETES)
+                .resolve("servicemonitor");
+        Path dashboardFile = outputDir.resolve("grafana").resolve("servicemonitor-dashboard.json");
+        Assert.assertTrue(Files.exists(dashboardFile));
+        JsonObject dashboard = JsonParser.parseString(Files.readString(dashboardFile)).getAsJsonObject();
+        Assert.assertEquals(dashboard.get("title").getAsString(), "servicemonitor");
+        List<String> titles = new ArrayList<>();
+        for (JsonElement panel : dashboard.getAsJsonArray("panels")) {
+            titles.add(panel.getAsJsonObject().get("title").getAsString());
+        }
+        Assert.assertEquals(titles, List.of("Pods", "Memory", "CPU", "Replicas", "/hello",
+                "GET /hello/sayHello throughput", "GET /hello/sayHello latency", "GET /hello/sayHello error rate",
+                "GET /hello throughput", "GET /hello latency", "GET /hello error rate"));
+
+        List<HasMetadata> artifacts = KubernetesTestUtils.loadYaml(outputDir.resolve("servicemonitor.yaml").toFile());
+        GenericKubernetesResource rules = (GenericKubernetesResource) artifacts.stream()
+                .filter(data -> "PrometheusRule".equals(data.getKind()))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(rules.getMetadata().getLabels().get("release"), "prometheus");
+        Assert.assertEquals(rules.get("spec", "groups", 0, "rules", 0, "alert"), "BallerinaResourceHighLatency");
+        Assert.assertEquals(rules.get("spec", "groups", 0, "rules", 0, "labels", "resource"),
+                "GET /hello/sayHello");
+        String latency = rules.get("spec", "groups", 0, "rules", 0, "expr");
+        Assert.assertTrue(latency.contains("src_resource_path=\"/sayHello\""));
+        Assert.assertTrue(latency.endsWith(" > 1"));
+        Assert.assertEquals(rules.get("spec", "groups", 0, "rules", 1, "alert"), "BallerinaResourceHighErrorRate");
+        Assert.assertEquals(rules.get("spec", "groups", 0, "rules", 2, "labels", "resource"), "GET /hello");
+        String rootLatency = rules.get("spec", "groups", 0, "rules", 2, "expr");
+        Assert.assertTrue(rootLatency.contains("src_resource_path=\"/\""));
+    }
+
+    @Test
+    public void testPodMonitor() throws IOException, InterruptedException {
+        Map<String, HasMetadata> artifacts = compileAndGetArtifacts("pod-monitor", "podmonitor");
+
+        Service service = (Service) artifacts.get("Service");
+        Assert.assertTrue(service.getSpec().getPorts().stream().noneMatch(port -> port.getPort() == 9898));
+
+        GenericKubernetesResource monitor = (GenericKubernetesResource) artifacts.get("PodMonitor");
+        Assert.assertEquals(monitor.get("spec", "podMetricsEndpoints", 0, "port"), "metrics");
+        Assert.assertFalse(artifacts.containsKey("ServiceMonitor"));
+
+        Deployment deployment = (Deployment) artifacts.get("Deployment");
+        Assert.assertEquals(deployment.getSpec().getTemplate().getMetadata().getAnnotations()
+                .get("prometheus.io/port"), "9898");
+    }
+
+    private Map<String, HasMetadata> compileAndGetArtifacts(String project, String outputName)
+            throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve(project);
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve(outputName)
+                .resolve(outputName + ".yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        List<HasMetadata> artifacts = KubernetesTestUtils.loadYaml(artifactYaml);
+        Map<String, HasMetadata> artifactsByKind = new HashMap<>();
+        for (HasMetadata artifact : artifacts) {
+            artifactsByKind.put(artifact.getKind(), artifact);
+        }
+        return artifactsByKind;
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        File[] projects = RESOURCES_PATH.toFile().listFiles();
+        if (projects == null) {
+            return;
+        }
+        for (File project : projects) {
+            KubernetesUtils.deleteDirectory(project.toPath().resolve("target"));
+        }
+    }
+}
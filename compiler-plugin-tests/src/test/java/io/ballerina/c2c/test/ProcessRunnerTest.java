@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.utils.ProcessRunner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tests running external processes through the process runner.
+ */
+public class ProcessRunnerTest {
+
+    private static final int LARGE_OUTPUT_SIZE = 200000;
+
+    @Test(timeOut = 60000)
+    public void testDrainsBothStreams() throws IOException, InterruptedException {
+        // each stream gets more than a pipe buffer, the error stream first, which blocks unless both are read
+        String script = "head -c " + LARGE_OUTPUT_SIZE + " /dev/zero | tr '\\0' e >&2; " +
+                "head -c " + LARGE_OUTPUT_SIZE + " /dev/zero | tr '\\0' o; echo; echo done";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream error = new ByteArrayOutputStream();
+        ProcessRunner.ProcessResult result = new ProcessRunner()
+                .withTimestamps(false)
+                .withTimeout(Duration.ofSeconds(30))
+                .withPrintStreams(printStream(output), printStream(error))
+                .run(new ProcessBuilder("sh", "-c", script));
+
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(result.getOutput().size(), 2);
+        Assert.assertEquals(result.getOutput().get(0).length(), LARGE_OUTPUT_SIZE);
+        Assert.assertEquals(result.getOutput().get(1), "done");
+        Assert.assertEquals(result.getError().size(), 1);
+        Assert.assertEquals(result.getError().get(0).length(), LARGE_OUTPUT_SIZE);
+        Assert.assertEquals(output.size(), LARGE_OUTPUT_SIZE + "done".length() + 2 * System.lineSeparator().length());
+        Assert.assertEquals(error.size(), LARGE_OUTPUT_SIZE + System.lineSeparator().length());
+    }
+
+    @Test(timeOut = 60000)
+    public void testTimeout() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        ProcessRunner.ProcessResult result = new ProcessRunner()
+                .withTimestamps(false)
+                .withTimeout(Duration.ofSeconds(1))
+                .withPrintStreams(printStream(new ByteArrayOutputStream()), printStream(new ByteArrayOutputStream()))
+                .run(new ProcessBuilder("sh", "-c", "echo started; exec sleep 60"));
+
+        Assert.assertTrue(result.isTimedOut());
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals(result.getExitCode(), -1);
+        Assert.assertEquals(result.getOutput(), List.of("started"));
+        // the process is destroyed rather than waited for
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(30)) < 0);
+    }
+
+    @Test
+    public void testPrefixAndFilter() throws IOException, InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream error = new ByteArrayOutputStream();
+        ProcessRunner.ProcessResult result = new ProcessRunner()
+                .withTimestamps(false)
+                .withPrefix("[shard-1] ")
+                .withOutputFilter(line -> !line.startsWith("Untagged"))
+                .withPrintStreams(printStream(output), printStream(error))
+                .run(new ProcessBuilder("sh", "-c", "echo Untagged: image; echo Deleted: layer; " +
+                        "echo Untagged: kept >&2; exit 3"));
+
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertFalse(result.isTimedOut());
+        Assert.assertEquals(result.getExitCode(), 3);
+        // the filter only applies to the output stream
+        Assert.assertEquals(result.getOutput(), List.of("Deleted: layer"));
+        Assert.assertEquals(result.getError(), List.of("Untagged: kept"));
+        Assert.assertEquals(lines(output), List.of("[shard-1] Deleted: layer"));
+        Assert.assertEquals(lines(error), List.of("[shard-1] Untagged: kept"));
+    }
+
+    @Test
+    public void testTimestamps() throws IOException, InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ProcessRunner()
+                .withTimestamps(true)
+                .withPrefix("[build] ")
+                .withPrintStreams(printStream(output), printStream(new ByteArrayOutputStream()))
+                .run(new ProcessBuilder("sh", "-c", "echo step"));
+
+        List<String> lines = lines(output);
+        Assert.assertEquals(lines.size(), 1);
+        Assert.assertTrue(lines.get(0).matches("\\d{2}:\\d{2}:\\d{2}(\\.\\d{1,3})? \\[build] step"), lines.get(0));
+    }
+
+    @Test
+    public void testCapturedTail() throws IOException, InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ProcessRunner.ProcessResult result = new ProcessRunner()
+                .withTimestamps(false)
+                .withCapturedLines(3)
+                .withPrintStreams(printStream(output), printStream(new ByteArrayOutputStream()))
+                .run(new ProcessBuilder("sh", "-c", "i=1; while [ $i -le 10 ]; do echo line$i; " +
+                        "echo error$i >&2; i=$((i+1)); done"));
+
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(result.getOutput(), List.of("line8", "line9", "line10"));
+        Assert.assertEquals(result.getError(), List.of("error8", "error9", "error10"));
+        // every line is still printed
+        Assert.assertEquals(lines(output).size(), 10);
+    }
+
+    private static PrintStream printStream(ByteArrayOutputStream stream) {
+        return new PrintStream(stream, true, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> lines(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -17,6 +17,7 @@ package io.ballerina.c2c.test;
 
 import io.ballerina.c2c.util.ListenerInfo;
 import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.util.ServiceIndex;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.directory.BuildProject;
@@ -51,6 +52,32 @@ public class ServiceExtractionTest {
         Assert.assertEquals(listener.getPort(), 9090);
     }
 
+    @Test
+    public void testServiceIndex() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "multi-service");
+
+        BuildProject project = BuildProject.load(projectPath);
+        ServiceIndex serviceIndex = new ProjectServiceInfo(project).getServiceIndex();
+
+        Assert.assertTrue(serviceIndex.hasPort(9090));
+        Assert.assertFalse(serviceIndex.hasPort(9092));
+        Assert.assertTrue(serviceIndex.getServices(9092).isEmpty());
+        List<ServiceInfo> services = serviceIndex.getServices(9090);
+        Assert.assertEquals(services.size(), 2);
+        ServiceInfo helloService = services.get(0);
+        ServiceInfo rootService = services.get(1);
+        Assert.assertEquals(helloService.getServicePath(), "/helloWorld");
+        Assert.assertEquals(rootService.getServicePath(), "/");
+
+        Assert.assertTrue(serviceIndex.hasResource(helloService, "/helloWorld/sayHello/"));
+        Assert.assertFalse(serviceIndex.hasResource(helloService, "/sayHello"));
+        Assert.assertFalse(serviceIndex.hasResource(helloService, "/"));
+        // the `.` resource serves the base path of the service
+        Assert.assertTrue(serviceIndex.hasResource(rootService, "/"));
+        Assert.assertTrue(serviceIndex.hasResource(rootService, "/healthz"));
+        Assert.assertFalse(serviceIndex.hasResource(rootService, "/helloWorld/sayHello"));
+    }
+
     @Test
     public void testVariableHttpServiceListenerDecl() {
         Path projectPath = Paths.get("src", "test", "resources", "service", "listener-variable");
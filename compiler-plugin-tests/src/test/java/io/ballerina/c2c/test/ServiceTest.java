@@ -16,6 +16,8 @@
 package io.ballerina.c2c.test;
 
 import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
@@ -32,6 +34,7 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+import static io.ballerina.c2c.test.utils.KubernetesTestUtils.getC2CDiagnostics;
 
 /**
  * Service Generation Tests.
@@ -78,6 +81,65 @@ public class ServiceTest {
         }
     }
 
+    @Test
+    public void testHeadlessListener() throws IOException, InterruptedException {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "headless-listener");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("headless").resolve(
+                "headless.yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        KubernetesClient client = new KubernetesClientBuilder().build();
+        List<HasMetadata> k8sItems = client.load(new FileInputStream(artifactYaml)).items();
+        Service clusterIpService = null;
+        Service headlessService = null;
+        Service unreadyHeadlessService = null;
+        for (HasMetadata data : k8sItems) {
+            if ("Service".equals(data.getKind())) {
+                Service service = (Service) data;
+                if (service.getMetadata().getName().endsWith("-headless")) {
+                    headlessService = service;
+                } else if (service.getMetadata().getName().endsWith("-headless-unready")) {
+                    unreadyHeadlessService = service;
+                } else {
+                    clusterIpService = service;
+                }
+            }
+        }
+        Assert.assertNotNull(clusterIpService);
+        Assert.assertNotNull(headlessService);
+        Assert.assertNotNull(unreadyHeadlessService);
+        Assert.assertEquals(clusterIpService.getSpec().getPorts().size(), 2);
+        Assert.assertEquals(headlessService.getMetadata().getName(), clusterIpService.getMetadata().getName() +
+                "-headless");
+        Assert.assertEquals(headlessService.getSpec().getClusterIP(), "None");
+        Assert.assertFalse(headlessService.getSpec().getPublishNotReadyAddresses());
+        Assert.assertEquals(headlessService.getSpec().getPorts().size(), 1);
+        Assert.assertEquals(headlessService.getSpec().getPorts().get(0).getPort().intValue(), 9090);
+
+        // publishNotReadyAddresses only applies to the listener which asked for it
+        Assert.assertEquals(unreadyHeadlessService.getMetadata().getName(),
+                clusterIpService.getMetadata().getName() + "-headless-unready");
+        Assert.assertEquals(unreadyHeadlessService.getSpec().getClusterIP(), "None");
+        Assert.assertTrue(unreadyHeadlessService.getSpec().getPublishNotReadyAddresses());
+        Assert.assertEquals(unreadyHeadlessService.getSpec().getPorts().size(), 1);
+        Assert.assertEquals(unreadyHeadlessService.getSpec().getPorts().get(0).getPort().intValue(), 9095);
+        Assert.assertEquals(unreadyHeadlessService.getSpec().getPorts().get(0).getAppProtocol(),
+                "kubernetes.io/h2c");
+        Assert.assertNotNull(unreadyHeadlessService.getSpec().getPorts().get(0).getName());
+    }
+
+    @Test
+    public void testUnknownListenerPort() {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "unknown-listener-port");
+        BuildProject project = BuildProject.load(projectPath);
+        List<Diagnostic> diagnostics = getC2CDiagnostics(project.currentPackage().getCompilation()
+                .diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_030");
+        Assert.assertEquals(diagnostics.get(0).message(),
+                "`cloud.deployment.listeners` port `9096` does not match any service listener");
+    }
+
     @Test
     public void testInvalidInternalDomainName() throws IOException, InterruptedException {
         Path projectPath = Paths.get("src", "test", "resources", "service", "invalid-internal-domain");
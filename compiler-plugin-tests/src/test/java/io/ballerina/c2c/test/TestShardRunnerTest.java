@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TestShardRunner;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests merging the results of sharded test containers.
+ */
+public class TestShardRunnerTest {
+
+    private Path workDir;
+
+    @BeforeClass
+    public void createWorkDir() throws IOException {
+        workDir = Files.createTempDirectory("c2c-shards-");
+    }
+
+    @Test
+    public void testMergeResults() throws IOException {
+        Path shard0 = workDir.resolve("shard-0").resolve("target");
+        Path shard1 = workDir.resolve("shard-1").resolve("target");
+        write(shard0.resolve("cache/tests_cache/coverage/ballerina.exec"), "first");
+        write(shard0.resolve("cache/tests_cache/foo/status.json"), "foo");
+        write(shard1.resolve("cache/tests_cache/coverage/ballerina.exec"), "second");
+        write(shard1.resolve("cache/tests_cache/bar/status.json"), "bar");
+
+        Path results = workDir.resolve("results");
+        TestShardRunner.mergeResults(List.of(shard0, shard1, workDir.resolve("shard-2").resolve("target")), results);
+
+        Assert.assertEquals(read(results.resolve("cache/tests_cache/coverage/ballerina.exec")), "firstsecond");
+        Assert.assertEquals(read(results.resolve("cache/tests_cache/foo/status.json")), "foo");
+        Assert.assertEquals(read(results.resolve("cache/tests_cache/bar/status.json")), "bar");
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+
+    private static String read(Path path) throws IOException {
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+
+    @AfterClass
+    public void deleteWorkDir() throws Exception {
+        KubernetesUtils.deleteDirectory(workDir);
+    }
+}
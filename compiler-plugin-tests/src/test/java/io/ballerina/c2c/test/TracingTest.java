@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Tracing configuration generation tests.
+ */
+public class TracingTest {
+
+    private static final Path RESOURCES_PATH = Paths.get("src", "test", "resources", "tracing");
+
+    @Test
+    public void testJaegerSamplingRatio() throws IOException, InterruptedException {
+        List<HasMetadata> artifacts = compileAndGetArtifacts("jaeger", "jaeger");
+
+        String configToml = getTracingConfigToml(artifacts, "jaeger-tracing-config-map");
+        Assert.assertTrue(configToml.contains("tracingEnabled = true"));
+        Assert.assertTrue(configToml.contains("tracingProvider = \"jaeger\""));
+        Assert.assertTrue(configToml.contains("[ballerinax.jaeger]"));
+        Assert.assertTrue(configToml.contains("agentHostname = \"otel-collector.observability\""));
+        Assert.assertTrue(configToml.contains("agentPort = 4317"));
+        Assert.assertTrue(configToml.contains("samplerType = \"probabilistic\""));
+        Assert.assertTrue(configToml.contains("samplerParam = 0.1"));
+
+        Deployment deployment = (Deployment) artifacts.stream()
+                .filter(data -> "Deployment".equals(data.getKind()))
+                .findFirst()
+                .orElseThrow();
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        EnvVar configFiles = container.getEnv().stream()
+                .filter(env -> "BAL_CONFIG_FILES".equals(env.getName()))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertTrue(configFiles.getValue().contains("/home/ballerina/tracing/Config.toml:"));
+        Assert.assertTrue(container.getVolumeMounts().stream()
+                .anyMatch(mount -> "/home/ballerina/tracing/".equals(mount.getMountPath())));
+    }
+
+    @Test
+    public void testZipkinRateLimit() throws IOException, InterruptedException {
+        List<HasMetadata> artifacts = compileAndGetArtifacts("zipkin-rate-limit", "zipkin");
+
+        String configToml = getTracingConfigToml(artifacts, "zipkin-tracing-config-map");
+        Assert.assertTrue(configToml.contains("tracingProvider = \"zipkin\""));
+        Assert.assertTrue(configToml.contains("[ballerinax.zipkin]"));
+        Assert.assertTrue(configToml.contains("agentPort = 9411"));
+        Assert.assertTrue(configToml.contains("samplerType = \"ratelimiting\""));
+        Assert.assertTrue(configToml.contains("samplerParam = 10.0"));
+    }
+
+    private List<HasMetadata> compileAndGetArtifacts(String project, String outputName)
+            throws IOException, InterruptedException {
+        Path projectPath = RESOURCES_PATH.resolve(project);
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve(outputName)
+                .resolve(outputName + ".yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        return KubernetesTestUtils.loadYaml(artifactYaml);
+    }
+
+    private String getTracingConfigToml(List<HasMetadata> artifacts, String configMapName) {
+        ConfigMap configMap = (ConfigMap) artifacts.stream()
+                .filter(data -> "ConfigMap".equals(data.getKind()) &&
+                        configMapName.equals(data.getMetadata().getName()))
+                .findFirst()
+                .orElseThrow();
+        return configMap.getData().get("Config.toml");
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        File[] projects = RESOURCES_PATH.toFile().listFiles();
+        if (projects == null) {
+            return;
+        }
+        for (File project : projects) {
+            KubernetesUtils.deleteDirectory(project.toPath().resolve("target"));
+        }
+    }
+}
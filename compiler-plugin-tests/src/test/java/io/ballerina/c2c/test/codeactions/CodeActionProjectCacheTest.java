@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.codeactions;
+
+import io.ballerina.c2c.tooling.codeaction.CodeActionProjectCache;
+import io.ballerina.c2c.tooling.toml.ProbeStore;
+import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.directory.BuildProject;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the cache of the service info and probes shared by the code actions of a project.
+ */
+public class CodeActionProjectCacheTest {
+
+    private static final Path SOURCE_DIR = Paths.get("src", "test", "resources", "codeaction", "add-to-cloud-probe",
+            "source");
+    private static final int CACHED_PROJECTS = 16;
+
+    private Path workDir;
+
+    @BeforeClass
+    public void createWorkDir() throws IOException {
+        workDir = Files.createTempDirectory("c2c-code-action-cache-");
+    }
+
+    @Test
+    public void testReuseForSamePackage() throws IOException {
+        CodeActionProjectCache cache = CodeActionProjectCache.getInstance(new LanguageServerContextImpl());
+        BuildProject project = BuildProject.load(copyProject("reused"));
+        ProjectServiceInfo projectServiceInfo = cache.getProjectServiceInfo(project);
+        ProbeStore probeStore = cache.getProbeStore(project);
+        Assert.assertSame(cache.getProjectServiceInfo(project), projectServiceInfo);
+        Assert.assertSame(cache.getProbeStore(project), probeStore);
+    }
+
+    @Test
+    public void testInvalidationOnEdit() throws IOException {
+        CodeActionProjectCache cache = CodeActionProjectCache.getInstance(new LanguageServerContextImpl());
+        BuildProject project = BuildProject.load(copyProject("edited"));
+        ProjectServiceInfo projectServiceInfo = cache.getProjectServiceInfo(project);
+        ProbeStore probeStore = cache.getProbeStore(project);
+
+        // an edit of a source file replaces the package of the project
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        document.modify().withContent(document.textDocument().toString() + System.lineSeparator()).apply();
+        Assert.assertNotSame(cache.getProjectServiceInfo(project), projectServiceInfo);
+        Assert.assertNotSame(cache.getProbeStore(project), probeStore);
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        CodeActionProjectCache cache = CodeActionProjectCache.getInstance(new LanguageServerContextImpl());
+        List<BuildProject> projects = new ArrayList<>();
+        List<ProbeStore> probeStores = new ArrayList<>();
+        for (int i = 0; i < CACHED_PROJECTS; i++) {
+            BuildProject project = BuildProject.load(copyProject("evicted-" + i));
+            projects.add(project);
+            probeStores.add(cache.getProbeStore(project));
+        }
+        // reading the first project again makes the second one the least recently used
+        Assert.assertSame(cache.getProbeStore(projects.get(0)), probeStores.get(0));
+
+        cache.getProbeStore(BuildProject.load(copyProject("evicted-" + CACHED_PROJECTS)));
+        Assert.assertSame(cache.getProbeStore(projects.get(0)), probeStores.get(0));
+        Assert.assertSame(cache.getProbeStore(projects.get(CACHED_PROJECTS - 1)),
+                probeStores.get(CACHED_PROJECTS - 1));
+        Assert.assertNotSame(cache.getProbeStore(projects.get(1)), probeStores.get(1));
+    }
+
+    private Path copyProject(String name) throws IOException {
+        Path projectDir = workDir.resolve(name);
+        Files.createDirectories(projectDir);
+        for (String file : List.of("Ballerina.toml", "Cloud.toml", "probegen.bal")) {
+            Files.copy(SOURCE_DIR.resolve(file), projectDir.resolve(file));
+        }
+        return projectDir;
+    }
+
+    @AfterClass
+    public void deleteWorkDir() throws Exception {
+        KubernetesUtils.deleteDirectory(workDir);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.test.codeactions.diagnostic;
+
+import io.ballerina.c2c.test.codeactions.AbstractCodeActionTest;
+import org.testng.annotations.DataProvider;
+
+/**
+ * Test case for code action related to correcting the resource path when several services share the port.
+ *
+ * @since 4.0.0
+ */
+public class InvalidResourcePathMultiService extends AbstractCodeActionTest {
+
+    @DataProvider(name = "codeaction-data-provider")
+    @Override
+    public Object[][] dataProvider() {
+        return new Object[][]{
+                { "fix-res-path.json", "Cloud.toml" }
+        };
+    }
+
+    @Override
+    public String getResourceDir() {
+        return "fix-invalid-resource-multi-service";
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.docker;
+
+import io.ballerina.c2c.exceptions.DockerGenException;
+import io.ballerina.c2c.test.utils.FakeDockerEngine;
+import io.ballerina.c2c.utils.DockerEngineClient;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.ProcessRunner;
+import io.ballerina.c2c.utils.TarArchiveWriter;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the docker engine client against a fake engine, covering the chunked responses and the multiplexed
+ * container output as they arrive over several reads.
+ */
+public class DockerEngineClientTest {
+
+    private static final String IMAGE = "anuruddhal/engine-client:v1";
+    private static final String PERF_IMAGE = "anuruddhal/engine-client:perf";
+    private static final String IMAGE_JSON = "{\"Id\":\"sha256:0123abcd\",\"Size\":4096," +
+            "\"RootFS\":{\"Type\":\"layers\",\"Layers\":[\"sha256:aaaa\",\"sha256:bbbb\"]}}";
+
+    private FakeDockerEngine engine;
+    private DockerEngineClient client;
+    private Path workDir;
+
+    @BeforeClass
+    public void startEngine() throws IOException, ReflectiveOperationException {
+        workDir = Files.createTempDirectory("c2c-engine-");
+        engine = new FakeDockerEngine();
+        engine.setAsDockerHost();
+        engine.handle("GET", "/images/", (request, out) -> writeChunked(out, 200, IMAGE_JSON, 7));
+        Optional<DockerEngineClient> connected = DockerEngineClient.connect();
+        Assert.assertTrue(connected.isPresent(), "unable to connect to the fake docker engine");
+        client = connected.get();
+    }
+
+    @Test
+    public void testChunkedResponse() {
+        Optional<DockerEngineClient.ImageInfo> image = client.inspectImage(IMAGE);
+        Assert.assertTrue(image.isPresent());
+        Assert.assertEquals(image.get().getId(), "sha256:0123abcd");
+        Assert.assertEquals(image.get().getLayers(), List.of("sha256:aaaa", "sha256:bbbb"));
+        Assert.assertEquals(image.get().getSize(), 4096L);
+        Assert.assertTrue(engine.getRequests().stream()
+                .anyMatch(request -> "/images/anuruddhal%2Fengine-client%3Av1/json".equals(request.getPath())));
+    }
+
+    @Test
+    public void testBuildImage() throws DockerGenException {
+        byte[] context = new byte[100000];
+        new Random(42).nextBytes(context);
+        // a message of the build output is split over two chunks
+        String messages = "{\"stream\":\"Step 1/2 : FROM scratch\\n\"}\r\n{\"stream\":\"Successfully built\\n\"}";
+        engine.handle("POST", "/build", (request, out) -> writeChunked(out, 200, messages, 20));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        DockerEngineClient.ImageInfo image = client.buildImage(IMAGE, out -> out.write(context),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        Assert.assertEquals(image.getId(), "sha256:0123abcd");
+        Assert.assertEquals(output.toString(StandardCharsets.UTF_8), "Step 1/2 : FROM scratch\nSuccessfully built\n");
+        FakeDockerEngine.Request build = engine.getRequests().stream()
+                .filter(request -> request.getPath().startsWith("/build"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        Assert.assertEquals(build.getPath(), "/build?t=anuruddhal%2Fengine-client%3Av1&nocache=1&forcerm=1");
+        Assert.assertEquals(build.getHeaders().get("content-type"), "application/x-tar");
+        Assert.assertEquals(build.getHeaders().get("transfer-encoding"), "chunked");
+        Assert.assertEquals(build.getBody(), context);
+    }
+
+    @Test(dependsOnMethods = "testBuildImage", expectedExceptions = DockerGenException.class,
+            expectedExceptionsMessageRegExp = "docker build failed: COPY failed: file not found")
+    public void testBuildError() throws DockerGenException {
+        String messages = "{\"stream\":\"Step 1/2 : COPY app.jar .\\n\"}{\"error\":\"COPY failed: file not found\"}";
+        engine.handle("POST", "/build", (request, out) -> writeChunked(out, 200, messages, 9));
+        client.buildImage(IMAGE, out -> out.write(new byte[1024]),
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+    }
+
+    @Test(timeOut = 60000)
+    public void testContainerOutput() throws DockerGenException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch framesWritten = new CountDownLatch(1);
+        engine.handle("POST", "/containers/create", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 201, "application/json", "{\"Id\":\"c2c0\"}"));
+        engine.handle("POST", "/containers/c2c0/attach", (request, out) -> {
+            out.write(("HTTP/1.1 101 UPGRADED\r\nContent-Type: application/vnd.docker.raw-stream\r\n" +
+                    "Connection: Upgrade\r\nUpgrade: tcp\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            Assert.assertTrue(started.await(30, TimeUnit.SECONDS));
+            ByteArrayOutputStream frames = new ByteArrayOutputStream();
+            // lines are split across frames and the frames across reads, headers included
+            frames.write(frame(1, "hello\nwor"));
+            frames.write(frame(2, "oops\n"));
+            frames.write(frame(1, "ld\n"));
+            frames.write(frame(2, ""));
+            frames.write(frame(1, "last line"));
+            FakeDockerEngine.writeInPieces(out, frames.toByteArray(), 3);
+            framesWritten.countDown();
+        });
+        engine.handle("POST", "/containers/c2c0/start", (request, out) -> {
+            started.countDown();
+            FakeDockerEngine.writeResponse(out, 204, "text/plain", "");
+        });
+        engine.handle("POST", "/containers/c2c0/wait", (request, out) -> {
+            Assert.assertTrue(framesWritten.await(30, TimeUnit.SECONDS));
+            FakeDockerEngine.writeResponse(out, 200, "application/json", "{\"StatusCode\":3}");
+        });
+        engine.handle("DELETE", "/containers/c2c0", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 204, "text/plain", ""));
+
+        ProcessRunner.ProcessResult result = client.runContainer(IMAGE, List.of(9090), Duration.ofSeconds(30));
+
+        Assert.assertEquals(result.getExitCode(), 3);
+        Assert.assertFalse(result.isTimedOut());
+        Assert.assertEquals(result.getOutput(), List.of("hello", "world", "last line"));
+        Assert.assertEquals(result.getError(), List.of("oops"));
+        Assert.assertTrue(engine.getRequests().stream()
+                .anyMatch(request -> "DELETE".equals(request.getMethod()) &&
+                        request.getPath().equals("/containers/c2c0?force=1")));
+        String create = engine.getRequests().stream()
+                .filter(request -> request.getPath().equals("/containers/create"))
+                .map(request -> new String(request.getBody(), StandardCharsets.UTF_8))
+                .filter(body -> body.contains("\"Image\":\"" + IMAGE + "\""))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertTrue(create.contains("\"PortBindings\":{\"9090/tcp\":[{\"HostPort\":\"9090\"}]}"));
+    }
+
+    @Test
+    public void testListImageTags() {
+        // podman qualifies the names, and the reference filter also matches other repositories ending alike
+        engine.handle("GET", "/images/json", (request, out) -> FakeDockerEngine.writeResponse(out, 200,
+                "application/json", "[{\"Id\":\"sha256:01\",\"RepoTags\":[\"anuruddhal/app:v2\"," +
+                        "\"anuruddhal/app:latest\"]},{\"Id\":\"sha256:02\",\"RepoTags\":" +
+                        "[\"localhost/anuruddhal/app:v1\",\"other/anuruddhal/app-test:v1\"]}," +
+                        "{\"Id\":\"sha256:03\",\"RepoTags\":null}]"));
+
+        Assert.assertEquals(client.listImageTags("anuruddhal/app"), List.of("v2", "latest", "v1"));
+        Assert.assertTrue(engine.getRequests().stream().anyMatch(request -> request.getPath().equals(
+                "/images/json?filters=%7B%22reference%22%3A%5B%22anuruddhal%2Fapp%22%5D%7D")));
+    }
+
+    @Test
+    public void testMissingImage() {
+        engine.handle("GET", "/images/anuruddhal%2Fmissing", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 404, "application/json", "{\"message\":\"no such image\"}"));
+        Assert.assertTrue(client.inspectImage("anuruddhal/missing:v1").isEmpty());
+    }
+
+    @Test
+    public void testBackgroundContainer() {
+        engine.handle("POST", "/containers/create", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 201, "application/json", "{\"Id\":\"c2c1\"}"));
+        engine.handle("POST", "/containers/c2c1/start", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 204, "text/plain", ""));
+        engine.handle("GET", "/containers/c2c1/json", (request, out) -> FakeDockerEngine.writeResponse(out, 200,
+                "application/json", "{\"NetworkSettings\":{\"Ports\":{\"9090/tcp\":[{\"HostIp\":" +
+                        "\"127.0.0.1\",\"HostPort\":\"49153\"}],\"9091/tcp\":null}}}"));
+        engine.handle("GET", "/containers/c2c1/stats", (request, out) -> FakeDockerEngine.writeResponse(out, 200,
+                "application/json", "{\"memory_stats\":{\"usage\":10485760,\"stats\":" +
+                        "{\"inactive_file\":2097152}}}"));
+        engine.handle("POST", "/containers/c2c1/stop", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 204, "text/plain", ""));
+
+        Optional<String> containerId = client.startContainer(PERF_IMAGE, List.of(9090, 9091));
+
+        Assert.assertEquals(containerId, Optional.of("c2c1"));
+        Assert.assertEquals(client.getPublishedPort("c2c1", 9090), Optional.of(49153));
+        Assert.assertTrue(client.getPublishedPort("c2c1", 9091).isEmpty());
+        Assert.assertEquals(client.getMemoryUsage("c2c1"), Optional.of(8388608L));
+        Assert.assertTrue(client.stopContainer("c2c1"));
+        String create = engine.getRequests().stream()
+                .filter(request -> request.getPath().equals("/containers/create"))
+                .map(request -> new String(request.getBody(), StandardCharsets.UTF_8))
+                .filter(body -> body.contains("\"Image\":\"" + PERF_IMAGE + "\""))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertTrue(create.contains("\"9090/tcp\":[{\"HostIp\":\"127.0.0.1\",\"HostPort\":\"\"}]"));
+        Assert.assertTrue(create.contains("\"AutoRemove\":true"));
+        Assert.assertTrue(engine.getRequests().stream()
+                .anyMatch(request -> request.getPath().equals("/containers/c2c1/stats?stream=false")));
+    }
+
+    @Test
+    public void testCopyContainerFiles() throws IOException {
+        Path suite = workDir.resolve("test_suite.json");
+        Files.writeString(suite, "{\"app\":{}}");
+        engine.handle("PUT", "/containers/c2c2/archive", (request, out) ->
+                FakeDockerEngine.writeResponse(out, 200, "text/plain", ""));
+
+        Assert.assertTrue(client.copyToContainer(suite, "c2c2", "/home/ballerina/target"));
+        FakeDockerEngine.Request copy = engine.getRequests().stream()
+                .filter(request -> "PUT".equals(request.getMethod()))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(copy.getPath(), "/containers/c2c2/archive?path=%2Fhome%2Fballerina%2Ftarget");
+        Assert.assertEquals(copy.getHeaders().get("content-type"), "application/x-tar");
+        Assert.assertEquals(new String(copy.getBody(), 0, 15, StandardCharsets.UTF_8), "test_suite.json");
+
+        // the engine names the entries after the copied directory
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (TarArchiveWriter tar = new TarArchiveWriter(archive)) {
+            tar.addDirectory("target/", 0, 0);
+            tar.add("target/report/test_results.json", "{\"passed\":3}".getBytes(StandardCharsets.UTF_8));
+            tar.add("target/coverage/" + "module".repeat(20) + ".exec", new byte[]{1, 2, 3});
+        }
+        engine.handle("GET", "/containers/c2c2/archive", (request, out) -> FakeDockerEngine.writeResponse(out,
+                200, Map.of("Content-Type", "application/x-tar"), archive.toByteArray()));
+        Path results = workDir.resolve("results");
+
+        Assert.assertTrue(client.copyFromContainer("c2c2", "/home/ballerina/target", results));
+        Assert.assertEquals(Files.readString(results.resolve("report/test_results.json")), "{\"passed\":3}");
+        Assert.assertEquals(Files.readAllBytes(results.resolve("coverage/" + "module".repeat(20) + ".exec")),
+                new byte[]{1, 2, 3});
+    }
+
+    @Test
+    public void testCopyOutsideDestination() throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (TarArchiveWriter tar = new TarArchiveWriter(archive)) {
+            tar.add("target/../../escaped.txt", new byte[]{1});
+        }
+        engine.handle("GET", "/containers/c2c3/archive", (request, out) -> FakeDockerEngine.writeResponse(out,
+                200, Map.of("Content-Type", "application/x-tar"), archive.toByteArray()));
+
+        Assert.assertFalse(client.copyFromContainer("c2c3", "/home/ballerina/target", workDir.resolve("escape")));
+        Assert.assertFalse(Files.exists(workDir.resolve("escaped.txt")));
+    }
+
+    private static void writeChunked(OutputStream out, int status, String body, int chunkSize)
+            throws IOException, InterruptedException {
+        out.write(("HTTP/1.1 " + status + " OK\r\nContent-Type: application/json\r\nTransfer-Encoding: chunked" +
+                "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < content.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, content.length - offset);
+            // chunk extensions are allowed after the size
+            String sizeLine = Integer.toHexString(length) + (offset == 0 ? ";name=value" : "") + "\r\n";
+            chunks.write(sizeLine.getBytes(StandardCharsets.US_ASCII));
+            chunks.write(content, offset, length);
+            chunks.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        chunks.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        FakeDockerEngine.writeInPieces(out, chunks.toByteArray(), 5);
+    }
+
+    private static byte[] frame(int stream, String payload) {
+        byte[] content = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[8 + content.length];
+        frame[0] = (byte) stream;
+        frame[4] = (byte) (content.length >>> 24);
+        frame[5] = (byte) (content.length >>> 16);
+        frame[6] = (byte) (content.length >>> 8);
+        frame[7] = (byte) content.length;
+        System.arraycopy(content, 0, frame, 8, content.length);
+        return frame;
+    }
+
+    @AfterClass
+    public void stopEngine() throws Exception {
+        engine.close();
+        KubernetesUtils.deleteDirectory(workDir);
+    }
+}
@@ -24,10 +24,13 @@ import io.ballerina.c2c.exceptions.DockerGenException;
 import io.ballerina.c2c.models.CopyFileModel;
 import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.c2c.test.utils.DockerTestUtils;
+import io.ballerina.c2c.test.utils.FakeDockerEngine;
 import io.ballerina.c2c.utils.DockerGenerator;
 import io.ballerina.c2c.utils.DockerImageName;
 import io.ballerina.c2c.utils.NativeDockerGenerator;
 import io.ballerina.projects.internal.model.Target;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.io.FileUtils;
 import org.ballerinalang.model.elements.PackageID;
 import org.testng.Assert;
@@ -36,12 +39,14 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 import org.wso2.ballerinalang.compiler.util.Name;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -50,6 +55,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Docker generator tests.
@@ -61,6 +67,7 @@ public class DockerGeneratorTests {
             "docker-cloud-test", "docker-gen-files");
     private static final String DOCKER_IMAGE = "anuruddhal/test-gen-image:v1";
     private static final String DOCKER_TEST_IMAGE = "anuruddhal/test-gen-tests-image:v1";
+    private static final String DOCKER_TEST_BASE_IMAGE = "anuruddhal/test-gen-tests-image-base";
 
     private static final int BTESTMAIN_ARGS_COUNT = 11;
     private final PrintStream out = System.out;
@@ -126,6 +133,88 @@ public class DockerGeneratorTests {
         Assert.assertTrue(dockerFileContent.contains("USER ballerina"));
     }
 
+    @Test
+    public void streamedBuildContextTest() throws Exception {
+        Path stagedDir = Files.createDirectories(SOURCE_DIR_PATH.resolve("target").resolve("staged"));
+        Path streamedDir = Files.createDirectories(SOURCE_DIR_PATH.resolve("target").resolve("streamed"));
+        cleaningUpDir = SOURCE_DIR_PATH.resolve("target");
+        Path jarFilePath = Files.createDirectories(SOURCE_DIR_PATH.resolve("target").resolve("bin"))
+                .resolve("hello.jar");
+        Files.copy(SOURCE_DIR_PATH.resolve("docker-test").resolve("http.jar"), jarFilePath,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        // the build context copied to the output directory, as used to build the image by hand
+        DockerModel stagedModel = getStreamedBuildModel(false);
+        new DockerGenerator(stagedModel).createArtifacts(out, "\t@kubernetes:Docker \t\t\t", jarFilePath, stagedDir);
+        List<String> stagedFiles;
+        try (Stream<Path> files = Files.walk(stagedDir)) {
+            stagedFiles = files.filter(Files::isRegularFile)
+                    .map(file -> stagedDir.relativize(file).toString().replace(File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<String> streamedFiles = new ArrayList<>();
+        try (FakeDockerEngine engine = new FakeDockerEngine()) {
+            engine.setAsDockerHost();
+            engine.handle("POST", "/build", (request, response) -> FakeDockerEngine.writeResponse(response, 200,
+                    "application/json", "{\"stream\":\"Successfully built\\n\"}"));
+            engine.handle("GET", "/images/", (request, response) -> FakeDockerEngine.writeResponse(response, 200,
+                    "application/json", "{\"Id\":\"sha256:0123abcd\",\"Size\":1,\"RootFS\":{\"Layers\":[]}}"));
+            new DockerGenerator(getStreamedBuildModel(true)).createArtifacts(out, "\t@kubernetes:Docker \t\t\t",
+                    jarFilePath, streamedDir);
+            byte[] context = engine.getRequests().stream()
+                    .filter(request -> request.getPath().startsWith("/build"))
+                    .findFirst()
+                    .orElseThrow()
+                    .getBody();
+            try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(context))) {
+                TarArchiveEntry entry;
+                while ((entry = tar.getNextTarEntry()) != null) {
+                    if (!entry.isDirectory()) {
+                        streamedFiles.add(entry.getName());
+                    }
+                }
+            }
+        }
+
+        // only the Dockerfile is written when the context is streamed
+        try (Stream<Path> files = Files.list(streamedDir)) {
+            Assert.assertEquals(files.map(file -> file.getFileName().toString()).collect(Collectors.toList()),
+                    List.of("Dockerfile"));
+        }
+        Assert.assertEquals(streamedFiles.get(0), "Dockerfile");
+        Assert.assertEquals(streamedFiles.stream().sorted().collect(Collectors.toList()), stagedFiles);
+        Assert.assertTrue(stagedFiles.contains("hello.jar"), stagedFiles.toString());
+        Assert.assertTrue(stagedFiles.contains("data.txt"), stagedFiles.toString());
+    }
+
+    private DockerModel getStreamedBuildModel(boolean streamBuildContext) throws IOException {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("test-streamed-image");
+        dockerModel.setRegistry("anuruddhal");
+        dockerModel.setTag("v1");
+        dockerModel.setJarFileName("hello.jar");
+        dockerModel.setPorts(Collections.singleton(9090));
+        dockerModel.setBuildImage(streamBuildContext);
+        dockerModel.setStreamBuildContext(streamBuildContext);
+        dockerModel.setService(true);
+        dockerModel.setPkgId(new PackageID(new Name("wso2"), new Name("bal"), new Name("1.0.0")));
+        dockerModel.setDependencyJarPaths(getJarFilePaths());
+        CopyFileModel configFile = new CopyFileModel();
+        configFile.setSource(SOURCE_DIR_PATH.resolve("conf").resolve("Config.toml").toString());
+        configFile.setTarget("/home/ballerina/conf/");
+        configFile.setBallerinaConf(true);
+        CopyFileModel dataFile = new CopyFileModel();
+        dataFile.setSource(SOURCE_DIR_PATH.resolve("conf").resolve("data.txt").toString());
+        dataFile.setTarget("/home/ballerina/data/");
+        Set<CopyFileModel> externalFiles = new HashSet<>();
+        externalFiles.add(configFile);
+        externalFiles.add(dataFile);
+        dockerModel.setCopyFiles(externalFiles);
+        return dockerModel;
+    }
+
     @Test(dependsOnMethods = {"buildDockerImageTest"})
     public void validateDockerImage() {
         Assert.assertNotNull(DockerTestUtils.getDockerImage(DOCKER_IMAGE));
@@ -138,21 +227,105 @@ public class DockerGeneratorTests {
 
     @Test
     public void buildTestDockerImageTest() throws IOException, DockerGenException {
+        // start without a base image, so that it is built by this run
+        removeTestBaseImages();
+        DockerModel dockerModel = getTestDockerModel();
+        DockerGenerator handler = new DockerGenerator(dockerModel);
+        Path outputDir = TEST_SOURCE_DIR_PATH.resolve("target").resolve("docker");
+        handler.createTestArtifacts(out, "\t@kubernetes:Docker \t\t\t", outputDir);
+        File dockerFile = outputDir.resolve("Dockerfile").toFile();
+        cleaningUpDir = outputDir;
+        Assert.assertTrue(dockerFile.exists());
+        String dockerFileContent = new String(Files.readAllBytes(dockerFile.toPath()));
+        Assert.assertTrue(dockerFileContent.matches("(?s).*FROM " + DOCKER_TEST_BASE_IMAGE + ":[0-9a-f]{12}\\R.*"));
+        // the test image only holds what changes between test runs, owned by the user running the tests
+        String copyJsonSuite = "COPY --chown=ballerina:troupe test_suit.json /home/ballerina/target/cache/tests_cache/";
+        Assert.assertTrue(dockerFileContent.contains(copyJsonSuite));
+        String copyTestJar = "COPY --chown=ballerina:troupe hello.jar /home/ballerina/jars/";
+        Assert.assertTrue(dockerFileContent.contains(copyTestJar));
+        Assert.assertFalse(dockerFileContent.contains("http.jar"));
+        Assert.assertFalse(dockerFileContent.contains("jacocoagent.jar"));
+        String copyTestConfig1 = "COPY --chown=ballerina:troupe config-files/mod1/" +
+                KubernetesConstants.BALLERINA_CONF_FILE_NAME + " /home/ballerina/conf/modules/mod1/tests/";
+        Assert.assertTrue(dockerFileContent.contains(copyTestConfig1));
+        String copyTestConfig2 = "COPY --chown=ballerina:troupe config-files/mod2/" +
+                KubernetesConstants.BALLERINA_CONF_FILE_NAME + " /home/ballerina/conf/modules/mod2/tests/";
+        Assert.assertTrue(dockerFileContent.contains(copyTestConfig2));
+        String copyTestConfig3 = "COPY --chown=ballerina:troupe config-files/conf/" +
+                KubernetesConstants.BALLERINA_CONF_FILE_NAME + " /home/ballerina/conf/tests/";
+        Assert.assertTrue(dockerFileContent.contains(copyTestConfig3));
+        Assert.assertTrue(dockerFileContent.contains("USER ballerina"));
+        String dockerEntryPoint = "ENTRYPOINT [\"java\",\"-XX:+HeapDumpOnOutOfMemoryError\"," +
+                "\"-XX:HeapDumpPath=/home/ballerina\",\"-cp\",\"dummy_class_path\"," +
+                "\"org.ballerinalang.test.runtime.BTestMain\"]";
+        Assert.assertTrue(dockerFileContent.contains(dockerEntryPoint));
+        String dockerCMD = "CMD [\"arg0\",\"arg1\",\"arg2\",\"arg3\",\"arg4\",\"arg5\",\"arg6\",\"arg7\"," +
+                "\"arg8\",\"arg9\",\"arg10\"]";
+        Assert.assertTrue(dockerFileContent.contains(dockerCMD));
+        Assert.assertEquals(Files.readString(outputDir.resolve(".dockerignore")).trim(), "base/");
+
+        // the base image holds the dependencies and the jacoco agent, and creates the user
+        File baseDockerFile = outputDir.resolve("base").resolve("Dockerfile").toFile();
+        Assert.assertTrue(baseDockerFile.exists());
+        String baseDockerFileContent = new String(Files.readAllBytes(baseDockerFile.toPath()));
+        Assert.assertTrue(baseDockerFileContent.contains("COPY http.jar /home/ballerina/jars/"));
+        Assert.assertTrue(baseDockerFileContent.contains("COPY jacocoagent.jar /home/ballerina/jars/"));
+        Assert.assertFalse(baseDockerFileContent.contains("hello.jar"));
+        Assert.assertFalse(baseDockerFileContent.contains("test_suit.json"));
+        Assert.assertTrue(baseDockerFileContent.contains("&& mkdir -p /home/ballerina/target \\"));
+        Assert.assertTrue(baseDockerFileContent.contains("&& chown -R ballerina:troupe /home/ballerina/target \\"));
+        Assert.assertTrue(baseDockerFileContent.contains("&& chmod -R 777 /home/ballerina/target \\"));
+    }
+
+    @Test(dependsOnMethods = {"buildTestDockerImageTest"})
+    public void reuseTestBaseImageTest() throws IOException, DockerGenException {
+        List<String> baseTags = getTestBaseImageTags();
+        Assert.assertEquals(baseTags.size(), 1);
+        String baseImage = baseTags.get(0);
+        Path outputDir = TEST_SOURCE_DIR_PATH.resolve("target").resolve("docker");
+        cleaningUpDir = outputDir;
+
+        // unchanged dependencies reuse the base image without writing its build context
+        new DockerGenerator(getTestDockerModel()).createTestArtifacts(out, "\t@kubernetes:Docker \t\t\t",
+                outputDir);
+        Assert.assertFalse(Files.exists(outputDir.resolve("base")));
+        Assert.assertTrue(Files.readString(outputDir.resolve("Dockerfile"))
+                .contains("FROM " + baseImage + System.lineSeparator()));
+        Assert.assertEquals(getTestBaseImageTags(), List.of(baseImage));
+
+        // a base image built for other dependencies is removed once a new one is built
+        String outdatedImage = DOCKER_TEST_BASE_IMAGE + ":outdated";
+        DockerTestUtils.getDockerClient().tagImageCmd(baseImage, DOCKER_TEST_BASE_IMAGE, "outdated").exec();
+        DockerTestUtils.deleteDockerImage(baseImage);
+        Assert.assertEquals(getTestBaseImageTags(), List.of(outdatedImage));
+        FileUtils.deleteDirectory(outputDir.toFile());
+        new DockerGenerator(getTestDockerModel()).createTestArtifacts(out, "\t@kubernetes:Docker \t\t\t",
+                outputDir);
+        Assert.assertTrue(Files.exists(outputDir.resolve("base").resolve("Dockerfile")));
+        Assert.assertEquals(getTestBaseImageTags(), List.of(baseImage));
+    }
+
+    private DockerModel getTestDockerModel() throws IOException {
         DockerModel dockerModel = new DockerModel();
         dockerModel.setName("test-gen-tests-image");
         dockerModel.setRegistry("anuruddhal");
         dockerModel.setTag("v1");
         dockerModel.setJarFileName("hello.jar");
         dockerModel.setTest(true);
-        DockerGenerator handler = new DockerGenerator(dockerModel);
         Set<Path> jarFilePaths = getTestJarFilePaths();
+        // a jar of the package being tested, which belongs to the test image rather than the base image
+        Path packageJar = TEST_SOURCE_DIR_PATH.resolve("target").resolve("bin").resolve("hello.jar");
+        Files.createDirectories(packageJar.getParent());
+        Files.copy(TEST_SOURCE_DIR_PATH.resolve("jars").resolve("http.jar"), packageJar,
+                StandardCopyOption.REPLACE_EXISTING);
+        jarFilePaths.add(packageJar);
         PackageID packageID = new PackageID(new Name("wso2"), new Name("bal"), new Name("1.0.0"));
         dockerModel.setPkgId(packageID);
         dockerModel.setDependencyJarPaths(jarFilePaths);
+        dockerModel.setPackageTargetPath(TEST_SOURCE_DIR_PATH.resolve("target"));
         dockerModel.setTestSuiteJsonPath(TEST_SOURCE_DIR_PATH.resolve("target").resolve("cache")
                 .resolve("tests_cache").resolve("test_suit.json"));
         dockerModel.setClassPath("dummy_class_path");
-        dockerModel.setJacocoAgentJarPath(TEST_SOURCE_DIR_PATH.resolve("jacocoagent.jar"));
         Target target = new Target(TEST_SOURCE_DIR_PATH.resolve("target"));
         dockerModel.setTarget(target);
         List<Path> configFiles = getConfigPaths();
@@ -165,37 +338,20 @@ public class DockerGeneratorTests {
         }
         dockerModel.setSourceRoot(TEST_SOURCE_DIR_PATH);
         dockerModel.setTestRunTimeCmdArgs(cmdArgs);
-        handler.createTestArtifacts(out, "\t@kubernetes:Docker \t\t\t", TEST_SOURCE_DIR_PATH.resolve("target")
-                .resolve("docker"));
-        File dockerFile = TEST_SOURCE_DIR_PATH.resolve("target").resolve("docker").resolve("Dockerfile").toFile();
-        cleaningUpDir = TEST_SOURCE_DIR_PATH.resolve("target").resolve("docker");
-        Assert.assertTrue(dockerFile.exists());
-        String dockerFileContent = new String(Files.readAllBytes(dockerFile.toPath()));
-        String copyJsonSuite = "COPY test_suit.json /home/ballerina/target/cache/tests_cache/";
-        Assert.assertTrue(dockerFileContent.contains(copyJsonSuite));
-        String copyJacocoAgent = "COPY jacocoagent.jar /home/ballerina/jars/";
-        Assert.assertTrue(dockerFileContent.contains(copyJacocoAgent));
-        String copyTestJar = "COPY hello.jar /home/ballerina/jars/";
-        Assert.assertTrue(dockerFileContent.contains(copyTestJar));
-        String copyTestConfig1 = "COPY config-files/mod1/" + KubernetesConstants.BALLERINA_CONF_FILE_NAME +
-                " /home/ballerina/conf/modules/mod1/tests/";
-        Assert.assertTrue(dockerFileContent.contains(copyTestConfig1));
-        String copyTestConfig2 = "COPY config-files/mod2/" + KubernetesConstants.BALLERINA_CONF_FILE_NAME +
-                " /home/ballerina/conf/modules/mod2/tests/";
-        Assert.assertTrue(dockerFileContent.contains(copyTestConfig2));
-        String copyTestConfig3 = "COPY config-files/conf/" + KubernetesConstants.BALLERINA_CONF_FILE_NAME +
-                " /home/ballerina/conf/tests/";
-        Assert.assertTrue(dockerFileContent.contains("&& mkdir -p /home/ballerina/target \\"));
-        Assert.assertTrue(dockerFileContent.contains("&& chown -R ballerina:troupe /home/ballerina/target \\"));
-        Assert.assertTrue(dockerFileContent.contains("&& chmod -R 777 /home/ballerina/target \\"));
-        Assert.assertTrue(dockerFileContent.contains(copyTestConfig3));
-        String dockerEntryPoint = "ENTRYPOINT [\"java\",\"-XX:+HeapDumpOnOutOfMemoryError\"," +
-                "\"-XX:HeapDumpPath=/home/ballerina\",\"-cp\",\"dummy_class_path\"," +
-                "\"org.ballerinalang.test.runtime.BTestMain\"]";
-        Assert.assertTrue(dockerFileContent.contains(dockerEntryPoint));
-        String dockerCMD = "CMD [\"arg0\",\"arg1\",\"arg2\",\"arg3\",\"arg4\",\"arg5\",\"arg6\",\"arg7\"," +
-                "\"arg8\",\"arg9\",\"arg10\"]";
-        Assert.assertTrue(dockerFileContent.contains(dockerCMD));
+        return dockerModel;
+    }
+
+    private static List<String> getTestBaseImageTags() {
+        return DockerTestUtils.getDockerClient().listImagesCmd().withImageNameFilter(DOCKER_TEST_BASE_IMAGE).exec()
+                .stream()
+                .flatMap(image -> image.getRepoTags() == null ? Stream.empty() : Arrays.stream(image.getRepoTags()))
+                .filter(tag -> tag.startsWith(DOCKER_TEST_BASE_IMAGE + ":"))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static void removeTestBaseImages() {
+        getTestBaseImageTags().forEach(DockerTestUtils::deleteDockerImage);
     }
 
     @Test
@@ -280,7 +436,9 @@ public class DockerGeneratorTests {
     }
 
     private Set<Path> getTestJarFilePaths() throws IOException {
-        return Files.list(TEST_SOURCE_DIR_PATH.resolve("jars")).collect(Collectors.toSet());
+        try (Stream<Path> jars = Files.list(TEST_SOURCE_DIR_PATH.resolve("jars"))) {
+            return jars.collect(Collectors.toSet());
+        }
     }
 
     private Set<Path> getJarFilePaths() throws IOException {
@@ -296,8 +454,10 @@ public class DockerGeneratorTests {
     }
 
     @AfterClass
-    private void deleteDockerImage() {
+    private void deleteDockerImage() throws IOException {
         DockerTestUtils.deleteDockerImage(DOCKER_IMAGE);
         DockerTestUtils.deleteDockerImage(DOCKER_TEST_IMAGE);
+        removeTestBaseImages();
+        FileUtils.deleteDirectory(TEST_SOURCE_DIR_PATH.resolve("target").resolve("bin").toFile());
     }
 }
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.docker;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.c2c.exceptions.DockerGenException;
+import io.ballerina.c2c.test.utils.FakeRegistry;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.OciImageBuilder;
+import io.ballerina.c2c.utils.RegistryClient;
+import io.ballerina.c2c.utils.TarArchiveWriter;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tests the images assembled without a docker daemon, pulling their base images from a fake registry.
+ */
+public class OciImageBuilderTest {
+
+    private static final String DOCKER_LAYER = "application/vnd.docker.image.rootfs.diff.tar.gzip";
+    private static final String OCI_LAYER = "application/vnd.oci.image.layer.v1.tar+gzip";
+    private static final String PASSWD = "root:x:0:0:root:/root:/bin/sh\n" +
+            "guest:x:100:100:guest:/dev/null:/sbin/nologin\n" +
+            "nobody:x:65534:65534:nobody:/:/sbin/nologin";
+    private static final String GROUP = "root:x:0:root\nusers:x:100:\nstaff:x:1000:\n";
+    private static final String LONG_NAME = "usr/share/" + "nested/".repeat(16) + "README";
+
+    private final PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+    private FakeRegistry registry;
+    private Path workDir;
+    private String baseLayer;
+
+    @BeforeClass
+    public void startRegistry() throws IOException {
+        registry = new FakeRegistry();
+        workDir = Files.createTempDirectory("c2c-oci-");
+        baseLayer = registry.addBlob("base", writeLayer(tar -> {
+            // the pax header of the long name is read before the files of the user database
+            tar.add(LONG_NAME, "readme".getBytes(StandardCharsets.UTF_8));
+            tar.add("./etc/passwd", PASSWD.getBytes(StandardCharsets.UTF_8));
+            tar.add("etc/group", GROUP.getBytes(StandardCharsets.UTF_8));
+        }));
+        String whiteoutLayer = registry.addBlob("base", writeLayer(tar -> tar.add("etc/.wh.group", new byte[0])));
+        String groupOnlyLayer = registry.addBlob("base", writeLayer(tar ->
+                tar.add("etc/group", GROUP.getBytes(StandardCharsets.UTF_8))));
+        addBaseImage("plain", baseLayer);
+        addBaseImage("whiteout", baseLayer, whiteoutLayer);
+        addBaseImage("nopasswd", groupOnlyLayer);
+    }
+
+    @Test
+    public void testReproducibleLayers() throws IOException, DockerGenException {
+        Path firstJar = writeJar("first", "app.jar", "content", FileTime.fromMillis(1000000000000L));
+        Path secondJar = writeJar("second", "app.jar", "content", FileTime.fromMillis(1700000000000L));
+        OciImageBuilder.Image firstImage = buildJarImage(workDir.resolve("first-layout"), firstJar);
+        OciImageBuilder.Image secondImage = buildJarImage(workDir.resolve("second-layout"), secondJar);
+        Assert.assertEquals(secondImage.getLayerDigests(), firstImage.getLayerDigests());
+        Assert.assertEquals(secondImage.getDigest(), firstImage.getDigest());
+
+        Path layer = getBlob(workDir.resolve("first-layout"), getLast(firstImage.getLayerDigests()));
+        byte[] compressed = Files.readAllBytes(layer);
+        // the modified time of the gzip header is left unset
+        Assert.assertEquals(new byte[]{compressed[4], compressed[5], compressed[6], compressed[7]}, new byte[4]);
+        for (TarArchiveEntry entry : readLayer(layer).keySet()) {
+            Assert.assertEquals(entry.getModTime().getTime(), 0L, entry.getName());
+            Assert.assertEquals(entry.getLongUserId(), 0L, entry.getName());
+            Assert.assertEquals(entry.getLongGroupId(), 0L, entry.getName());
+        }
+    }
+
+    @Test
+    public void testLayoutReuse() throws IOException, DockerGenException {
+        Path layoutDir = workDir.resolve("reused-layout");
+        Path jar = writeJar("reused", "app.jar", "content", FileTime.fromMillis(1000000000000L));
+        OciImageBuilder.Image image = buildJarImage(layoutDir, jar);
+        long pulls = countBlobPulls(baseLayer);
+        Path updatedJar = writeJar("reused", "app.jar", "updated content", FileTime.fromMillis(1000000000000L));
+        OciImageBuilder.Image updatedImage = buildJarImage(layoutDir, updatedJar);
+        // the base layers are read from the layout, while the blobs of the earlier build are removed
+        Assert.assertEquals(countBlobPulls(baseLayer), pulls);
+        Assert.assertTrue(Files.exists(getBlob(layoutDir, baseLayer)));
+        Assert.assertNotEquals(getLast(updatedImage.getLayerDigests()), getLast(image.getLayerDigests()));
+        Assert.assertFalse(Files.exists(getBlob(layoutDir, getLast(image.getLayerDigests()))));
+        Assert.assertFalse(Files.exists(getBlob(layoutDir, image.getDigest())));
+    }
+
+    @Test
+    public void testAddUser() throws IOException, DockerGenException {
+        Path layoutDir = workDir.resolve("user-layout");
+        OciImageBuilder builder = new OciImageBuilder(getBaseImage("plain"), layoutDir, out);
+        builder.addUser("ballerina", "troupe", "/home/ballerina", "/bin/sh");
+        OciImageBuilder.Image image = builder.build(registry.getHost() + "/app:v1");
+        Map<TarArchiveEntry, String> entries = readLayer(getBlob(layoutDir, getLast(image.getLayerDigests())));
+
+        Assert.assertEquals(getContent(entries, "etc/passwd"),
+                PASSWD + "\nballerina:x:101:1001:ballerina:/home/ballerina:/bin/sh\n");
+        Assert.assertEquals(getContent(entries, "etc/group"), GROUP + "troupe:x:1001:ballerina\n");
+        TarArchiveEntry home = getEntry(entries, "home/ballerina/");
+        Assert.assertTrue(home.isDirectory());
+        Assert.assertEquals(home.getLongUserId(), 101L);
+        Assert.assertEquals(home.getLongGroupId(), 1001L);
+    }
+
+    @Test
+    public void testAddUserAfterWhiteout() throws IOException, DockerGenException {
+        Path layoutDir = workDir.resolve("whiteout-layout");
+        OciImageBuilder builder = new OciImageBuilder(getBaseImage("whiteout"), layoutDir, out);
+        builder.addUser("ballerina", "troupe", "/home/ballerina", "/bin/sh");
+        OciImageBuilder.Image image = builder.build(registry.getHost() + "/app:v1");
+        Map<TarArchiveEntry, String> entries = readLayer(getBlob(layoutDir, getLast(image.getLayerDigests())));
+
+        // the group file removed by the upper layer of the base image no longer holds any group ids
+        Assert.assertEquals(getContent(entries, "etc/group"), "troupe:x:1000:ballerina\n");
+        Assert.assertEquals(getContent(entries, "etc/passwd"),
+                PASSWD + "\nballerina:x:101:1000:ballerina:/home/ballerina:/bin/sh\n");
+    }
+
+    @Test(expectedExceptions = DockerGenException.class,
+            expectedExceptionsMessageRegExp = "base image does not have an /etc/passwd file to add the user " +
+                    "ballerina")
+    public void testAddUserWithoutPasswd() throws DockerGenException {
+        OciImageBuilder builder = new OciImageBuilder(getBaseImage("nopasswd"), workDir.resolve("nopasswd-layout"),
+                out);
+        builder.addUser("ballerina", "troupe", "/home/ballerina", "/bin/sh");
+    }
+
+    @Test
+    public void testArchiveManifest() throws IOException, DockerGenException {
+        Path layoutDir = workDir.resolve("archive-layout");
+        String imageName = registry.getHost() + "/app:v1";
+        OciImageBuilder builder = new OciImageBuilder(getBaseImage("whiteout"), layoutDir, out);
+        Path jar = writeJar("archive", "app.jar", "content", FileTime.fromMillis(1000000000000L));
+        builder.addLayer("package jars", tar -> tar.add("home/ballerina/jars/app.jar", jar));
+        builder.setEntrypoint(List.of("java", "-jar", "/home/ballerina/jars/app.jar"));
+        builder.addEnv("JAVA_HOME", "/opt/jdk");
+        builder.addExposedPort(9090);
+        OciImageBuilder.Image image = builder.build(imageName);
+        Path archive = workDir.resolve("image.tar");
+        builder.writeArchive(archive);
+
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        try (TarArchiveInputStream in = new TarArchiveInputStream(Files.newInputStream(archive))) {
+            TarArchiveEntry entry;
+            while ((entry = in.getNextTarEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    files.put(entry.getName(), in.readAllBytes());
+                }
+            }
+        }
+        Assert.assertTrue(files.containsKey("oci-layout"));
+        JsonArray archiveManifests = JsonParser.parseString(getString(files, "manifest.json")).getAsJsonArray();
+        Assert.assertEquals(archiveManifests.size(), 1);
+        JsonObject archiveManifest = archiveManifests.get(0).getAsJsonObject();
+        Assert.assertEquals(archiveManifest.get("Config").getAsString(), getBlobName(image.getConfigDigest()));
+        Assert.assertEquals(archiveManifest.getAsJsonArray("RepoTags").get(0).getAsString(), imageName);
+        List<String> archiveLayers = new ArrayList<>();
+        archiveManifest.getAsJsonArray("Layers").forEach(layer -> archiveLayers.add(layer.getAsString()));
+        List<String> expectedLayers = new ArrayList<>();
+        image.getLayerDigests().forEach(digest -> expectedLayers.add(getBlobName(digest)));
+        Assert.assertEquals(archiveLayers, expectedLayers);
+        Assert.assertEquals(archiveLayers.size(), 3);
+        archiveLayers.forEach(layer -> Assert.assertTrue(files.containsKey(layer), layer));
+
+        JsonObject index = JsonParser.parseString(getString(files, "index.json")).getAsJsonObject();
+        JsonObject manifestDescriptor = index.getAsJsonArray("manifests").get(0).getAsJsonObject();
+        Assert.assertEquals(manifestDescriptor.get("digest").getAsString(), image.getDigest());
+        Assert.assertEquals(manifestDescriptor.getAsJsonObject("annotations")
+                .get("org.opencontainers.image.ref.name").getAsString(), imageName);
+        JsonObject manifest = JsonParser.parseString(getString(files, getBlobName(image.getDigest())))
+                .getAsJsonObject();
+        // the docker layers of the base image are listed with the media type of the same OCI layers
+        manifest.getAsJsonArray("layers").forEach(layer ->
+                Assert.assertEquals(layer.getAsJsonObject().get("mediaType").getAsString(), OCI_LAYER));
+
+        JsonObject config = JsonParser.parseString(getString(files, getBlobName(image.getConfigDigest())))
+                .getAsJsonObject();
+        Assert.assertEquals(config.getAsJsonObject("rootfs").getAsJsonArray("diff_ids").size(), 3);
+        JsonObject containerConfig = config.getAsJsonObject("config");
+        Assert.assertEquals(containerConfig.getAsJsonArray("Entrypoint").toString(),
+                "[\"java\",\"-jar\",\"/home/ballerina/jars/app.jar\"]");
+        Assert.assertFalse(containerConfig.has("Cmd"));
+        Assert.assertEquals(containerConfig.getAsJsonArray("Env").toString(),
+                "[\"PATH=/usr/bin\",\"JAVA_HOME=/opt/jdk\"]");
+        Assert.assertTrue(containerConfig.getAsJsonObject("ExposedPorts").has("9090/tcp"));
+    }
+
+    @Test
+    public void testPush() throws IOException, DockerGenException {
+        Path layoutDir = workDir.resolve("push-layout");
+        String imageName = registry.getHost() + "/pushed-app:v1";
+        OciImageBuilder builder = new OciImageBuilder(getBaseImage("plain"), layoutDir, out);
+        Path jar = writeJar("push", "app.jar", "content", FileTime.fromMillis(1000000000000L));
+        builder.addLayer("package jars", tar -> tar.add("home/ballerina/jars/app.jar", jar));
+        OciImageBuilder.Image image = builder.build(imageName);
+        builder.push(image, imageName);
+
+        image.getLayerDigests().forEach(digest -> Assert.assertTrue(registry.hasBlob("pushed-app", digest)));
+        Assert.assertTrue(registry.hasBlob("pushed-app", image.getConfigDigest()));
+        byte[] manifest = registry.getManifest("pushed-app", "v1");
+        Assert.assertEquals(FakeRegistry.digest(manifest), image.getDigest());
+        Assert.assertEquals(registry.getManifestMediaType("pushed-app", "v1"), RegistryClient.OCI_MANIFEST);
+        // the base layer is mounted from the base repository, leaving the new layer and the config to upload
+        long uploads = registry.getRequests().stream()
+                .filter(request -> "PUT".equals(request.getMethod()) &&
+                        request.getPath().startsWith("/v2/pushed-app/blobs/uploads/"))
+                .count();
+        Assert.assertEquals(uploads, 2L);
+    }
+
+    private OciImageBuilder.Image buildJarImage(Path layoutDir, Path jar) throws DockerGenException {
+        OciImageBuilder builder = new OciImageBuilder(getBaseImage("plain"), layoutDir, out);
+        builder.addLayer("package jars", tar -> {
+            tar.addDirectory("home/ballerina/jars/", 0, 0);
+            tar.add("home/ballerina/jars/app.jar", jar);
+        });
+        return builder.build(registry.getHost() + "/app:v1");
+    }
+
+    private String getBaseImage(String tag) {
+        return registry.getHost() + "/base:" + tag;
+    }
+
+    private void addBaseImage(String tag, String... layers) {
+        JsonObject config = new JsonObject();
+        config.addProperty("architecture", "amd64");
+        config.addProperty("os", "linux");
+        JsonObject containerConfig = new JsonObject();
+        JsonArray env = new JsonArray();
+        env.add("PATH=/usr/bin");
+        env.add("JAVA_HOME=/opt/java");
+        containerConfig.add("Env", env);
+        JsonArray cmd = new JsonArray();
+        cmd.add("/bin/sh");
+        containerConfig.add("Cmd", cmd);
+        config.add("config", containerConfig);
+        JsonObject rootFs = new JsonObject();
+        rootFs.addProperty("type", "layers");
+        JsonArray diffIds = new JsonArray();
+        for (String layer : layers) {
+            // the diff ids are not checked by the builder, which keeps them as they are
+            diffIds.add(layer);
+        }
+        rootFs.add("diff_ids", diffIds);
+        config.add("rootfs", rootFs);
+        byte[] configContent = config.toString().getBytes(StandardCharsets.UTF_8);
+        String configDigest = registry.addBlob("base", configContent);
+
+        JsonObject manifest = new JsonObject();
+        manifest.addProperty("schemaVersion", 2);
+        manifest.addProperty("mediaType", RegistryClient.DOCKER_MANIFEST);
+        manifest.add("config", descriptor("application/vnd.docker.container.image.v1+json", configDigest,
+                configContent.length));
+        JsonArray manifestLayers = new JsonArray();
+        for (String layer : layers) {
+            manifestLayers.add(descriptor(DOCKER_LAYER, layer, registry.getBlobSize(layer)));
+        }
+        manifest.add("layers", manifestLayers);
+        registry.addManifest("base", tag, RegistryClient.DOCKER_MANIFEST,
+                manifest.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonObject descriptor(String mediaType, String digest, long size) {
+        JsonObject descriptor = new JsonObject();
+        descriptor.addProperty("mediaType", mediaType);
+        descriptor.addProperty("digest", digest);
+        descriptor.addProperty("size", size);
+        return descriptor;
+    }
+
+    private static byte[] writeLayer(OciImageBuilder.LayerWriter writer) throws IOException {
+        ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(layer)) {
+            TarArchiveWriter tar = new TarArchiveWriter(gzip, 0L);
+            writer.write(tar);
+            tar.finish();
+        }
+        return layer.toByteArray();
+    }
+
+    private Path writeJar(String directory, String name, String content, FileTime modifiedTime) throws IOException {
+        Path jar = workDir.resolve(directory).resolve(name);
+        Files.createDirectories(jar.getParent());
+        Files.writeString(jar, content);
+        Files.setLastModifiedTime(jar, modifiedTime);
+        return jar;
+    }
+
+    private static Map<TarArchiveEntry, String> readLayer(Path layer) throws IOException {
+        Map<TarArchiveEntry, String> entries = new LinkedHashMap<>();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(layer)));
+             TarArchiveInputStream tar = new TarArchiveInputStream(in)) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                entries.put(entry, new String(tar.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private static TarArchiveEntry getEntry(Map<TarArchiveEntry, String> entries, String name) {
+        return entries.keySet().stream()
+                .filter(entry -> name.equals(entry.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("layer does not have " + name));
+    }
+
+    private static String getContent(Map<TarArchiveEntry, String> entries, String name) {
+        return entries.get(getEntry(entries, name));
+    }
+
+    private static String getString(Map<String, byte[]> files, String name) {
+        Assert.assertTrue(files.containsKey(name), name);
+        return new String(files.get(name), StandardCharsets.UTF_8);
+    }
+
+    private long countBlobPulls(String digest) {
+        return registry.getRequests().stream()
+                .filter(request -> "GET".equals(request.getMethod()) && request.getPath().endsWith("/" + digest))
+                .count();
+    }
+
+    private static Path getBlob(Path layoutDir, String digest) {
+        return layoutDir.resolve("blobs").resolve("sha256").resolve(digest.substring(digest.indexOf(':') + 1));
+    }
+
+    private static String getBlobName(String digest) {
+        return "blobs/sha256/" + digest.substring(digest.indexOf(':') + 1);
+    }
+
+    private static String getLast(List<String> values) {
+        return values.get(values.size() - 1);
+    }
+
+    @AfterClass
+    public void stopRegistry() throws Exception {
+        registry.close();
+        KubernetesUtils.deleteDirectory(workDir);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.docker;
+
+import com.google.gson.JsonObject;
+import io.ballerina.c2c.exceptions.DockerGenException;
+import io.ballerina.c2c.test.utils.DockerTestUtils;
+import io.ballerina.c2c.test.utils.FakeDockerEngine;
+import io.ballerina.c2c.test.utils.FakeRegistry;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.RegistryClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests the registry client against fake registries, covering the token authentication, platform selection,
+ * redirected blobs and the push of blobs and manifests.
+ */
+public class RegistryClientTest {
+
+    private static final String DOCKER_CONFIG = "DOCKER_CONFIG";
+    private static final String CREDENTIALS = Base64.getEncoder()
+            .encodeToString("ballerina:secret".getBytes(StandardCharsets.UTF_8));
+    private static final String TOKEN = "fake-token";
+    private static final byte[] BLOB = "layer content".getBytes(StandardCharsets.UTF_8);
+
+    private Path tempDir;
+    private FakeRegistry registry;
+    private FakeDockerEngine securedRegistry;
+    private String previousDockerConfig;
+
+    @BeforeClass
+    public void startRegistries() throws IOException, ReflectiveOperationException {
+        registry = new FakeRegistry();
+        securedRegistry = new FakeDockerEngine();
+        String securedHost = "127.0.0.1:" + securedRegistry.getPort();
+        securedRegistry.handle("GET", "/token", (request, out) -> {
+            if (("Basic " + CREDENTIALS).equals(request.getHeaders().get("authorization"))) {
+                FakeDockerEngine.writeResponse(out, 200, "application/json", "{\"token\":\"" + TOKEN + "\"}");
+            } else {
+                FakeDockerEngine.writeResponse(out, 401, "application/json", "{}");
+            }
+        });
+        securedRegistry.handle("GET", "/v2/", (request, out) -> {
+            if (!("Bearer " + TOKEN).equals(request.getHeaders().get("authorization"))) {
+                FakeDockerEngine.writeResponse(out, 401, Map.of("WWW-Authenticate", "Bearer realm=\"http://" +
+                        securedHost + "/token\",service=\"fake\",scope=\"repository:app:pull\""), new byte[0]);
+            } else if (request.getPath().startsWith("/v2/app/blobs/")) {
+                // blobs are served by a storage service, which does not take the token of the registry
+                FakeDockerEngine.writeResponse(out, 307, Map.of("Location", "/storage" + request.getPath()),
+                        new byte[0]);
+            } else {
+                FakeDockerEngine.writeResponse(out, 200, RegistryClient.OCI_MANIFEST, "{\"schemaVersion\":2}");
+            }
+        });
+        securedRegistry.handle("GET", "/storage/", (request, out) -> FakeDockerEngine.writeResponse(out, 200,
+                Map.of("Content-Type", "application/octet-stream"), BLOB));
+        securedRegistry.handle("PUT", "/v2/", (request, out) -> FakeDockerEngine.writeResponse(out, 400,
+                "application/json", "{\"errors\":[{\"code\":\"MANIFEST_INVALID\",\"message\":\"manifest invalid\"}]}"));
+
+        // credentials stored by docker login, which are only given to the token service
+        tempDir = Files.createTempDirectory("c2c-registry-");
+        Files.writeString(tempDir.resolve("config.json"), "{\"auths\":{\"" + securedHost + "\":{\"auth\":\"" +
+                CREDENTIALS + "\"}}}");
+        previousDockerConfig = System.getenv(DOCKER_CONFIG);
+        DockerTestUtils.updateEnv(DOCKER_CONFIG, tempDir.toString());
+    }
+
+    @Test
+    public void testImageNames() {
+        assertImage("ballerina/jvm-runtime:3.0", "docker.io", "ballerina/jvm-runtime", "3.0");
+        assertImage("alpine", "docker.io", "library/alpine", "latest");
+        assertImage("localhost:5000/team/app", "localhost:5000", "team/app", "latest");
+        assertImage("gcr.io/project/app:v1@sha256:0123", "gcr.io", "project/app", "sha256:0123");
+    }
+
+    private static void assertImage(String imageName, String registry, String repository, String reference) {
+        RegistryClient client = RegistryClient.forImage(imageName);
+        Assert.assertEquals(client.getRegistry(), registry);
+        Assert.assertEquals(client.getRepository(), repository);
+        Assert.assertEquals(client.getReference(), reference);
+    }
+
+    @Test
+    public void testPlatformManifest() throws DockerGenException {
+        String amd64 = registry.addManifest("multi", "amd64", RegistryClient.OCI_MANIFEST,
+                "{\"schemaVersion\":2,\"architecture\":\"amd64\"}".getBytes(StandardCharsets.UTF_8));
+        String arm64 = registry.addManifest("multi", "arm64", RegistryClient.OCI_MANIFEST,
+                "{\"schemaVersion\":2,\"architecture\":\"arm64\"}".getBytes(StandardCharsets.UTF_8));
+        String index = "{\"schemaVersion\":2,\"mediaType\":\"" + RegistryClient.OCI_INDEX + "\",\"manifests\":[" +
+                "{\"digest\":\"" + amd64 + "\",\"platform\":{\"os\":\"linux\",\"architecture\":\"amd64\"}}," +
+                "{\"digest\":\"" + arm64 + "\",\"platform\":{\"os\":\"linux\",\"architecture\":\"arm64\"}}]}";
+        registry.addManifest("multi", "v1", RegistryClient.OCI_INDEX, index.getBytes(StandardCharsets.UTF_8));
+
+        RegistryClient client = RegistryClient.forImage(registry.getHost() + "/multi:v1");
+        JsonObject manifest = client.pullManifest("linux", "arm64");
+        Assert.assertEquals(manifest.get("architecture").getAsString(), "arm64");
+        try {
+            client.pullManifest("linux", "s390x");
+            Assert.fail("a platform missing in the index must be rejected");
+        } catch (DockerGenException e) {
+            Assert.assertEquals(e.getMessage(), "image multi:v1 is not available for linux/s390x");
+        }
+    }
+
+    @Test
+    public void testTokenAuthentication() throws DockerGenException {
+        RegistryClient client = RegistryClient.forImage("127.0.0.1:" + securedRegistry.getPort() + "/app:v1");
+        JsonObject manifest = client.pullManifest("linux", "amd64");
+        Assert.assertEquals(manifest.get("schemaVersion").getAsInt(), 2);
+        FakeDockerEngine.Request tokenRequest = securedRegistry.getRequests().stream()
+                .filter(request -> request.getPath().startsWith("/token"))
+                .findFirst()
+                .orElseThrow();
+        Assert.assertEquals(tokenRequest.getPath(), "/token?service=fake&scope=repository%3Aapp%3Apull");
+        Assert.assertEquals(tokenRequest.getHeaders().get("authorization"), "Basic " + CREDENTIALS);
+    }
+
+    @Test
+    public void testRedirectedBlob() throws DockerGenException, IOException {
+        String digest = FakeRegistry.digest(BLOB);
+        Path target = tempDir.resolve("redirected-blob");
+        RegistryClient client = RegistryClient.forImage("127.0.0.1:" + securedRegistry.getPort() + "/app:v1");
+        client.pullBlob(digest, target);
+        Assert.assertEquals(Files.readAllBytes(target), BLOB);
+        List<FakeDockerEngine.Request> storageRequests = securedRegistry.getRequests().stream()
+                .filter(request -> request.getPath().equals("/storage/v2/app/blobs/" + digest))
+                .collect(Collectors.toList());
+        Assert.assertEquals(storageRequests.size(), 1);
+        Assert.assertNull(storageRequests.get(0).getHeaders().get("authorization"));
+    }
+
+    @Test
+    public void testBlobDigestMismatch() throws IOException {
+        String digest = FakeRegistry.digest("other content".getBytes(StandardCharsets.UTF_8));
+        Path target = tempDir.resolve("mismatched-blob");
+        RegistryClient client = RegistryClient.forImage("127.0.0.1:" + securedRegistry.getPort() + "/app:v1");
+        try {
+            client.pullBlob(digest, target);
+            Assert.fail("a blob not matching its digest must be rejected");
+        } catch (DockerGenException e) {
+            Assert.assertEquals(e.getMessage(), "digest of the blob " + digest + " of app does not match");
+        }
+        Assert.assertFalse(Files.exists(target));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            Assert.assertTrue(files.noneMatch(file -> file.getFileName().toString().startsWith("blob-")));
+        }
+    }
+
+    @Test
+    public void testPushBlob() throws DockerGenException, IOException {
+        byte[] content = "pushed layer".getBytes(StandardCharsets.UTF_8);
+        String digest = FakeRegistry.digest(content);
+        Path source = tempDir.resolve("pushed-blob");
+        Files.write(source, content);
+        RegistryClient client = RegistryClient.forImage(registry.getHost() + "/pushed:v1");
+        client.pushBlob(digest, source, null);
+        Assert.assertTrue(registry.hasBlob("pushed", digest));
+
+        // a blob the repository already has is not uploaded again
+        long uploads = countRequests("PUT", "/v2/pushed/blobs/uploads/");
+        client.pushBlob(digest, source, null);
+        Assert.assertEquals(countRequests("PUT", "/v2/pushed/blobs/uploads/"), uploads);
+    }
+
+    @Test
+    public void testMountBlob() throws DockerGenException {
+        String digest = registry.addBlob("base", BLOB);
+        RegistryClient client = RegistryClient.forImage(registry.getHost() + "/mounted:v1");
+        client.pushBlob(digest, tempDir.resolve("missing-blob"), "base");
+        Assert.assertTrue(registry.hasBlob("mounted", digest));
+        Assert.assertEquals(countRequests("PUT", "/v2/mounted/blobs/uploads/"), 0L);
+    }
+
+    @Test
+    public void testPushManifest() throws DockerGenException {
+        byte[] manifest = "{\"schemaVersion\":2}".getBytes(StandardCharsets.UTF_8);
+        RegistryClient.forImage(registry.getHost() + "/pushed:v2").pushManifest(manifest,
+                RegistryClient.OCI_MANIFEST);
+        Assert.assertEquals(registry.getManifest("pushed", "v2"), manifest);
+        Assert.assertEquals(registry.getManifestMediaType("pushed", "v2"), RegistryClient.OCI_MANIFEST);
+    }
+
+    @Test
+    public void testPushManifestError() {
+        RegistryClient client = RegistryClient.forImage("127.0.0.1:" + securedRegistry.getPort() + "/app:v1");
+        try {
+            client.pushManifest("{}".getBytes(StandardCharsets.UTF_8), RegistryClient.OCI_MANIFEST);
+            Assert.fail("a rejected manifest must fail the push");
+        } catch (DockerGenException e) {
+            Assert.assertEquals(e.getMessage(), "unable to push the manifest to app:v1: manifest invalid");
+        }
+    }
+
+    private long countRequests(String method, String pathPrefix) {
+        return registry.getRequests().stream()
+                .filter(request -> method.equals(request.getMethod()) && request.getPath().startsWith(pathPrefix))
+                .count();
+    }
+
+    @AfterClass
+    public void stopRegistries() throws Exception {
+        registry.close();
+        securedRegistry.close();
+        if (previousDockerConfig == null) {
+            DockerTestUtils.removeEnv(DOCKER_CONFIG);
+        } else {
+            DockerTestUtils.updateEnv(DOCKER_CONFIG, previousDockerConfig);
+        }
+        KubernetesUtils.deleteDirectory(tempDir);
+    }
+}
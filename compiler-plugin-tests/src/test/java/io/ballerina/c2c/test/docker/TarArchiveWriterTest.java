@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.docker;
+
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TarArchiveWriter;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests the tar archives written for build contexts and image layers.
+ */
+public class TarArchiveWriterTest {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final long MODIFIED_TIME = 1700000000L;
+    private static final String LONG_NAME = "modules/" + "nested/".repeat(16) + "Config.toml";
+
+    private Path workDir;
+
+    @BeforeClass
+    public void createWorkDir() throws IOException {
+        workDir = Files.createTempDirectory("c2c-tar-");
+    }
+
+    @Test
+    public void testHeaders() throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (TarArchiveWriter writer = new TarArchiveWriter(archive, MODIFIED_TIME)) {
+            writer.add("Dockerfile", "FROM scratch".getBytes(StandardCharsets.UTF_8));
+            writer.addDirectory("home/ballerina", 10001, 10001);
+            writer.add(LONG_NAME, "key = 1".getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] bytes = archive.toByteArray();
+        Assert.assertEquals(bytes.length % BLOCK_SIZE, 0);
+
+        List<Entry> entries = readEntries(bytes);
+        Assert.assertEquals(entries.size(), 4);
+        Entry dockerfile = entries.get(0);
+        Assert.assertEquals(dockerfile.name, "Dockerfile");
+        Assert.assertEquals(dockerfile.type, '0');
+        Assert.assertEquals(field(dockerfile.header, 100, 8), "0000644\0");
+        Assert.assertEquals(field(dockerfile.header, 108, 8), "0000000\0");
+        Assert.assertEquals(field(dockerfile.header, 124, 12), "00000000014\0");
+        Assert.assertEquals(field(dockerfile.header, 136, 12), Long.toOctalString(MODIFIED_TIME) + "\0");
+        Assert.assertEquals(field(dockerfile.header, 257, 8), "ustar\u000000");
+        Assert.assertEquals(new String(dockerfile.content, StandardCharsets.UTF_8), "FROM scratch");
+
+        Entry directory = entries.get(1);
+        Assert.assertEquals(directory.name, "home/ballerina/");
+        Assert.assertEquals(directory.type, '5');
+        Assert.assertEquals(field(directory.header, 100, 8), "0000755\0");
+        Assert.assertEquals(field(directory.header, 108, 8), "0023421\0");
+        Assert.assertEquals(field(directory.header, 116, 8), "0023421\0");
+
+        // the name does not fit in the header, so it is given by a pax header before the entry
+        Entry pax = entries.get(2);
+        Assert.assertEquals(pax.type, 'x');
+        String record = new String(pax.content, StandardCharsets.UTF_8);
+        Assert.assertEquals(record, (record.length()) + " path=" + LONG_NAME + "\n");
+        Entry config = entries.get(3);
+        Assert.assertEquals(config.type, '0');
+        Assert.assertTrue(LONG_NAME.endsWith(config.name));
+        Assert.assertEquals(config.name.length(), 100);
+        Assert.assertEquals(new String(config.content, StandardCharsets.UTF_8), "key = 1");
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException, InterruptedException {
+        Path source = workDir.resolve("source");
+        write(source.resolve("Dockerfile"), "FROM scratch");
+        write(source.resolve("jars").resolve("app.jar"), "x".repeat(1500));
+        write(source.resolve(LONG_NAME), "key = 1");
+        Path script = write(source.resolve("bin").resolve("run.sh"), "#!/bin/sh");
+        Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwxr-xr-x"));
+        Files.setLastModifiedTime(source.resolve("Dockerfile"), FileTime.fromMillis(MODIFIED_TIME * 1000));
+        Path archive = workDir.resolve("context.tar");
+        try (OutputStream out = Files.newOutputStream(archive);
+             TarArchiveWriter writer = new TarArchiveWriter(out)) {
+            writer.add("", source);
+        }
+
+        // the archive is read back by the tar tool
+        Path extracted = Files.createDirectories(workDir.resolve("extracted"));
+        Process process = new ProcessBuilder("tar", "-xf", archive.toString(), "-C", extracted.toString())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assert.assertEquals(process.waitFor(), 0, output);
+        for (String name : List.of("Dockerfile", "jars/app.jar", LONG_NAME, "bin/run.sh")) {
+            Assert.assertEquals(Files.readString(extracted.resolve(name)), Files.readString(source.resolve(name)),
+                    name);
+        }
+        Assert.assertTrue(Files.isExecutable(extracted.resolve("bin").resolve("run.sh")));
+        Assert.assertFalse(Files.isExecutable(extracted.resolve("Dockerfile")));
+        Assert.assertEquals(Files.getLastModifiedTime(extracted.resolve("Dockerfile")).toMillis(),
+                MODIFIED_TIME * 1000);
+    }
+
+    @Test
+    public void testReproducibleArchive() throws IOException {
+        Path source = workDir.resolve("reproducible");
+        write(source.resolve("b.txt"), "b");
+        write(source.resolve("a").resolve("a.txt"), "a");
+        byte[] first = archive(source);
+        Files.setLastModifiedTime(source.resolve("b.txt"), FileTime.fromMillis(0));
+        Assert.assertEquals(archive(source), first);
+        List<String> names = new ArrayList<>();
+        readEntries(first).forEach(entry -> names.add(entry.name));
+        Assert.assertEquals(names, List.of("layer/", "layer/a/", "layer/a/a.txt", "layer/b.txt"));
+    }
+
+    @Test(expectedExceptions = IOException.class,
+            expectedExceptionsMessageRegExp = "entry is too large for the archive: large.bin")
+    public void testLargeEntry() throws IOException {
+        Path large = workDir.resolve("large.bin");
+        // sparse, so that the file takes no space
+        try (RandomAccessFile file = new RandomAccessFile(large.toFile(), "rw")) {
+            file.setLength(8L * 1024 * 1024 * 1024);
+        }
+        try (TarArchiveWriter writer = new TarArchiveWriter(OutputStream.nullOutputStream())) {
+            writer.add("large.bin", large);
+        } finally {
+            Files.delete(large);
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class,
+            expectedExceptionsMessageRegExp = "symbolic links to directories are not supported: .*loop")
+    public void testSymbolicLinkToDirectory() throws IOException {
+        Path source = workDir.resolve("links");
+        write(source.resolve("a.txt"), "a");
+        Files.createSymbolicLink(source.resolve("loop"), source);
+        try (TarArchiveWriter writer = new TarArchiveWriter(OutputStream.nullOutputStream())) {
+            writer.add("", source);
+        }
+    }
+
+    private static byte[] archive(Path source) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (TarArchiveWriter writer = new TarArchiveWriter(archive, MODIFIED_TIME)) {
+            writer.add("layer", source);
+        }
+        return archive.toByteArray();
+    }
+
+    private static Path write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+
+    private static String field(byte[] header, int offset, int length) {
+        return new String(header, offset, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Reads the entries of an archive, checking the checksum of each header.
+     */
+    private static List<Entry> readEntries(byte[] archive) {
+        List<Entry> entries = new ArrayList<>();
+        int offset = 0;
+        while (offset + BLOCK_SIZE <= archive.length) {
+            byte[] header = Arrays.copyOfRange(archive, offset, offset + BLOCK_SIZE);
+            offset += BLOCK_SIZE;
+            if (Arrays.equals(header, new byte[BLOCK_SIZE])) {
+                break;
+            }
+            long checksum = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                checksum += i >= 148 && i < 156 ? ' ' : header[i] & 0xff;
+            }
+            Assert.assertEquals(field(header, 148, 8), String.format("%06o", checksum) + "\0 ");
+            int nameLength = 0;
+            while (nameLength < 100 && header[nameLength] != 0) {
+                nameLength++;
+            }
+            String name = new String(header, 0, nameLength, StandardCharsets.UTF_8);
+            int size = Integer.parseInt(field(header, 124, 11), 8);
+            byte[] content = Arrays.copyOfRange(archive, offset, offset + size);
+            offset += (size + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+            entries.add(new Entry(name, (char) header[156], header, content));
+        }
+        return entries;
+    }
+
+    private static class Entry {
+
+        private final String name;
+        private final char type;
+        private final byte[] header;
+        private final byte[] content;
+
+        Entry(String name, char type, byte[] header, byte[] content) {
+            this.name = name;
+            this.type = type;
+            this.header = header;
+            this.content = content;
+        }
+    }
+
+    @AfterClass
+    public void deleteWorkDir() throws Exception {
+        KubernetesUtils.deleteDirectory(workDir);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Docker engine API served over TCP by handlers of the tests, used to test the engine client without a daemon. It
+ * also serves the registry API to test the registry client. Every request is answered on its own connection, which
+ * is closed once its handler returns.
+ */
+public class FakeDockerEngine implements Closeable {
+
+    private static final String DOCKER_HOST = "DOCKER_HOST";
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Handler> handlers = new LinkedHashMap<>();
+    private final List<Request> requests = new ArrayList<>();
+    private String previousDockerHost;
+    private boolean dockerHostSet = false;
+
+    public FakeDockerEngine() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        handle("GET", "/_ping", (request, out) -> writeResponse(out, 200, "text/plain", "OK"));
+        Thread acceptor = new Thread(this::accept, "fake-docker-engine");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Registers the handler of the requests whose path starts with the given prefix. The longest matching prefix
+     * handles a request.
+     *
+     * @param method     request method
+     * @param pathPrefix prefix of the request path
+     * @param handler    handler writing the raw response
+     */
+    public synchronized void handle(String method, String pathPrefix, Handler handler) {
+        handlers.put(method + " " + pathPrefix, handler);
+    }
+
+    /**
+     * Points the {@code DOCKER_HOST} environment variable of this process to the engine until it is closed.
+     *
+     * @throws ReflectiveOperationException if the environment could not be changed
+     */
+    public void setAsDockerHost() throws ReflectiveOperationException {
+        previousDockerHost = System.getenv(DOCKER_HOST);
+        DockerTestUtils.updateEnv(DOCKER_HOST, "tcp://127.0.0.1:" + serverSocket.getLocalPort());
+        dockerHostSet = true;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public synchronized List<Request> getRequests() {
+        return List.copyOf(requests);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        if (dockerHostSet) {
+            try {
+                if (previousDockerHost == null) {
+                    DockerTestUtils.removeEnv(DOCKER_HOST);
+                } else {
+                    DockerTestUtils.updateEnv(DOCKER_HOST, previousDockerHost);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("unable to restore " + DOCKER_HOST, e);
+            }
+        }
+    }
+
+    /**
+     * Writes a response with a body of the given content.
+     *
+     * @param out         stream of the connection
+     * @param status      status code
+     * @param contentType content type of the body
+     * @param body        body of the response
+     * @throws IOException if the response could not be written
+     */
+    public static void writeResponse(OutputStream out, int status, String contentType, String body)
+            throws IOException {
+        writeResponse(out, status, Map.of("Content-Type", contentType), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a response with the given headers and body. The connection is marked to be closed, since it is not
+     * reused.
+     *
+     * @param out     stream of the connection
+     * @param status  status code
+     * @param headers headers of the response
+     * @param body    body of the response
+     * @throws IOException if the response could not be written
+     */
+    public static void writeResponse(OutputStream out, int status, Map<String, String> headers, byte[] body)
+            throws IOException {
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(" Status\r\n");
+        headers.forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+        head.append("Content-Length: ").append(body.length).append("\r\nConnection: close\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+        out.write(body);
+        out.flush();
+    }
+
+    /**
+     * Writes bytes in pieces of the given size, flushing and pausing after each so that the client sees them in
+     * separate reads.
+     *
+     * @param out       stream of the connection
+     * @param bytes     bytes to write
+     * @param pieceSize size of each piece
+     * @throws IOException          if the bytes could not be written
+     * @throws InterruptedException if interrupted while pausing
+     */
+    public static void writeInPieces(OutputStream out, byte[] bytes, int pieceSize)
+            throws IOException, InterruptedException {
+        for (int offset = 0; offset < bytes.length; offset += pieceSize) {
+            out.write(bytes, offset, Math.min(pieceSize, bytes.length - offset));
+            out.flush();
+            Thread.sleep(2);
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread connection = new Thread(() -> serve(socket), "fake-docker-engine-connection");
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                // the engine is closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            String[] requestLine = readLine(in).split(" ");
+            Map<String, String> headers = new LinkedHashMap<>();
+            String line;
+            while (!(line = readLine(in)).isEmpty()) {
+                int separator = line.indexOf(':');
+                headers.put(line.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                        line.substring(separator + 1).trim());
+            }
+            byte[] body = readBody(in, headers);
+            Request request = new Request(requestLine[0], requestLine[1], headers, body);
+            synchronized (this) {
+                requests.add(request);
+            }
+            OutputStream out = socket.getOutputStream();
+            Handler handler = getHandler(request);
+            if (handler == null) {
+                writeResponse(out, 404, "application/json", "{\"message\":\"no such endpoint\"}");
+            } else {
+                handler.handle(request, out);
+            }
+            out.flush();
+        } catch (IOException e) {
+            // the client closed the connection
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized Handler getHandler(Request request) {
+        Handler handler = null;
+        int matchedLength = -1;
+        for (Map.Entry<String, Handler> entry : handlers.entrySet()) {
+            String key = entry.getKey();
+            if ((request.method + " " + request.path).startsWith(key) && key.length() > matchedLength) {
+                handler = entry.getValue();
+                matchedLength = key.length();
+            }
+        }
+        return handler;
+    }
+
+    private static byte[] readBody(InputStream in, Map<String, String> headers) throws IOException {
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            int size;
+            while ((size = Integer.parseInt(readLine(in), 16)) > 0) {
+                body.write(in.readNBytes(size));
+                readLine(in);
+            }
+            readLine(in);
+            return body.toByteArray();
+        }
+        if (headers.containsKey("content-length")) {
+            return in.readNBytes(Integer.parseInt(headers.get("content-length")));
+        }
+        return new byte[0];
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        if (b == -1 && line.size() == 0) {
+            throw new IOException("connection closed");
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Writes the raw response of a request.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        void handle(Request request, OutputStream out) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Request received by the engine.
+     */
+    public static class Request {
+
+        private final String method;
+        private final String path;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        Request(String method, String path, Map<String, String> headers, byte[] body) {
+            this.method = method;
+            this.path = path;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Registry API served over plain http by a {@link FakeDockerEngine}, holding manifests and blobs in memory. Blobs are
+ * only served from the repositories they were added, uploaded or mounted to.
+ */
+public class FakeRegistry implements Closeable {
+
+    private static final String V2 = "/v2/";
+    private static final String MANIFESTS = "/manifests/";
+    private static final String BLOBS = "/blobs/";
+    private static final String UPLOADS = "/blobs/uploads/";
+
+    private final FakeDockerEngine server;
+    private final Map<String, byte[]> blobs = new HashMap<>();
+    private final Map<String, Set<String>> repositoryBlobs = new HashMap<>();
+    private final Map<String, Manifest> manifests = new HashMap<>();
+
+    public FakeRegistry() throws IOException {
+        server = new FakeDockerEngine();
+        server.handle("GET", V2, this::handleGet);
+        server.handle("HEAD", V2, this::handleHead);
+        server.handle("POST", V2, this::handlePost);
+        server.handle("PUT", V2, this::handlePut);
+    }
+
+    /**
+     * Returns the host of the registry, which prefixes the names of its images.
+     *
+     * @return host and port of the registry
+     */
+    public String getHost() {
+        return "127.0.0.1:" + server.getPort();
+    }
+
+    /**
+     * Adds a blob to a repository.
+     *
+     * @param repository repository of the blob
+     * @param content    content of the blob
+     * @return digest of the blob
+     */
+    public synchronized String addBlob(String repository, byte[] content) {
+        String digest = digest(content);
+        blobs.put(digest, content);
+        repositoryBlobs.computeIfAbsent(repository, key -> new HashSet<>()).add(digest);
+        return digest;
+    }
+
+    /**
+     * Adds a manifest to a repository, which can be pulled by the given reference as well as by its digest.
+     *
+     * @param repository repository of the manifest
+     * @param reference  tag of the manifest
+     * @param mediaType  media type of the manifest
+     * @param content    content of the manifest
+     * @return digest of the manifest
+     */
+    public synchronized String addManifest(String repository, String reference, String mediaType, byte[] content) {
+        String digest = digest(content);
+        Manifest manifest = new Manifest(mediaType, content);
+        manifests.put(repository + MANIFESTS + reference, manifest);
+        manifests.put(repository + MANIFESTS + digest, manifest);
+        return digest;
+    }
+
+    /**
+     * Returns the digest of a blob or manifest, as the registry names it.
+     *
+     * @param content content of the blob or manifest
+     * @return sha256 digest of the content
+     */
+    public static String digest(byte[] content) {
+        try {
+            return "sha256:" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("sha256 is not supported", e);
+        }
+    }
+
+    public synchronized boolean hasBlob(String repository, String digest) {
+        return repositoryBlobs.getOrDefault(repository, Set.of()).contains(digest);
+    }
+
+    public synchronized long getBlobSize(String digest) {
+        return blobs.get(digest).length;
+    }
+
+    public synchronized byte[] getManifest(String repository, String reference) {
+        Manifest manifest = manifests.get(repository + MANIFESTS + reference);
+        return manifest == null ? null : manifest.content;
+    }
+
+    public synchronized String getManifestMediaType(String repository, String reference) {
+        Manifest manifest = manifests.get(repository + MANIFESTS + reference);
+        return manifest == null ? null : manifest.mediaType;
+    }
+
+    public List<FakeDockerEngine.Request> getRequests() {
+        return server.getRequests();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    private synchronized void handleGet(FakeDockerEngine.Request request, OutputStream out) throws IOException {
+        String path = getPath(request);
+        Manifest manifest = manifests.get(path.substring(V2.length()));
+        if (manifest != null) {
+            FakeDockerEngine.writeResponse(out, 200, Map.of("Content-Type", manifest.mediaType), manifest.content);
+        } else if (path.contains(BLOBS) && hasBlob(getRepository(path, BLOBS), getLastSegment(path))) {
+            FakeDockerEngine.writeResponse(out, 200, Map.of("Content-Type", "application/octet-stream"),
+                    blobs.get(getLastSegment(path)));
+        } else {
+            writeError(out, 404, "MANIFEST_UNKNOWN", "not found: " + path);
+        }
+    }
+
+    private synchronized void handleHead(FakeDockerEngine.Request request, OutputStream out) throws IOException {
+        String path = getPath(request);
+        int status = path.contains(BLOBS) && hasBlob(getRepository(path, BLOBS), getLastSegment(path)) ? 200 : 404;
+        FakeDockerEngine.writeResponse(out, status, Map.of(), new byte[0]);
+    }
+
+    private synchronized void handlePost(FakeDockerEngine.Request request, OutputStream out) throws IOException {
+        String path = getPath(request);
+        if (!path.endsWith(UPLOADS)) {
+            writeError(out, 404, "NAME_UNKNOWN", "not found: " + path);
+            return;
+        }
+        String repository = getRepository(path, UPLOADS);
+        Map<String, String> query = getQuery(request);
+        String mounted = query.get("mount");
+        if (mounted != null && hasBlob(query.get("from"), mounted)) {
+            repositoryBlobs.computeIfAbsent(repository, key -> new HashSet<>()).add(mounted);
+            FakeDockerEngine.writeResponse(out, 201, Map.of("Location", V2 + repository + BLOBS + mounted),
+                    new byte[0]);
+            return;
+        }
+        FakeDockerEngine.writeResponse(out, 202, Map.of("Location", V2 + repository + UPLOADS + UUID.randomUUID()),
+                new byte[0]);
+    }
+
+    private synchronized void handlePut(FakeDockerEngine.Request request, OutputStream out) throws IOException {
+        String path = getPath(request);
+        if (path.contains(UPLOADS)) {
+            String digest = getQuery(request).get("digest");
+            if (digest == null || !digest.equals(digest(request.getBody()))) {
+                writeError(out, 400, "DIGEST_INVALID", "provided digest did not match uploaded content");
+                return;
+            }
+            addBlob(getRepository(path, UPLOADS), request.getBody());
+            FakeDockerEngine.writeResponse(out, 201, Map.of(), new byte[0]);
+        } else if (path.contains(MANIFESTS)) {
+            String repository = getRepository(path, MANIFESTS);
+            String digest = addManifest(repository, getLastSegment(path),
+                    request.getHeaders().get("content-type"), request.getBody());
+            FakeDockerEngine.writeResponse(out, 201, Map.of("Docker-Content-Digest", digest), new byte[0]);
+        } else {
+            writeError(out, 404, "NAME_UNKNOWN", "not found: " + path);
+        }
+    }
+
+    private static void writeError(OutputStream out, int status, String code, String message) throws IOException {
+        FakeDockerEngine.writeResponse(out, status, "application/json",
+                "{\"errors\":[{\"code\":\"" + code + "\",\"message\":\"" + message + "\"}]}");
+    }
+
+    private static String getPath(FakeDockerEngine.Request request) {
+        int queryIndex = request.getPath().indexOf('?');
+        return queryIndex < 0 ? request.getPath() : request.getPath().substring(0, queryIndex);
+    }
+
+    private static Map<String, String> getQuery(FakeDockerEngine.Request request) {
+        Map<String, String> query = new HashMap<>();
+        int queryIndex = request.getPath().indexOf('?');
+        if (queryIndex < 0) {
+            return query;
+        }
+        for (String parameter : request.getPath().substring(queryIndex + 1).split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                query.put(parameter.substring(0, separator),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static String getRepository(String path, String section) {
+        return path.substring(V2.length(), path.lastIndexOf(section));
+    }
+
+    private static String getLastSegment(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static class Manifest {
+
+        private final String mediaType;
+        private final byte[] content;
+
+        Manifest(String mediaType, byte[] content) {
+            this.mediaType = mediaType;
+            this.content = content;
+        }
+    }
+}
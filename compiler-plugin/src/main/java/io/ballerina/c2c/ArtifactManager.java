@@ -22,12 +22,17 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.handlers.ChoreoHandler;
 import io.ballerina.c2c.handlers.ConfigMapHandler;
+import io.ballerina.c2c.handlers.DashboardHandler;
 import io.ballerina.c2c.handlers.DeploymentHandler;
 import io.ballerina.c2c.handlers.DockerHandler;
 import io.ballerina.c2c.handlers.HPAHandler;
+import io.ballerina.c2c.handlers.IngressHandler;
 import io.ballerina.c2c.handlers.JobHandler;
+import io.ballerina.c2c.handlers.MetricsHandler;
+import io.ballerina.c2c.handlers.PerfHandler;
 import io.ballerina.c2c.handlers.SecretHandler;
 import io.ballerina.c2c.handlers.ServiceHandler;
+import io.ballerina.c2c.handlers.TracingHandler;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.c2c.models.KubernetesContext;
@@ -35,6 +40,8 @@ import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.ServiceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TestShardRunner;
+import io.ballerina.cli.utils.DebugUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
@@ -89,16 +96,21 @@ public class ArtifactManager {
         OUT.println("\nGenerating artifacts\n");
         if (kubernetesDataHolder.getJobModel() != null) {
             new CloudTomlResolver().resolveToml(kubernetesDataHolder.getJobModel());
+            new TracingHandler().createArtifacts();
             new ConfigMapHandler().createArtifacts();
             new SecretHandler().createArtifacts();
             new JobHandler().createArtifacts();
         } else {
             new CloudTomlResolver().resolveToml(kubernetesDataHolder.getDeploymentModel());
             new ServiceHandler().createArtifacts();
+            new IngressHandler().createArtifacts();
+            new TracingHandler().createArtifacts();
             new ConfigMapHandler().createArtifacts();
             new SecretHandler().createArtifacts();
             new DeploymentHandler().createArtifacts();
             new HPAHandler().createArtifacts();
+            new MetricsHandler().createArtifacts();
+            new DashboardHandler().createArtifacts();
         }
         new DockerHandler(isNative).createArtifacts();
         printInstructions();
@@ -111,16 +123,21 @@ public class ArtifactManager {
         OUT.println("\nGenerating artifacts\n");
         if (kubernetesDataHolder.getJobModel() != null) {
             new CloudTomlResolver().resolveToml(kubernetesDataHolder.getJobModel());
+            new TracingHandler().createArtifacts();
             new ConfigMapHandler().createArtifacts();
             new SecretHandler().createArtifacts();
             new JobHandler().createArtifacts();
         } else {
             new CloudTomlResolver().resolveToml(kubernetesDataHolder.getDeploymentModel());
             new ServiceHandler().createArtifacts();
+            new IngressHandler().createArtifacts();
+            new TracingHandler().createArtifacts();
             new ConfigMapHandler().createArtifacts();
             new SecretHandler().createArtifacts();
             new DeploymentHandler().createArtifacts();
             new HPAHandler().createArtifacts();
+            new MetricsHandler().createArtifacts();
+            new DashboardHandler().createArtifacts();
         }
         new DockerHandler(isNative).createArtifacts();
         printInstructions();
@@ -135,12 +152,22 @@ public class ArtifactManager {
         String dockerRunCommand = "docker run -d " + generatePortInstruction(dockerModel.getPorts())
                 + dockerModel.getName();
         if (dockerModel.isTest()) { //if it is a test artifact, we also run the docker container
-            OUT.println("\nRunning the generated Docker image\n");
-            // Run the docker container and remove it after execution
-            KubernetesUtils.runCommand(dockerModel.getName());
-            // Delete the docker image
-            KubernetesUtils.deleteDockerImage(dockerModel.getName());
+            if (dockerModel.getTestShards() > 1 && !dockerModel.isEnableDebug() && !DebugUtils.isInDebugMode()) {
+                OUT.println("\nRunning the generated Docker image in " + dockerModel.getTestShards() + " shards\n");
+                if (!new TestShardRunner(dockerModel, kubernetesDataHolder.getDockerArtifactOutputPath()).run()) {
+                    KubernetesUtils.printError("Error running the docker image: " + dockerModel.getName());
+                }
+            } else {
+                OUT.println("\nRunning the generated Docker image\n");
+                // Run the docker container and remove it after execution
+                KubernetesUtils.runCommand(dockerModel.getName(), dockerModel.getTestTimeout());
+            }
+            // Delete the docker image unless it is kept for inspection. The test base image is always kept.
+            if (!dockerModel.isKeepTestImage()) {
+                KubernetesUtils.deleteDockerImage(dockerModel.getName());
+            }
         } else {
+            new PerfHandler().createArtifacts();
             instructions.put("Execute the below command to run the generated Docker image: ",
                     "\t" + dockerRunCommand);
             printInstructions();
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c;
+
+import io.ballerina.c2c.tasks.HealthListenerModifierTask;
+import io.ballerina.projects.plugins.CodeModifier;
+import io.ballerina.projects.plugins.CodeModifierContext;
+
+/**
+ * A {@code CodeModifier} implementation that adds the sources required by the cloud artifacts.
+ *
+ * @since 4.0.0
+ */
+public class C2CCodeModifier extends CodeModifier {
+
+    @Override
+    public void init(CodeModifierContext modifierContext) {
+        modifierContext.addSourceModifierTask(new HealthListenerModifierTask());
+    }
+}
@@ -29,6 +29,7 @@ public class C2CCompilerPlugin extends CompilerPlugin {
 
     @Override
     public void init(CompilerPluginContext pluginContext) {
+        pluginContext.addCodeModifier(new C2CCodeModifier());
         pluginContext.addCodeAnalyzer(new C2CCodeAnalyzer());
         pluginContext.addCompilerLifecycleListener(new C2CLifecycleListener());
     }
@@ -26,8 +26,12 @@ import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.KubernetesModel;
+import io.ballerina.c2c.models.MetricsModel;
+import io.ballerina.c2c.models.PartitionModel;
 import io.ballerina.c2c.models.PersistentVolumeClaimModel;
 import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.models.TracingModel;
+import io.ballerina.c2c.tasks.HealthListenerModifierTask;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.TomlHelper;
@@ -40,20 +44,21 @@ import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
-import org.apache.commons.codec.binary.Base64;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
+import io.fabric8.kubernetes.api.model.apps.RollingUpdateDeployment;
 
 import java.io.File;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static io.ballerina.c2c.KubernetesConstants.BALLERINA_CONF_FILE_NAME;
 import static io.ballerina.c2c.KubernetesConstants.BALLERINA_CONF_MOUNT_PATH;
@@ -87,6 +92,7 @@ public class CloudTomlResolver {
             // Config.toml files
             resolveConfigMapToml(ballerinaCloud);
             resolveConfigSecretToml(ballerinaCloud);
+            resolveTracingToml(ballerinaCloud);
 
             // Config files
             resolveConfigFilesToml(jobModel, ballerinaCloud);
@@ -115,6 +121,7 @@ public class CloudTomlResolver {
             // Config.toml files
             resolveConfigMapToml(ballerinaCloud);
             resolveConfigSecretToml(ballerinaCloud);
+            resolveTracingToml(ballerinaCloud);
 
             // Config files
             resolveConfigFilesToml(deploymentModel, ballerinaCloud);
@@ -145,21 +152,120 @@ public class CloudTomlResolver {
     private void resolveSettingsToml(Toml ballerinaCloud) {
 
         dataHolder.setSingleYaml(TomlHelper.getBoolean(ballerinaCloud, "settings.singleYAML", true));
+        dataHolder.setImmutableConfig(TomlHelper.getBoolean(ballerinaCloud, "settings.immutableConfig", false));
         dataHolder.getDockerModel().setBuildImage(TomlHelper.getBoolean(ballerinaCloud,
                 "settings.buildImage", true));
         dataHolder.getDockerModel().setThinJar(KubernetesUtils.isThinJar(ballerinaCloud, dataHolder.getDockerModel()));
     }
 
-    private void resolveDeploymentToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+    private void resolveDeploymentToml(DeploymentModel deploymentModel, Toml ballerinaCloud)
+            throws KubernetesPluginException {
 
         deploymentModel.setReplicas(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT + "replicas",
                 deploymentModel.getReplicas())));
-        Optional<Toml> probeToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "probes.readiness");
-        probeToml.ifPresent(toml -> deploymentModel.setReadinessProbe(resolveProbeToml(toml)));
+        boolean isNative = dataHolder.getDockerModel().isGraalVMBuild();
+        Optional<Toml> probeToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "probes.startup");
+        probeToml.ifPresent(toml -> deploymentModel.setStartupProbe(resolveStartupProbeToml(toml, isNative)));
+        // Startup probe gates the other probes, hence they do not need an initial delay.
+        int initialDelay = isNative || probeToml.isPresent() ? KubernetesConstants.NATIVE_PROBE_INITIAL_DELAY_SECONDS :
+                KubernetesConstants.JVM_PROBE_INITIAL_DELAY_SECONDS;
+        probeToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "probes.readiness");
+        probeToml.ifPresent(toml -> deploymentModel.setReadinessProbe(resolveProbeToml(toml, initialDelay)));
         probeToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "probes.liveness");
-        probeToml.ifPresent(toml -> deploymentModel.setLivenessProbe(resolveProbeToml(toml)));
+        probeToml.ifPresent(toml -> deploymentModel.setLivenessProbe(resolveProbeToml(toml, initialDelay)));
+        ballerinaCloud.getTable(HealthListenerModifierTask.HEALTH_LISTENER_TABLE)
+                .ifPresent(toml -> resolveHealthListenerToml(toml, deploymentModel, initialDelay));
         deploymentModel.setInternalDomainName(TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT +
                 "internal_domain_name"));
+        ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "strategy")
+                .ifPresent(toml -> resolveStrategyToml(deploymentModel, toml));
+        ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "shutdown")
+                .ifPresent(toml -> resolveShutdownToml(deploymentModel, toml));
+        for (Toml partitionToml : ballerinaCloud.getTables(CLOUD_DEPLOYMENT + "partitions")) {
+            deploymentModel.getPartitions().add(resolvePartitionToml(partitionToml));
+        }
+        Optional<Toml> metricsToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "metrics");
+        if (metricsToml.isPresent()) {
+            resolveMetricsToml(deploymentModel, metricsToml.get());
+        }
+    }
+
+    private void resolveMetricsToml(DeploymentModel deploymentModel, Toml metricsToml)
+            throws KubernetesPluginException {
+        if (!TomlHelper.getBoolean(metricsToml, "enable", true)) {
+            return;
+        }
+        if (!dataHolder.isObservabilityIncluded()) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_METRICS_CONFIG,
+                    new NullLocation(), "metrics are only served when `observabilityIncluded` is enabled in the " +
+                            "build options");
+            throw new KubernetesPluginException(diagnostic);
+        }
+        MetricsModel metricsModel = new MetricsModel();
+        metricsModel.setPort(Math.toIntExact(TomlHelper.getLong(metricsToml, "port",
+                KubernetesConstants.DEFAULT_METRICS_PORT)));
+        String monitor = TomlHelper.getString(metricsToml, "monitor");
+        if (monitor != null) {
+            metricsModel.setMonitor(KubernetesConstants.MonitorType.valueOf(monitor));
+        }
+        metricsModel.setInterval(TomlHelper.getString(metricsToml, "interval"));
+        metricsModel.setDashboard(TomlHelper.getBoolean(metricsToml, "dashboard", true));
+        metricsModel.setAlerts(TomlHelper.getBoolean(metricsToml, "alerts", true));
+        metricsModel.setLatencyThresholdMillis(Math.toIntExact(TomlHelper.getLong(metricsToml,
+                "latency_threshold_ms", KubernetesConstants.DEFAULT_LATENCY_THRESHOLD_MILLIS)));
+        metricsModel.setErrorRateThreshold(Math.toIntExact(TomlHelper.getLong(metricsToml,
+                "error_rate_threshold", KubernetesConstants.DEFAULT_ERROR_RATE_THRESHOLD)));
+        // Prometheus operator instances usually pick monitors up through a label such as `release`
+        for (Toml label : metricsToml.getTables("labels")) {
+            metricsModel.addLabel(TomlHelper.getString(label, "key"), TomlHelper.getString(label, "value"));
+        }
+        deploymentModel.setMetricsModel(metricsModel);
+    }
+
+    private PartitionModel resolvePartitionToml(Toml partitionToml) {
+        PartitionModel partitionModel = new PartitionModel();
+        partitionModel.setName(TomlHelper.getString(partitionToml, "name"));
+        TomlHelper.getLongList(partitionToml, "listeners")
+                .forEach(port -> partitionModel.getPorts().add(Math.toIntExact(port)));
+        partitionModel.getModules().addAll(TomlHelper.getStringList(partitionToml, "modules"));
+        Long replicas = TomlHelper.getLong(partitionToml, "replicas");
+        if (replicas != null) {
+            partitionModel.setReplicas(Math.toIntExact(replicas));
+        }
+        return partitionModel;
+    }
+
+    private void resolveStrategyToml(DeploymentModel deploymentModel, Toml strategyToml) {
+        RollingUpdateDeployment rollingUpdate = new RollingUpdateDeployment();
+        rollingUpdate.setMaxSurge(getIntOrPercentage(TomlHelper.getString(strategyToml, "max_surge")));
+        rollingUpdate.setMaxUnavailable(getIntOrPercentage(TomlHelper.getString(strategyToml, "max_unavailable")));
+        deploymentModel.setStrategy(new DeploymentStrategyBuilder()
+                .withType("RollingUpdate")
+                .withRollingUpdate(rollingUpdate)
+                .build());
+        Long minReadySeconds = TomlHelper.getLong(strategyToml, "min_ready_seconds");
+        if (minReadySeconds != null) {
+            deploymentModel.setMinReadySeconds(Math.toIntExact(minReadySeconds));
+        }
+    }
+
+    private void resolveShutdownToml(DeploymentModel deploymentModel, Toml shutdownToml) {
+        Long drainSeconds = TomlHelper.getLong(shutdownToml, "drain_seconds");
+        if (drainSeconds != null) {
+            deploymentModel.setPreStopDrainSeconds(Math.toIntExact(drainSeconds));
+        }
+        deploymentModel.setTerminationGracePeriodSeconds(TomlHelper.getLong(shutdownToml,
+                "termination_grace_period_seconds"));
+    }
+
+    private IntOrString getIntOrPercentage(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.endsWith("%")) {
+            return new IntOrString(value);
+        }
+        return new IntOrString(Integer.parseInt(value));
     }
 
     private void resolveEnvToml(KubernetesModel model, Toml ballerinaCloud) {
@@ -232,7 +338,7 @@ public class CloudTomlResolver {
             String name = TomlHelper.getString(secret, "name", defaultValue);
             SecretModel secretModel = new SecretModel();
             secretModel.setName(name);
-            secretModel.setData(getData(path.toString(), true));
+            secretModel.setData(getData(path.toString()));
             secretModel.setMountPath(getSecretMountPath(i));
             secretModel.setBallerinaConf(true);
             dataHolder.addSecrets(Collections.singleton(secretModel));
@@ -269,14 +375,14 @@ public class CloudTomlResolver {
                 dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath)
                         .normalize();
             }
-            String content = new String(KubernetesUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
+            validateDataFile(dataFilePath);
 
             Optional<ConfigMapModel> configMap = getConfigMapModel(name);
             if (configMap.isEmpty()) {
                 configMapModel.setName(name);
                 configMapModel.setMountPath(getConfMountPath(i));
-                Map<String, String> dataMap = new HashMap<>();
-                dataMap.put(fileName.toString(), content);
+                Map<String, Path> dataMap = new TreeMap<>();
+                dataMap.put(fileName.toString(), dataFilePath);
                 configMapModel.setData(dataMap);
                 configMapModel.setBallerinaConf(true);
                 configMapModel.setReadOnly(false);
@@ -284,16 +390,66 @@ public class CloudTomlResolver {
                 dataHolder.addConfigMaps(Collections.singleton(configMapModel));
             } else {
                 ConfigMapModel existingConfigMap = configMap.get();
-                Map<String, String> data = existingConfigMap.getData();
+                Map<String, Path> data = existingConfigMap.getData();
                 if (data.containsKey(fileName.toString())) {
                     Diagnostic diagnostic =
                             C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_CONFIG_FILE_NAME_TAKEN,
                                     new NullLocation());
                     throw new KubernetesPluginException(diagnostic);
                 }
-                data.put(fileName.toString(), content);
+                data.put(fileName.toString(), dataFilePath);
+            }
+        }
+    }
+
+    private void resolveTracingToml(Toml toml) throws KubernetesPluginException {
+
+        Optional<Toml> tracingToml = toml.getTable("cloud.observability.tracing");
+        if (tracingToml.isEmpty() || !TomlHelper.getBoolean(tracingToml.get(), "enable", true)) {
+            return;
+        }
+        Toml tracing = tracingToml.get();
+        if (!dataHolder.isObservabilityIncluded()) {
+            throw createTracingException("traces are only published when `observabilityIncluded` is enabled in " +
+                    "the build options");
+        }
+        TracingModel tracingModel = new TracingModel();
+        String provider = TomlHelper.getString(tracing, "provider");
+        if (provider != null) {
+            tracingModel.setProvider(KubernetesConstants.TracingProvider.valueOf(provider));
+        }
+        String host = TomlHelper.getString(tracing, "host");
+        if (isBlank(host)) {
+            throw createTracingException("`host` of the trace collector is required");
+        }
+        tracingModel.setHost(host);
+        tracingModel.setPort(Math.toIntExact(TomlHelper.getLong(tracing, "port",
+                tracingModel.getProvider().getDefaultPort())));
+
+        // head sampling, decided when the root span is started
+        Double samplingRatio = TomlHelper.getDouble(tracing, "sampling_ratio");
+        Long rateLimit = TomlHelper.getLong(tracing, "rate_limit");
+        if (samplingRatio != null && rateLimit != null) {
+            throw createTracingException("only one of `sampling_ratio` and `rate_limit` can be set");
+        }
+        if (samplingRatio != null) {
+            if (samplingRatio < 0 || samplingRatio > 1) {
+                throw createTracingException("`sampling_ratio` should be between 0 and 1");
             }
+            tracingModel.setSamplerType(KubernetesConstants.PROBABILISTIC_SAMPLER);
+            tracingModel.setSamplerParam(samplingRatio);
+        } else if (rateLimit != null) {
+            tracingModel.setSamplerType(KubernetesConstants.RATE_LIMITING_SAMPLER);
+            tracingModel.setSamplerParam(rateLimit);
         }
+        dataHolder.setTracingModel(tracingModel);
+    }
+
+    private KubernetesPluginException createTracingException(String reason) {
+
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_TRACING_CONFIG,
+                new NullLocation(), reason);
+        return new KubernetesPluginException(diagnostic);
     }
 
     private String getConfMountPath(int confCount) {
@@ -331,7 +487,7 @@ public class CloudTomlResolver {
                 }
 
                 secretModel.setName(deploymentName + "-" + getValidName(fileName.toString()) + SECRET_POSTFIX + i);
-                secretModel.setData(getData(path.toString(), true));
+                secretModel.setData(getData(path.toString()));
                 secretModel.setMountPath(mountPathSr);
                 dataHolder.addSecrets(Collections.singleton(secretModel));
             }
@@ -381,7 +537,7 @@ public class CloudTomlResolver {
                     mountPathSr = getModifiedMountPath(mountPath.toString(), fileName.toString());
                 }
                 configMapModel.setName(deploymentName + "-" + getValidName(fileName.toString()) + "cfg" + i);
-                configMapModel.setData(getData(path.toString(), false));
+                configMapModel.setData(getData(path.toString()));
                 configMapModel.setMountPath(mountPathSr);
                 configMapModel.setBallerinaConf(false);
                 dataHolder.addConfigMaps(Collections.singleton(configMapModel));
@@ -424,19 +580,18 @@ public class CloudTomlResolver {
         return fileName;
     }
 
-    private Map<String, String> getData(String path, boolean isSecret) throws KubernetesPluginException {
+    private Map<String, Path> getData(String path) throws KubernetesPluginException {
 
-        Map<String, String> dataMap = new HashMap<>();
+        // Only the file locations are collected, contents are streamed to the artifacts when they are written.
+        Map<String, Path> dataMap = new TreeMap<>();
         Path dataFilePath = Paths.get(path);
         if (!dataFilePath.isAbsolute()) {
             dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath);
         }
         File file = dataFilePath.toFile();
         if (!file.isDirectory()) {
-            // Read all files
-            String key = String.valueOf(dataFilePath.getFileName());
-            String content = getContent(KubernetesUtils.readFileContent(dataFilePath), isSecret);
-            dataMap.put(key, content);
+            validateDataFile(dataFilePath);
+            dataMap.put(String.valueOf(dataFilePath.getFileName()), dataFilePath);
             return dataMap;
         }
         File[] files = file.listFiles();
@@ -447,22 +602,21 @@ public class CloudTomlResolver {
             if (f.isDirectory()) {
                 continue;
             }
-            String key = f.getName();
-            String content = getContent(KubernetesUtils.readFileContent(f.toPath()), isSecret);
-            dataMap.put(key, content);
+            dataMap.put(f.getName(), f.toPath());
         }
         return dataMap;
     }
 
-    private String getContent(byte[] content, boolean isSecret) {
+    private void validateDataFile(Path dataFilePath) throws KubernetesPluginException {
 
-        if (isSecret) {
-            return Base64.encodeBase64String(content);
+        if (!Files.isRegularFile(dataFilePath) || !Files.isReadable(dataFilePath)) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.PATH_CONTENT_READ_FAILED,
+                    new NullLocation(), dataFilePath);
+            throw new KubernetesPluginException(diagnostic);
         }
-        return new String(content, StandardCharsets.UTF_8);
     }
 
-    private Probe resolveProbeToml(Toml probeToml) {
+    private Probe resolveProbeToml(Toml probeToml, int defaultInitialDelay) {
         //Resolve Probe.
         Probe probe = new ProbeBuilder().build();
         HTTPGetAction httpGet = new HTTPGetAction();
@@ -471,10 +625,68 @@ public class CloudTomlResolver {
             httpGet.setPort(new IntOrString(Math.toIntExact(port)));
         }
         httpGet.setPath(TomlHelper.getString(probeToml, "path"));
-        probe.setInitialDelaySeconds(30);
+        probe.setInitialDelaySeconds(Math.toIntExact(TomlHelper.getLong(probeToml, "initial_delay_seconds",
+                defaultInitialDelay)));
+        probe.setPeriodSeconds(toInteger(TomlHelper.getLong(probeToml, "period_seconds")));
+        probe.setTimeoutSeconds(toInteger(TomlHelper.getLong(probeToml, "timeout_seconds")));
+        probe.setFailureThreshold(toInteger(TomlHelper.getLong(probeToml, "failure_threshold")));
+        probe.setSuccessThreshold(toInteger(TomlHelper.getLong(probeToml, "success_threshold")));
+        probe.setHttpGet(httpGet);
+        return probe;
+    }
+
+    private void resolveHealthListenerToml(Toml healthToml, DeploymentModel deploymentModel, int initialDelay) {
+        int port = Math.toIntExact(TomlHelper.getLong(healthToml, "port",
+                KubernetesConstants.DEFAULT_HEALTH_LISTENER_PORT));
+        deploymentModel.setHealthListenerPort(port);
+        // Probes which are not configured explicitly are served from the generated health listener.
+        if (deploymentModel.getReadinessProbe() == null) {
+            deploymentModel.setReadinessProbe(createHttpProbe(port, KubernetesConstants.HEALTH_READINESS_PATH,
+                    initialDelay));
+        }
+        if (deploymentModel.getLivenessProbe() == null) {
+            deploymentModel.setLivenessProbe(createHttpProbe(port, KubernetesConstants.HEALTH_LIVENESS_PATH,
+                    initialDelay));
+        }
+    }
+
+    private Probe createHttpProbe(int port, String path, int initialDelay) {
+        HTTPGetAction httpGet = new HTTPGetAction();
+        httpGet.setPort(new IntOrString(port));
+        httpGet.setPath(path);
+        Probe probe = new ProbeBuilder().build();
+        probe.setInitialDelaySeconds(initialDelay);
         probe.setHttpGet(httpGet);
         return probe;
     }
 
+    private Probe resolveStartupProbeToml(Toml probeToml, boolean isNative) {
+        Probe probe = resolveProbeToml(probeToml, 0);
+        if (probe.getPeriodSeconds() == null) {
+            probe.setPeriodSeconds(isNative ? KubernetesConstants.NATIVE_STARTUP_PROBE_PERIOD_SECONDS :
+                    KubernetesConstants.JVM_STARTUP_PROBE_PERIOD_SECONDS);
+        }
+        if (probe.getFailureThreshold() == null) {
+            // Give the container twice the expected startup time before it is restarted.
+            Long expectedStartup = TomlHelper.getLong(probeToml, "expected_startup_seconds");
+            if (expectedStartup != null) {
+                long budget = expectedStartup * KubernetesConstants.STARTUP_PROBE_BUDGET_FACTOR;
+                probe.setFailureThreshold(Math.toIntExact(Math.max(1,
+                        (budget + probe.getPeriodSeconds() - 1) / probe.getPeriodSeconds())));
+            } else {
+                probe.setFailureThreshold(isNative ? KubernetesConstants.NATIVE_STARTUP_PROBE_FAILURE_THRESHOLD :
+                        KubernetesConstants.JVM_STARTUP_PROBE_FAILURE_THRESHOLD);
+            }
+        }
+        return probe;
+    }
+
+    private Integer toInteger(Long value) {
+        if (value == null) {
+            return null;
+        }
+        return Math.toIntExact(value);
+    }
+
 }
 
@@ -33,4 +33,14 @@ public class DockerGenConstants {
 
     public static final String SCHEMA_FILE_NAME = "c2c-schema.json";
     public static final String REFLECT_JSON_FILE = "reflect-config.json";
+    public static final String TEST_SHARDS_DIR = "shards";
+    public static final String TEST_RESULTS_DIR = "results";
+    public static final String JACOCO_EXEC_EXTENSION = ".exec";
+    public static final String TEST_BASE_DIR = "base";
+    public static final String TEST_BASE_IMAGE_POSTFIX = "-base";
+    public static final int TEST_BASE_IMAGE_TAG_LENGTH = 12;
+    public static final String DOCKER_IMAGE_BUILDER = "docker";
+    public static final String OCI_IMAGE_BUILDER = "oci";
+    public static final String OCI_LAYOUT_DIR = "oci";
+    public static final String OCI_ARCHIVE_FILE = "image.tar";
 }
@@ -29,6 +29,8 @@ public class KubernetesConstants {
     public static final String KUBERNETES_SVC_PROTOCOL = "TCP";
     public static final String KUBERNETES_SELECTOR_KEY = "app";
     public static final String SVC_POSTFIX = "-svc";
+    public static final String HEADLESS_SVC_POSTFIX = "-headless";
+    public static final String HEADLESS_UNREADY_SVC_POSTFIX = "-headless-unready";
     public static final String CONFIG_MAP_POSTFIX = "-config-map";
     public static final String SECRET_POSTFIX = "-secret";
     public static final String DOCKER = "docker";
@@ -36,6 +38,10 @@ public class KubernetesConstants {
     public static final String DEPLOYMENT_POSTFIX = "-deployment";
     public static final String JOB_POSTFIX = "-job";
     public static final String HPA_POSTFIX = "-hpa";
+    public static final String INGRESS_POSTFIX = "-ingress";
+    public static final String ROUTE_POSTFIX = "-route";
+    public static final String MONITOR_POSTFIX = "-monitor";
+    public static final String RULES_POSTFIX = "-rules";
     public static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
     public static final String JOB_FILE_POSTFIX = "_job";
     public static final String SVC_FILE_POSTFIX = "_svc";
@@ -43,6 +49,11 @@ public class KubernetesConstants {
     public static final String CONFIG_MAP_FILE_POSTFIX = "_config_map";
     public static final String VOLUME_CLAIM_FILE_POSTFIX = "_volume_claim";
     public static final String HPA_FILE_POSTFIX = "_hpa";
+    public static final String INGRESS_FILE_POSTFIX = "_ingress";
+    public static final String MONITOR_FILE_POSTFIX = "_monitor";
+    public static final String RULES_FILE_POSTFIX = "_rules";
+    public static final String DASHBOARD_FILE_POSTFIX = "-dashboard.json";
+    public static final String DASHBOARD_DIR = "grafana";
     public static final String BUILD_CONFIG_FILE_POSTFIX = "_build_config";
     public static final String YAML = ".yaml";
     public static final String DOCKER_LATEST_TAG = ":latest";
@@ -60,6 +71,52 @@ public class KubernetesConstants {
     public static final String CHOREO = "choreo";
     public static final String K8S = "k8s";
     public static final String OPENSHIFT = "openshift";
+    public static final int DEFAULT_PROBE_PERIOD_SECONDS = 10;
+    public static final int JVM_PROBE_INITIAL_DELAY_SECONDS = 30;
+    public static final int JVM_STARTUP_PROBE_PERIOD_SECONDS = 5;
+    public static final int JVM_STARTUP_PROBE_FAILURE_THRESHOLD = 24;
+    public static final int NATIVE_PROBE_INITIAL_DELAY_SECONDS = 0;
+    public static final int NATIVE_STARTUP_PROBE_PERIOD_SECONDS = 1;
+    public static final int NATIVE_STARTUP_PROBE_FAILURE_THRESHOLD = 30;
+    public static final int STARTUP_PROBE_BUDGET_FACTOR = 2;
+    public static final int DEFAULT_HEALTH_LISTENER_PORT = 9091;
+    public static final String HEALTH_LISTENER_PORT_NAME = "health";
+    public static final String HEALTH_READINESS_PATH = "/probes/readyz";
+    public static final String HEALTH_LIVENESS_PATH = "/probes/healthz";
+    public static final int DEFAULT_PRESTOP_DRAIN_SECONDS = 15;
+    public static final int PRESTOP_DRAIN_MARGIN_SECONDS = 5;
+    public static final long DEFAULT_TERMINATION_GRACE_PERIOD_SECONDS = 30;
+    public static final int DEFAULT_GRACEFUL_STOP_SECONDS = 15;
+    public static final long MAX_CONFIG_DATA_BYTES = 1024 * 1024;
+    public static final String CONFIG_HASH_ANNOTATION = "c2c.ballerina.io/config-hash";
+    public static final String SECRET_HASH_ANNOTATION = "c2c.ballerina.io/secret-hash";
+    public static final String PARTITION_ENV_NAME = "C2C_PARTITION";
+    public static final int CONTENT_HASH_SUFFIX_LENGTH = 10;
+    public static final int MAX_DNS_LABEL_LENGTH = 63;
+    public static final String VOLUME_POSTFIX = "-volume";
+    public static final String GRPC = "grpc";
+    public static final String H2C_APP_PROTOCOL = "kubernetes.io/h2c";
+    public static final String GATEWAY_API_VERSION = "gateway.networking.k8s.io/v1";
+    public static final String NGINX_ANNOTATION_PREFIX = "nginx.ingress.kubernetes.io/";
+    public static final int DEFAULT_METRICS_PORT = 9797;
+    public static final String METRICS_PORT_NAME = "metrics";
+    public static final String METRICS_PATH = "/metrics";
+    public static final String PROMETHEUS_ANNOTATION_PREFIX = "prometheus.io/";
+    public static final String PROMETHEUS_OPERATOR_API_VERSION = "monitoring.coreos.com/v1";
+    public static final int DEFAULT_LATENCY_THRESHOLD_MILLIS = 1000;
+    public static final int DEFAULT_ERROR_RATE_THRESHOLD = 5;
+    public static final String TRACING_CONFIG_DIR = "tracing";
+    public static final String TRACING_CONFIG_MAP_POSTFIX = "-tracing" + CONFIG_MAP_POSTFIX;
+    public static final String TRACING_CONF_MOUNT_PATH = BALLERINA_HOME + "/tracing/";
+    public static final String CONST_SAMPLER = "const";
+    public static final String PROBABILISTIC_SAMPLER = "probabilistic";
+    public static final String RATE_LIMITING_SAMPLER = "ratelimiting";
+    public static final String PERF = "perf";
+    public static final String PERF_RESULTS_FILE_NAME = "results.json";
+    public static final int DEFAULT_PERF_RPS = 50;
+    public static final int DEFAULT_PERF_DURATION_SECONDS = 30;
+    public static final int DEFAULT_PERF_WARMUP_SECONDS = 5;
+    public static final int DEFAULT_PERF_STARTUP_TIMEOUT_SECONDS = 60;
     
     /**
      * Restart policy enum.
@@ -77,4 +134,39 @@ public class KubernetesConstants {
         ClusterIP,
         NodePort,
     }
+
+    /**
+     * Ingress type enum.
+     */
+    public enum IngressType {
+        ingress,
+        gateway
+    }
+
+    /**
+     * Prometheus operator monitor type enum.
+     */
+    public enum MonitorType {
+        service,
+        pod,
+        none
+    }
+
+    /**
+     * Trace exporter enum, along with the default collector port of each.
+     */
+    public enum TracingProvider {
+        jaeger(4317),
+        zipkin(9411);
+
+        private final int defaultPort;
+
+        TracingProvider(int defaultPort) {
+            this.defaultPort = defaultPort;
+        }
+
+        public int getDefaultPort() {
+            return defaultPort;
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.diagnostics;
+
+import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.TomlDocument;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.validator.TomlValidator;
+import io.ballerina.toml.validator.schema.Schema;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocument;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates the Cloud.toml of a project, reusing the results of the previous validation for the parts whose inputs
+ * did not change. The language server validates on every edit of any document in the project, so the schema
+ * validation is only repeated when the Cloud.toml changes, and the probe checks only when the probes or the sources
+ * they are checked against change. Source changes are detected by the identity of the text documents, which the
+ * project API keeps for the documents that were not edited.
+ * <p>
+ * The schema results are kept for the whole document rather than per table: any edit of the Cloud.toml, even of a
+ * single table, validates the whole document against the schema again. This saves the work on edits of the sources,
+ * which are the most frequent, while an edit of the Cloud.toml costs as much as a validation without the cache.
+ *
+ * @since 4.0.0
+ */
+public class IncrementalTomlValidator {
+
+    private static final int MAX_PROJECTS = 16;
+    private static final Map<Path, IncrementalTomlValidator> VALIDATORS =
+            new LinkedHashMap<>(MAX_PROJECTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, IncrementalTomlValidator> eldest) {
+                    // only the most recently validated projects are kept, as the map lives as long as the plugin
+                    return size() > MAX_PROJECTS;
+                }
+            };
+
+    private String content;
+    private List<Diagnostic> schemaDiagnostics;
+    private Map<DocumentId, TextDocument> sources;
+    private ProjectServiceInfo projectServiceInfo;
+    private String probeKey;
+    private List<Diagnostic> probeDiagnostics;
+
+    private IncrementalTomlValidator() {
+    }
+
+    /**
+     * Returns the validator holding the previous results of the given project.
+     *
+     * @param project project to validate
+     * @return {@link IncrementalTomlValidator}
+     */
+    public static IncrementalTomlValidator getInstance(Project project) {
+
+        synchronized (VALIDATORS) {
+            return VALIDATORS.computeIfAbsent(project.sourceRoot(), root -> new IncrementalTomlValidator());
+        }
+    }
+
+    /**
+     * Validates the Cloud.toml against the schema and the sources of the project.
+     *
+     * @param project      project the Cloud.toml belongs to
+     * @param tomlDocument Cloud.toml
+     * @param schema       schema of the Cloud.toml
+     * @return diagnostics of the Cloud.toml
+     */
+    public synchronized List<Diagnostic> validate(Project project, TomlDocument tomlDocument, Schema schema) {
+
+        Toml toml = null;
+        String currentContent = tomlDocument.textDocument().toString();
+        boolean contentChanged = !currentContent.equals(content);
+        if (contentChanged) {
+            toml = TomlHelper.createK8sTomlFromProject(tomlDocument);
+            new TomlValidator(schema).validate(toml);
+            schemaDiagnostics = new ArrayList<>(toml.diagnostics());
+            schemaDiagnostics.addAll(TomlDiagnosticChecker.validateDeploymentToml(toml));
+            content = currentContent;
+        }
+
+        Map<DocumentId, TextDocument> currentSources = getSources(project);
+        boolean sourcesChanged = !isSameSources(currentSources, sources);
+        if (sourcesChanged) {
+            sources = currentSources;
+            projectServiceInfo = null;
+        }
+
+        if (contentChanged || sourcesChanged) {
+            if (toml == null) {
+                toml = TomlHelper.createK8sTomlFromProject(tomlDocument);
+            }
+            String currentProbeKey = TomlDiagnosticChecker.getProbeKey(toml);
+            if (sourcesChanged || !currentProbeKey.equals(probeKey)) {
+                probeDiagnostics = new TomlDiagnosticChecker(() -> getProjectServiceInfo(project))
+                        .validateTomlWithSource(toml);
+                probeKey = currentProbeKey;
+            }
+        }
+
+        List<Diagnostic> diagnostics = new ArrayList<>(schemaDiagnostics);
+        diagnostics.addAll(probeDiagnostics);
+        return diagnostics;
+    }
+
+    private ProjectServiceInfo getProjectServiceInfo(Project project) {
+
+        if (projectServiceInfo == null) {
+            projectServiceInfo = new ProjectServiceInfo(project);
+        }
+        return projectServiceInfo;
+    }
+
+    private static Map<DocumentId, TextDocument> getSources(Project project) {
+
+        Map<DocumentId, TextDocument> sources = new LinkedHashMap<>();
+        for (Module module : project.currentPackage().modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                sources.put(documentId, module.document(documentId).textDocument());
+            }
+        }
+        return sources;
+    }
+
+    private static boolean isSameSources(Map<DocumentId, TextDocument> current,
+                                         Map<DocumentId, TextDocument> previous) {
+
+        if (previous == null || !current.keySet().equals(previous.keySet())) {
+            return false;
+        }
+        for (Map.Entry<DocumentId, TextDocument> entry : current.entrySet()) {
+            if (entry.getValue() != previous.get(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,10 +17,13 @@
  */
 package io.ballerina.c2c.diagnostics;
 
-import io.ballerina.c2c.util.ListenerInfo;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.tasks.HealthListenerModifierTask;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.util.ProjectServiceInfo;
-import io.ballerina.c2c.util.ResourceInfo;
+import io.ballerina.c2c.util.ServiceIndex;
 import io.ballerina.c2c.util.ServiceInfo;
+import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.projects.Project;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
@@ -30,11 +33,13 @@ import io.ballerina.toml.semantic.diagnostics.TomlDiagnostic;
 import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LineRange;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Responsible for validation against ballerina documents.
@@ -43,11 +48,24 @@ import java.util.Optional;
  */
 public class TomlDiagnosticChecker {
 
-    private final Project project;
+    private static final String STRATEGY_TABLE = "cloud.deployment.strategy";
+    private static final String SHUTDOWN_TABLE = "cloud.deployment.shutdown";
+    private static final String LISTENERS_TABLE = "cloud.deployment.listeners";
+
+    private final Supplier<ProjectServiceInfo> projectServiceInfo;
 
     public TomlDiagnosticChecker(Project project) {
 
-        this.project = project;
+        this(() -> new ProjectServiceInfo(project));
+    }
+
+    /**
+     * @param projectServiceInfo supplies the services of the project, only called when there are probes or listeners
+     *                           to check
+     */
+    public TomlDiagnosticChecker(Supplier<ProjectServiceInfo> projectServiceInfo) {
+
+        this.projectServiceInfo = projectServiceInfo;
     }
 
     public List<Diagnostic> validateTomlWithSource(Toml toml) {
@@ -57,16 +75,148 @@ public class TomlDiagnosticChecker {
             return Collections.emptyList();
         }
 
-        ProjectServiceInfo projectService = new ProjectServiceInfo(project);
-        Optional<Toml> ready = toml.getTable("cloud.deployment.probes.readiness");
-        ready.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(projectService, value, ProbeType.READINESS)));
-        Optional<Toml> live = toml.getTable("cloud.deployment.probes.liveness");
-        live.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(projectService, value, ProbeType.LIVENESS)));
-
+        Long healthPort = getHealthPort(toml);
+        ProjectServiceInfo projectService = null;
+        for (ProbeType type : ProbeType.values()) {
+            Optional<Toml> probe = toml.getTable(type.getTable());
+            if (probe.isPresent()) {
+                if (projectService == null) {
+                    projectService = projectServiceInfo.get();
+                }
+                diagnosticInfoList.addAll(validateProbe(projectService, probe.get(), type, healthPort));
+            }
+        }
+        for (Toml listener : toml.getTables(LISTENERS_TABLE)) {
+            Optional<TomlValueNode> portNode = listener.get("port");
+            if (portNode.isEmpty() || !(portNode.get() instanceof TomlLongValueNode)) {
+                continue;
+            }
+            if (projectService == null) {
+                projectService = projectServiceInfo.get();
+            }
+            long port = ((TomlLongValueNode) portNode.get()).getValue();
+            if (!projectService.getServiceIndex().hasPort(port)) {
+                diagnosticInfoList.add(C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.UNKNOWN_LISTENER_PORT,
+                        portNode.get().location(), port));
+            }
+        }
         return diagnosticInfoList;
     }
 
-    private List<Diagnostic> validateProbe(ProjectServiceInfo projectServiceInfo, Toml probe, ProbeType type) {
+    /**
+     * Validates the rollout and shutdown settings of the deployment, which only depend on the Cloud.toml.
+     *
+     * @param toml Cloud.toml
+     * @return diagnostics of the deployment settings
+     */
+    public static List<Diagnostic> validateDeploymentToml(Toml toml) {
+
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        if (toml == null) {
+            return diagnostics;
+        }
+        toml.getTable(STRATEGY_TABLE).ifPresent(strategy -> {
+            if (isZero(TomlHelper.getString(strategy, "max_surge")) &&
+                    isZero(TomlHelper.getString(strategy, "max_unavailable"))) {
+                diagnostics.add(C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_ROLLING_UPDATE,
+                        strategy.rootNode().location()));
+            }
+        });
+        toml.getTable(SHUTDOWN_TABLE).ifPresent(shutdown -> {
+            Optional<TomlValueNode> gracePeriodNode = shutdown.get("termination_grace_period_seconds");
+            if (gracePeriodNode.isEmpty() || !(gracePeriodNode.get() instanceof TomlLongValueNode)) {
+                return;
+            }
+            long gracePeriod = ((TomlLongValueNode) gracePeriodNode.get()).getValue();
+            long drainSeconds = getDrainSeconds(toml, shutdown);
+            if (gracePeriod <= drainSeconds) {
+                diagnostics.add(C2CDiagnosticCodes.createDiagnostic(
+                        C2CDiagnosticCodes.INVALID_TERMINATION_GRACE_PERIOD, gracePeriodNode.get().location(),
+                        gracePeriod, drainSeconds));
+            }
+        });
+        return diagnostics;
+    }
+
+    private static boolean isZero(String value) {
+
+        return value != null && value.matches("0+%?");
+    }
+
+    /**
+     * Returns the preStop drain duration the same way the deployment handler resolves it.
+     */
+    private static long getDrainSeconds(Toml toml, Toml shutdown) {
+
+        Long drainSeconds = TomlHelper.getLong(shutdown, "drain_seconds");
+        if (drainSeconds != null) {
+            return drainSeconds;
+        }
+        return toml.getTable(ProbeType.READINESS.getTable())
+                .map(readiness -> TomlHelper.getLong(readiness, "period_seconds",
+                        KubernetesConstants.DEFAULT_PROBE_PERIOD_SECONDS) +
+                        KubernetesConstants.PRESTOP_DRAIN_MARGIN_SECONDS)
+                .orElse((long) KubernetesConstants.DEFAULT_PRESTOP_DRAIN_SECONDS);
+    }
+
+    /**
+     * Returns a key of everything the probe and listener checks read from the Cloud.toml, including the positions of
+     * the values so that a key match means the previous diagnostics are still in place.
+     *
+     * @param toml Cloud.toml
+     * @return key of the probe configuration
+     */
+    public static String getProbeKey(Toml toml) {
+
+        StringBuilder key = new StringBuilder().append(getHealthPort(toml));
+        for (ProbeType type : ProbeType.values()) {
+            key.append('|');
+            toml.getTable(type.getTable()).ifPresent(probe -> {
+                appendLocation(key, probe.rootNode().location());
+                appendValue(key, probe, "port");
+                appendValue(key, probe, "path");
+            });
+        }
+        for (Toml listener : toml.getTables(LISTENERS_TABLE)) {
+            key.append('|');
+            appendValue(key, listener, "port");
+        }
+        return key.toString();
+    }
+
+    private static void appendValue(StringBuilder key, Toml probe, String name) {
+
+        probe.get(name).ifPresent(value -> {
+            key.append(name);
+            appendLocation(key, value.location());
+            key.append('=');
+            if (value instanceof TomlLongValueNode) {
+                key.append(((TomlLongValueNode) value).getValue());
+            } else if (value instanceof TomlStringValueNode) {
+                key.append(((TomlStringValueNode) value).getValue());
+            } else {
+                key.append(value.kind());
+            }
+        });
+    }
+
+    private static void appendLocation(StringBuilder key, TomlNodeLocation location) {
+
+        LineRange lineRange = location.lineRange();
+        key.append('(').append(lineRange.startLine().line()).append(':').append(lineRange.startLine().offset())
+                .append('-').append(lineRange.endLine().line()).append(':').append(lineRange.endLine().offset())
+                .append(')');
+    }
+
+    private static Long getHealthPort(Toml toml) {
+
+        return toml.getTable(HealthListenerModifierTask.HEALTH_LISTENER_TABLE)
+                .map(value -> TomlHelper.getLong(value, "port", KubernetesConstants.DEFAULT_HEALTH_LISTENER_PORT))
+                .orElse(null);
+    }
+
+    private List<Diagnostic> validateProbe(ProjectServiceInfo projectServiceInfo, Toml probe, ProbeType type,
+                                           Long healthPort) {
 
         List<Diagnostic> diagnosticInfos = new ArrayList<>();
         TomlNodeLocation tableLocation = probe.rootNode().location();
@@ -83,9 +233,18 @@ public class TomlDiagnosticChecker {
         TomlValueNode pathNode = probe.get("path").get();
         long port = ((TomlLongValueNode) portNode).getValue();
         String path = ((TomlStringValueNode) pathNode).getValue();
+        if (healthPort != null && healthPort == port) {
+            // served by the generated health listener
+            if (!KubernetesConstants.HEALTH_READINESS_PATH.equals(path) &&
+                    !KubernetesConstants.HEALTH_LIVENESS_PATH.equals(path)) {
+                diagnosticInfos.add(getTomlDiagnostic(pathNode.location(), "C2C002", "error.invalid.path",
+                        DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Path"));
+            }
+            return diagnosticInfos;
+        }
 
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
-        if (!isListenerPortValid(port, serviceList)) {
+        ServiceIndex serviceIndex = projectServiceInfo.getServiceIndex();
+        if (!serviceIndex.hasPort(port)) {
             Diagnostic portDiag = getTomlDiagnostic(portNode.location(), "C2C001", "error.invalid.port",
                     DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Port");
             Diagnostic pathDiag = getTomlDiagnostic(pathNode.location(), "C2C002", "error.invalid.path",
@@ -95,41 +254,23 @@ public class TomlDiagnosticChecker {
             return diagnosticInfos;
         }
 
-        for (ServiceInfo serviceInfo : serviceList) {
-            List<ListenerInfo> listeners = serviceInfo.getListeners();
-            for (ListenerInfo listener : listeners) {
-                int serviceListenerPort = listener.getPort();
-                if (serviceListenerPort == port) {
-                    String serviceName = serviceInfo.getServicePath().trim();
-                    if (!isValidServicePath(serviceName, path)) {
-                        Diagnostic diag = getTomlDiagnostic(pathNode.location(), "C2C003", "error.invalid" +
-                                ".service.path", DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " " +
-                                "Service Path");
-                        diagnosticInfos.add(diag);
-                        return diagnosticInfos;
-                    }
-
-                    boolean resourceFound = false;
-                    List<ResourceInfo> resourceInfoList = serviceInfo.getResourceInfo();
-                    for (ResourceInfo resourceInfo : resourceInfoList) {
-                        String balResourceName = trimResourcePath(resourceInfo.getPath());
-                        String resourcePath = trimResourcePath(trimResourcePath(serviceName) + "/" + balResourceName);
-                        if (balResourceName.equals(".")) {
-                            resourcePath = trimResourcePath(serviceName);
-                        }
-                        if (resourcePath.equals(trimResourcePath(path))) {
-                            resourceFound = true;
-                            break;
-                        }
-                    }
-                    if (!resourceFound) {
-                        Diagnostic diag = getTomlDiagnostic(pathNode.location(), "C2C004", "error.invalid" +
-                                        ".resource.path", DiagnosticSeverity.ERROR,
-                                "Invalid " + type.getValue() + " Resource Path");
-                        diagnosticInfos.add(diag);
-                    }
-                }
+        // the probe is valid as long as one of the services on the port serves its path
+        boolean servicePathFound = false;
+        for (ServiceInfo serviceInfo : serviceIndex.getServices(port)) {
+            if (!isValidServicePath(serviceInfo.getServicePath().trim(), path)) {
+                continue;
+            }
+            if (serviceIndex.hasResource(serviceInfo, path)) {
+                return diagnosticInfos;
             }
+            servicePathFound = true;
+        }
+        if (!servicePathFound) {
+            diagnosticInfos.add(getTomlDiagnostic(pathNode.location(), "C2C003", "error.invalid.service.path",
+                    DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Service Path"));
+        } else {
+            diagnosticInfos.add(getTomlDiagnostic(pathNode.location(), "C2C004", "error.invalid.resource.path",
+                    DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Resource Path"));
         }
         return diagnosticInfos;
     }
@@ -148,34 +289,6 @@ public class TomlDiagnosticChecker {
         return false;
     }
 
-    private boolean isListenerPortValid(long port, List<ServiceInfo> serviceInfo) {
-
-        boolean isValid = false;
-        for (ServiceInfo service : serviceInfo) {
-            List<ListenerInfo> listeners = service.getListeners();
-            for (ListenerInfo listener : listeners) {
-                int givenPort = listener.getPort();
-                if (givenPort == port) {
-                    isValid = true;
-                    break;
-                }
-            }
-        }
-        return isValid;
-    }
-
-    private String trimResourcePath(String resourcePath) {
-
-        resourcePath = resourcePath.trim();
-        if (resourcePath.startsWith("/")) {
-            resourcePath = resourcePath.substring(1);
-        }
-        if (resourcePath.endsWith("/")) {
-            resourcePath = resourcePath.substring(0, resourcePath.length() - 1);
-        }
-        return resourcePath;
-    }
-
     private TomlDiagnostic getTomlDiagnostic(TomlNodeLocation location, String code, String template,
                                              DiagnosticSeverity severity, String message) {
 
@@ -185,19 +298,27 @@ public class TomlDiagnosticChecker {
     }
 
     enum ProbeType {
-        READINESS("Readiness Probe"),
-        LIVENESS("Liveness Probe");
+        READINESS("Readiness Probe", "cloud.deployment.probes.readiness"),
+        LIVENESS("Liveness Probe", "cloud.deployment.probes.liveness"),
+        STARTUP("Startup Probe", "cloud.deployment.probes.startup");
 
         private String value;
+        private String table;
 
-        ProbeType(String value) {
+        ProbeType(String value, String table) {
 
             this.value = value;
+            this.table = table;
         }
 
         public String getValue() {
 
             return value;
         }
+
+        public String getTable() {
+
+            return table;
+        }
     }
 }
@@ -25,6 +25,7 @@ import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.ConfigDataWriter;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.ConfigMap;
@@ -33,7 +34,13 @@ import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Generates kubernetes Config Map.
@@ -41,23 +48,52 @@ import java.util.Collection;
 public class ConfigMapHandler extends AbstractArtifactHandler {
 
     private void generate(ConfigMapModel configMapModel) throws KubernetesPluginException {
+        try {
+            configMapModel.setContentHash(ConfigDataWriter.digest(configMapModel.getData()));
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "config map", configMapModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        if (dataHolder.isImmutableConfig()) {
+            // Content addressed names let the pods switch to the new object atomically on a rollout.
+            configMapModel.setName(KubernetesUtils.getContentAddressedName(configMapModel.getName(),
+                    configMapModel.getContentHash()));
+        }
+        List<Map<String, Path>> shards = ConfigDataWriter.shard("config map", configMapModel.getName(),
+                configMapModel.getData());
+        if (shards.size() == 1) {
+            generate(configMapModel.getName(), shards.get(0));
+            return;
+        }
+        // Data exceeding the size limit is split into several config maps which are projected into the same volume.
+        List<String> shardNames = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            String shardName = configMapModel.getName() + "-" + i;
+            generate(shardName, shards.get(i));
+            shardNames.add(shardName);
+        }
+        configMapModel.setShards(shardNames);
+    }
+
+    private void generate(String name, Map<String, Path> data) throws KubernetesPluginException {
         ConfigMap configMap = new ConfigMapBuilder()
                 .withNewMetadata()
-                .withName(configMapModel.getName())
+                .withName(name)
                 .withNamespace(dataHolder.getNamespace())
                 .endMetadata()
-                .withData(configMapModel.getData())
+                .withImmutable(dataHolder.isImmutableConfig() ? true : null)
                 .build();
-        try {
-            String configMapContent = KubernetesUtils.asYaml(configMap);
-            String outputFileName = KubernetesConstants.CONFIG_MAP_FILE_POSTFIX + KubernetesConstants.YAML;
-            if (dataHolder.isSingleYaml()) {
-                outputFileName = configMap.getMetadata().getName() + KubernetesConstants.YAML;
-            }
-            KubernetesUtils.writeToFile(configMapContent, outputFileName);
+        String outputFileName = KubernetesConstants.CONFIG_MAP_FILE_POSTFIX + KubernetesConstants.YAML;
+        if (dataHolder.isSingleYaml()) {
+            outputFileName = name + KubernetesConstants.YAML;
+        }
+        try (OutputStream out = KubernetesUtils.newArtifactStream(outputFileName)) {
+            out.write(KubernetesUtils.asYaml(configMap).getBytes(StandardCharsets.UTF_8));
+            ConfigDataWriter.writeConfigMapData(out, data);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "config map" , configMapModel.getName());
+                    new NullLocation(), "config map", name);
             throw new KubernetesPluginException(diagnostic);
         }
     }
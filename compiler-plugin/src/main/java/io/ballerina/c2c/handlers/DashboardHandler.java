@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.KubernetesConstants.MonitorType;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.MetricsModel;
+import io.ballerina.c2c.models.PartitionModel;
+import io.ballerina.c2c.models.ResourceModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a Grafana dashboard and Prometheus alert rules for the resources of the exposed services.
+ *
+ * @since 4.0.0
+ */
+public class DashboardHandler extends AbstractArtifactHandler {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private static final String REQUESTS_METRIC = "requests_total_value";
+    private static final String RESPONSE_TIME_METRIC = "response_time_seconds";
+    // quantiles of the response time are published for a sliding time window given in milliseconds
+    private static final String RESPONSE_TIME_WINDOW = "60000";
+    private static final String SERVER_ERROR_GROUP = "5xx";
+    private static final String ALERT_DURATION = "5m";
+    private static final int PANEL_HEIGHT = 8;
+    private static final int PANEL_WIDTH = 8;
+    private static final int GRID_WIDTH = 24;
+
+    private int panelId;
+    private int gridY;
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        MetricsModel metricsModel = dataHolder.getDeploymentModel().getMetricsModel();
+        if (metricsModel == null) {
+            return;
+        }
+        Map<String, List<ResourceModel>> services = getServices();
+        if (metricsModel.isDashboard()) {
+            generateDashboard(services);
+            OUT.println("\t@kubernetes:GrafanaDashboard");
+        }
+        // PrometheusRule is a Prometheus operator resource, which is not expected without a monitor.
+        if (metricsModel.isAlerts() && metricsModel.getMonitor() != MonitorType.none && !services.isEmpty()) {
+            generateRules(metricsModel, services);
+            OUT.println("\t@kubernetes:PrometheusRule");
+        }
+    }
+
+    /**
+     * Returns the resources of each exposed service. A service attached to several listeners is listed once.
+     *
+     * @return resources by service path
+     */
+    private Map<String, List<ResourceModel>> getServices() {
+        Integer healthPort = dataHolder.getDeploymentModel().getHealthListenerPort();
+        Map<String, List<ResourceModel>> services = new LinkedHashMap<>();
+        for (ServiceModel serviceModel : dataHolder.getServiceModelList()) {
+            if (serviceModel.getResources().isEmpty() || Objects.equals(healthPort, serviceModel.getTargetPort())) {
+                continue;
+            }
+            services.putIfAbsent(serviceModel.getServicePath(), serviceModel.getResources());
+        }
+        return services;
+    }
+
+    private void generateDashboard(Map<String, List<ResourceModel>> services) throws KubernetesPluginException {
+        panelId = 0;
+        gridY = 0;
+        String container = dataHolder.getDeploymentModel().getName();
+        String pods = "namespace=\"$namespace\",container=" + quote(container);
+        List<Map<String, Object>> panels = new ArrayList<>();
+        panels.add(row("Pods"));
+        panels.add(panel(0, "Memory", "bytes", target("sum by (pod) (container_memory_working_set_bytes{" + pods +
+                "})", "{{pod}}")));
+        panels.add(panel(1, "CPU", "short", target("sum by (pod) (rate(container_cpu_usage_seconds_total{" + pods +
+                "}[$__rate_interval]))", "{{pod}}")));
+        panels.add(panel(2, "Replicas", "short",
+                target("kube_deployment_status_replicas_available{namespace=\"$namespace\",deployment=~" +
+                        quote(toRegex(getArtifactNames(KubernetesConstants.DEPLOYMENT_POSTFIX))) + "}",
+                        "{{deployment}}"),
+                target("kube_horizontalpodautoscaler_status_desired_replicas{namespace=\"$namespace\"," +
+                        "horizontalpodautoscaler=~" + quote(toRegex(getArtifactNames(
+                        KubernetesConstants.HPA_POSTFIX))) + "}", "{{horizontalpodautoscaler}} desired")));
+        gridY += PANEL_HEIGHT;
+
+        for (Map.Entry<String, List<ResourceModel>> service : services.entrySet()) {
+            panels.add(row(service.getKey()));
+            for (ResourceModel resource : service.getValue()) {
+                String selector = "namespace=\"$namespace\"," + getSelector(service.getKey(), resource);
+                String title = resource.getMethod().toUpperCase(Locale.ROOT) + " " +
+                        joinPath(service.getKey(), resource.getPath());
+                panels.add(panel(0, title + " throughput", "reqps", target("sum(rate(" + REQUESTS_METRIC + "{" +
+                        selector + "}[$__rate_interval]))", "requests")));
+                panels.add(panel(1, title + " latency", "s",
+                        target(getLatency(selector, "0.5"), "p50"),
+                        target(getLatency(selector, "0.95"), "p95"),
+                        target(getLatency(selector, "0.99"), "p99")));
+                panels.add(panel(2, title + " error rate", "percentunit", target(getErrorRate(selector,
+                        "$__rate_interval"), "5xx")));
+                gridY += PANEL_HEIGHT;
+            }
+        }
+
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("title", dataHolder.getOutputName());
+        dashboard.put("uid", KubernetesUtils.getValidName(dataHolder.getOutputName()));
+        dashboard.put("tags", Arrays.asList("ballerina", "c2c"));
+        dashboard.put("timezone", "browser");
+        dashboard.put("schemaVersion", 39);
+        dashboard.put("refresh", "30s");
+        dashboard.put("time", orderedMap("from", "now-1h", "to", "now"));
+        dashboard.put("templating", Map.of("list", Arrays.asList(getDatasourceVariable(), getNamespaceVariable())));
+        dashboard.put("panels", panels);
+
+        // kept out of the manifest directory so that `kubectl apply -f` does not pick it up
+        Path dashboardFile = dataHolder.getK8sArtifactOutputPath().resolve(KubernetesConstants.DASHBOARD_DIR)
+                .resolve(dataHolder.getOutputName() + KubernetesConstants.DASHBOARD_FILE_POSTFIX);
+        try {
+            Files.createDirectories(dashboardFile.getParent());
+            Files.writeString(dashboardFile, GSON.toJson(dashboard));
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "dashboard", dashboardFile.getFileName().toString());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    private void generateRules(MetricsModel metricsModel, Map<String, List<ResourceModel>> services)
+            throws KubernetesPluginException {
+        String latencyThreshold = BigDecimal.valueOf(metricsModel.getLatencyThresholdMillis()).movePointLeft(3)
+                .stripTrailingZeros().toPlainString();
+        String errorRateThreshold = BigDecimal.valueOf(metricsModel.getErrorRateThreshold()).movePointLeft(2)
+                .stripTrailingZeros().toPlainString();
+        String namespace = dataHolder.getNamespace() == null ? "" : "namespace=" + quote(dataHolder.getNamespace()) +
+                ",";
+        List<Map<String, Object>> rules = new ArrayList<>();
+        for (Map.Entry<String, List<ResourceModel>> service : services.entrySet()) {
+            for (ResourceModel resource : service.getValue()) {
+                String selector = namespace + getSelector(service.getKey(), resource);
+                String name = resource.getMethod().toUpperCase(Locale.ROOT) + " " +
+                        joinPath(service.getKey(), resource.getPath());
+                String latency = getLatency(selector, "0.99") + " > " + latencyThreshold;
+                rules.add(rule("BallerinaResourceHighLatency", latency, service.getKey(), name,
+                        "99th percentile latency of " + name + " is above " + latencyThreshold + "s"));
+                String errorRate = getErrorRate(selector, ALERT_DURATION) + " > " + errorRateThreshold;
+                rules.add(rule("BallerinaResourceHighErrorRate", errorRate, service.getKey(), name,
+                        "More than " + metricsModel.getErrorRateThreshold() + "% of the " + name +
+                                " requests fail with a server error"));
+            }
+        }
+        Map<String, Object> group = new LinkedHashMap<>();
+        group.put("name", dataHolder.getOutputName() + ".rules");
+        group.put("rules", rules);
+        GenericKubernetesResource prometheusRule = new GenericKubernetesResourceBuilder()
+                .withApiVersion(KubernetesConstants.PROMETHEUS_OPERATOR_API_VERSION)
+                .withKind("PrometheusRule")
+                .withNewMetadata()
+                .withName(KubernetesUtils.getValidName(dataHolder.getOutputName()) +
+                        KubernetesConstants.RULES_POSTFIX)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                .addToLabels(metricsModel.getLabels())
+                .endMetadata()
+                .addToAdditionalProperties("spec", Map.of("groups", List.of(group)))
+                .build();
+        try {
+            String content = KubernetesUtils.asYaml(prometheusRule);
+            String outputFileName = KubernetesConstants.RULES_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = prometheusRule.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(content, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "PrometheusRule", prometheusRule.getMetadata().getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    private Map<String, Object> rule(String alert, String expr, String service, String resource, String summary) {
+        Map<String, Object> rule = new LinkedHashMap<>();
+        rule.put("alert", alert);
+        rule.put("expr", expr);
+        rule.put("for", ALERT_DURATION);
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("severity", "warning");
+        labels.put("service", service);
+        labels.put("resource", resource);
+        rule.put("labels", labels);
+        rule.put("annotations", Map.of("summary", summary));
+        return rule;
+    }
+
+    private String getSelector(String servicePath, ResourceModel resource) {
+        // Ballerina tags the observations of a resource with the service, accessor and path, while the app label
+        // is copied from the pod by the monitor.
+        return KubernetesConstants.KUBERNETES_SELECTOR_KEY + "=~" +
+                quote(toRegex(KubernetesUtils.getSelectorValues(dataHolder))) +
+                ",src_object_name=" + quote(servicePath) +
+                ",src_resource_accessor=" + quote(resource.getMethod()) +
+                ",src_resource_path=" + quote(resource.getPath());
+    }
+
+    private static String getLatency(String selector, String quantile) {
+        return "max(" + RESPONSE_TIME_METRIC + "{" + selector + ",timeWindow=\"" + RESPONSE_TIME_WINDOW +
+                "\",quantile=\"" + quantile + "\"})";
+    }
+
+    private static String getErrorRate(String selector, String range) {
+        return "sum(rate(" + REQUESTS_METRIC + "{" + selector + ",http_status_code_group=\"" + SERVER_ERROR_GROUP +
+                "\"}[" + range + "])) / sum(rate(" + REQUESTS_METRIC + "{" + selector + "}[" + range + "]))";
+    }
+
+    private List<String> getArtifactNames(String postfix) {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        List<String> names = new ArrayList<>();
+        if (KubernetesUtils.hasDefaultPartition(deploymentModel, dataHolder.getServiceModelList())) {
+            names.add(KubernetesConstants.DEPLOYMENT_POSTFIX.equals(postfix) ? deploymentModel.getName() :
+                    KubernetesUtils.getValidName(dataHolder.getOutputName() + postfix));
+        }
+        for (PartitionModel partition : deploymentModel.getPartitions()) {
+            names.add(KubernetesUtils.getPartitionArtifactName(deploymentModel, partition.getName(), postfix));
+        }
+        return names;
+    }
+
+    private Map<String, Object> row(String title) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", ++panelId);
+        row.put("type", "row");
+        row.put("title", title);
+        row.put("collapsed", false);
+        row.put("gridPos", gridPos(0, 1, GRID_WIDTH));
+        row.put("panels", List.of());
+        gridY++;
+        return row;
+    }
+
+    @SafeVarargs
+    private Map<String, Object> panel(int column, String title, String unit, Map<String, Object>... targets) {
+        Map<String, Object> panel = new LinkedHashMap<>();
+        panel.put("id", ++panelId);
+        panel.put("type", "timeseries");
+        panel.put("title", title);
+        panel.put("datasource", getDatasource());
+        panel.put("gridPos", gridPos(column * PANEL_WIDTH, PANEL_HEIGHT, PANEL_WIDTH));
+        panel.put("fieldConfig", orderedMap("defaults", Map.of("unit", unit), "overrides", List.of()));
+        List<Map<String, Object>> panelTargets = new ArrayList<>(Arrays.asList(targets));
+        for (int i = 0; i < panelTargets.size(); i++) {
+            panelTargets.get(i).put("refId", String.valueOf((char) ('A' + i)));
+        }
+        panel.put("targets", panelTargets);
+        return panel;
+    }
+
+    private Map<String, Object> gridPos(int x, int height, int width) {
+        Map<String, Object> gridPos = new LinkedHashMap<>();
+        gridPos.put("h", height);
+        gridPos.put("w", width);
+        gridPos.put("x", x);
+        gridPos.put("y", gridY);
+        return gridPos;
+    }
+
+    private static Map<String, Object> target(String expr, String legend) {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("datasource", getDatasource());
+        target.put("expr", expr);
+        target.put("legendFormat", legend);
+        return target;
+    }
+
+    private static Map<String, Object> getDatasource() {
+        return orderedMap("type", "prometheus", "uid", "${datasource}");
+    }
+
+    private static Map<String, Object> getDatasourceVariable() {
+        Map<String, Object> variable = new LinkedHashMap<>();
+        variable.put("name", "datasource");
+        variable.put("label", "Data source");
+        variable.put("type", "datasource");
+        variable.put("query", "prometheus");
+        return variable;
+    }
+
+    private Map<String, Object> getNamespaceVariable() {
+        Map<String, Object> variable = new LinkedHashMap<>();
+        variable.put("name", "namespace");
+        variable.put("label", "Namespace");
+        variable.put("type", "query");
+        variable.put("datasource", getDatasource());
+        variable.put("query", "label_values(" + REQUESTS_METRIC + "{" + KubernetesConstants.KUBERNETES_SELECTOR_KEY +
+                "=~" + quote(toRegex(KubernetesUtils.getSelectorValues(dataHolder))) + "}, namespace)");
+        variable.put("refresh", 2);
+        return variable;
+    }
+
+    private static Map<String, Object> orderedMap(String key1, Object value1, String key2, Object value2) {
+        // keeps the generated dashboard stable across builds
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    private static String joinPath(String servicePath, String resourcePath) {
+        if (servicePath == null || servicePath.isEmpty() || "/".equals(servicePath)) {
+            return resourcePath;
+        }
+        return "/".equals(resourcePath) ? servicePath : servicePath + resourcePath;
+    }
+
+    private static String toRegex(List<String> values) {
+        return values.stream().map(value -> value.replace(".", "\\.")).collect(Collectors.joining("|"));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -23,6 +23,8 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.MetricsModel;
+import io.ballerina.c2c.models.PartitionModel;
 import io.ballerina.c2c.models.PersistentVolumeClaimModel;
 import io.ballerina.c2c.models.SecretModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
@@ -31,21 +33,29 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Lifecycle;
 import io.fabric8.kubernetes.api.model.LifecycleBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static io.ballerina.c2c.DockerGenConstants.REGISTRY_SEPARATOR;
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
@@ -72,60 +82,45 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return volumeMounts;
     }
 
-    private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts) {
+    private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts,
+                                        List<EnvVar> envVars) {
         String dockerRegistry = deploymentModel.getRegistry();
         String deploymentImageName = deploymentModel.getImage();
         if (null != dockerRegistry && !"".equals(dockerRegistry)) {
             deploymentImageName = dockerRegistry + REGISTRY_SEPARATOR + deploymentImageName;
         }
-        Lifecycle preStop = new LifecycleBuilder()
-                .withNewPreStop()
-                .withNewExec()
-                .withCommand("sleep", "15")
-                .endExec()
-                .endPreStop()
-                .build();
-
+        Lifecycle preStop = generatePreStop(deploymentModel);
         return new ContainerBuilder()
                 .withName(deploymentModel.getName())
                 .withImage(deploymentImageName)
                 .withPorts(containerPorts)
-                .withEnv(deploymentModel.getEnvVars())
+                .withEnv(envVars)
                 .withVolumeMounts(populateVolumeMounts(deploymentModel))
                 .withLivenessProbe(deploymentModel.getLivenessProbe())
                 .withReadinessProbe(deploymentModel.getReadinessProbe())
+                .withStartupProbe(deploymentModel.getStartupProbe())
                 .withResources(deploymentModel.getResourceRequirements())
                 .withLifecycle(preStop)
                 .build();
     }
 
+    private Lifecycle generatePreStop(DeploymentModel deploymentModel) {
+        return new LifecycleBuilder()
+                .withNewPreStop()
+                .withNewExec()
+                .withCommand("sleep", String.valueOf(deploymentModel.getPreStopDrainSeconds()))
+                .endExec()
+                .endPreStop()
+                .build();
+    }
+
     private List<Volume> populateVolume(DeploymentModel deploymentModel) {
         List<Volume> volumes = new ArrayList<>();
         for (SecretModel secretModel : deploymentModel.getSecretModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(secretModel.getName() + "-volume")
-                    .withNewSecret()
-                    .withSecretName(secretModel.getName())
-                    .endSecret()
-                    .build();
-
-            if (secretModel.getDefaultMode() > 0) {
-                volume.getSecret().setDefaultMode(secretModel.getDefaultMode());
-            }
-            volumes.add(volume);
+            volumes.add(KubernetesUtils.generateSecretVolume(secretModel));
         }
         for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(configMapModel.getName() + "-volume")
-                    .withNewConfigMap()
-                    .withName(configMapModel.getName())
-                    .endConfigMap()
-                    .build();
-
-            if (configMapModel.getDefaultMode() > 0) {
-                volume.getConfigMap().setDefaultMode(configMapModel.getDefaultMode());
-            }
-            volumes.add(volume);
+            volumes.add(KubernetesUtils.generateConfigMapVolume(configMapModel));
         }
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
             Volume volume = new VolumeBuilder()
@@ -139,6 +134,30 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return volumes;
     }
 
+    /**
+     * Digests of the mounted config maps and secrets. Changes to the pod template trigger a rollout, hence the pods are
+     * restarted only when the mounted content changes.
+     *
+     * @param deploymentModel @{@link DeploymentModel} definition
+     * @return pod template annotations
+     */
+    private Map<String, String> getConfigHashAnnotations(DeploymentModel deploymentModel) {
+        Map<String, String> annotations = new LinkedHashMap<>();
+        Map<String, String> configHashes = new TreeMap<>();
+        deploymentModel.getConfigMapModels()
+                .forEach(configMapModel -> configHashes.put(configMapModel.getName(), configMapModel.getContentHash()));
+        if (!configHashes.isEmpty()) {
+            annotations.put(KubernetesConstants.CONFIG_HASH_ANNOTATION, DigestUtils.sha256Hex(configHashes.toString()));
+        }
+        Map<String, String> secretHashes = new TreeMap<>();
+        deploymentModel.getSecretModels()
+                .forEach(secretModel -> secretHashes.put(secretModel.getName(), secretModel.getContentHash()));
+        if (!secretHashes.isEmpty()) {
+            annotations.put(KubernetesConstants.SECRET_HASH_ANNOTATION, DigestUtils.sha256Hex(secretHashes.toString()));
+        }
+        return annotations;
+    }
+
     private List<LocalObjectReference> getImagePullSecrets(DeploymentModel deploymentModel) {
         List<LocalObjectReference> imagePullSecrets = new ArrayList<>();
         for (String imagePullSecret : deploymentModel.getImagePullSecrets()) {
@@ -151,37 +170,54 @@ public class DeploymentHandler extends AbstractArtifactHandler {
      * Generate kubernetes deployment definition from annotation.
      *
      * @param deploymentModel @{@link DeploymentModel} definition
+     * @param partition       partition to generate the deployment for, or null for the default deployment
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
-    private void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
+    private void generate(DeploymentModel deploymentModel, PartitionModel partition)
+            throws KubernetesPluginException {
         List<ContainerPort> containerPorts = null;
         if (deploymentModel.getPorts() != null) {
             containerPorts = deploymentModel.getPorts();
         }
-        Container container = generateContainer(deploymentModel, containerPorts);
+        String name = deploymentModel.getName();
+        Map<String, String> labels = deploymentModel.getLabels();
+        int replicas = deploymentModel.getReplicas();
+        List<EnvVar> envVars = deploymentModel.getEnvVars();
+        if (partition != null) {
+            name = KubernetesUtils.getPartitionArtifactName(deploymentModel, partition.getName(),
+                    KubernetesConstants.DEPLOYMENT_POSTFIX);
+            labels = partition.getLabels();
+            replicas = partition.getReplicas() == null ? replicas : partition.getReplicas();
+            envVars = partition.getEnvVars();
+        }
+        Container container = generateContainer(deploymentModel, containerPorts, envVars);
         Deployment deployment = new DeploymentBuilder()
                 .withNewMetadata()
-                .withName(deploymentModel.getName())
-                .withLabels(deploymentModel.getLabels())
+                .withName(name)
+                .withLabels(labels)
                 .withAnnotations(deploymentModel.getAnnotations())
                 .withNamespace(dataHolder.getNamespace())
                 .endMetadata()
                 .withNewSpec()
                 .withNewSelector()
-                .withMatchLabels(deploymentModel.getLabels())
+                .withMatchLabels(labels)
                 .endSelector()
                 .withStrategy(deploymentModel.getStrategy())
-                .withReplicas(deploymentModel.getReplicas())
+                .withMinReadySeconds(deploymentModel.getMinReadySeconds())
+                .withReplicas(replicas)
                 .withNewTemplate()
                 .withNewMetadata()
-                .addToLabels(deploymentModel.getLabels())
+                .addToLabels(labels)
                 .addToAnnotations(deploymentModel.getPodAnnotations())
+                .addToAnnotations(getConfigHashAnnotations(deploymentModel))
+                .addToAnnotations(getMetricsAnnotations(deploymentModel))
                 .endMetadata()
                 .withNewSpec()
                 .withContainers(container)
                 .withImagePullSecrets(getImagePullSecrets(deploymentModel))
                 .withVolumes(populateVolume(deploymentModel))
                 .withNodeSelector(deploymentModel.getNodeSelector())
+                .withTerminationGracePeriodSeconds(deploymentModel.getTerminationGracePeriodSeconds())
                 .endSpec()
                 .endTemplate()
                 .endSpec()
@@ -196,12 +232,128 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             KubernetesUtils.writeToFile(deploymentContent, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "deployment" , deploymentModel.getName());
+                    new NullLocation(), "deployment" , name);
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    /**
+     * Resolve the pod labels and environment of each partition. Partitions run the same image as
+     * the default deployment and are told apart through their own selector label.
+     *
+     * @param deploymentModel @{@link DeploymentModel} definition
+     */
+    private void resolvePartitions(DeploymentModel deploymentModel) {
+        for (PartitionModel partition : deploymentModel.getPartitions()) {
+            String partitionName = partition.getName();
+            partition.getLabels().putAll(deploymentModel.getLabels());
+            partition.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY,
+                    KubernetesUtils.getPartitionSelector(dataHolder.getOutputName(), partitionName));
+            partition.setEnvVars(new ArrayList<>(deploymentModel.getEnvVars()));
+            partition.addEnv(new EnvVarBuilder()
+                    .withName(KubernetesConstants.PARTITION_ENV_NAME)
+                    .withValue(partitionName)
+                    .build());
+        }
+    }
+
+    /**
+     * Resolve the preStop drain duration and the termination grace period of the pod. When the drain duration is not
+     * given, it is derived from the readiness probe period so that endpoints are removed before the container stops
+     * accepting requests.
+     *
+     * @param deploymentModel @{@link DeploymentModel} definition
+     * @throws KubernetesPluginException If the grace period does not cover the drain duration.
+     */
+    private void resolveShutdown(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        if (deploymentModel.getPreStopDrainSeconds() == null) {
+            int drainSeconds = KubernetesConstants.DEFAULT_PRESTOP_DRAIN_SECONDS;
+            Probe readinessProbe = deploymentModel.getReadinessProbe();
+            if (readinessProbe != null) {
+                int periodSeconds = readinessProbe.getPeriodSeconds() == null ?
+                        KubernetesConstants.DEFAULT_PROBE_PERIOD_SECONDS : readinessProbe.getPeriodSeconds();
+                drainSeconds = periodSeconds + KubernetesConstants.PRESTOP_DRAIN_MARGIN_SECONDS;
+            }
+            deploymentModel.setPreStopDrainSeconds(drainSeconds);
+        }
+        int drainSeconds = deploymentModel.getPreStopDrainSeconds();
+        Long gracePeriod = deploymentModel.getTerminationGracePeriodSeconds();
+        if (gracePeriod == null) {
+            if (drainSeconds >= KubernetesConstants.DEFAULT_TERMINATION_GRACE_PERIOD_SECONDS) {
+                deploymentModel.setTerminationGracePeriodSeconds((long) drainSeconds +
+                        KubernetesConstants.DEFAULT_GRACEFUL_STOP_SECONDS);
+            }
+        } else if (gracePeriod <= drainSeconds) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
+                    C2CDiagnosticCodes.INVALID_TERMINATION_GRACE_PERIOD, new NullLocation(), gracePeriod,
+                    drainSeconds);
             throw new KubernetesPluginException(diagnostic);
         }
     }
 
+    private void addHealthListenerPort(DeploymentModel deploymentModel) {
+        Integer healthPort = deploymentModel.getHealthListenerPort();
+        if (healthPort == null || deploymentModel.getPorts().stream()
+                .anyMatch(port -> port.getContainerPort().equals(healthPort))) {
+            return;
+        }
+        deploymentModel.addPort(new ContainerPortBuilder()
+                .withName(KubernetesConstants.HEALTH_LISTENER_PORT_NAME)
+                .withContainerPort(healthPort)
+                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                .build());
+    }
 
+    private void addMetricsPort(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        MetricsModel metricsModel = deploymentModel.getMetricsModel();
+        if (metricsModel == null) {
+            return;
+        }
+        if (deploymentModel.getPorts().stream()
+                .anyMatch(port -> port.getContainerPort() == metricsModel.getPort())) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_METRICS_CONFIG,
+                    new NullLocation(), "port `" + metricsModel.getPort() + "` is already used by a listener");
+            throw new KubernetesPluginException(diagnostic);
+        }
+        deploymentModel.addPort(new ContainerPortBuilder()
+                .withName(KubernetesConstants.METRICS_PORT_NAME)
+                .withContainerPort(metricsModel.getPort())
+                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                .build());
+    }
+
+    /**
+     * Returns the scrape annotations understood by annotation based Prometheus configurations.
+     *
+     * @param deploymentModel @{@link DeploymentModel} definition
+     * @return pod annotations
+     */
+    private Map<String, String> getMetricsAnnotations(DeploymentModel deploymentModel) {
+        Map<String, String> annotations = new LinkedHashMap<>();
+        MetricsModel metricsModel = deploymentModel.getMetricsModel();
+        if (metricsModel != null) {
+            annotations.put(KubernetesConstants.PROMETHEUS_ANNOTATION_PREFIX + "scrape", "true");
+            annotations.put(KubernetesConstants.PROMETHEUS_ANNOTATION_PREFIX + "port",
+                    String.valueOf(metricsModel.getPort()));
+            annotations.put(KubernetesConstants.PROMETHEUS_ANNOTATION_PREFIX + "path",
+                    KubernetesConstants.METRICS_PATH);
+        }
+        return annotations;
+    }
+
+    private void resolveProbePort(DeploymentModel deploymentModel, Probe probe, String probeName)
+            throws KubernetesPluginException {
+        if (null == probe || probe.getHttpGet().getPort().getIntVal() != 0) {
+            return;
+        }
+        //set first port as probe port
+        if (deploymentModel.getPorts().size() == 0) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_PROBE,
+                    new NullLocation(), probeName);
+            throw new KubernetesPluginException(diagnostic);
+        }
+        probe.getHttpGet().setPort(new IntOrString(deploymentModel.getPorts().iterator().next().getContainerPort()));
+    }
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
@@ -209,31 +361,20 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         deploymentModel.setPodAutoscalerModel(dataHolder.getPodAutoscalerModel());
         deploymentModel.setSecretModels(dataHolder.getSecretModelSet());
         deploymentModel.setConfigMapModels(dataHolder.getConfigMapModelSet());
-        if (null != deploymentModel.getLivenessProbe() &&
-                deploymentModel.getLivenessProbe().getHttpGet().getPort().getIntVal() == 0) {
-            //set first port as liveness port
-            if (deploymentModel.getPorts().size() == 0) {
-                Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_PROBE,
-                        new NullLocation(), "liveness");
-                throw new KubernetesPluginException(diagnostic);
-            }
-            deploymentModel.getLivenessProbe().getHttpGet().setPort(new
-                    IntOrString(deploymentModel.getPorts().iterator().next().getContainerPort()));
+        addHealthListenerPort(deploymentModel);
+        resolveProbePort(deploymentModel, deploymentModel.getLivenessProbe(), "liveness");
+        resolveProbePort(deploymentModel, deploymentModel.getReadinessProbe(), "readiness");
+        resolveProbePort(deploymentModel, deploymentModel.getStartupProbe(), "startup");
+        addMetricsPort(deploymentModel);
+        resolveShutdown(deploymentModel);
+        resolveDockerToml(deploymentModel);
+        if (KubernetesUtils.hasDefaultPartition(deploymentModel, dataHolder.getServiceModelList())) {
+            generate(deploymentModel, null);
         }
-
-        if (null != deploymentModel.getReadinessProbe() &&
-                deploymentModel.getReadinessProbe().getHttpGet().getPort().getIntVal() == 0) {
-            //set first port as readiness port
-            if (deploymentModel.getPorts().size() == 0) {
-                Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_PROBE,
-                        new NullLocation(), "readiness");
-                throw new KubernetesPluginException(diagnostic);
-            }
-            deploymentModel.getReadinessProbe().getHttpGet().setPort(new
-                    IntOrString(deploymentModel.getPorts().iterator().next().getContainerPort()));
+        resolvePartitions(deploymentModel);
+        for (PartitionModel partition : deploymentModel.getPartitions()) {
+            generate(deploymentModel, partition);
         }
-        resolveDockerToml(deploymentModel);
-        generate(deploymentModel);
         dataHolder.setDockerModel(KubernetesUtils.getDockerModel(deploymentModel));
         OUT.println("\t@kubernetes:Deployment");
     }
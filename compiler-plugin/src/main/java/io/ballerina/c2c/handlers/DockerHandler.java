@@ -41,6 +41,10 @@ public class DockerHandler extends AbstractArtifactHandler {
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
+        if (dataHolder.isDockerUpToDate()) {
+            OUT.println("\t@kubernetes:Docker \t\t\t - up to date");
+            return;
+        }
         try {
             DockerGenerator dockerArtifactHandler;
             if (isNative) {
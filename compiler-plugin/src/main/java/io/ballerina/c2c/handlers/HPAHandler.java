@@ -18,10 +18,12 @@
 
 package io.ballerina.c2c.handlers;
 
+import io.ballerina.c2c.CloudTomlResolver;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.PartitionModel;
 import io.ballerina.c2c.models.PodAutoscalerModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
@@ -42,6 +44,8 @@ import java.util.List;
  */
 public class HPAHandler extends AbstractArtifactHandler {
 
+    private static final String AUTOSCALING = "cloud.deployment.autoscaling.";
+
     private void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
         List<MetricSpec> metrics = new ArrayList<>();
         metrics.add(new MetricSpecBuilder()
@@ -93,18 +97,15 @@ public class HPAHandler extends AbstractArtifactHandler {
         }
     }
 
-    private void resolveToml(PodAutoscalerModel hpa) {
-        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
-        if (ballerinaCloud != null) {
-            final String autoscaling = "cloud.deployment.autoscaling.";
-            hpa.setMaxReplicas(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, autoscaling + "max_replicas",
-                    hpa.getMaxReplicas())));
-            hpa.setMinReplicas(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, autoscaling + "min_replicas",
-                    hpa.getMinReplicas())));
-            hpa.setCpuPercentage(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, autoscaling + "cpu",
-                    hpa.getCpuPercentage())));
-            hpa.setMemoryPercentage(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, autoscaling + "memory", 0)));
-        }
+    private void resolveToml(PodAutoscalerModel hpa, Toml toml, String autoscaling) {
+        hpa.setMaxReplicas(Math.toIntExact(TomlHelper.getLong(toml, autoscaling + "max_replicas",
+                hpa.getMaxReplicas())));
+        hpa.setMinReplicas(Math.toIntExact(TomlHelper.getLong(toml, autoscaling + "min_replicas",
+                hpa.getMinReplicas())));
+        hpa.setCpuPercentage(Math.toIntExact(TomlHelper.getLong(toml, autoscaling + "cpu",
+                hpa.getCpuPercentage())));
+        hpa.setMemoryPercentage(Math.toIntExact(TomlHelper.getLong(toml, autoscaling + "memory",
+                hpa.getMemoryPercentage())));
     }
 
     @Override
@@ -115,22 +116,66 @@ public class HPAHandler extends AbstractArtifactHandler {
             return;
         }
         String balxFileName = dataHolder.getOutputName();
-        podAutoscalerModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
-        podAutoscalerModel.setDeployment(deploymentModel.getName());
-        if (podAutoscalerModel.getMaxReplicas() == 0) {
-            podAutoscalerModel.setMaxReplicas(deploymentModel.getReplicas() + 1);
-        }
-        if (podAutoscalerModel.getMinReplicas() == 0) {
-            podAutoscalerModel.setMinReplicas(deploymentModel.getReplicas());
+        if (KubernetesUtils.hasDefaultPartition(deploymentModel, dataHolder.getServiceModelList())) {
+            podAutoscalerModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+            podAutoscalerModel.setDeployment(deploymentModel.getName());
+            if (podAutoscalerModel.getMaxReplicas() == 0) {
+                podAutoscalerModel.setMaxReplicas(deploymentModel.getReplicas() + 1);
+            }
+            if (podAutoscalerModel.getMinReplicas() == 0) {
+                podAutoscalerModel.setMinReplicas(deploymentModel.getReplicas());
+            }
+            if (podAutoscalerModel.getName() == null || podAutoscalerModel.getName().length() == 0) {
+                podAutoscalerModel.setName(KubernetesUtils.getValidName(balxFileName +
+                        KubernetesConstants.HPA_POSTFIX));
+            }
+            Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+            if (ballerinaCloud != null) {
+                resolveToml(podAutoscalerModel, ballerinaCloud, AUTOSCALING);
+            }
+            generate(podAutoscalerModel);
         }
-        if (podAutoscalerModel.getName() == null || podAutoscalerModel.getName().length() == 0) {
-            podAutoscalerModel.setName(KubernetesUtils.getValidName(balxFileName + KubernetesConstants.HPA_POSTFIX));
+        for (PartitionModel partition : deploymentModel.getPartitions()) {
+            generatePartition(deploymentModel, partition);
         }
-        resolveToml(podAutoscalerModel);
-        generate(podAutoscalerModel);
         OUT.println("\t@kubernetes:HPA");
     }
 
+    /**
+     * Generate the autoscaler of a partition. The package wide autoscaling settings apply to every partition and
+     * can be overridden through the `autoscaling` table of the partition.
+     *
+     * @param deploymentModel deployment model
+     * @param partition       partition model
+     * @throws KubernetesPluginException If an error occurs while generating artifact.
+     */
+    private void generatePartition(DeploymentModel deploymentModel, PartitionModel partition)
+            throws KubernetesPluginException {
+        int replicas = partition.getReplicas() == null ? deploymentModel.getReplicas() : partition.getReplicas();
+        PodAutoscalerModel hpa = new PodAutoscalerModel();
+        hpa.setName(KubernetesUtils.getPartitionArtifactName(deploymentModel, partition.getName(),
+                KubernetesConstants.HPA_POSTFIX));
+        hpa.setDeployment(KubernetesUtils.getPartitionArtifactName(deploymentModel, partition.getName(),
+                KubernetesConstants.DEPLOYMENT_POSTFIX));
+        hpa.getLabels().putAll(partition.getLabels());
+        hpa.setMinReplicas(replicas);
+        hpa.setMaxReplicas(replicas + 1);
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud != null) {
+            resolveToml(hpa, ballerinaCloud, AUTOSCALING);
+            for (Toml partitionToml : ballerinaCloud.getTables(CloudTomlResolver.CLOUD_DEPLOYMENT + "partitions")) {
+                if (!partition.getName().equals(TomlHelper.getString(partitionToml, "name"))) {
+                    continue;
+                }
+                if (!TomlHelper.getBoolean(partitionToml, "autoscaling.enable", true)) {
+                    return;
+                }
+                resolveToml(hpa, partitionToml, "autoscaling.");
+            }
+        }
+        generate(hpa);
+    }
+
     private boolean isHPAEnabled(PodAutoscalerModel podAutoscalerModel) {
         if (podAutoscalerModel == null) {
             return false;
@@ -139,6 +184,6 @@ public class HPAHandler extends AbstractArtifactHandler {
         if (ballerinaCloud == null) {
             return true; //since the default is hpa enabled
         }
-        return TomlHelper.getBoolean(ballerinaCloud, "cloud.deployment.autoscaling.enable", true);
+        return TomlHelper.getBoolean(ballerinaCloud, AUTOSCALING + "enable", true);
     }
 }
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.KubernetesConstants.IngressType;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.IngressModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressPath;
+import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressPathBuilder;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressBuilder;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressTLS;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressTLSBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Generates kubernetes Ingress or Gateway API routes for the exposed services.
+ */
+public class IngressHandler extends AbstractArtifactHandler {
+
+    private static final String INGRESS_TABLE = "cloud.ingress";
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Optional<IngressModel> ingressModel = resolveToml();
+        if (ingressModel.isEmpty()) {
+            return;
+        }
+        List<Route> routes = resolveRoutes(ingressModel.get());
+        if (routes.isEmpty()) {
+            return;
+        }
+        if (ingressModel.get().getType() == IngressType.gateway) {
+            generateGatewayRoutes(ingressModel.get(), routes);
+            OUT.println("\t@kubernetes:HTTPRoute");
+        } else {
+            generateIngresses(ingressModel.get(), routes);
+            OUT.println("\t@kubernetes:Ingress");
+        }
+    }
+
+    private Optional<IngressModel> resolveToml() throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return Optional.empty();
+        }
+        Optional<Toml> ingressToml = ballerinaCloud.getTable(INGRESS_TABLE);
+        if (ingressToml.isEmpty()) {
+            return Optional.empty();
+        }
+        Toml toml = ingressToml.get();
+        IngressModel ingressModel = new IngressModel();
+        String type = TomlHelper.getString(toml, "type");
+        if (type != null) {
+            ingressModel.setType(IngressType.valueOf(type));
+        }
+        ingressModel.setHost(TomlHelper.getString(toml, "host"));
+        ingressModel.setClassName(TomlHelper.getString(toml, "class_name"));
+        ingressModel.setTlsSecret(TomlHelper.getString(toml, "tls_secret"));
+        ingressModel.setGatewayName(TomlHelper.getString(toml, "gateway_name"));
+        ingressModel.setGatewayNamespace(TomlHelper.getString(toml, "gateway_namespace"));
+        Long timeout = TomlHelper.getLong(toml, "timeout_seconds");
+        if (timeout != null) {
+            ingressModel.setTimeoutSeconds(Math.toIntExact(timeout));
+        }
+        ingressModel.setBufferSize(TomlHelper.getString(toml, "buffer_size"));
+        ingressModel.setMaxBodySize(TomlHelper.getString(toml, "max_body_size"));
+        for (Toml routeToml : toml.getTables("routes")) {
+            String path = normalizePath(TomlHelper.getString(routeToml, "path"));
+            Long routeTimeout = TomlHelper.getLong(routeToml, "timeout_seconds");
+            ingressModel.getRouteTimeouts().put(path, routeTimeout == null ? null : Math.toIntExact(routeTimeout));
+        }
+        if (ingressModel.getType() == IngressType.gateway && ingressModel.getGatewayName() == null) {
+            throw createException("`gateway_name` is required when the type is `gateway`");
+        }
+        return Optional.of(ingressModel);
+    }
+
+    private List<Route> resolveRoutes(IngressModel ingressModel) throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        List<Route> routes = new ArrayList<>();
+        for (ServiceModel serviceModel : dataHolder.getServiceModelList()) {
+            String path = normalizePath(serviceModel.getServicePath());
+            // services attached to the same listener share the port, hence each base path gets its own route
+            if (Objects.equals(deploymentModel.getHealthListenerPort(), serviceModel.getTargetPort()) ||
+                    routes.stream().anyMatch(route -> route.port == serviceModel.getPort() &&
+                            route.path.equals(path))) {
+                continue;
+            }
+            boolean isGrpc = KubernetesConstants.GRPC.equals(serviceModel.getProtocol());
+            routes.add(new Route(path, KubernetesUtils.getServiceName(deploymentModel, serviceModel),
+                    serviceModel.getPort(), isGrpc, getTimeout(ingressModel, path)));
+        }
+
+        // Routes for resource paths are added in front of their service so that they take precedence.
+        for (Map.Entry<String, Integer> routeTimeout : ingressModel.getRouteTimeouts().entrySet()) {
+            String path = routeTimeout.getKey();
+            if (routes.stream().anyMatch(route -> route.path.equals(path))) {
+                continue;
+            }
+            Route service = null;
+            for (Route route : routes) {
+                if (!route.grpc && isPrefix(route.path, path) &&
+                        (service == null || route.path.length() > service.path.length())) {
+                    service = route;
+                }
+            }
+            if (service == null) {
+                throw createException("route `" + path + "` does not match any HTTP service");
+            }
+            routes.add(routes.indexOf(service), new Route(path, service.serviceName, service.port, false,
+                    getTimeout(ingressModel, path)));
+        }
+        return routes;
+    }
+
+    private void generateIngresses(IngressModel ingressModel, List<Route> routes) throws KubernetesPluginException {
+        // Ingress annotations apply to every path, hence routes are grouped by protocol and timeout.
+        Map<String, List<Route>> groups = new LinkedHashMap<>();
+        for (Route route : routes) {
+            StringBuilder suffix = new StringBuilder();
+            if (route.grpc) {
+                suffix.append("-").append(KubernetesConstants.GRPC);
+            }
+            if (!Objects.equals(route.timeoutSeconds, ingressModel.getTimeoutSeconds())) {
+                suffix.append("-").append(route.timeoutSeconds).append("s");
+            }
+            groups.computeIfAbsent(suffix.toString(), key -> new ArrayList<>()).add(route);
+        }
+        for (Map.Entry<String, List<Route>> group : groups.entrySet()) {
+            Route first = group.getValue().get(0);
+            List<HTTPIngressPath> paths = new ArrayList<>();
+            for (Route route : group.getValue()) {
+                paths.add(new HTTPIngressPathBuilder()
+                        .withPath(route.path)
+                        .withPathType("Prefix")
+                        .withNewBackend()
+                        .withNewService()
+                        .withName(route.serviceName)
+                        .withNewPort()
+                        .withNumber(route.port)
+                        .endPort()
+                        .endService()
+                        .endBackend()
+                        .build());
+            }
+            List<IngressTLS> tls = new ArrayList<>();
+            if (ingressModel.getTlsSecret() != null) {
+                tls.add(new IngressTLSBuilder()
+                        .withHosts(ingressModel.getHost() == null ? Collections.emptyList() :
+                                Collections.singletonList(ingressModel.getHost()))
+                        .withSecretName(ingressModel.getTlsSecret())
+                        .build());
+            }
+            Ingress ingress = new IngressBuilder()
+                    .withNewMetadata()
+                    .withName(KubernetesUtils.getValidName(dataHolder.getOutputName()) + group.getKey() +
+                            KubernetesConstants.INGRESS_POSTFIX)
+                    .withNamespace(dataHolder.getNamespace())
+                    .addToLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                    .withAnnotations(getIngressAnnotations(ingressModel, first))
+                    .endMetadata()
+                    .withNewSpec()
+                    .withIngressClassName(ingressModel.getClassName())
+                    .addNewRule()
+                    .withHost(ingressModel.getHost())
+                    .withNewHttp()
+                    .withPaths(paths)
+                    .endHttp()
+                    .endRule()
+                    .withTls(tls.isEmpty() ? null : tls)
+                    .endSpec()
+                    .build();
+            write(ingress, "ingress");
+        }
+    }
+
+    private Map<String, String> getIngressAnnotations(IngressModel ingressModel, Route route) {
+        Map<String, String> annotations = new LinkedHashMap<>(ingressModel.getAnnotations());
+        if (route.timeoutSeconds != null) {
+            annotations.put(KubernetesConstants.NGINX_ANNOTATION_PREFIX + "proxy-read-timeout",
+                    String.valueOf(route.timeoutSeconds));
+            annotations.put(KubernetesConstants.NGINX_ANNOTATION_PREFIX + "proxy-send-timeout",
+                    String.valueOf(route.timeoutSeconds));
+        }
+        if (ingressModel.getBufferSize() != null) {
+            annotations.put(KubernetesConstants.NGINX_ANNOTATION_PREFIX + "proxy-buffer-size",
+                    ingressModel.getBufferSize());
+        }
+        if (ingressModel.getMaxBodySize() != null) {
+            annotations.put(KubernetesConstants.NGINX_ANNOTATION_PREFIX + "proxy-body-size",
+                    ingressModel.getMaxBodySize());
+        }
+        if (route.grpc) {
+            // keeps the upstream connections on HTTP/2 instead of a HTTP/1.1 connection per request
+            annotations.put(KubernetesConstants.NGINX_ANNOTATION_PREFIX + "backend-protocol", "GRPC");
+        }
+        return annotations;
+    }
+
+    private void generateGatewayRoutes(IngressModel ingressModel, List<Route> routes)
+            throws KubernetesPluginException {
+        List<Map<String, Object>> httpRules = new ArrayList<>();
+        List<Map<String, Object>> grpcRules = new ArrayList<>();
+        for (Route route : routes) {
+            Map<String, Object> rule = new LinkedHashMap<>();
+            Map<String, Object> backendRef = new LinkedHashMap<>();
+            backendRef.put("name", route.serviceName);
+            backendRef.put("port", route.port);
+            if (route.grpc) {
+                // gRPC services on the same listener share a single backend
+                rule.put("backendRefs", Collections.singletonList(backendRef));
+                if (!grpcRules.contains(rule)) {
+                    grpcRules.add(rule);
+                }
+                continue;
+            }
+            Map<String, Object> pathMatch = new LinkedHashMap<>();
+            pathMatch.put("type", "PathPrefix");
+            pathMatch.put("value", route.path);
+            rule.put("matches", Collections.singletonList(Collections.singletonMap("path", pathMatch)));
+            rule.put("backendRefs", Collections.singletonList(backendRef));
+            if (route.timeoutSeconds != null) {
+                rule.put("timeouts", Collections.singletonMap("request", route.timeoutSeconds + "s"));
+            }
+            httpRules.add(rule);
+        }
+        String name = KubernetesUtils.getValidName(dataHolder.getOutputName());
+        if (!httpRules.isEmpty()) {
+            write(createRoute(ingressModel, "HTTPRoute", name + KubernetesConstants.ROUTE_POSTFIX, httpRules),
+                    "HTTPRoute");
+        }
+        if (!grpcRules.isEmpty()) {
+            write(createRoute(ingressModel, "GRPCRoute",
+                    name + "-" + KubernetesConstants.GRPC + KubernetesConstants.ROUTE_POSTFIX, grpcRules),
+                    "GRPCRoute");
+        }
+    }
+
+    private GenericKubernetesResource createRoute(IngressModel ingressModel, String kind, String name,
+                                                  List<Map<String, Object>> rules) {
+        Map<String, Object> parentRef = new LinkedHashMap<>();
+        parentRef.put("name", ingressModel.getGatewayName());
+        if (ingressModel.getGatewayNamespace() != null) {
+            parentRef.put("namespace", ingressModel.getGatewayNamespace());
+        }
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("parentRefs", Collections.singletonList(parentRef));
+        if (ingressModel.getHost() != null) {
+            spec.put("hostnames", Collections.singletonList(ingressModel.getHost()));
+        }
+        spec.put("rules", rules);
+        return new GenericKubernetesResourceBuilder()
+                .withApiVersion(KubernetesConstants.GATEWAY_API_VERSION)
+                .withKind(kind)
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                .endMetadata()
+                .addToAdditionalProperties("spec", spec)
+                .build();
+    }
+
+    private void write(HasMetadata resource, String kind) throws KubernetesPluginException {
+        try {
+            String content = KubernetesUtils.asYaml(resource);
+            String outputFileName = KubernetesConstants.INGRESS_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = resource.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(content, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), kind, resource.getMetadata().getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    private Integer getTimeout(IngressModel ingressModel, String path) {
+        Integer routeTimeout = ingressModel.getRouteTimeouts().get(path);
+        return routeTimeout != null ? routeTimeout : ingressModel.getTimeoutSeconds();
+    }
+
+    private static boolean isPrefix(String servicePath, String path) {
+        return servicePath.equals("/") || path.startsWith(servicePath + "/");
+    }
+
+    private static String normalizePath(String path) {
+        if (path == null || path.isBlank()) {
+            return "/";
+        }
+        String trimmed = path.trim();
+        if (!trimmed.startsWith("/")) {
+            trimmed = "/" + trimmed;
+        }
+        if (trimmed.length() > 1 && trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private KubernetesPluginException createException(String message) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_INGRESS_CONFIG,
+                new NullLocation(), message);
+        return new KubernetesPluginException(diagnostic);
+    }
+
+    private static class Route {
+        private final String path;
+        private final String serviceName;
+        private final int port;
+        private final boolean grpc;
+        private final Integer timeoutSeconds;
+
+        Route(String path, String serviceName, int port, boolean grpc, Integer timeoutSeconds) {
+            this.path = path;
+            this.serviceName = serviceName;
+            this.port = port;
+            this.grpc = grpc;
+            this.timeoutSeconds = timeoutSeconds;
+        }
+    }
+}
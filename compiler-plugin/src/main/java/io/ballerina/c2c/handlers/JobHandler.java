@@ -33,7 +33,6 @@ import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Volume;
-import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJobBuilder;
@@ -188,30 +187,10 @@ public class JobHandler extends AbstractArtifactHandler {
     private List<Volume> populateVolume() {
         List<Volume> volumes = new ArrayList<>();
         for (SecretModel secretModel : dataHolder.getSecretModelSet()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(secretModel.getName() + "-volume")
-                    .withNewSecret()
-                    .withSecretName(secretModel.getName())
-                    .endSecret()
-                    .build();
-
-            if (secretModel.getDefaultMode() > 0) {
-                volume.getSecret().setDefaultMode(secretModel.getDefaultMode());
-            }
-            volumes.add(volume);
+            volumes.add(KubernetesUtils.generateSecretVolume(secretModel));
         }
         for (ConfigMapModel configMapModel : dataHolder.getConfigMapModelSet()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(configMapModel.getName() + "-volume")
-                    .withNewConfigMap()
-                    .withName(configMapModel.getName())
-                    .endConfigMap()
-                    .build();
-
-            if (configMapModel.getDefaultMode() > 0) {
-                volume.getConfigMap().setDefaultMode(configMapModel.getDefaultMode());
-            }
-            volumes.add(volume);
+            volumes.add(KubernetesUtils.generateConfigMapVolume(configMapModel));
         }
         return volumes;
     }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.KubernetesConstants.MonitorType;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.MetricsModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generates the Prometheus operator ServiceMonitor or PodMonitor scraping the Ballerina metrics endpoint.
+ *
+ * @since 4.0.0
+ */
+public class MetricsHandler extends AbstractArtifactHandler {
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        MetricsModel metricsModel = deploymentModel.getMetricsModel();
+        if (metricsModel == null || metricsModel.getMonitor() == MonitorType.none) {
+            return;
+        }
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("port", KubernetesConstants.METRICS_PORT_NAME);
+        endpoint.put("path", KubernetesConstants.METRICS_PATH);
+        if (metricsModel.getInterval() != null) {
+            endpoint.put("interval", metricsModel.getInterval());
+        }
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("selector", getSelector());
+        // copies the app label onto the scraped series so that dashboards and alerts can select the package
+        spec.put("podTargetLabels", Collections.singletonList(KubernetesConstants.KUBERNETES_SELECTOR_KEY));
+        String kind;
+        if (metricsModel.getMonitor() == MonitorType.pod) {
+            kind = "PodMonitor";
+            spec.put("podMetricsEndpoints", Collections.singletonList(endpoint));
+        } else {
+            kind = "ServiceMonitor";
+            spec.put("endpoints", Collections.singletonList(endpoint));
+        }
+        GenericKubernetesResource monitor = new GenericKubernetesResourceBuilder()
+                .withApiVersion(KubernetesConstants.PROMETHEUS_OPERATOR_API_VERSION)
+                .withKind(kind)
+                .withNewMetadata()
+                .withName(KubernetesUtils.getValidName(dataHolder.getOutputName()) +
+                        KubernetesConstants.MONITOR_POSTFIX)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                .addToLabels(metricsModel.getLabels())
+                .endMetadata()
+                .addToAdditionalProperties("spec", spec)
+                .build();
+        write(monitor, kind);
+        OUT.println("\t@kubernetes:" + kind);
+    }
+
+    /**
+     * Select the pods of the default deployment and of every partition, which are told apart by their app label.
+     *
+     * @return label selector
+     */
+    private Map<String, Object> getSelector() {
+        Map<String, Object> expression = new LinkedHashMap<>();
+        expression.put("key", KubernetesConstants.KUBERNETES_SELECTOR_KEY);
+        expression.put("operator", "In");
+        expression.put("values", KubernetesUtils.getSelectorValues(dataHolder));
+        return Collections.singletonMap("matchExpressions", Collections.singletonList(expression));
+    }
+
+    private void write(GenericKubernetesResource monitor, String kind) throws KubernetesPluginException {
+        try {
+            String content = KubernetesUtils.asYaml(monitor);
+            String outputFileName = KubernetesConstants.MONITOR_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = monitor.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(content, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), kind, monitor.getMetadata().getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+}
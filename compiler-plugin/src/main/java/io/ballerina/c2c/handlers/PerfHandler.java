@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DockerModel;
+import io.ballerina.c2c.models.PerfModel;
+import io.ballerina.c2c.models.PerfTargetModel;
+import io.ballerina.c2c.models.ResourceModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.LoadGenerator;
+import io.ballerina.c2c.utils.LoadGenerator.LoadResult;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.c2c.utils.KubernetesUtils.isBlank;
+
+/**
+ * Runs the built image locally and drives a load profile against its resources, so that performance regressions
+ * are caught at build time.
+ *
+ * @since 4.0.0
+ */
+public class PerfHandler extends AbstractArtifactHandler {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private static final String CLOUD_PERF = "cloud.perf";
+    private static final String LOCALHOST = "127.0.0.1";
+    private static final String HTTP = "http";
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Optional<PerfModel> perfModel = resolveToml(dataHolder.getBallerinaCloud());
+        if (perfModel.isEmpty()) {
+            return;
+        }
+        DockerModel dockerModel = dataHolder.getDockerModel();
+        if (!dockerModel.isBuildImage()) {
+            OUT.println("\tload test is skipped as the image is not built");
+            return;
+        }
+        List<PerfTargetModel> targets = getTargets(perfModel.get());
+        if (targets.isEmpty()) {
+            OUT.println("\tload test is skipped as there are no resources without path parameters to call");
+            return;
+        }
+        OUT.println("\nRunning the load test\n");
+        List<Map<String, Object>> results = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        runLoad(dockerModel.getName(), perfModel.get(), targets, results, violations);
+
+        Path resultsFile = dataHolder.getPerfOutputPath().resolve(KubernetesConstants.PERF_RESULTS_FILE_NAME);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("image", dockerModel.getName());
+        report.put("rps", perfModel.get().getRps());
+        report.put("durationSeconds", perfModel.get().getDurationSeconds());
+        report.put("resources", results);
+        try {
+            Files.createDirectories(resultsFile.getParent());
+            Files.writeString(resultsFile, GSON.toJson(report));
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "load test results", resultsFile.toString());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        OUT.println("\n\tResults are written to " + resultsFile);
+        if (!violations.isEmpty()) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
+                    C2CDiagnosticCodes.PERF_THRESHOLD_EXCEEDED, new NullLocation(), String.join("; ", violations));
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    private Optional<PerfModel> resolveToml(Toml toml) {
+        if (toml == null) {
+            return Optional.empty();
+        }
+        Optional<Toml> perfToml = toml.getTable(CLOUD_PERF);
+        if (perfToml.isEmpty() || !TomlHelper.getBoolean(perfToml.get(), "enable", true)) {
+            return Optional.empty();
+        }
+        Toml perf = perfToml.get();
+        PerfModel perfModel = new PerfModel();
+        perfModel.setRps(Math.toIntExact(TomlHelper.getLong(perf, "rps", perfModel.getRps())));
+        perfModel.setDurationSeconds(Math.toIntExact(TomlHelper.getLong(perf, "duration",
+                perfModel.getDurationSeconds())));
+        perfModel.setWarmupSeconds(Math.toIntExact(TomlHelper.getLong(perf, "warmup",
+                perfModel.getWarmupSeconds())));
+        perfModel.setStartupTimeoutSeconds(Math.toIntExact(TomlHelper.getLong(perf, "startup_timeout",
+                perfModel.getStartupTimeoutSeconds())));
+        perfModel.setMaxP99LatencyMillis(getInteger(perf, "max_p99_latency_ms"));
+        perfModel.setMinThroughput(getInteger(perf, "min_throughput"));
+        perfModel.setMaxErrorRate(getInteger(perf, "max_error_rate"));
+        for (Toml payloadToml : perf.getTables("payloads")) {
+            PerfTargetModel payload = new PerfTargetModel();
+            payload.setMethod(TomlHelper.getString(payloadToml, "method", "GET").toUpperCase(Locale.ENGLISH));
+            payload.setPath(TomlHelper.getString(payloadToml, "path"));
+            payload.setBody(TomlHelper.getString(payloadToml, "body"));
+            payload.setContentType(TomlHelper.getString(payloadToml, "content_type"));
+            payload.setPort(Math.toIntExact(TomlHelper.getLong(payloadToml, "port", -1)));
+            perfModel.getPayloads().add(payload);
+        }
+        return Optional.of(perfModel);
+    }
+
+    private Integer getInteger(Toml toml, String key) {
+        Long value = TomlHelper.getLong(toml, key);
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    private List<PerfTargetModel> getTargets(PerfModel perfModel) {
+        List<ServiceModel> httpServices = new ArrayList<>();
+        for (ServiceModel serviceModel : dataHolder.getServiceModelList()) {
+            if (HTTP.equals(serviceModel.getProtocol())) {
+                httpServices.add(serviceModel);
+            }
+        }
+        List<PerfTargetModel> targets = new ArrayList<>();
+        Set<String> covered = new HashSet<>();
+        for (PerfTargetModel payload : perfModel.getPayloads()) {
+            if (payload.getPort() == -1) {
+                payload.setPort(getServingPort(httpServices, payload.getPath()));
+            }
+            if (payload.getPort() != -1) {
+                targets.add(payload);
+                covered.add(payload.getDisplayName());
+            }
+        }
+        for (ServiceModel serviceModel : httpServices) {
+            for (ResourceModel resource : serviceModel.getResources()) {
+                // the values of path parameters are only known from a payload
+                if (resource.isParameterized()) {
+                    continue;
+                }
+                String method = "default".equals(resource.getMethod()) ? "GET" :
+                        resource.getMethod().toUpperCase(Locale.ENGLISH);
+                PerfTargetModel target = new PerfTargetModel(method,
+                        getResourcePath(serviceModel.getServicePath(), resource.getPath()),
+                        serviceModel.getTargetPort());
+                if (covered.add(target.getDisplayName())) {
+                    targets.add(target);
+                }
+            }
+        }
+        return targets;
+    }
+
+    private int getServingPort(List<ServiceModel> httpServices, String path) {
+        int port = -1;
+        int matchedLength = -1;
+        for (ServiceModel serviceModel : httpServices) {
+            String servicePath = getResourcePath(serviceModel.getServicePath(), "/");
+            if (path.startsWith(servicePath) && servicePath.length() > matchedLength) {
+                port = serviceModel.getTargetPort();
+                matchedLength = servicePath.length();
+            }
+        }
+        return port;
+    }
+
+    private String getResourcePath(String servicePath, String resourcePath) {
+        String basePath = isBlank(servicePath) || "/".equals(servicePath) ? "" : servicePath;
+        if ("/".equals(resourcePath)) {
+            return basePath.isEmpty() ? "/" : basePath;
+        }
+        return basePath + resourcePath;
+    }
+
+    private void runLoad(String image, PerfModel perfModel, List<PerfTargetModel> targets,
+                         List<Map<String, Object>> results, List<String> violations)
+            throws KubernetesPluginException {
+        Set<Integer> ports = new LinkedHashSet<>();
+        for (PerfTargetModel target : targets) {
+            ports.add(target.getPort());
+        }
+        Optional<String> containerId = KubernetesUtils.startContainer(image, ports);
+        if (containerId.isEmpty()) {
+            throw createException("could not start a container of `" + image + "`");
+        }
+        try (LoadGenerator generator = new LoadGenerator()) {
+            Map<Integer, Integer> publishedPorts = new LinkedHashMap<>();
+            for (Integer port : ports) {
+                Optional<Integer> publishedPort = KubernetesUtils.getPublishedPort(containerId.get(), port);
+                if (publishedPort.isEmpty()) {
+                    throw createException("port " + port + " of the container is not published");
+                }
+                publishedPorts.put(port, publishedPort.get());
+            }
+            PerfTargetModel first = targets.get(0);
+            if (!generator.awaitReady(LOCALHOST, publishedPorts.get(first.getPort()), first,
+                    Duration.ofSeconds(perfModel.getStartupTimeoutSeconds()))) {
+                throw createException("the service did not respond within " + perfModel.getStartupTimeoutSeconds() +
+                        " seconds");
+            }
+            for (PerfTargetModel target : targets) {
+                int port = publishedPorts.get(target.getPort());
+                if (perfModel.getWarmupSeconds() > 0) {
+                    generator.run(LOCALHOST, port, target, perfModel.getRps(),
+                            Duration.ofSeconds(perfModel.getWarmupSeconds()));
+                }
+                List<Long> memory = new CopyOnWriteArrayList<>();
+                ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+                sampler.scheduleWithFixedDelay(() -> KubernetesUtils.getContainerMemoryUsage(containerId.get())
+                        .ifPresent(memory::add), 0, 1, TimeUnit.SECONDS);
+                LoadResult result;
+                try {
+                    result = generator.run(LOCALHOST, port, target, perfModel.getRps(),
+                            Duration.ofSeconds(perfModel.getDurationSeconds()));
+                } finally {
+                    sampler.shutdownNow();
+                }
+                OUT.printf("\t%s: %.1f req/s, p99 %.1f ms, %.2f%% errors, %d unfinished%n",
+                        target.getDisplayName(), result.getThroughput(), result.getLatencyMillis(99),
+                        result.getErrorRate(), result.getUnfinished());
+                results.add(toResult(target, result, memory));
+                violations.addAll(getViolations(perfModel, target, result));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createException("interrupted while waiting for the service");
+        } finally {
+            KubernetesUtils.stopContainer(containerId.get());
+        }
+    }
+
+    private Map<String, Object> toResult(PerfTargetModel target, LoadResult result, List<Long> memory) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", result.getLatencyMillis(50));
+        latency.put("p90", result.getLatencyMillis(90));
+        latency.put("p99", result.getLatencyMillis(99));
+        latency.put("max", result.getLatencyMillis(100));
+        latency.put("histogram", result.getHistogram());
+
+        Map<String, Object> memoryUsage = new LinkedHashMap<>();
+        memoryUsage.put("peakBytes", memory.stream().mapToLong(Long::longValue).max().orElse(0));
+        memoryUsage.put("averageBytes", (long) memory.stream().mapToLong(Long::longValue).average().orElse(0));
+
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("resource", target.getDisplayName());
+        output.put("requests", result.getRequests());
+        output.put("errors", result.getErrors());
+        output.put("unfinished", result.getUnfinished());
+        output.put("throughput", result.getThroughput());
+        output.put("latencyMillis", latency);
+        output.put("memory", memoryUsage);
+        return output;
+    }
+
+    private List<String> getViolations(PerfModel perfModel, PerfTargetModel target, LoadResult result) {
+        List<String> violations = new ArrayList<>();
+        String name = "`" + target.getDisplayName() + "`";
+        if (perfModel.getMaxP99LatencyMillis() != null &&
+                result.getLatencyMillis(99) > perfModel.getMaxP99LatencyMillis()) {
+            violations.add(String.format(Locale.ENGLISH, "p99 latency of %s is %.1f ms", name,
+                    result.getLatencyMillis(99)));
+        }
+        if (perfModel.getMinThroughput() != null && result.getThroughput() < perfModel.getMinThroughput()) {
+            violations.add(String.format(Locale.ENGLISH, "throughput of %s is %.1f req/s", name,
+                    result.getThroughput()));
+        }
+        if (perfModel.getMaxErrorRate() != null && result.getErrorRate() > perfModel.getMaxErrorRate()) {
+            violations.add(String.format(Locale.ENGLISH, "error rate of %s is %.2f%%", name,
+                    result.getErrorRate()));
+        }
+        return violations;
+    }
+
+    private KubernetesPluginException createException(String reason) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.PERF_TEST_FAILED,
+                new NullLocation(), reason);
+        return new KubernetesPluginException(diagnostic);
+    }
+}
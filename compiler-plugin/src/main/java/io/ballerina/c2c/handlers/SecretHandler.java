@@ -25,6 +25,7 @@ import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.SecretModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.ConfigDataWriter;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.EnvVar;
@@ -33,8 +34,13 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Generates kubernetes secret.
@@ -42,23 +48,51 @@ import java.util.List;
 public class SecretHandler extends AbstractArtifactHandler {
 
     private void generate(SecretModel secretModel) throws KubernetesPluginException {
+        try {
+            secretModel.setContentHash(ConfigDataWriter.digest(secretModel.getData()));
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "secret", secretModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        if (dataHolder.isImmutableConfig()) {
+            // Content addressed names let the pods switch to the new object atomically on a rollout.
+            secretModel.setName(KubernetesUtils.getContentAddressedName(secretModel.getName(),
+                    secretModel.getContentHash()));
+        }
+        List<Map<String, Path>> shards = ConfigDataWriter.shard("secret", secretModel.getName(), secretModel.getData());
+        if (shards.size() == 1) {
+            generate(secretModel.getName(), shards.get(0));
+            return;
+        }
+        // Data exceeding the size limit is split into several secrets which are projected into the same volume.
+        List<String> shardNames = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            String shardName = secretModel.getName() + "-" + i;
+            generate(shardName, shards.get(i));
+            shardNames.add(shardName);
+        }
+        secretModel.setShards(shardNames);
+    }
+
+    private void generate(String name, Map<String, Path> data) throws KubernetesPluginException {
         Secret secret = new SecretBuilder()
                 .withNewMetadata()
+                .withName(name)
                 .withNamespace(dataHolder.getNamespace())
-                .withName(secretModel.getName())
                 .endMetadata()
-                .withData(secretModel.getData())
+                .withImmutable(dataHolder.isImmutableConfig() ? true : null)
                 .build();
-        try {
-            String secretContent = KubernetesUtils.asYaml(secret);
-            String outputFileName = KubernetesConstants.SECRET_FILE_POSTFIX + KubernetesConstants.YAML;
-            if (dataHolder.isSingleYaml()) {
-                outputFileName = secret.getMetadata().getName() + KubernetesConstants.YAML;
-            }
-            KubernetesUtils.writeToFile(secretContent, outputFileName);
+        String outputFileName = KubernetesConstants.SECRET_FILE_POSTFIX + KubernetesConstants.YAML;
+        if (dataHolder.isSingleYaml()) {
+            outputFileName = name + KubernetesConstants.YAML;
+        }
+        try (OutputStream out = KubernetesUtils.newArtifactStream(outputFileName)) {
+            out.write(KubernetesUtils.asYaml(secret).getBytes(StandardCharsets.UTF_8));
+            ConfigDataWriter.writeSecretData(out, data);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "secret", secretModel.getName());
+                    new NullLocation(), "secret", name);
             throw new KubernetesPluginException(diagnostic);
         }
     }
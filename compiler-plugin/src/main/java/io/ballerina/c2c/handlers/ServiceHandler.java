@@ -22,9 +22,13 @@ import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.MetricsModel;
+import io.ballerina.c2c.models.PartitionModel;
 import io.ballerina.c2c.models.ServiceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.toml.api.Toml;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
@@ -35,7 +39,12 @@ import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Generates kubernetes service from annotations.
@@ -46,23 +55,39 @@ public class ServiceHandler extends AbstractArtifactHandler {
         if (serviceModels.isEmpty()) {
             return;
         }
-        int count = 0;
-        ServiceModel commonService = new ServiceModel();
-        commonService.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName());
-        commonService.setSelector(dataHolder.getOutputName());
         final DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
-        if (deploymentModel.getInternalDomainName() != null) {
-            commonService.setName(deploymentModel.getInternalDomainName());
-        } else {
-            commonService.setName(KubernetesUtils.getValidName(deploymentModel.getName()
-                    .replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "") + KubernetesConstants.SVC_POSTFIX));
+        // Each partition is exposed through its own service selecting only the pods of the partition.
+        Map<String, List<ServiceModel>> partitions = new LinkedHashMap<>();
+        for (ServiceModel serviceModel : serviceModels) {
+            partitions.computeIfAbsent(serviceModel.getPartition(), key -> new ArrayList<>()).add(serviceModel);
+        }
+        int count = 0;
+        for (Map.Entry<String, List<ServiceModel>> partition : partitions.entrySet()) {
+            ServiceModel commonService = new ServiceModel();
+            String selector = partition.getKey() == null ? dataHolder.getOutputName() :
+                    KubernetesUtils.getPartitionSelector(dataHolder.getOutputName(), partition.getKey());
+            commonService.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+            commonService.setSelector(selector);
+            commonService.setName(KubernetesUtils.getServiceName(deploymentModel, partition.getValue().get(0)));
+            count = generate(commonService, partition.getValue(), count);
         }
+    }
+
+    private int generate(ServiceModel commonService, List<ServiceModel> serviceModels, int count)
+            throws KubernetesPluginException {
+        final DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
         List<ServicePort> servicePorts = new ArrayList<>();
+        List<ServicePort> headlessPorts = new ArrayList<>();
+        List<ServicePort> unreadyHeadlessPorts = new ArrayList<>();
         for (ServiceModel serviceModel : serviceModels) {
             // check if the port is already defined in list
             if (servicePorts.stream().anyMatch(p -> p.getPort() == serviceModel.getPort())) {
                 continue;
             }
+            // health listener is only reached by the kubelet, hence not exposed through the service
+            if (Objects.equals(deploymentModel.getHealthListenerPort(), serviceModel.getTargetPort())) {
+                continue;
+            }
             count++;
             if (null == serviceModel.getPortName()) {
                 serviceModel.setPortName(KubernetesUtils.getValidName("port-" + count + "-" + commonService.getName()));
@@ -72,13 +97,40 @@ public class ServiceHandler extends AbstractArtifactHandler {
                     .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
                     .withPort(serviceModel.getPort())
                     .withNewTargetPort(serviceModel.getTargetPort());
-            servicePorts.add(servicePortBuilder.build());
-            ContainerPort containerPort = new ContainerPortBuilder()
-                    .withName(serviceModel.getPortName())
-                    .withContainerPort(serviceModel.getTargetPort())
+            if (serviceModel.getAppProtocol() != null) {
+                servicePortBuilder.withAppProtocol(serviceModel.getAppProtocol());
+            }
+            ServicePort servicePort = servicePortBuilder.build();
+            servicePorts.add(servicePort);
+            if (serviceModel.isHeadless()) {
+                if (serviceModel.isPublishNotReadyAddresses()) {
+                    unreadyHeadlessPorts.add(servicePort);
+                } else {
+                    headlessPorts.add(servicePort);
+                }
+            }
+            if (deploymentModel.getPorts().stream()
+                    .noneMatch(port -> port.getContainerPort() == serviceModel.getTargetPort())) {
+                ContainerPort containerPort = new ContainerPortBuilder()
+                        .withName(serviceModel.getPortName())
+                        .withContainerPort(serviceModel.getTargetPort())
+                        .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                        .build();
+                deploymentModel.addPort(containerPort);
+            }
+        }
+        if (servicePorts.isEmpty()) {
+            return count;
+        }
+        MetricsModel metricsModel = deploymentModel.getMetricsModel();
+        if (metricsModel != null && metricsModel.getMonitor() == KubernetesConstants.MonitorType.service) {
+            // the ServiceMonitor discovers the pods through a named port of the service
+            servicePorts.add(new ServicePortBuilder()
+                    .withName(KubernetesConstants.METRICS_PORT_NAME)
                     .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
-                    .build();
-            deploymentModel.addPort(containerPort);
+                    .withPort(metricsModel.getPort())
+                    .withNewTargetPort(metricsModel.getPort())
+                    .build());
         }
 
         Service service = new ServiceBuilder()
@@ -94,6 +146,38 @@ public class ServiceHandler extends AbstractArtifactHandler {
                 .withType(commonService.getServiceType())
                 .endSpec()
                 .build();
+        write(service);
+
+        // publishNotReadyAddresses applies to the whole service, hence the ports are split by it
+        writeHeadlessService(commonService, headlessPorts, KubernetesConstants.HEADLESS_SVC_POSTFIX, false);
+        writeHeadlessService(commonService, unreadyHeadlessPorts, KubernetesConstants.HEADLESS_UNREADY_SVC_POSTFIX,
+                true);
+        return count;
+    }
+
+    private void writeHeadlessService(ServiceModel commonService, List<ServicePort> ports, String postfix,
+                                      boolean publishNotReadyAddresses) throws KubernetesPluginException {
+        if (ports.isEmpty()) {
+            return;
+        }
+        // lets clients resolve the pod addresses and balance each request instead of each connection
+        Service headlessService = new ServiceBuilder()
+                .withNewMetadata()
+                .withName(commonService.getName() + postfix)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(commonService.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withClusterIP("None")
+                .withPublishNotReadyAddresses(publishNotReadyAddresses)
+                .withPorts(ports)
+                .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, commonService.getSelector())
+                .endSpec()
+                .build();
+        write(headlessService);
+    }
+
+    private void write(Service service) throws KubernetesPluginException {
         try {
             String serviceYAML = KubernetesUtils.asYaml(service);
             String outputFileName = KubernetesConstants.SVC_FILE_POSTFIX + KubernetesConstants.YAML;
@@ -103,14 +187,76 @@ public class ServiceHandler extends AbstractArtifactHandler {
             KubernetesUtils.writeToFile(serviceYAML, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "service" , commonService.getName());
+                    new NullLocation(), "service" , service.getMetadata().getName());
             throw new KubernetesPluginException(diagnostic);
         }
+    }
+
+    private void resolveToml(List<ServiceModel> serviceModels) {
+        for (ServiceModel serviceModel : serviceModels) {
+            if (KubernetesConstants.GRPC.equals(serviceModel.getProtocol())) {
+                // lets ingress controllers and gateways talk HTTP/2 to the backend
+                serviceModel.setAppProtocol(KubernetesConstants.H2C_APP_PROTOCOL);
+            }
+        }
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        for (Toml listenerToml : ballerinaCloud.getTables("cloud.deployment.listeners")) {
+            Long port = TomlHelper.getLong(listenerToml, "port");
+            for (ServiceModel serviceModel : serviceModels) {
+                if (port == null || serviceModel.getTargetPort() != port) {
+                    continue;
+                }
+                String appProtocol = TomlHelper.getString(listenerToml, "app_protocol");
+                if (appProtocol != null) {
+                    serviceModel.setAppProtocol(appProtocol);
+                }
+                serviceModel.setHeadless(TomlHelper.getBoolean(listenerToml, "headless", false));
+                serviceModel.setPublishNotReadyAddresses(TomlHelper.getBoolean(listenerToml,
+                        "publish_not_ready_addresses", false));
+            }
+        }
+    }
+
+    /**
+     * Assign the services to the deployment partitions. A service matching several partitions belongs to the first
+     * one.
+     *
+     * @param serviceModels service models
+     * @throws KubernetesPluginException if a partition is invalid or does not match any service
+     */
+    private void resolvePartitions(List<ServiceModel> serviceModels) throws KubernetesPluginException {
+        Set<String> names = new HashSet<>();
+        for (PartitionModel partitionModel : dataHolder.getDeploymentModel().getPartitions()) {
+            String name = partitionModel.getName();
+            if (KubernetesUtils.isBlank(name) || !names.add(name)) {
+                throw createPartitionException("partition names must be unique and not empty");
+            }
+            boolean matched = false;
+            for (ServiceModel serviceModel : serviceModels) {
+                if (serviceModel.getPartition() == null && partitionModel.contains(serviceModel)) {
+                    serviceModel.setPartition(name);
+                    matched = true;
+                }
+            }
+            if (!matched) {
+                throw createPartitionException("partition `" + name + "` does not match any service");
+            }
+        }
+    }
 
+    private KubernetesPluginException createPartitionException(String message) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_PARTITION_CONFIG,
+                new NullLocation(), message);
+        return new KubernetesPluginException(diagnostic);
     }
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
+        resolveToml(dataHolder.getServiceModelList());
+        resolvePartitions(dataHolder.getServiceModelList());
         generate(dataHolder.getServiceModelList());
         OUT.println("\t@kubernetes:Service");
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ConfigMapModel;
+import io.ballerina.c2c.models.TracingModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.ballerina.c2c.KubernetesConstants.BALLERINA_CONF_FILE_NAME;
+import static io.ballerina.c2c.utils.KubernetesUtils.getValidName;
+
+/**
+ * Generates the Config.toml enabling tracing and mounts it alongside the other Ballerina config files.
+ *
+ * @since 4.0.0
+ */
+public class TracingHandler extends AbstractArtifactHandler {
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        TracingModel tracingModel = dataHolder.getTracingModel();
+        if (tracingModel == null) {
+            return;
+        }
+        // kept out of the manifest directory so that `kubectl apply -f` does not pick it up
+        Path configFile = dataHolder.getK8sArtifactOutputPath().resolve(KubernetesConstants.TRACING_CONFIG_DIR)
+                .resolve(BALLERINA_CONF_FILE_NAME);
+        try {
+            Files.createDirectories(configFile.getParent());
+            Files.writeString(configFile, getConfigToml(tracingModel));
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "tracing config", configFile.toString());
+            throw new KubernetesPluginException(diagnostic);
+        }
+
+        // picked up by the config map handler and added to `BAL_CONFIG_FILES`
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName(getValidName(dataHolder.getOutputName()) +
+                KubernetesConstants.TRACING_CONFIG_MAP_POSTFIX);
+        configMapModel.setMountPath(KubernetesConstants.TRACING_CONF_MOUNT_PATH);
+        Map<String, Path> dataMap = new TreeMap<>();
+        dataMap.put(BALLERINA_CONF_FILE_NAME, configFile);
+        configMapModel.setData(dataMap);
+        configMapModel.setBallerinaConf(true);
+        configMapModel.setReadOnly(false);
+        configMapModel.setDir(false);
+        dataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        OUT.println("\t@kubernetes:Tracing");
+    }
+
+    private String getConfigToml(TracingModel tracingModel) {
+        String provider = tracingModel.getProvider().name();
+        return "[ballerina.observe]\n" +
+                "tracingEnabled = true\n" +
+                "tracingProvider = " + quote(provider) + "\n" +
+                "\n" +
+                "[ballerinax." + provider + "]\n" +
+                "agentHostname = " + quote(tracingModel.getHost()) + "\n" +
+                "agentPort = " + tracingModel.getPort() + "\n" +
+                "samplerType = " + quote(tracingModel.getSamplerType()) + "\n" +
+                "samplerParam = " + BigDecimal.valueOf(tracingModel.getSamplerParam()).toPlainString() + "\n";
+    }
+
+    private String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
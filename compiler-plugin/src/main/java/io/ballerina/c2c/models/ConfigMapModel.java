@@ -20,6 +20,9 @@ package io.ballerina.c2c.models;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,15 +31,18 @@ import java.util.Map;
 @EqualsAndHashCode(callSuper = true)
 @Data
 public class ConfigMapModel extends KubernetesModel {
-    private Map<String, String> data;
+    private Map<String, Path> data;
     private String mountPath;
     private boolean readOnly;
     private boolean isBallerinaConf;
     private int defaultMode;
     private boolean dir;
+    private List<String> shards;
+    private String contentHash;
 
     public ConfigMapModel() {
         this.readOnly = true;
         this.dir = false;
+        this.shards = new ArrayList<>();
     }
 }
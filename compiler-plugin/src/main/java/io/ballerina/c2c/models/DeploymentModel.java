@@ -44,6 +44,8 @@ public class DeploymentModel extends KubernetesModel {
     private int replicas;
     private Probe livenessProbe;
     private Probe readinessProbe;
+    private Probe startupProbe;
+    private Integer healthListenerPort;
     private String namespace;
     private String image;
     private boolean buildImage;
@@ -58,10 +60,15 @@ public class DeploymentModel extends KubernetesModel {
     private String commandArgs;
     private String registry;
     private DeploymentStrategy strategy;
+    private Integer minReadySeconds;
+    private Long terminationGracePeriodSeconds;
+    private Integer preStopDrainSeconds;
     private Map<String, String> nodeSelector;
     private String dockerConfigPath;
     private ResourceRequirements resourceRequirements;
     private String internalDomainName;
+    private List<PartitionModel> partitions;
+    private MetricsModel metricsModel;
 
     public DeploymentModel() {
         // Initialize with default values.
@@ -75,6 +82,7 @@ public class DeploymentModel extends KubernetesModel {
         this.configMapModels = new HashSet<>();
         this.volumeClaimModels = new HashSet<>();
         this.imagePullSecrets = new HashSet<>();
+        this.partitions = new ArrayList<>();
         this.commandArgs = "";
         this.registry = "";
         Map<String, Quantity> limit = new HashMap<>();
@@ -101,6 +109,10 @@ public class DeploymentModel extends KubernetesModel {
         this.readinessProbe = readinessProbe;
     }
 
+    public void setStartupProbe(Probe startupProbe) {
+        this.startupProbe = startupProbe;
+    }
+
     public void addPort(ContainerPort port) {
         this.ports.add(port);
     }
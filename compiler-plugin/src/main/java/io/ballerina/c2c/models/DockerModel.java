@@ -59,6 +59,7 @@ public class DockerModel {
     private String entryPoint;
     private Map<String, String> env;
     private Set<Path> dependencyJarPaths;
+    private Path packageTargetPath;
     private PackageID pkgId;
     private Path fatJarPath;
     private boolean thinJar = true;
@@ -67,6 +68,12 @@ public class DockerModel {
     private String builderBase;
     private String builderCmd;
     private boolean isTest = false;
+    private int testShards;
+    private boolean keepTestImage;
+    private long testTimeout;
+    private boolean streamBuildContext;
+    private String imageBuilder;
+    private boolean pushImage;
 
     private TestSpecificProps testSpecificProps;
 
@@ -150,6 +157,12 @@ public class DockerModel {
         this.builderCmd = "";
         this.testSpecificProps = null;
         this.isTest = false;
+        this.testShards = 1;
+        this.keepTestImage = false;
+        this.testTimeout = 0;
+        this.streamBuildContext = false;
+        this.imageBuilder = DockerGenConstants.DOCKER_IMAGE_BUILDER;
+        this.pushImage = false;
     }
 
     public void setTestRunTimeCmdArgs(List<String> cmdArgsList) {
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.models;
+
+import io.ballerina.c2c.KubernetesConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kubernetes Ingress and Gateway API route model class.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class IngressModel extends KubernetesModel {
+    private KubernetesConstants.IngressType type;
+    private String host;
+    private String className;
+    private String tlsSecret;
+    private String gatewayName;
+    private String gatewayNamespace;
+    private Integer timeoutSeconds;
+    private String bufferSize;
+    private String maxBodySize;
+    private Map<String, Integer> routeTimeouts;
+
+    public IngressModel() {
+        this.type = KubernetesConstants.IngressType.ingress;
+        this.labels = new HashMap<>();
+        this.annotations = new HashMap<>();
+        this.routeTimeouts = new LinkedHashMap<>();
+    }
+}
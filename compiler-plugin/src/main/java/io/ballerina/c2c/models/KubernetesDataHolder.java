@@ -45,12 +45,17 @@ public class KubernetesDataHolder {
     private Path dockerArtifactOutputPath;
     private Path choreoArtifactOutputPath;
     private Path openshiftArtifactOutputPath;
+    private Path perfOutputPath;
     private String namespace;
     private Path sourceRoot;
     private PackageID packageID;
     private Toml ballerinaCloud;
     private boolean singleYaml;
+    private boolean immutableConfig;
     private String outputName;
+    private boolean dockerUpToDate;
+    private boolean observabilityIncluded;
+    private TracingModel tracingModel;
 
     KubernetesDataHolder() {
         this.serviceModelList = new ArrayList<>();
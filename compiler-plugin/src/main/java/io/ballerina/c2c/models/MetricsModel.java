@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import io.ballerina.c2c.KubernetesConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Model class to hold the Prometheus metrics endpoint and the monitor scraping it.
+ *
+ * @since 4.0.0
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class MetricsModel extends KubernetesModel {
+    private int port;
+    private KubernetesConstants.MonitorType monitor;
+    private String interval;
+    private boolean dashboard;
+    private boolean alerts;
+    private int latencyThresholdMillis;
+    private int errorRateThreshold;
+
+    public MetricsModel() {
+        this.port = KubernetesConstants.DEFAULT_METRICS_PORT;
+        this.monitor = KubernetesConstants.MonitorType.service;
+        this.dashboard = true;
+        this.alerts = true;
+        this.latencyThresholdMillis = KubernetesConstants.DEFAULT_LATENCY_THRESHOLD_MILLIS;
+        this.errorRateThreshold = KubernetesConstants.DEFAULT_ERROR_RATE_THRESHOLD;
+        this.labels = new LinkedHashMap<>();
+    }
+}
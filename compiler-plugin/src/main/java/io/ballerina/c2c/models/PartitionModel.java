@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Model class to hold a group of services deployed and scaled separately from the rest of the package.
+ *
+ * @since 4.0.0
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class PartitionModel extends KubernetesModel {
+    private Set<Integer> ports;
+    private Set<String> modules;
+    private Integer replicas;
+
+    public PartitionModel() {
+        this.labels = new LinkedHashMap<>();
+        this.ports = new LinkedHashSet<>();
+        this.modules = new LinkedHashSet<>();
+    }
+
+    /**
+     * Check whether the service belongs to this partition, either through its listener port or its module.
+     *
+     * @param serviceModel service model
+     * @return true if the service belongs to the partition
+     */
+    public boolean contains(ServiceModel serviceModel) {
+        if (ports.contains(serviceModel.getTargetPort())) {
+            return true;
+        }
+        String moduleName = serviceModel.getModuleName();
+        if (moduleName == null) {
+            return false;
+        }
+        return modules.stream().anyMatch(module -> moduleName.equals(module) || moduleName.endsWith("." + module));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import io.ballerina.c2c.KubernetesConstants;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model class to hold the load profile run against the built image and the limits it should stay within.
+ *
+ * @since 4.0.0
+ */
+@Data
+public class PerfModel {
+    private int rps;
+    private int durationSeconds;
+    private int warmupSeconds;
+    private int startupTimeoutSeconds;
+    private Integer maxP99LatencyMillis;
+    private Integer minThroughput;
+    private Integer maxErrorRate;
+    private List<PerfTargetModel> payloads;
+
+    public PerfModel() {
+        this.rps = KubernetesConstants.DEFAULT_PERF_RPS;
+        this.durationSeconds = KubernetesConstants.DEFAULT_PERF_DURATION_SECONDS;
+        this.warmupSeconds = KubernetesConstants.DEFAULT_PERF_WARMUP_SECONDS;
+        this.startupTimeoutSeconds = KubernetesConstants.DEFAULT_PERF_STARTUP_TIMEOUT_SECONDS;
+        this.payloads = new ArrayList<>();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+
+/**
+ * Model class to hold a request sent by the load test, along with the port of the service receiving it.
+ *
+ * @since 4.0.0
+ */
+@Data
+public class PerfTargetModel {
+    private String method;
+    private String path;
+    private String body;
+    private String contentType;
+    private int port;
+
+    public PerfTargetModel() {
+        this.port = -1;
+    }
+
+    public PerfTargetModel(String method, String path, int port) {
+        this.method = method;
+        this.path = path;
+        this.port = port;
+    }
+
+    public String getDisplayName() {
+        return method + " " + path;
+    }
+}
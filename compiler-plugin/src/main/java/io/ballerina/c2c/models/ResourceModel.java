@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Model class to hold a resource function of a service. The path is relative to the service base path and always
+ * starts with a slash, the same way Ballerina tags resource observations; the root resource has the path `/`.
+ *
+ * @since 4.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResourceModel {
+    private String method;
+    @Setter(AccessLevel.NONE)
+    private String path;
+    private boolean parameterized;
+
+    public ResourceModel(String method, String path) {
+        this.method = method;
+        setPath(path);
+    }
+
+    public void setPath(String path) {
+        String trimmed = path == null ? "" : path.trim();
+        if (trimmed.isEmpty() || ".".equals(trimmed)) {
+            this.path = "/";
+            return;
+        }
+        this.path = trimmed.startsWith("/") ? trimmed : "/" + trimmed;
+    }
+
+    public ResourceModel(String method, String path, boolean parameterized) {
+        this(method, path);
+        this.parameterized = parameterized;
+    }
+}
@@ -21,7 +21,9 @@ import io.ballerina.c2c.KubernetesConstants;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * Kubernetes service annotations model class.
@@ -37,6 +39,13 @@ public class ServiceModel extends KubernetesModel {
     private String sessionAffinity;
     private String portName;
     private String protocol;
+    private String servicePath;
+    private String appProtocol;
+    private boolean headless;
+    private boolean publishNotReadyAddresses;
+    private String moduleName;
+    private String partition;
+    private List<ResourceModel> resources;
 
     public ServiceModel() {
         serviceType = KubernetesConstants.ServiceType.ClusterIP.name();
@@ -44,6 +53,7 @@ public class ServiceModel extends KubernetesModel {
         port = -1;
         targetPort = -1;
         nodePort = -1;
+        resources = new ArrayList<>();
     }
 
     public void addLabel(String key, String value) {
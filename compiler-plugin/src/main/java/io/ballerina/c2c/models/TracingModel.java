@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import io.ballerina.c2c.KubernetesConstants;
+import lombok.Data;
+
+/**
+ * Model class to hold the trace exporter and sampler of the application.
+ *
+ * @since 4.0.0
+ */
+@Data
+public class TracingModel {
+    private KubernetesConstants.TracingProvider provider;
+    private String host;
+    private int port;
+    private String samplerType;
+    private double samplerParam;
+
+    public TracingModel() {
+        this.provider = KubernetesConstants.TracingProvider.jaeger;
+        this.samplerType = KubernetesConstants.CONST_SAMPLER;
+        this.samplerParam = 1;
+    }
+}
@@ -23,13 +23,17 @@ import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.ResourceModel;
 import io.ballerina.c2c.models.ServiceModel;
 import io.ballerina.c2c.util.ListenerInfo;
 import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.util.ResourceInfo;
 import io.ballerina.c2c.util.ScheduledTask;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.c2c.util.Task;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
@@ -116,13 +120,35 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
                     serviceModel.setTargetPort(port);
                 }
 
-                serviceModel.setProtocol("http");
+                serviceModel.setProtocol(listener.getType() == null ? "http" : listener.getType());
+                serviceModel.setServicePath(serviceInfo.getServicePath());
+                serviceModel.setModuleName(serviceInfo.getModuleName());
+                for (ResourceInfo resourceInfo : serviceInfo.getResourceInfo()) {
+                    serviceModel.getResources().add(new ResourceModel(resourceInfo.getHttpMethod(),
+                            getResourcePath(resourceInfo), isParameterized(resourceInfo)));
+                }
 
                 KubernetesContext.getInstance().getDataHolder().addServiceModel(serviceModel);
             }
         }
     }
 
+    private String getResourcePath(ResourceInfo resourceInfo) {
+        // keeps the path parameter segments which the resolved resource path drops
+        StringBuilder path = new StringBuilder();
+        for (Node node : resourceInfo.getNode().relativeResourcePath()) {
+            path.append(node.toSourceCode().trim());
+        }
+        return path.toString();
+    }
+
+    private boolean isParameterized(ResourceInfo resourceInfo) {
+        // path parameters are not part of the resolved resource path
+        return resourceInfo.getNode().relativeResourcePath().stream()
+                .anyMatch(node -> node.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM ||
+                        node.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM);
+    }
+
     private void addHPA() {
         PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
         KubernetesContext.getInstance().getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
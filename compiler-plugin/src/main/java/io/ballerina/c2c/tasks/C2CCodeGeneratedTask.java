@@ -23,6 +23,7 @@ import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.utils.ArtifactInputManifest;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.cli.utils.TestUtils;
 import io.ballerina.projects.BalCommand;
@@ -73,6 +74,7 @@ import java.util.stream.Stream;
 import static io.ballerina.c2c.KubernetesConstants.DOCKER;
 import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
 import static io.ballerina.c2c.KubernetesConstants.OPENSHIFT;
+import static io.ballerina.c2c.KubernetesConstants.PERF;
 import static io.ballerina.c2c.utils.DockerGenUtils.extractJarName;
 import static io.ballerina.c2c.utils.DockerGenUtils.getTargetDir;
 import static io.ballerina.c2c.utils.DockerGenUtils.getTestSuiteJsonCopiedDir;
@@ -262,17 +264,21 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
         BuildOptions buildOptions = currentPackage.project().buildOptions();
         String buildType = buildOptions.cloud();
         dataHolder.getDockerModel().setFatJarPath(executableJarFile);
+        // jars built from the package are written under its target directory, unlike the dependency jars
+        dataHolder.getDockerModel().setPackageTargetPath(currentPackage.project().targetDir());
         String graalvmBuildArgs = buildOptions.graalVMBuildOptions();
         dataHolder.getDockerModel().setGraalvmBuildArgs(graalvmBuildArgs);
         KubernetesContext.getInstance().setCurrentPackage(packageId);
         dataHolder.setPackageID(packageId);
         dataHolder.getDockerModel().setGraalVMBuild(buildOptions.nativeImage());
+        dataHolder.setObservabilityIncluded(buildOptions.observabilityIncluded());
         executableJarFile = executableJarFile.toAbsolutePath();
         if (null != executableJarFile.getParent() && Files.exists(executableJarFile.getParent())) {
             // artifacts location for a single bal file.
             Path kubernetesOutputPath = executableJarFile.getParent().resolve(KUBERNETES);
             Path dockerOutputPath = executableJarFile.getParent().resolve(DOCKER);
             Path openshiftOutputPath = executableJarFile.getParent().resolve(OPENSHIFT);
+            Path perfOutputPath = executableJarFile.getParent().resolve(PERF);
 
             if (null != executableJarFile.getParent().getParent().getParent() &&
                     Files.exists(executableJarFile.getParent().getParent().getParent())) {
@@ -304,6 +310,7 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
                                 .resolve(OPENSHIFT)
                                 .resolve(extractJarName(executableJarFile));
                     }
+                    perfOutputPath = projectRoot.resolve("target").resolve(PERF);
                     //Read and parse ballerina cloud
                     cloudToml.ifPresent(
                             kubernetesToml -> dataHolder.setBallerinaCloud(new Toml(kubernetesToml.tomlAstNode())));
@@ -312,12 +319,32 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
             dataHolder.setK8sArtifactOutputPath(kubernetesOutputPath);
             dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
             dataHolder.setOpenshiftArtifactOutputPath(openshiftOutputPath);
+            dataHolder.setPerfOutputPath(perfOutputPath);
             ArtifactManager artifactManager = new ArtifactManager();
             try {
+                ArtifactInputManifest manifest = null;
+                if (balCommand == BalCommand.BUILD && !OPENSHIFT.equals(buildType)) {
+                    manifest = ArtifactInputManifest.create(dataHolder, cloudToml.map(toml -> toml.tomlDocument()
+                            .textDocument().toString()).orElse(null), buildType, buildOptions.nativeImage());
+                    // the digest only covers the inputs, hence the image itself is checked as well
+                    dataHolder.setDockerUpToDate(manifest.isDockerUpToDate(dockerOutputPath) &&
+                            ArtifactInputManifest.isImageUpToDate(dataHolder.getDockerModel(), dockerOutputPath));
+                }
+                Map<Path, ArtifactInputManifest.FileSnapshot> snapshot =
+                        ArtifactInputManifest.snapshot(kubernetesOutputPath);
                 KubernetesUtils.deleteDirectory(kubernetesOutputPath);
-                KubernetesUtils.deleteDirectory(dockerOutputPath);
+                if (!dataHolder.isDockerUpToDate()) {
+                    KubernetesUtils.deleteDirectory(dockerOutputPath);
+                }
                 artifactManager.populateDeploymentModel();
                 artifactManager.createArtifacts(buildType, buildOptions.nativeImage());
+                ArtifactInputManifest.restoreUnchanged(kubernetesOutputPath, snapshot);
+                if (manifest != null) {
+                    manifest.write(dockerOutputPath);
+                }
+            } catch (IOException e) {
+                printError("module [" + packageId + "] unable to track the cloud artifact inputs: " + e.getMessage());
+                pluginLog.error("unable to track the cloud artifact inputs", e);
             } catch (KubernetesPluginException e) {
                 String errorMessage = "module [" + packageId + "] " + e.getMessage();
                 printError(errorMessage);
@@ -18,25 +18,16 @@
 package io.ballerina.c2c.tasks;
 
 import io.ballerina.c2c.DockerGenConstants;
-import io.ballerina.c2c.diagnostics.TomlDiagnosticChecker;
+import io.ballerina.c2c.diagnostics.IncrementalTomlValidator;
+import io.ballerina.c2c.util.CloudTomlSchema;
 import io.ballerina.c2c.utils.KubernetesUtils;
-import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.CompilationAnalysisContext;
-import io.ballerina.toml.api.Toml;
-import io.ballerina.toml.validator.TomlValidator;
-import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import org.apache.commons.io.IOUtils;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.MissingResourceException;
 import java.util.Optional;
 
 /**
@@ -53,32 +44,13 @@ public class CloudTomlAnalysisTask implements AnalysisTask<CompilationAnalysisCo
         if (cloud == null || !KubernetesUtils.isValidBuildOption(cloud)) {
             return;
         }
-        TomlDiagnosticChecker tomlDiagnosticChecker = new TomlDiagnosticChecker(project);
         Optional<CloudToml> cloudToml = project.currentPackage().cloudToml();
         if (cloudToml.isEmpty()) {
             return;
         }
-        Toml toml = TomlHelper.createK8sTomlFromProject(cloudToml.get().tomlDocument());
-        TomlValidator validator = new TomlValidator(Schema.from(getValidationSchema()));
-        validator.validate(toml);
-        List<Diagnostic> diagnostics = toml.diagnostics();
-
-        diagnostics.addAll(tomlDiagnosticChecker.validateTomlWithSource(toml));
+        List<Diagnostic> diagnostics = IncrementalTomlValidator.getInstance(project).validate(project,
+                cloudToml.get().tomlDocument(), CloudTomlSchema.getInstance(DockerGenConstants.SCHEMA_FILE_NAME,
+                        getClass().getClassLoader()).getSchema());
         diagnostics.forEach(compilationAnalysisContext::reportDiagnostic);
     }
-
-    private String getValidationSchema() {
-        try {
-            InputStream inputStream =
-                    getClass().getClassLoader().getResourceAsStream(DockerGenConstants.SCHEMA_FILE_NAME);
-            if (inputStream == null) {
-                throw new MissingResourceException("Schema Not found", DockerGenConstants.SCHEMA_FILE_NAME, "");
-            }
-            StringWriter writer = new StringWriter();
-            IOUtils.copy(inputStream, writer, StandardCharsets.UTF_8.name());
-            return writer.toString();
-        } catch (IOException e) {
-            throw new MissingResourceException("Schema Not found", DockerGenConstants.SCHEMA_FILE_NAME, "");
-        }
-    }
 }
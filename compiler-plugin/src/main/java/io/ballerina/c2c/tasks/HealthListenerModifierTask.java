@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tasks;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.projects.CloudToml;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.plugins.ModifierTask;
+import io.ballerina.projects.plugins.SourceModifierContext;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.Optional;
+
+/**
+ * A {@code ModifierTask} that adds a dedicated health check listener to the package when
+ * `cloud.deployment.probes.health_listener` is configured in the Cloud.toml.
+ * <p>
+ * Probes served from this listener do not compete with the application traffic on the service listeners. The
+ * listener exposes no resource that changes the state of the pod, since the health port is reachable from within the
+ * cluster without authentication.
+ *
+ * @since 4.0.0
+ */
+public class HealthListenerModifierTask implements ModifierTask<SourceModifierContext> {
+
+    public static final String HEALTH_LISTENER_TABLE = "cloud.deployment.probes.health_listener";
+    private static final String HEALTH_SOURCE_PREFIX = "c2c_health";
+    private static final String HEALTH_SOURCE_TEMPLATE = "import ballerina/http;%n%n" +
+            "listener http:Listener c2cHealthListener = new (%d);%n%n" +
+            "service /probes on c2cHealthListener {%n" +
+            "    resource function get readyz() returns http:Ok {%n" +
+            "        return http:OK;%n" +
+            "    }%n%n" +
+            "    resource function get healthz() returns http:Ok {%n" +
+            "        return http:OK;%n" +
+            "    }%n" +
+            "}%n";
+
+    @Override
+    public void modify(SourceModifierContext modifierContext) {
+        Package currentPackage = modifierContext.currentPackage();
+        String cloud = currentPackage.project().buildOptions().cloud();
+        if (cloud == null || !KubernetesUtils.isValidBuildOption(cloud)) {
+            return;
+        }
+        Optional<CloudToml> cloudToml = currentPackage.cloudToml();
+        if (cloudToml.isEmpty()) {
+            return;
+        }
+        Optional<Toml> healthToml = new Toml(cloudToml.get().tomlAstNode()).getTable(HEALTH_LISTENER_TABLE);
+        if (healthToml.isEmpty()) {
+            return;
+        }
+        if (!importsHttp(currentPackage.getDefaultModule())) {
+            modifierContext.reportDiagnostic(C2CDiagnosticCodes.createDiagnostic(
+                    C2CDiagnosticCodes.HEALTH_LISTENER_REQUIRES_HTTP, new NullLocation()));
+            return;
+        }
+        long port = TomlHelper.getLong(healthToml.get(), "port", KubernetesConstants.DEFAULT_HEALTH_LISTENER_PORT);
+        modifierContext.addSourceFile(TextDocuments.from(String.format(HEALTH_SOURCE_TEMPLATE, port)),
+                HEALTH_SOURCE_PREFIX);
+    }
+
+    private boolean importsHttp(Module module) {
+        for (DocumentId documentId : module.documentIds()) {
+            ModulePartNode modulePartNode = module.document(documentId).syntaxTree().rootNode();
+            for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+                boolean isBallerinaOrg = importNode.orgName().isPresent() &&
+                        "ballerina".equals(importNode.orgName().get().orgName().text());
+                if (isBallerinaOrg && importNode.moduleName().size() == 1 &&
+                        "http".equals(importNode.moduleName().get(0).text())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.utils;
+
+import io.ballerina.c2c.DockerGenConstants;
+import io.ballerina.c2c.models.DockerModel;
+import io.ballerina.c2c.models.JobModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.ResourceModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.toml.api.Toml;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Digest of the inputs used to generate the docker artifacts.
+ * <p>
+ * The docker artifact directory keeps the digest of the inputs it was generated from: the Cloud.toml, the config and
+ * secret files, the service model and the jar set. Kubernetes artifacts are cheap to generate and are always
+ * regenerated, keeping the modified time of the files whose content did not change.
+ *
+ * @since 4.0.0
+ */
+public class ArtifactInputManifest {
+
+    public static final String MANIFEST_FILE_NAME = ".c2c-inputs";
+    private static final String[][] FILE_TABLES = {{"cloud.config.files", "file"}, {"cloud.config.maps", "file"},
+            {"cloud.config.secrets", "file"}, {"cloud.secret.files", "file"}, {"container.copy.files", "sourceFile"}};
+
+    private final String dockerDigest;
+
+    private ArtifactInputManifest(String dockerDigest) {
+        this.dockerDigest = dockerDigest;
+    }
+
+    /**
+     * Computes the digests of the current inputs.
+     *
+     * @param dataHolder  data holder populated by the analysis tasks
+     * @param cloudToml   content of the Cloud.toml, or null if there is none
+     * @param buildType   value of the cloud build option
+     * @param nativeImage whether the build is a native image build
+     * @return manifest of the current inputs
+     * @throws IOException if an input cannot be read
+     */
+    public static ArtifactInputManifest create(KubernetesDataHolder dataHolder, String cloudToml, String buildType,
+                                               boolean nativeImage) throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        update(digest, "plugin", Objects.toString(ArtifactInputManifest.class.getPackage()
+                .getImplementationVersion(), ""));
+        update(digest, "build", buildType + ":" + nativeImage + ":" + dataHolder.isObservabilityIncluded() + ":" +
+                dataHolder.getOutputName());
+        update(digest, "cloud", Objects.toString(cloudToml, ""));
+        updateInputFiles(digest, dataHolder);
+        updateServiceModel(digest, dataHolder);
+
+        TreeSet<Path> jars = new TreeSet<>(dataHolder.getDockerModel().getDependencyJarPaths());
+        if (dataHolder.getJarPath() != null) {
+            jars.add(dataHolder.getJarPath());
+        }
+        if (dataHolder.getDockerModel().getFatJarPath() != null) {
+            jars.add(dataHolder.getDockerModel().getFatJarPath());
+        }
+        for (Path jar : jars) {
+            updateFile(digest, jar);
+        }
+        return new ArtifactInputManifest(Hex.encodeHexString(digest.digest()));
+    }
+
+    public boolean isDockerUpToDate(Path outputDir) {
+        return dockerDigest.equals(readDigest(outputDir));
+    }
+
+    /**
+     * Checks whether the image of a previous build can be reused. Pushed images are not checked against the
+     * registry, hence they are always built again.
+     *
+     * @param dockerModel      docker model of the build
+     * @param dockerOutputPath docker artifact directory
+     * @return true if the image does not need to be built
+     */
+    public static boolean isImageUpToDate(DockerModel dockerModel, Path dockerOutputPath) {
+        if (!dockerModel.isBuildImage()) {
+            return true;
+        }
+        if (dockerModel.isPushImage()) {
+            return false;
+        }
+        // native images are always built by the docker daemon, whichever image builder is set
+        if (!dockerModel.isGraalVMBuild() &&
+                DockerGenConstants.OCI_IMAGE_BUILDER.equals(dockerModel.getImageBuilder())) {
+            return Files.exists(dockerOutputPath.resolve(DockerGenConstants.OCI_ARCHIVE_FILE));
+        }
+        // the image could have been removed or the docker host could point to another daemon
+        return KubernetesUtils.imageExists(dockerModel.getName());
+    }
+
+    /**
+     * Records the digest in the generated docker artifact directory.
+     *
+     * @param dockerOutputDir docker artifact directory
+     * @throws IOException if the manifest cannot be written
+     */
+    public void write(Path dockerOutputDir) throws IOException {
+        if (Files.isDirectory(dockerOutputDir)) {
+            Files.writeString(dockerOutputDir.resolve(MANIFEST_FILE_NAME), dockerDigest);
+        }
+    }
+
+    /**
+     * Captures the content digest and modified time of the files in the given directory.
+     *
+     * @param outputDir artifact directory
+     * @return snapshot of the directory
+     * @throws IOException if the directory cannot be read
+     */
+    public static Map<Path, FileSnapshot> snapshot(Path outputDir) throws IOException {
+        Map<Path, FileSnapshot> snapshot = new HashMap<>();
+        if (!Files.isDirectory(outputDir)) {
+            return snapshot;
+        }
+        for (Path file : listFiles(outputDir)) {
+            snapshot.put(outputDir.relativize(file), new FileSnapshot(digest(file), Files.getLastModifiedTime(file)));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Restores the modified time of the regenerated files whose content did not change, so that they appear
+     * untouched to file watchers and sync tools.
+     *
+     * @param outputDir artifact directory
+     * @param snapshot  snapshot taken before regenerating the directory
+     * @throws IOException if the directory cannot be read
+     */
+    public static void restoreUnchanged(Path outputDir, Map<Path, FileSnapshot> snapshot) throws IOException {
+        if (snapshot.isEmpty() || !Files.isDirectory(outputDir)) {
+            return;
+        }
+        for (Path file : listFiles(outputDir)) {
+            FileSnapshot previous = snapshot.get(outputDir.relativize(file));
+            if (previous != null && previous.digest.equals(digest(file))) {
+                Files.setLastModifiedTime(file, previous.lastModifiedTime);
+            }
+        }
+    }
+
+    private static void updateInputFiles(MessageDigest digest, KubernetesDataHolder dataHolder) throws IOException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        for (String[] table : FILE_TABLES) {
+            for (Toml entry : ballerinaCloud.getTables(table[0])) {
+                String file = TomlHelper.getString(entry, table[1]);
+                if (file == null) {
+                    continue;
+                }
+                Path path = Paths.get(file);
+                if (!path.isAbsolute() && !Files.exists(path) && dataHolder.getSourceRoot() != null) {
+                    path = dataHolder.getSourceRoot().resolve(path).normalize();
+                }
+                update(digest, table[0], file);
+                if (Files.isDirectory(path)) {
+                    for (Path child : listFiles(path)) {
+                        update(digest, "entry", path.relativize(child).toString());
+                        updateFile(digest, child);
+                    }
+                } else {
+                    updateFile(digest, path);
+                }
+            }
+        }
+    }
+
+    private static void updateServiceModel(MessageDigest digest, KubernetesDataHolder dataHolder) {
+        List<String> services = new ArrayList<>();
+        for (ServiceModel serviceModel : dataHolder.getServiceModelList()) {
+            StringBuilder service = new StringBuilder(serviceModel.getName() + ":" + serviceModel.getPort() + ":" +
+                    serviceModel.getTargetPort() + ":" + serviceModel.getProtocol() + ":" +
+                    serviceModel.getServicePath() + ":" + serviceModel.getModuleName());
+            for (ResourceModel resourceModel : serviceModel.getResources()) {
+                service.append(":").append(resourceModel.getMethod()).append(" ").append(resourceModel.getPath());
+            }
+            services.add(service.toString());
+        }
+        services.sort(String::compareTo);
+        update(digest, "services", String.join(",", services));
+        JobModel jobModel = dataHolder.getJobModel();
+        update(digest, "job", jobModel == null ? "" : Objects.toString(jobModel.getSchedule(), "main"));
+    }
+
+    private static void update(MessageDigest digest, String key, String value) {
+        digest.update((key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void updateFile(MessageDigest digest, Path file) throws IOException {
+        update(digest, "file", file.getFileName() == null ? "" : file.getFileName().toString());
+        if (!Files.isRegularFile(file)) {
+            update(digest, "missing", file.toString());
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            DigestUtils.updateDigest(digest, inputStream);
+        }
+    }
+
+    private static String digest(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return DigestUtils.sha256Hex(inputStream);
+        }
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> !MANIFEST_FILE_NAME.equals(file.getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String readDigest(Path outputDir) {
+        Path manifest = outputDir.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifest)) {
+            return null;
+        }
+        try {
+            return Files.readString(manifest).trim();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Content digest and modified time of a generated file.
+     */
+    public static class FileSnapshot {
+        private final String digest;
+        private final FileTime lastModifiedTime;
+
+        FileSnapshot(String digest, FileTime lastModifiedTime) {
+            this.digest = digest;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+    }
+}
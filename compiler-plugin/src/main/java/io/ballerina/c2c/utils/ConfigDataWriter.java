@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.apache.commons.codec.binary.Base64OutputStream;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.ballerina.c2c.KubernetesConstants.MAX_CONFIG_DATA_BYTES;
+
+/**
+ * Writes the data section of config maps and secrets by streaming the source files into the artifact.
+ * <p>
+ * Values are written as double quoted YAML scalars, the same style used for the rest of the generated artifacts,
+ * without reading the files into memory.
+ *
+ * @since 4.0.0
+ */
+public class ConfigDataWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private ConfigDataWriter() {
+    }
+
+    /**
+     * Split the data into groups which fit within the Kubernetes size limit of a config map or a secret.
+     *
+     * @param kind kind of the artifact used in the diagnostic
+     * @param name name of the artifact
+     * @param data data keys and their source files
+     * @return data of each shard, a single shard if the data fits within the limit
+     * @throws KubernetesPluginException if a single file exceeds the limit or cannot be read
+     */
+    public static List<Map<String, Path>> shard(String kind, String name, Map<String, Path> data)
+            throws KubernetesPluginException {
+        List<Map<String, Path>> shards = new ArrayList<>();
+        Map<String, Path> shard = new TreeMap<>();
+        long shardSize = 0;
+        for (Map.Entry<String, Path> entry : new TreeMap<>(data).entrySet()) {
+            long size = size(entry.getValue());
+            if (size > MAX_CONFIG_DATA_BYTES) {
+                Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.CONFIG_DATA_TOO_LARGE,
+                        new NullLocation(), kind, name, entry.getKey(), size, MAX_CONFIG_DATA_BYTES);
+                throw new KubernetesPluginException(diagnostic);
+            }
+            if (shardSize + size > MAX_CONFIG_DATA_BYTES) {
+                shards.add(shard);
+                shard = new TreeMap<>();
+                shardSize = 0;
+            }
+            shard.put(entry.getKey(), entry.getValue());
+            shardSize += size;
+        }
+        shards.add(shard);
+        return shards;
+    }
+
+    /**
+     * Compute the digest of the data, covering the keys and the content of their source files.
+     *
+     * @param data data keys and their source files
+     * @return hex encoded SHA-256 digest of the data
+     * @throws IOException if a source file cannot be read
+     */
+    public static String digest(Map<String, Path> data) throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (Map.Entry<String, Path> entry : new TreeMap<>(data).entrySet()) {
+            digest.update((entry.getKey() + "=" + Files.size(entry.getValue()) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = Files.newInputStream(entry.getValue())) {
+                DigestUtils.updateDigest(digest, in);
+            }
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Append the data sections of a config map to an artifact. Files which are not valid UTF-8 are written to
+     * {@code binaryData} as Base64, the same way kubectl creates config maps from files.
+     *
+     * @param out  stream of the artifact
+     * @param data data keys and their source files
+     * @throws IOException if a source file cannot be read
+     */
+    public static void writeConfigMapData(OutputStream out, Map<String, Path> data) throws IOException {
+        Map<String, Path> textData = new TreeMap<>();
+        Map<String, Path> binaryData = new TreeMap<>();
+        for (Map.Entry<String, Path> entry : data.entrySet()) {
+            if (isUtf8(entry.getValue())) {
+                textData.put(entry.getKey(), entry.getValue());
+            } else {
+                binaryData.put(entry.getKey(), entry.getValue());
+            }
+        }
+        writeSection(out, "data", textData, false);
+        writeSection(out, "binaryData", binaryData, true);
+    }
+
+    /**
+     * Append the data section of a secret to an artifact.
+     *
+     * @param out  stream of the artifact
+     * @param data data keys and their source files
+     * @throws IOException if a source file cannot be read
+     */
+    public static void writeSecretData(OutputStream out, Map<String, Path> data) throws IOException {
+        writeSection(out, "data", data, true);
+    }
+
+    private static void writeSection(OutputStream out, String section, Map<String, Path> data, boolean encode)
+            throws IOException {
+        if (data.isEmpty()) {
+            return;
+        }
+        out.write((section + ":\n").getBytes(StandardCharsets.UTF_8));
+        for (Map.Entry<String, Path> entry : data.entrySet()) {
+            out.write("  \"".getBytes(StandardCharsets.UTF_8));
+            byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            writeEscaped(out, key, key.length);
+            out.write("\": \"".getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = Files.newInputStream(entry.getValue())) {
+                if (encode) {
+                    // Closing the encoder flushes the padding without closing the artifact stream.
+                    try (OutputStream encoder = new Base64OutputStream(CloseShieldOutputStream.wrap(out), true, 0,
+                            null)) {
+                        in.transferTo(encoder);
+                    }
+                } else {
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        writeEscaped(out, buffer, read);
+                    }
+                }
+            }
+            out.write("\"\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isUtf8(Path file) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE);
+        // UTF-8 never decodes to more chars than bytes, hence the output buffer cannot overflow.
+        CharBuffer decoded = CharBuffer.allocate(BUFFER_SIZE);
+        try (ReadableByteChannel channel = Files.newByteChannel(file)) {
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = channel.read(in) == -1;
+                in.flip();
+                if (decoder.decode(in, decoded, endOfInput).isError()) {
+                    return false;
+                }
+                decoded.clear();
+                in.compact();
+            }
+            return !decoder.flush(decoded).isError();
+        }
+    }
+
+    private static long size(Path file) throws KubernetesPluginException {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.PATH_CONTENT_READ_FAILED,
+                    new NullLocation(), file);
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    /**
+     * Escape UTF-8 content for a double quoted YAML scalar. Multi-byte sequences never contain ASCII bytes, hence they
+     * are copied as they are.
+     */
+    private static void writeEscaped(OutputStream out, byte[] buffer, int length) throws IOException {
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = buffer[i];
+            if (b != '"' && b != '\\' && (b >= 0x20 || b < 0) && b != 0x7F) {
+                continue;
+            }
+            out.write(buffer, start, i - start);
+            start = i + 1;
+            switch (b) {
+                case '"' -> out.write(new byte[]{'\\', '"'});
+                case '\\' -> out.write(new byte[]{'\\', '\\'});
+                case '\n' -> out.write(new byte[]{'\\', 'n'});
+                case '\r' -> out.write(new byte[]{'\\', 'r'});
+                case '\t' -> out.write(new byte[]{'\\', 't'});
+                default -> out.write(new byte[]{'\\', 'x', HEX[(b >> 4) & 0xF], HEX[b & 0xF]});
+            }
+        }
+        out.write(buffer, start, length - start);
+    }
+}
@@ -0,0 +1,1010 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonStreamParser;
+import io.ballerina.c2c.exceptions.DockerGenException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER_CERT_PATH;
+import static io.ballerina.c2c.KubernetesConstants.DOCKER_HOST;
+import static io.ballerina.c2c.utils.DockerGenUtils.printDebug;
+
+/**
+ * Minimal client of the Docker Engine API, which Podman serves as well, used to build, list, run and remove images
+ * and to manage their containers without going through the docker CLI.
+ * <p>
+ * The client talks HTTP/1.1 over the socket given by {@code DOCKER_HOST}, or the default Docker or Podman socket.
+ * It is not used when the CLI could be pointed elsewhere, that is with TLS settings, an explicit docker context or a
+ * daemon that does not answer, in which case the callers fall back to the CLI.
+ *
+ * @since 4.0.0
+ */
+public class DockerEngineClient {
+
+    private static final PrintStream OUT = System.out;
+    private static final PrintStream ERR = System.err;
+    private static final String DEFAULT_DOCKER_SOCKET = "/var/run/docker.sock";
+    private static final String DOCKER_CONTEXT = "DOCKER_CONTEXT";
+    private static final String DOCKER_TLS_VERIFY = "DOCKER_TLS_VERIFY";
+    private static final int CAPTURED_LINES = 100;
+    private static final String LOOPBACK_ADDRESS = "127.0.0.1";
+    private static final Duration REMOVE_GRACE_PERIOD = Duration.ofSeconds(10);
+
+    private final UnixDomainSocketAddress socketAddress;
+    private final InetSocketAddress tcpAddress;
+
+    private DockerEngineClient(UnixDomainSocketAddress socketAddress, InetSocketAddress tcpAddress) {
+        this.socketAddress = socketAddress;
+        this.tcpAddress = tcpAddress;
+    }
+
+    /**
+     * Connects to the engine the docker CLI would use, if it can be reached without the CLI.
+     *
+     * @return client of the engine, or empty to use the docker CLI
+     */
+    public static Optional<DockerEngineClient> connect() {
+        if (System.getenv(DOCKER_TLS_VERIFY) != null || System.getenv(DOCKER_CERT_PATH) != null ||
+                System.getenv(DOCKER_CONTEXT) != null || hasCurrentContext()) {
+            return Optional.empty();
+        }
+        DockerEngineClient client;
+        String dockerHost = System.getenv(DOCKER_HOST);
+        if (!DockerGenUtils.isBlank(dockerHost)) {
+            URI uri = URI.create(dockerHost);
+            if ("unix".equals(uri.getScheme())) {
+                client = new DockerEngineClient(UnixDomainSocketAddress.of(uri.getPath()), null);
+            } else if ("tcp".equals(uri.getScheme()) && uri.getHost() != null && uri.getPort() > 0) {
+                client = new DockerEngineClient(null, new InetSocketAddress(uri.getHost(), uri.getPort()));
+            } else {
+                return Optional.empty();
+            }
+        } else {
+            Optional<Path> socket = getDefaultSocket();
+            if (socket.isEmpty()) {
+                return Optional.empty();
+            }
+            client = new DockerEngineClient(UnixDomainSocketAddress.of(socket.get()), null);
+        }
+        try (Response response = client.send("GET", "/_ping", null, null)) {
+            if (response.status == 200) {
+                printDebug("using the docker engine api");
+                return Optional.of(client);
+            }
+        } catch (IOException e) {
+            printDebug("docker engine api is not reachable: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Path> getDefaultSocket() {
+        List<Path> sockets = new ArrayList<>();
+        sockets.add(Paths.get(DEFAULT_DOCKER_SOCKET));
+        String runtimeDir = System.getenv("XDG_RUNTIME_DIR");
+        if (!DockerGenUtils.isBlank(runtimeDir)) {
+            sockets.add(Paths.get(runtimeDir, "podman", "podman.sock"));
+        }
+        return sockets.stream().filter(Files::exists).findFirst();
+    }
+
+    private static boolean hasCurrentContext() {
+        // a context other than the default one points the CLI to a different engine
+        Path config = Paths.get(System.getProperty("user.home"), ".docker", "config.json");
+        if (!Files.exists(config)) {
+            return false;
+        }
+        try {
+            JsonElement context = JsonParser.parseString(Files.readString(config)).getAsJsonObject()
+                    .get("currentContext");
+            return context != null && !"default".equals(context.getAsString());
+        } catch (IOException | RuntimeException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Builds an image from a tar build context written by the given writer, printing the build output.
+     *
+     * @param imageName name of the image, with its tag
+     * @param context   writer of the build context
+     * @param outStream stream to print the build output to
+     * @return the built image
+     * @throws DockerGenException if the build failed
+     */
+    public ImageInfo buildImage(String imageName, BuildContext context, PrintStream outStream)
+            throws DockerGenException {
+        String path = "/build?t=" + encode(imageName) + "&nocache=1&forcerm=1";
+        try (Response response = send("POST", path, "application/x-tar", context)) {
+            if (response.status != 200) {
+                throw new DockerGenException("docker build failed: " + response.readError());
+            }
+            JsonStreamParser parser = new JsonStreamParser(new InputStreamReader(response.body,
+                    StandardCharsets.UTF_8));
+            while (parser.hasNext()) {
+                JsonObject message = parser.next().getAsJsonObject();
+                if (message.has("error")) {
+                    throw new DockerGenException("docker build failed: " + message.get("error").getAsString());
+                }
+                if (message.has("stream")) {
+                    outStream.print(message.get("stream").getAsString());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new DockerGenException("docker build failed: " + e.getMessage());
+        }
+        return inspectImage(imageName).orElseThrow(() ->
+                new DockerGenException("docker build failed: image " + imageName + " was not created"));
+    }
+
+    /**
+     * Returns the id and layers of an image.
+     *
+     * @param imageName name or id of the image
+     * @return the image, or empty if it does not exist
+     */
+    public Optional<ImageInfo> inspectImage(String imageName) {
+        try (Response response = send("GET", "/images/" + encode(imageName) + "/json", null, null)) {
+            if (response.status != 200) {
+                return Optional.empty();
+            }
+            JsonObject image = response.readJson().getAsJsonObject();
+            List<String> layers = new ArrayList<>();
+            JsonObject rootFs = image.getAsJsonObject("RootFS");
+            if (rootFs != null && rootFs.has("Layers")) {
+                rootFs.getAsJsonArray("Layers").forEach(layer -> layers.add(layer.getAsString()));
+            }
+            return Optional.of(new ImageInfo(image.get("Id").getAsString(), layers, image.get("Size").getAsLong()));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Removes an image.
+     *
+     * @param imageName name of the image
+     * @return true if the image was removed
+     */
+    public boolean removeImage(String imageName) {
+        try (Response response = send("DELETE", "/images/" + encode(imageName), null, null)) {
+            return response.status == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Lists the tags of a repository in the local image store.
+     *
+     * @param repository image name without the tag
+     * @return tags of the repository, empty if there are none or the images could not be listed
+     */
+    public List<String> listImageTags(String repository) {
+        JsonObject filters = new JsonObject();
+        JsonArray references = new JsonArray();
+        references.add(repository);
+        filters.add("reference", references);
+        try (Response response = send("GET", "/images/json?filters=" + encode(new Gson().toJson(filters)), null,
+                null)) {
+            if (response.status != 200) {
+                return List.of();
+            }
+            Set<String> tags = new LinkedHashSet<>();
+            for (JsonElement image : response.readJson().getAsJsonArray()) {
+                JsonElement repoTags = image.getAsJsonObject().get("RepoTags");
+                if (repoTags == null || !repoTags.isJsonArray()) {
+                    continue;
+                }
+                for (JsonElement repoTag : repoTags.getAsJsonArray()) {
+                    // podman qualifies the names with the registry, such as `localhost/app:v1`
+                    String name = repoTag.getAsString();
+                    int separator = name.lastIndexOf(':');
+                    String imageRepository = separator > 0 ? name.substring(0, separator) : name;
+                    if (separator > 0 && (imageRepository.equals(repository) ||
+                            imageRepository.endsWith("/" + repository)) && !"<none>".equals(
+                            name.substring(separator + 1))) {
+                        tags.add(name.substring(separator + 1));
+                    }
+                }
+            }
+            return List.copyOf(tags);
+        } catch (IOException | RuntimeException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Runs a container of the given image, printing its output, and removes it once it exits or times out.
+     *
+     * @param imageName image to run
+     * @param ports     ports to publish on the same host ports
+     * @param timeout   time the container may run, or null to wait until it exits
+     * @return result of the container, with the last lines of its output
+     * @throws DockerGenException if the container could not be run
+     */
+    public ProcessRunner.ProcessResult runContainer(String imageName, Collection<Integer> ports, Duration timeout)
+            throws DockerGenException {
+        JsonObject portBindings = new JsonObject();
+        for (Integer port : ports) {
+            portBindings.add(port + "/tcp", portBinding(null, String.valueOf(port)));
+        }
+        JsonObject hostConfig = new JsonObject();
+        hostConfig.add("PortBindings", portBindings);
+        String containerId = createContainer(containerSpec(imageName, ports, hostConfig));
+        try {
+            return attachContainer(containerId, "", timeout);
+        } finally {
+            removeContainer(containerId);
+        }
+    }
+
+    /**
+     * Creates a container of the given image without starting it.
+     *
+     * @param imageName image of the container
+     * @return id of the created container, or empty if it could not be created
+     */
+    public Optional<String> createContainer(String imageName) {
+        try {
+            return Optional.of(createContainer(containerSpec(imageName, List.of(), new JsonObject())));
+        } catch (DockerGenException e) {
+            ERR.println("error [docker]: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts a container of the given image in the background, publishing the given container ports on random
+     * loopback ports. The container is removed once it stops.
+     *
+     * @param imageName image to run
+     * @param ports     container ports to publish
+     * @return id of the started container, or empty if it could not be started
+     */
+    public Optional<String> startContainer(String imageName, Collection<Integer> ports) {
+        JsonObject portBindings = new JsonObject();
+        for (Integer port : ports) {
+            portBindings.add(port + "/tcp", portBinding(LOOPBACK_ADDRESS, ""));
+        }
+        JsonObject hostConfig = new JsonObject();
+        hostConfig.add("PortBindings", portBindings);
+        hostConfig.addProperty("AutoRemove", true);
+        String containerId;
+        try {
+            containerId = createContainer(containerSpec(imageName, ports, hostConfig));
+        } catch (DockerGenException e) {
+            ERR.println("error [docker]: " + e.getMessage());
+            return Optional.empty();
+        }
+        try (Response response = send("POST", "/containers/" + containerId + "/start", null, null)) {
+            if (response.status == 204 || response.status == 304) {
+                return Optional.of(containerId);
+            }
+            ERR.println("error [docker]: unable to start the container: " + response.readError());
+        } catch (IOException e) {
+            ERR.println("error [docker]: unable to start the container: " + e.getMessage());
+        }
+        removeContainer(containerId);
+        return Optional.empty();
+    }
+
+    /**
+     * Starts a created container and prints its output until it exits or times out, in which case it is killed.
+     *
+     * @param containerId id of the created container
+     * @param prefix      prefix of the printed lines
+     * @param timeout     time the container may run, or null to wait until it exits
+     * @return result of the container, with the last lines of its output
+     * @throws DockerGenException if the container could not be run
+     */
+    public ProcessRunner.ProcessResult attachContainer(String containerId, String prefix, Duration timeout)
+            throws DockerGenException {
+        try {
+            Deque<String> output = new ArrayDeque<>();
+            Deque<String> error = new ArrayDeque<>();
+            Response attached = send("POST", "/containers/" + containerId +
+                    "/attach?stream=1&stdout=1&stderr=1", null, null, Map.of("Connection", "Upgrade",
+                    "Upgrade", "tcp"));
+            Thread pump = Thread.ofVirtual().start(() -> pumpFrames(attached, prefix, output, error));
+            try (Response response = send("POST", "/containers/" + containerId + "/start", null, null)) {
+                if (response.status != 204 && response.status != 304) {
+                    attached.close();
+                    throw new DockerGenException("unable to start the container: " + response.readError());
+                }
+            }
+            FutureTask<Integer> wait = new FutureTask<>(() -> waitContainer(containerId));
+            Thread.ofVirtual().start(wait);
+            boolean timedOut = false;
+            int exitCode;
+            try {
+                exitCode = timeout == null ? wait.get() : wait.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                timedOut = true;
+                exitCode = -1;
+                // the attached stream ends once the container is gone
+                killContainer(containerId);
+            }
+            pump.join(REMOVE_GRACE_PERIOD);
+            attached.close();
+            synchronized (output) {
+                synchronized (error) {
+                    return new ProcessRunner.ProcessResult(exitCode, timedOut, List.copyOf(output),
+                            List.copyOf(error));
+                }
+            }
+        } catch (IOException | ExecutionException e) {
+            throw new DockerGenException("unable to run the container: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerGenException("interrupted while running the container");
+        }
+    }
+
+    /**
+     * Resolves the host port a container port is published on.
+     *
+     * @param containerId   id of the running container
+     * @param containerPort published container port
+     * @return host port, or empty if the port is not published
+     */
+    public Optional<Integer> getPublishedPort(String containerId, int containerPort) {
+        try (Response response = send("GET", "/containers/" + containerId + "/json", null, null)) {
+            if (response.status != 200) {
+                return Optional.empty();
+            }
+            JsonObject networkSettings = response.readJson().getAsJsonObject().getAsJsonObject("NetworkSettings");
+            JsonElement bindings = networkSettings == null || !networkSettings.has("Ports") ? null :
+                    networkSettings.getAsJsonObject("Ports").get(containerPort + "/tcp");
+            if (bindings == null || !bindings.isJsonArray() || bindings.getAsJsonArray().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(Integer.parseInt(bindings.getAsJsonArray().get(0).getAsJsonObject().get("HostPort")
+                    .getAsString()));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the current memory usage of a running container, leaving out the inactive page cache as the docker CLI
+     * does.
+     *
+     * @param containerId id of the running container
+     * @return memory usage in bytes, or empty if it could not be read
+     */
+    public Optional<Long> getMemoryUsage(String containerId) {
+        try (Response response = send("GET", "/containers/" + containerId + "/stats?stream=false", null, null)) {
+            if (response.status != 200) {
+                return Optional.empty();
+            }
+            JsonObject memoryStats = response.readJson().getAsJsonObject().getAsJsonObject("memory_stats");
+            if (memoryStats == null || !memoryStats.has("usage")) {
+                return Optional.empty();
+            }
+            long usage = memoryStats.get("usage").getAsLong();
+            JsonObject stats = memoryStats.getAsJsonObject("stats");
+            if (stats != null) {
+                // cgroup v2 reports inactive_file, while cgroup v1 reports total_inactive_file
+                String inactiveFile = stats.has("inactive_file") ? "inactive_file" : "total_inactive_file";
+                if (stats.has(inactiveFile) && stats.get(inactiveFile).getAsLong() < usage) {
+                    usage -= stats.get(inactiveFile).getAsLong();
+                }
+            }
+            return Optional.of(usage);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stops a running container.
+     *
+     * @param containerId id of the container
+     * @return true if the container is stopped
+     */
+    public boolean stopContainer(String containerId) {
+        try (Response response = send("POST", "/containers/" + containerId + "/stop", null, null)) {
+            return response.status == 204 || response.status == 304;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Copies a local file or directory into a directory of a container.
+     *
+     * @param source         file or directory to copy
+     * @param containerId    id of the container
+     * @param destinationDir existing directory of the container to copy into
+     * @return true if the copy succeeded
+     */
+    public boolean copyToContainer(Path source, String containerId, String destinationDir) {
+        String path = "/containers/" + containerId + "/archive?path=" + encode(destinationDir);
+        try (Response response = send("PUT", path, "application/x-tar", out -> {
+            TarArchiveWriter tar = new TarArchiveWriter(out);
+            tar.add(source.getFileName().toString(), source);
+            tar.finish();
+        })) {
+            if (response.status != 200) {
+                ERR.println("error [docker]: unable to copy " + source + ": " + response.readError());
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            ERR.println("error [docker]: unable to copy " + source + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Copies the content of a directory of a container into a local directory.
+     *
+     * @param containerId    id of the container
+     * @param sourceDir      directory of the container whose content is copied
+     * @param destinationDir local directory to copy into, created if it does not exist
+     * @return true if the copy succeeded
+     */
+    public boolean copyFromContainer(String containerId, String sourceDir, Path destinationDir) {
+        String path = "/containers/" + containerId + "/archive?path=" + encode(sourceDir);
+        try (Response response = send("GET", path, null, null)) {
+            if (response.status != 200) {
+                ERR.println("error [docker]: unable to copy " + sourceDir + ": " + response.readError());
+                return false;
+            }
+            // the entries of the archive are under the name of the source directory
+            extractTar(new BufferedInputStream(response.body), destinationDir, 1);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            ERR.println("error [docker]: unable to copy " + sourceDir + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Removes a container, stopping it if it is running.
+     *
+     * @param containerId id of the container
+     * @return true if the container is removed
+     */
+    public boolean removeContainer(String containerId) {
+        try (Response response = send("DELETE", "/containers/" + containerId + "?force=1", null, null)) {
+            if (response.status != 204 && response.status != 404) {
+                ERR.println("error [docker]: unable to remove the container " + containerId + ": " +
+                        response.readError());
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            ERR.println("error [docker]: unable to remove the container " + containerId + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static JsonObject containerSpec(String imageName, Collection<Integer> ports, JsonObject hostConfig) {
+        JsonObject exposedPorts = new JsonObject();
+        for (Integer port : ports) {
+            exposedPorts.add(port + "/tcp", new JsonObject());
+        }
+        JsonObject body = new JsonObject();
+        body.addProperty("Image", imageName);
+        body.addProperty("AttachStdout", true);
+        body.addProperty("AttachStderr", true);
+        body.add("ExposedPorts", exposedPorts);
+        body.add("HostConfig", hostConfig);
+        return body;
+    }
+
+    private static JsonArray portBinding(String hostIp, String hostPort) {
+        JsonObject binding = new JsonObject();
+        if (hostIp != null) {
+            binding.addProperty("HostIp", hostIp);
+        }
+        // an empty host port lets the engine pick a free one
+        binding.addProperty("HostPort", hostPort);
+        JsonArray bindings = new JsonArray();
+        bindings.add(binding);
+        return bindings;
+    }
+
+    private String createContainer(JsonObject spec) throws DockerGenException {
+        byte[] content = new Gson().toJson(spec).getBytes(StandardCharsets.UTF_8);
+        try (Response response = send("POST", "/containers/create", "application/json", out -> out.write(content))) {
+            if (response.status != 201) {
+                throw new DockerGenException("unable to create the container: " + response.readError());
+            }
+            return response.readJson().getAsJsonObject().get("Id").getAsString();
+        } catch (IOException e) {
+            throw new DockerGenException("unable to create the container: " + e.getMessage());
+        }
+    }
+
+    private int waitContainer(String containerId) throws IOException {
+        try (Response response = send("POST", "/containers/" + containerId + "/wait", null, null)) {
+            if (response.status != 200) {
+                throw new IOException(response.readError());
+            }
+            return response.readJson().getAsJsonObject().get("StatusCode").getAsInt();
+        }
+    }
+
+    private void killContainer(String containerId) {
+        try (Response response = send("POST", "/containers/" + containerId + "/kill", null, null)) {
+            if (response.status != 204 && response.status != 404 && response.status != 409) {
+                ERR.println("error [docker]: unable to kill the container " + containerId + ": " +
+                        response.readError());
+            }
+        } catch (IOException e) {
+            ERR.println("error [docker]: unable to kill the container " + containerId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Extracts the regular files and directories of a tar archive, dropping the given number of leading components
+     * of the entry names. Entries that would land outside the destination are rejected.
+     */
+    private static void extractTar(InputStream in, Path destination, int strippedComponents) throws IOException {
+        Path root = destination.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        byte[] header = new byte[512];
+        String longName = null;
+        while (in.readNBytes(header, 0, header.length) == header.length && header[0] != 0) {
+            long size = readSize(header);
+            byte type = header[156];
+            String name = longName != null ? longName : readTarString(header, 0, 100);
+            if (longName == null && "ustar\0".equals(new String(header, 257, 6, StandardCharsets.US_ASCII))) {
+                String prefix = readTarString(header, 345, 155);
+                name = prefix.isEmpty() ? name : prefix + "/" + name;
+            }
+            longName = null;
+            if (type == 'x' || type == 'L') {
+                String content = new String(in.readNBytes((int) size), StandardCharsets.UTF_8);
+                longName = type == 'L' ? content.trim() : getPaxPath(content);
+                in.skipNBytes((512 - size % 512) % 512);
+                continue;
+            }
+            String[] components = name.split("/");
+            List<String> kept = new ArrayList<>();
+            for (int i = 0; i < components.length; i++) {
+                if (i >= strippedComponents && !components[i].isEmpty() && !".".equals(components[i])) {
+                    kept.add(components[i]);
+                }
+            }
+            Path target = kept.isEmpty() ? root : root.resolve(String.join("/", kept)).normalize();
+            if (!target.startsWith(root)) {
+                throw new IOException("archive entry is outside the destination: " + name);
+            }
+            if (type == '5') {
+                Files.createDirectories(target);
+            } else if ((type == '0' || type == 0) && !target.equals(root)) {
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    copyBytes(in, out, size);
+                }
+                in.skipNBytes((512 - size % 512) % 512);
+                continue;
+            }
+            // links and special files are not needed in the copied results
+            in.skipNBytes(size + (512 - size % 512) % 512);
+        }
+    }
+
+    private static long readSize(byte[] header) {
+        if ((header[124] & 0x80) != 0) {
+            // sizes too large for octal are written in base-256
+            long size = 0;
+            for (int i = 125; i < 136; i++) {
+                size = (size << 8) | (header[i] & 0xff);
+            }
+            return size;
+        }
+        String octal = readTarString(header, 124, 12).trim();
+        return octal.isEmpty() ? 0 : Long.parseLong(octal, 8);
+    }
+
+    private static void copyBytes(InputStream in, OutputStream out, long size) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = size;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new IOException("unexpected end of the archive");
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    private static String getPaxPath(String records) {
+        for (String record : records.split("\n")) {
+            int keyIndex = record.indexOf(" path=");
+            if (keyIndex > 0) {
+                return record.substring(keyIndex + " path=".length());
+            }
+        }
+        return null;
+    }
+
+    private static String readTarString(byte[] header, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && header[end] != 0) {
+            end++;
+        }
+        return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the multiplexed output of an attached container. Each frame has a header of the stream type followed by
+     * three zero bytes and the big endian size of the payload.
+     */
+    private static void pumpFrames(Response attached, String prefix, Deque<String> output, Deque<String> error) {
+        LineBuffer outputLines = new LineBuffer(OUT, prefix, output);
+        LineBuffer errorLines = new LineBuffer(ERR, prefix, error);
+        byte[] header = new byte[8];
+        try {
+            while (attached.body.readNBytes(header, 0, header.length) == header.length) {
+                int size = ((header[4] & 0xff) << 24) | ((header[5] & 0xff) << 16) | ((header[6] & 0xff) << 8) |
+                        (header[7] & 0xff);
+                byte[] payload = attached.body.readNBytes(size);
+                (header[0] == 2 ? errorLines : outputLines).write(payload);
+            }
+        } catch (IOException e) {
+            // the connection is closed when the container is removed
+        }
+        outputLines.flush();
+        errorLines.flush();
+    }
+
+    private Response send(String method, String path, String contentType, BuildContext body) throws IOException {
+        return send(method, path, contentType, body, Map.of());
+    }
+
+    private Response send(String method, String path, String contentType, BuildContext body,
+                          Map<String, String> headers) throws IOException {
+        SocketChannel channel = socketAddress != null ?
+                SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open();
+        try {
+            channel.connect(socketAddress != null ? socketAddress : tcpAddress);
+            OutputStream out = Channels.newOutputStream(channel);
+            Map<String, String> requestHeaders = new LinkedHashMap<>();
+            requestHeaders.put("Host", "docker");
+            requestHeaders.put("Connection", "close");
+            requestHeaders.putAll(headers);
+            if (body != null) {
+                requestHeaders.put("Content-Type", contentType);
+                requestHeaders.put("Transfer-Encoding", "chunked");
+            }
+            StringBuilder request = new StringBuilder(method).append(' ').append(path).append(" HTTP/1.1\r\n");
+            requestHeaders.forEach((key, value) -> request.append(key).append(": ").append(value).append("\r\n"));
+            request.append("\r\n");
+            out.write(request.toString().getBytes(StandardCharsets.US_ASCII));
+            if (body != null) {
+                ChunkedOutputStream chunked = new ChunkedOutputStream(out);
+                body.writeTo(chunked);
+                chunked.finish();
+            }
+            out.flush();
+            return new Response(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a tar build context to the request body.
+     */
+    @FunctionalInterface
+    public interface BuildContext {
+
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Id and layers of an image.
+     */
+    public static class ImageInfo {
+
+        private final String id;
+        private final List<String> layers;
+        private final long size;
+
+        ImageInfo(String id, List<String> layers, long size) {
+            this.id = id;
+            this.layers = layers;
+            this.size = size;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public List<String> getLayers() {
+            return layers;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    private static class Response implements AutoCloseable {
+
+        private final SocketChannel channel;
+        private final int status;
+        private final InputStream body;
+
+        Response(SocketChannel channel) throws IOException {
+            this.channel = channel;
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+            String statusLine = readLine(in);
+            String[] parts = statusLine.split(" ", 3);
+            if (parts.length < 2) {
+                throw new IOException("invalid response from the docker engine: " + statusLine);
+            }
+            this.status = Integer.parseInt(parts[1]);
+            Map<String, String> headers = new LinkedHashMap<>();
+            String line;
+            while (!(line = readLine(in)).isEmpty()) {
+                int separator = line.indexOf(':');
+                if (separator > 0) {
+                    headers.put(line.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                            line.substring(separator + 1).trim());
+                }
+            }
+            if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+                this.body = new ChunkedInputStream(in);
+            } else if (headers.containsKey("content-length")) {
+                this.body = new BoundedInputStream(in, Long.parseLong(headers.get("content-length")));
+            } else {
+                this.body = in;
+            }
+        }
+
+        JsonElement readJson() throws IOException {
+            return JsonParser.parseString(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        String readError() throws IOException {
+            String content = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+            try {
+                JsonElement message = JsonParser.parseString(content).getAsJsonObject().get("message");
+                return message != null ? message.getAsString() : content;
+            } catch (RuntimeException e) {
+                return content;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            if (b == -1 && line.size() == 0) {
+                throw new IOException("connection closed by the docker engine");
+            }
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static class ChunkedOutputStream extends FilterOutputStream {
+
+        ChunkedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            out.write((Integer.toHexString(len) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(b, off, len);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        void finish() throws IOException {
+            out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            // the request body is finished by finish(), leaving the connection open for the response
+        }
+    }
+
+    private static class ChunkedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining = 0;
+        private boolean done = false;
+
+        ChunkedInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (remaining == 0) {
+                String sizeLine = Response.readLine(in);
+                if (sizeLine.isEmpty()) {
+                    // the CRLF that ends the previous chunk
+                    sizeLine = Response.readLine(in);
+                }
+                int extension = sizeLine.indexOf(';');
+                remaining = Long.parseLong(extension >= 0 ? sizeLine.substring(0, extension) : sizeLine, 16);
+                if (remaining == 0) {
+                    done = true;
+                    return -1;
+                }
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) {
+                done = true;
+                return -1;
+            }
+            remaining -= read;
+            return read;
+        }
+    }
+
+    private static class BoundedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read != -1) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Splits the payloads of a container stream into lines, printing them with a prefix and keeping the last lines.
+     */
+    private static class LineBuffer {
+
+        private final PrintStream target;
+        private final String prefix;
+        private final Deque<String> captured;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+        LineBuffer(PrintStream target, String prefix, Deque<String> captured) {
+            this.target = target;
+            this.prefix = prefix;
+            this.captured = captured;
+        }
+
+        void write(byte[] payload) {
+            for (byte b : payload) {
+                if (b == '\n') {
+                    flush();
+                } else {
+                    pending.write(b);
+                }
+            }
+        }
+
+        void flush() {
+            if (pending.size() == 0) {
+                return;
+            }
+            String line = pending.toString(StandardCharsets.UTF_8);
+            pending.reset();
+            target.println(prefix + line);
+            synchronized (captured) {
+                if (captured.size() == CAPTURED_LINES) {
+                    captured.removeFirst();
+                }
+                captured.addLast(line);
+            }
+        }
+    }
+}
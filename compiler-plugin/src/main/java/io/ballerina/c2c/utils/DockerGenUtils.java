@@ -57,6 +57,10 @@ public class DockerGenUtils {
         }
     }
 
+    public static boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+
     /**
      * Checks if a String is empty ("") or null.
      *
@@ -172,6 +176,20 @@ public class DockerGenUtils {
      */
     public static void addConfigTomls(StringBuilder testDockerFileContent, DockerModel dockerModel, Path outputDir,
                                       String projectSourceRoot) throws DockerGenException {
+        addConfigTomls(testDockerFileContent, dockerModel, outputDir, projectSourceRoot, "COPY ");
+    }
+
+    /**
+     * Add the test config files to the Dockerfile using the given copy instruction.
+     * @param testDockerFileContent Dockerfile content
+     * @param dockerModel           Docker model
+     * @param outputDir             output directory
+     * @param projectSourceRoot     Project source root to find all the test config files
+     * @param copyInstruction       Copy instruction with its flags, such as `COPY --chown=user:group `
+     * @throws DockerGenException   If an error occurs when adding the test config files
+     */
+    public static void addConfigTomls(StringBuilder testDockerFileContent, DockerModel dockerModel, Path outputDir,
+                                      String projectSourceRoot, String copyInstruction) throws DockerGenException {
         for (Path testConfigPath : dockerModel.getTestConfigPaths()) {
             String relativePath = testConfigPath.toString().replace(projectSourceRoot, "");
             String[] split = relativePath.split("/");
@@ -183,7 +201,7 @@ public class DockerGenUtils {
             if (moduleName == null) {
                 throw new DockerGenException("module name not found for the config file: " + testConfigPath);
             }
-            testDockerFileContent.append("COPY ")
+            testDockerFileContent.append(copyInstruction)
                     .append("config-files/").append(moduleName)
                     .append("/")
                     .append(KubernetesConstants.BALLERINA_CONF_FILE_NAME)
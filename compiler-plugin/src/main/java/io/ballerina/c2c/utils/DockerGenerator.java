@@ -18,6 +18,7 @@
 
 package io.ballerina.c2c.utils;
 
+import com.google.gson.JsonParser;
 import io.ballerina.c2c.DockerGenConstants;
 import io.ballerina.c2c.exceptions.DockerGenException;
 import io.ballerina.c2c.models.CopyFileModel;
@@ -25,22 +26,39 @@ import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.cli.utils.DebugUtils;
 import io.ballerina.cli.utils.TestUtils;
 import io.ballerina.projects.JarResolver;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.test.runtime.util.TesterinaConstants;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.c2c.DockerGenConstants.EXECUTABLE_JAR;
+import static io.ballerina.c2c.DockerGenConstants.OCI_ARCHIVE_FILE;
+import static io.ballerina.c2c.DockerGenConstants.OCI_IMAGE_BUILDER;
+import static io.ballerina.c2c.DockerGenConstants.OCI_LAYOUT_DIR;
 import static io.ballerina.c2c.DockerGenConstants.REGISTRY_SEPARATOR;
 import static io.ballerina.c2c.DockerGenConstants.TAG_SEPARATOR;
+import static io.ballerina.c2c.DockerGenConstants.TEST_BASE_DIR;
+import static io.ballerina.c2c.DockerGenConstants.TEST_BASE_IMAGE_POSTFIX;
+import static io.ballerina.c2c.DockerGenConstants.TEST_BASE_IMAGE_TAG_LENGTH;
 import static io.ballerina.c2c.utils.DockerGenUtils.addConfigTomls;
 import static io.ballerina.c2c.utils.DockerGenUtils.copyTestConfigFiles;
 import static io.ballerina.c2c.utils.DockerGenUtils.getTestSuiteJsonCopiedDir;
@@ -56,6 +74,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_IN
  */
 public class DockerGenerator {
 
+    private static final PrintStream OUT = System.out;
+    private static final String BALLERINA_USER = "ballerina";
+    private static final String BALLERINA_GROUP = "troupe";
     protected final DockerModel dockerModel;
 
     public DockerGenerator(DockerModel dockerModel) {
@@ -72,20 +93,37 @@ public class DockerGenerator {
     public void createArtifacts(PrintStream outStream, String logAppender, Path jarFilePath, Path outputDir)
             throws DockerGenException {
         try {
+            String dockerContent = generateDockerfile();
+            Map<String, Path> contextFiles = new LinkedHashMap<>();
             if (!this.dockerModel.isThinJar()) {
-                DockerGenUtils.writeToFile(generateDockerfile(), outputDir.resolve("Dockerfile"));
-                copyFileOrDirectory(this.dockerModel.getFatJarPath(),
-                        outputDir.resolve(this.dockerModel.getFatJarPath().getFileName()));
+                addContextFile(contextFiles, this.dockerModel.getFatJarPath());
             } else {
-                String dockerContent;
-                dockerContent = generateDockerfile();
-                copyNativeJars(outputDir);
-                DockerGenUtils.writeToFile(dockerContent, outputDir.resolve("Dockerfile"));
-                Path jarLocation = outputDir.resolve(DockerGenUtils.extractJarName(jarFilePath) + EXECUTABLE_JAR);
-                copyFileOrDirectory(jarFilePath, jarLocation);
+                for (Path jarPath : this.dockerModel.getDependencyJarPaths()) {
+                    addContextFile(contextFiles, jarPath);
+                }
+                contextFiles.put(DockerGenUtils.extractJarName(jarFilePath) + EXECUTABLE_JAR, jarFilePath);
             }
-            copyExternalFiles(outputDir);
+            for (CopyFileModel copyFileModel : this.dockerModel.getCopyFiles()) {
+                addContextFile(contextFiles, Paths.get(copyFileModel.getSource()));
+            }
+            DockerGenUtils.writeToFile(dockerContent, outputDir.resolve("Dockerfile"));
             //check image build is enabled.
+            if (this.dockerModel.isBuildImage() && OCI_IMAGE_BUILDER.equals(this.dockerModel.getImageBuilder())) {
+                outStream.println("\nBuilding the image without docker\n");
+                buildOciImage(outputDir);
+                outStream.println();
+                return;
+            }
+            if (this.dockerModel.isBuildImage() && this.dockerModel.isStreamBuildContext()) {
+                // the jars are read from where they are instead of being copied to the output directory
+                outStream.println("\nBuilding the docker image\n");
+                buildImage(this.dockerModel.getName(), dockerContent, contextFiles);
+                outStream.println();
+                return;
+            }
+            for (Map.Entry<String, Path> contextFile : contextFiles.entrySet()) {
+                copyFileOrDirectory(contextFile.getValue(), outputDir.resolve(contextFile.getKey()));
+            }
             if (this.dockerModel.isBuildImage()) {
                 outStream.println("\nBuilding the docker image\n");
                 buildImage(outputDir);
@@ -96,20 +134,46 @@ public class DockerGenerator {
         }
     }
 
+    private static void addContextFile(Map<String, Path> contextFiles, Path sourcePath) {
+        contextFiles.put(sourcePath.getFileName().toString(), sourcePath.toAbsolutePath());
+    }
+
     public void createTestArtifacts(PrintStream outStream, String logAppender, Path outputDir)
             throws  DockerGenException {
 
         try {
-            String dockerContent;
-            dockerContent = generateTestDockerFile(this.dockerModel.getTestSuiteJsonPath(),
-                    this.dockerModel.getJacocoAgentJarPath());
-            copyNativeJars(outputDir);
+            List<Path> baseJars = new ArrayList<>();
+            List<Path> packageJars = new ArrayList<>();
+            for (Path jarPath : new TreeSet<>(this.dockerModel.getDependencyJarPaths())) {
+                if (isPackageJar(jarPath)) {
+                    packageJars.add(jarPath);
+                } else {
+                    baseJars.add(jarPath);
+                }
+            }
+            String baseDockerContent = generateTestBaseDockerFile(baseJars, this.dockerModel.getJacocoAgentJarPath());
+            String baseImageName = getTestBaseImageName(baseDockerContent, baseJars);
+            if (KubernetesUtils.imageExists(baseImageName)) {
+                outStream.println("\nReusing the test base image " + baseImageName);
+            } else {
+                Path baseDir = outputDir.resolve(TEST_BASE_DIR);
+                copyJars(baseJars, baseDir);
+                //copy the jacoco agent jar
+                copyFileOrDirectory(this.dockerModel.getJacocoAgentJarPath(), baseDir);
+                DockerGenUtils.writeToFile(baseDockerContent, baseDir.resolve("Dockerfile"));
+                outStream.println("\nBuilding the test base image\n");
+                buildImage(baseImageName, baseDir);
+                pruneTestBaseImages(baseImageName);
+            }
+
+            String dockerContent = generateTestDockerFile(baseImageName, this.dockerModel.getTestSuiteJsonPath(),
+                    packageJars);
+            copyJars(packageJars, outputDir);
             //copy the test suite json
             copyFileOrDirectory(this.dockerModel.getTestSuiteJsonPath(), outputDir);
-
-            //copy the jacoco agent jar
-            copyFileOrDirectory(this.dockerModel.getJacocoAgentJarPath(), outputDir);
             DockerGenUtils.writeToFile(dockerContent, outputDir.resolve("Dockerfile"));
+            // keep the base image context out of the build context of the test image
+            DockerGenUtils.writeToFile(TEST_BASE_DIR + "/" + LINE_SEPARATOR, outputDir.resolve(".dockerignore"));
 
             copyTestConfigFiles(outputDir, this.dockerModel);
             copyExternalFiles(outputDir);
@@ -122,6 +186,67 @@ public class DockerGenerator {
         }
     }
 
+    /**
+     * Checks whether a jar is built from the package being tested. These jars change between test runs, while the
+     * rest come from the distribution and the central repository.
+     *
+     * @param jarPath path of the jar
+     * @return true if the jar is in the target directory of the package, false if that directory is not known
+     */
+    private boolean isPackageJar(Path jarPath) {
+        Path targetPath = this.dockerModel.getPackageTargetPath();
+        return targetPath != null && jarPath.toAbsolutePath().startsWith(targetPath.toAbsolutePath());
+    }
+
+    /**
+     * Returns the name of the test base image, tagged with a digest of its Dockerfile and the jars it holds so that
+     * a base image is reused until its dependencies change.
+     *
+     * @param baseDockerContent Dockerfile of the base image
+     * @param baseJars          jars copied into the base image
+     * @return image name
+     * @throws IOException if a jar could not be read
+     */
+    private String getTestBaseImageName(String baseDockerContent, List<Path> baseJars) throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        digest.update(baseDockerContent.getBytes(StandardCharsets.UTF_8));
+        List<Path> files = new ArrayList<>(baseJars);
+        files.add(this.dockerModel.getJacocoAgentJarPath());
+        for (Path file : files) {
+            // the size and modified time identify a jar in the repository caches without reading it
+            digest.update((file.toAbsolutePath() + ":" + Files.size(file) + ":" +
+                    Files.getLastModifiedTime(file).toMillis()).getBytes(StandardCharsets.UTF_8));
+        }
+        return getTestBaseRepository() + TAG_SEPARATOR +
+                Hex.encodeHexString(digest.digest()).substring(0, TEST_BASE_IMAGE_TAG_LENGTH);
+    }
+
+    private String getTestBaseRepository() {
+        String name = this.dockerModel.getName();
+        int tagIndex = name.lastIndexOf(TAG_SEPARATOR);
+        if (tagIndex > name.lastIndexOf(REGISTRY_SEPARATOR)) {
+            name = name.substring(0, tagIndex);
+        }
+        return name + TEST_BASE_IMAGE_POSTFIX;
+    }
+
+    /**
+     * Removes the test base images of the package built for earlier dependencies, since a new base image is only
+     * built when the dependencies change and the old ones are never used again.
+     *
+     * @param baseImageName name of the base image in use
+     */
+    private void pruneTestBaseImages(String baseImageName) {
+        String repository = getTestBaseRepository();
+        for (String tag : KubernetesUtils.listImageTags(repository)) {
+            String imageName = repository + TAG_SEPARATOR + tag;
+            if (!imageName.equals(baseImageName)) {
+                printDebug("removing the outdated test base image `" + imageName + "`.");
+                KubernetesUtils.deleteDockerImage(imageName);
+            }
+        }
+    }
+
     private void copyExternalFiles(Path outputDir) throws DockerGenException {
         for (CopyFileModel copyFileModel : this.dockerModel.getCopyFiles()) {
             // Copy external files to docker folder
@@ -134,8 +259,8 @@ public class DockerGenerator {
         }
     }
 
-    private void copyNativeJars(Path outputDir) throws DockerGenException {
-        for (Path jarPath : this.dockerModel.getDependencyJarPaths()) {
+    private void copyJars(Collection<Path> jarPaths, Path outputDir) throws DockerGenException {
+        for (Path jarPath : jarPaths) {
             // Copy jar files
             Path target = outputDir.resolve(jarPath.getFileName());
             Path sourcePath = jarPath;
@@ -146,18 +271,141 @@ public class DockerGenerator {
         }
     }
 
+    /**
+     * Assembles the image without a docker daemon from the same files and instructions the Dockerfile holds. The
+     * jars are split into a layer of dependencies and a layer of the package jars, so that a rebuild after a change
+     * to the package only produces a new package layer.
+     *
+     * @param outputDir output directory of the docker artifacts
+     * @throws DockerGenException if the image could not be assembled or pushed
+     */
+    private void buildOciImage(Path outputDir) throws DockerGenException {
+        String imageName = this.dockerModel.getName();
+        DockerImageName.validate(imageName);
+        OciImageBuilder builder = new OciImageBuilder(this.dockerModel.getBaseImage(),
+                outputDir.resolve(OCI_LAYOUT_DIR), OUT);
+        boolean isDefaultBase = this.dockerModel.getBaseImage().equals(DockerGenConstants.JRE_SLIM_BASE);
+        if (isDefaultBase) {
+            // stands in for the adduser block of appendUser, since no command can be run in the base image
+            builder.addUser(BALLERINA_USER, BALLERINA_GROUP, getWorkDir(), "/bin/sh");
+        }
+        String jarsDir = getWorkDir() + "/jars/";
+        if (this.dockerModel.isThinJar()) {
+            Map<String, Path> dependencyJars = new TreeMap<>();
+            Map<String, Path> packageJars = new TreeMap<>();
+            for (Path jarPath : this.dockerModel.getDependencyJarPaths()) {
+                (isPackageJar(jarPath) ? packageJars : dependencyJars).put(jarPath.getFileName().toString(),
+                        jarPath.toAbsolutePath());
+            }
+            if (!dependencyJars.isEmpty()) {
+                builder.addLayer("dependency jars", tar -> addJars(tar, jarsDir, dependencyJars));
+            }
+            builder.addLayer("package jars", tar -> addJars(tar, jarsDir, packageJars));
+        } else {
+            Path fatJarPath = this.dockerModel.getFatJarPath().toAbsolutePath();
+            builder.addLayer("executable jar", tar -> addJars(tar, jarsDir,
+                    Map.of(fatJarPath.getFileName().toString(), fatJarPath)));
+        }
+        if (!this.dockerModel.getCopyFiles().isEmpty()) {
+            builder.addLayer("copied files", this::addCopyFiles);
+        }
+
+        builder.setWorkingDir(getWorkDir());
+        this.dockerModel.getEnv().forEach(builder::addEnv);
+        if (this.dockerModel.isService()) {
+            this.dockerModel.getPorts().forEach(builder::addExposedPort);
+        }
+        builder.addLabel("maintainer", "dev@ballerina.io");
+        if (isDefaultBase) {
+            builder.setUser(BALLERINA_USER);
+        }
+        if (isBlank(this.dockerModel.getEntryPoint())) {
+            builder.setEntrypoint(getDefaultEntryPointArgs());
+        } else {
+            builder.setEntrypoint(parseInstruction(this.dockerModel.getEntryPoint(), "ENTRYPOINT"));
+        }
+        if (!isBlank(this.dockerModel.getCommandArg())) {
+            builder.setCmd(parseInstruction(this.dockerModel.getCommandArg(), "CMD"));
+        }
+
+        OciImageBuilder.Image image = builder.build(imageName);
+        Path archive = outputDir.resolve(OCI_ARCHIVE_FILE);
+        builder.writeArchive(archive);
+        OUT.println("Image " + imageName + "@" + image.getDigest() + " written to " + archive);
+        if (this.dockerModel.isPushImage()) {
+            builder.push(image, imageName);
+        }
+    }
+
+    private static void addJars(TarArchiveWriter tar, String jarsDir, Map<String, Path> jars) throws IOException {
+        tar.addDirectory(jarsDir.substring(1), 0, 0);
+        for (Map.Entry<String, Path> jar : jars.entrySet()) {
+            tar.add(jarsDir.substring(1) + jar.getKey(), jar.getValue());
+        }
+    }
+
+    private void addCopyFiles(TarArchiveWriter tar) throws IOException {
+        for (CopyFileModel copyFileModel : this.dockerModel.getCopyFiles()) {
+            Path sourcePath = Paths.get(copyFileModel.getSource()).toAbsolutePath();
+            String target = copyFileModel.getTarget().replaceAll("^/+", "");
+            // as with COPY, a file copied to a path ending with a slash keeps its name
+            if (!Files.isDirectory(sourcePath) && target.endsWith("/")) {
+                target = target + sourcePath.getFileName();
+            }
+            tar.add(target, sourcePath);
+        }
+    }
+
+    /**
+     * Reads the arguments of an ENTRYPOINT or CMD instruction, in the exec form or the shell form.
+     *
+     * @param instruction Dockerfile instruction
+     * @param keyword     keyword of the instruction
+     * @return arguments of the instruction
+     * @throws DockerGenException if the instruction is not of the given kind
+     */
+    private static List<String> parseInstruction(String instruction, String keyword) throws DockerGenException {
+        String value = instruction.trim();
+        if (!value.regionMatches(true, 0, keyword, 0, keyword.length())) {
+            throw new DockerGenException("`" + value + "` is not a " + keyword + " instruction, which is required " +
+                    "to build the image without docker");
+        }
+        value = value.substring(keyword.length()).trim();
+        if (!value.startsWith("[")) {
+            return List.of("/bin/sh", "-c", value);
+        }
+        try {
+            List<String> args = new ArrayList<>();
+            JsonParser.parseString(value).getAsJsonArray().forEach(arg -> args.add(arg.getAsString()));
+            return args;
+        } catch (RuntimeException e) {
+            throw new DockerGenException("invalid " + keyword + " instruction: " + value);
+        }
+    }
+
     /**
      * Create docker image.
      *
      * @param dockerDir dockerfile directory
      */
     public void buildImage(Path dockerDir) throws DockerGenException {
-        // validate docker image name
-        DockerImageName.validate(this.dockerModel.getName());
+        buildImage(this.dockerModel.getName(), dockerDir);
+    }
 
-        printDebug("building docker image `" + this.dockerModel.getName() + "` from directory `" + dockerDir + "`.");
+    private void buildImage(String imageName, Path dockerDir) throws DockerGenException {
+        // validate docker image name
+        DockerImageName.validate(imageName);
+
+        printDebug("building docker image `" + imageName + "` from directory `" + dockerDir + "`.");
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            DockerEngineClient.ImageInfo image = client.get().buildImage(imageName, out -> writeBuildContext(
+                    dockerDir, out), OUT);
+            printDebug("built docker image `" + image.getId() + "` with " + image.getLayers().size() + " layers.");
+            return;
+        }
         ProcessBuilder pb = new ProcessBuilder("docker", "build", "--no-cache", "--force-rm", "-t",
-                this.dockerModel.getName(), dockerDir.toFile().toString());
+                imageName, dockerDir.toFile().toString());
         pb.inheritIO();
 
         try {
@@ -172,6 +420,84 @@ public class DockerGenerator {
         }
     }
 
+    /**
+     * Builds an image from a build context streamed as a tar, without writing the context to disk.
+     *
+     * @param imageName     name of the image
+     * @param dockerContent content of the Dockerfile
+     * @param contextFiles  files of the build context, by their path in the context
+     * @throws DockerGenException if the build failed
+     */
+    private void buildImage(String imageName, String dockerContent, Map<String, Path> contextFiles)
+            throws DockerGenException {
+        DockerImageName.validate(imageName);
+
+        printDebug("building docker image `" + imageName + "` from a streamed build context.");
+        DockerEngineClient.BuildContext context = out -> writeBuildContext(dockerContent, contextFiles, out);
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            DockerEngineClient.ImageInfo image = client.get().buildImage(imageName, context, OUT);
+            printDebug("built docker image `" + image.getId() + "` with " + image.getLayers().size() + " layers.");
+            return;
+        }
+        // `docker build -` reads the build context as a tar from the standard input
+        ProcessBuilder pb = new ProcessBuilder("docker", "build", "--no-cache", "--force-rm", "-t", imageName, "-");
+        pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+
+        try {
+            Process process = pb.start();
+            IOException streamError = null;
+            try (OutputStream in = process.getOutputStream()) {
+                context.writeTo(in);
+            } catch (IOException e) {
+                // the build output explains why docker stopped reading the context
+                printDebug("unable to stream the build context: " + e.getMessage());
+                streamError = e;
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new DockerGenException("docker build failed. refer to the build log");
+            }
+            if (streamError != null) {
+                // the image was built from an incomplete context, such as a jar that could not be read
+                throw streamError;
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            throw new DockerGenException(getErrorMessage(e.getMessage()));
+        }
+    }
+
+    private static void writeBuildContext(String dockerContent, Map<String, Path> contextFiles, OutputStream out)
+            throws IOException {
+        TarArchiveWriter tar = new TarArchiveWriter(out);
+        tar.add("Dockerfile", dockerContent.getBytes(StandardCharsets.UTF_8));
+        for (Map.Entry<String, Path> contextFile : contextFiles.entrySet()) {
+            tar.add(contextFile.getKey(), contextFile.getValue());
+        }
+        tar.finish();
+    }
+
+    /**
+     * Writes the build context directory as a tar, leaving out the test base image context which the
+     * .dockerignore of the test image excludes.
+     *
+     * @param dockerDir build context directory
+     * @param out       stream to write the tar to
+     * @throws IOException if the context could not be read
+     */
+    private static void writeBuildContext(Path dockerDir, OutputStream out) throws IOException {
+        TarArchiveWriter tar = new TarArchiveWriter(out);
+        try (Stream<Path> children = Files.list(dockerDir)) {
+            for (Path child : children.sorted().collect(Collectors.toList())) {
+                if (!(Files.isDirectory(child) && TEST_BASE_DIR.equals(child.getFileName().toString()))) {
+                    tar.add(child.getFileName().toString(), child);
+                }
+            }
+        }
+        tar.finish();
+    }
+
     private String getErrorMessage(String message) {
         switch (message) {
             case "Cannot run program \"docker\": error=2, No such file or directory":
@@ -231,21 +557,7 @@ public class DockerGenerator {
         dockerfileContent.append("WORKDIR ").append(getWorkDir()).append(LINE_SEPARATOR);
         appendCommonCommands(dockerfileContent);
         if (isBlank(this.dockerModel.getEntryPoint())) {
-            PackageID packageID = this.dockerModel.getPkgId();
-            String mainClass = JarResolver.getQualifiedClassName(packageID.orgName.getValue(),
-                    packageID.name.getValue(), packageID.version.getValue(), MODULE_INIT_CLASS_NAME);
-            List<String> args = new ArrayList<>();
-            args.add("java");
-            args.add("-XX:+ExitOnOutOfMemoryError");
-            args.add("-Xdiag");
-            if (this.dockerModel.isEnableDebug()) {
-                args.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=*:" +
-                        this.dockerModel.getDebugPort());
-            }
-            args.add("-cp");
-            args.add(this.dockerModel.getJarFileName() + ":jars/*");
-            args.add(mainClass);
-            dockerfileContent.append(entryPointArgBuilder(args));
+            dockerfileContent.append(entryPointArgBuilder(getDefaultEntryPointArgs()));
         } else {
             dockerfileContent.append(this.dockerModel.getEntryPoint());
         }
@@ -257,6 +569,24 @@ public class DockerGenerator {
         return dockerfileContent.toString();
     }
 
+    private List<String> getDefaultEntryPointArgs() {
+        PackageID packageID = this.dockerModel.getPkgId();
+        String mainClass = JarResolver.getQualifiedClassName(packageID.orgName.getValue(),
+                packageID.name.getValue(), packageID.version.getValue(), MODULE_INIT_CLASS_NAME);
+        List<String> args = new ArrayList<>();
+        args.add("java");
+        args.add("-XX:+ExitOnOutOfMemoryError");
+        args.add("-Xdiag");
+        if (this.dockerModel.isEnableDebug()) {
+            args.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=*:" +
+                    this.dockerModel.getDebugPort());
+        }
+        args.add("-cp");
+        args.add(this.dockerModel.getJarFileName() + ":jars/*");
+        args.add(mainClass);
+        return args;
+    }
+
     private String entryPointArgBuilder(List<String> args) {
         return "ENTRYPOINT " +
                 "[" + String.join(",", args.stream().map(s -> "\"" + s + "\"").toArray(String[]::new)) + "]";
@@ -269,29 +599,18 @@ public class DockerGenerator {
         dockerfileContent.append("LABEL maintainer=\"dev@ballerina.io\"").append(LINE_SEPARATOR);
     }
 
-    private String generateTestDockerFile(Path testSuiteJsonPath, Path jacocoAgentJarPath) throws DockerGenException {
+    /**
+     * Generate the Dockerfile of the test base image holding the dependency jars and the jacoco agent.
+     *
+     * @param baseJars           jars that do not change between test runs
+     * @param jacocoAgentJarPath path of the jacoco agent jar
+     * @return Dockerfile content as a string
+     */
+    private String generateTestBaseDockerFile(List<Path> baseJars, Path jacocoAgentJarPath)
+            throws DockerGenException {
         StringBuilder testDockerFileContent = new StringBuilder();
         addInitialDockerContent(testDockerFileContent);
-
-        //copy the test suite json
-        testDockerFileContent.append("COPY ");
-        Optional<Path> testSuiteJsonPathOptional = Optional.ofNullable(testSuiteJsonPath.getFileName());
-        if (testSuiteJsonPathOptional.isPresent()) {
-            testDockerFileContent.append(testSuiteJsonPathOptional.get())
-                    .append(" ").append(getTestSuiteJsonCopiedDir()).append("/ ").append(LINE_SEPARATOR);
-        } else {
-            throw new DockerGenException("Test suite json path is not provided");
-        }
-        new TreeSet<>(this.dockerModel.getDependencyJarPaths())
-                .stream()
-                .map(Path::getFileName)
-                .forEach(path -> {
-                    testDockerFileContent.append("COPY ")
-                                    .append(path)
-                                    .append(" ").append(getWorkDir())
-                                    .append("/jars/ ").append(LINE_SEPARATOR);
-                        }
-                );
+        appendJarCopies(testDockerFileContent, baseJars, "COPY ");
 
         //copy the jacoco agent jar path
         testDockerFileContent.append("COPY ");
@@ -303,10 +622,33 @@ public class DockerGenerator {
         } else {
             throw new DockerGenException("Jacoco agent jar path is not provided");
         }
+        appendUser(testDockerFileContent);
+        return testDockerFileContent.toString();
+    }
+
+    private String generateTestDockerFile(String baseImageName, Path testSuiteJsonPath, List<Path> packageJars)
+            throws DockerGenException {
+        StringBuilder testDockerFileContent = new StringBuilder();
+        testDockerFileContent.append("# Auto Generated Dockerfile").append(LINE_SEPARATOR);
+        testDockerFileContent.append("FROM ").append(baseImageName).append(LINE_SEPARATOR);
+        testDockerFileContent.append(LINE_SEPARATOR);
+        // the user is created in the base image, so the directories created here have to be handed over to it
+        String copyInstruction = getTestCopyInstruction();
+        appendJarCopies(testDockerFileContent, packageJars, copyInstruction);
+
+        //copy the test suite json
+        testDockerFileContent.append(copyInstruction);
+        Optional<Path> testSuiteJsonPathOptional = Optional.ofNullable(testSuiteJsonPath.getFileName());
+        if (testSuiteJsonPathOptional.isPresent()) {
+            testDockerFileContent.append(testSuiteJsonPathOptional.get())
+                    .append(" ").append(getTestSuiteJsonCopiedDir()).append("/ ").append(LINE_SEPARATOR);
+        } else {
+            throw new DockerGenException("Test suite json path is not provided");
+        }
         Path projectSourceRoot = this.dockerModel.getSourceRoot();
-        addConfigTomls(testDockerFileContent, this.dockerModel, Paths.get(getWorkDir()), projectSourceRoot.toString());
+        addConfigTomls(testDockerFileContent, this.dockerModel, Paths.get(getWorkDir()), projectSourceRoot.toString(),
+                copyInstruction);
 
-        appendUser(testDockerFileContent);
         testDockerFileContent.append("WORKDIR ").append(getWorkDir()).append(LINE_SEPARATOR);
         appendCommonCommands(testDockerFileContent);
 
@@ -326,6 +668,22 @@ public class DockerGenerator {
         return testDockerFileContent.toString();
     }
 
+    private String getTestCopyInstruction() {
+        if (this.dockerModel.getBaseImage().equals(DockerGenConstants.JRE_SLIM_BASE)) {
+            return "COPY --chown=" + BALLERINA_USER + ":" + BALLERINA_GROUP + " ";
+        }
+        return "COPY ";
+    }
+
+    private void appendJarCopies(StringBuilder testDockerFileContent, List<Path> jarPaths, String copyInstruction) {
+        jarPaths.stream()
+                .map(Path::getFileName)
+                .forEach(path -> testDockerFileContent.append(copyInstruction)
+                        .append(path)
+                        .append(" ").append(getWorkDir())
+                        .append("/jars/ ").append(LINE_SEPARATOR));
+    }
+
     private void addDockerTestCMDArgs(StringBuilder testDockerFileContent) {
         if (this.dockerModel.getTestRunTimeCmdArgs() != null) {
             List<String> testRunTimeCmdArgs = this.dockerModel.getTestRunTimeCmdArgs();
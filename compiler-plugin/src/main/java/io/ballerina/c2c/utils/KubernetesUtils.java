@@ -34,7 +34,9 @@ import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.KubernetesModel;
+import io.ballerina.c2c.models.PartitionModel;
 import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.models.ServiceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.cli.utils.DebugUtils;
 import io.ballerina.projects.Package;
@@ -44,20 +46,26 @@ import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.api.model.VolumeProjection;
+import io.fabric8.kubernetes.api.model.VolumeProjectionBuilder;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.util.Name;
 
-import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -66,15 +74,21 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static io.ballerina.c2c.KubernetesConstants.CONTENT_HASH_SUFFIX_LENGTH;
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.EXECUTABLE_JAR;
 import static io.ballerina.c2c.KubernetesConstants.JOB_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.MAX_DNS_LABEL_LENGTH;
+import static io.ballerina.c2c.KubernetesConstants.SVC_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.VOLUME_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.YAML;
 import static io.ballerina.c2c.utils.DockerGenUtils.extractJarName;
+import static io.ballerina.c2c.utils.DockerGenUtils.printDebug;
 
 /**
  * Util methods used for artifact generation.
@@ -83,6 +97,7 @@ public class KubernetesUtils {
 
     private static final PrintStream ERR = System.err;
     private static final PrintStream OUT = System.out;
+    private static final Duration DOCKER_CLI_TIMEOUT = Duration.ofSeconds(60);
     private static final ObjectMapper YAML_MAPPER = new ObjectMapper(
             new YAMLFactory().disable(YAMLGenerator.Feature.USE_NATIVE_TYPE_ID)
     );
@@ -108,6 +123,35 @@ public class KubernetesUtils {
      * @throws IOException If an error occurs when writing to a file
      */
     public static void writeToFile(Path outputDir, String context, String fileSuffix) throws IOException {
+        Path artifactFileName = resolveArtifactFile(outputDir, fileSuffix);
+        File newFile = artifactFileName.toFile();
+        // append if file exists
+        if (newFile.exists()) {
+            Files.writeString(artifactFileName, context,
+                    StandardOpenOption.APPEND);
+            return;
+        }
+        //create required directories
+        newFile.getParentFile().mkdirs();
+        Files.writeString(artifactFileName, context);
+    }
+
+    /**
+     * Open a stream to append content to an artifact File. Create the required directories if they don't not exists.
+     *
+     * @param fileSuffix Suffix for artifact.
+     * @return buffered stream to the artifact file
+     * @throws IOException If an error occurs when opening the file
+     */
+    public static OutputStream newArtifactStream(String fileSuffix) throws IOException {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+        Path artifactFileName = resolveArtifactFile(dataHolder.getK8sArtifactOutputPath(), fileSuffix);
+        Files.createDirectories(artifactFileName.getParent());
+        return new BufferedOutputStream(Files.newOutputStream(artifactFileName, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND));
+    }
+
+    private static Path resolveArtifactFile(Path outputDir, String fileSuffix) {
         KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
         final String outputName = dataHolder.getOutputName();
         Path artifactFileName = outputDir.resolve(outputName + fileSuffix);
@@ -119,17 +163,7 @@ public class KubernetesUtils {
         } else if (jobModel == null && deploymentModel != null && dataHolder.isSingleYaml()) {
             artifactFileName = outputDir.resolve(outputName + YAML);
         }
-
-        File newFile = artifactFileName.toFile();
-        // append if file exists
-        if (newFile.exists()) {
-            Files.writeString(artifactFileName, context,
-                    StandardOpenOption.APPEND);
-            return;
-        }
-        //create required directories
-        newFile.getParentFile().mkdirs();
-        Files.writeString(artifactFileName, context);
+        return artifactFileName;
     }
 
     /**
@@ -223,6 +257,114 @@ public class KubernetesUtils {
         return true;
     }
 
+    /**
+     * Returns the name of the kubernetes service generated for the deployment.
+     *
+     * @param deploymentModel deployment model
+     * @return service name
+     */
+    public static String getServiceName(DeploymentModel deploymentModel) {
+        if (deploymentModel.getInternalDomainName() != null) {
+            return deploymentModel.getInternalDomainName();
+        }
+        return getValidName(deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "") + SVC_POSTFIX);
+    }
+
+    /**
+     * Returns the kubernetes service name exposing the given service, which differs for partitioned services.
+     *
+     * @param deploymentModel deployment model
+     * @param serviceModel    service model
+     * @return service name
+     */
+    public static String getServiceName(DeploymentModel deploymentModel, ServiceModel serviceModel) {
+        if (serviceModel.getPartition() == null) {
+            return getServiceName(deploymentModel);
+        }
+        return getPartitionArtifactName(deploymentModel, serviceModel.getPartition(), SVC_POSTFIX);
+    }
+
+    /**
+     * Returns the name of an artifact generated for a deployment partition.
+     *
+     * @param deploymentModel deployment model
+     * @param partition       partition name
+     * @param postfix         artifact postfix
+     * @return artifact name
+     */
+    public static String getPartitionArtifactName(DeploymentModel deploymentModel, String partition,
+                                                  String postfix) {
+        return getValidName(deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "")) + "-" + partition + postfix;
+    }
+
+    /**
+     * Check whether the default deployment is still required, which is the case unless every exposed service is
+     * assigned to a partition.
+     *
+     * @param deploymentModel deployment model
+     * @param serviceModels   service models of the package
+     * @return true if the default deployment has to be generated
+     */
+    public static boolean hasDefaultPartition(DeploymentModel deploymentModel, List<ServiceModel> serviceModels) {
+        if (deploymentModel.getPartitions().isEmpty()) {
+            return true;
+        }
+        return serviceModels.stream().anyMatch(serviceModel -> serviceModel.getPartition() == null &&
+                !Objects.equals(deploymentModel.getHealthListenerPort(), serviceModel.getTargetPort()));
+    }
+
+    /**
+     * Returns the app label values of the pods generated for the package, one for the default deployment and one
+     * for each partition.
+     *
+     * @param dataHolder data holder of the package
+     * @return app label values
+     */
+    public static List<String> getSelectorValues(KubernetesDataHolder dataHolder) {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        List<String> selectors = new ArrayList<>();
+        if (hasDefaultPartition(deploymentModel, dataHolder.getServiceModelList())) {
+            selectors.add(dataHolder.getOutputName());
+        }
+        for (PartitionModel partition : deploymentModel.getPartitions()) {
+            selectors.add(getPartitionSelector(dataHolder.getOutputName(), partition.getName()));
+        }
+        return selectors;
+    }
+
+    /**
+     * Returns the pod selector value of a deployment partition.
+     *
+     * @param outputName output name of the package
+     * @param partition  partition name
+     * @return selector value
+     */
+    public static String getPartitionSelector(String outputName, String partition) {
+        return outputName + "-" + partition;
+    }
+
+    /**
+     * Appends the content hash to the name of a config map or secret. The name is truncated so that the name of the
+     * volume mounting it still fits in a DNS label, in which case the suffix also covers the full name to keep
+     * truncated names apart.
+     *
+     * @param name        name of the config map or secret
+     * @param contentHash digest of the content
+     * @return content addressed name
+     */
+    public static String getContentAddressedName(String name, String contentHash) {
+        int maxLength = MAX_DNS_LABEL_LENGTH - VOLUME_POSTFIX.length() - CONTENT_HASH_SUFFIX_LENGTH - 1;
+        String hash = contentHash;
+        if (name.length() > maxLength) {
+            hash = DigestUtils.sha256Hex(name + ":" + contentHash);
+            name = name.substring(0, maxLength);
+            while (name.endsWith("-")) {
+                name = name.substring(0, name.length() - 1);
+            }
+        }
+        return name + "-" + hash.substring(0, CONTENT_HASH_SUFFIX_LENGTH);
+    }
+
     /**
      * Returns valid kubernetes name.
      *
@@ -256,12 +398,12 @@ public class KubernetesUtils {
     }
 
     public static String getFileNameOfSecret(SecretModel secretModel) {
-        Map<String, String> data = secretModel.getData();
+        Map<String, Path> data = secretModel.getData();
         return data.keySet().iterator().next();
     }
 
     public static String getFileNameOfConfigMap(ConfigMapModel configMapModel) {
-        Map<String, String> data = configMapModel.getData();
+        Map<String, Path> data = configMapModel.getData();
         return data.keySet().iterator().next();
     }
 
@@ -316,6 +458,13 @@ public class KubernetesUtils {
                 ((JobModel) model).setImage(imageName);
             }
             dockerModel.setBuildImage(TomlHelper.getBoolean(toml, "settings.buildImage", true));
+            dockerModel.setTestShards((int) TomlHelper.getLong(toml, "settings.testShards", 1));
+            dockerModel.setKeepTestImage(TomlHelper.getBoolean(toml, "settings.keepTestImage", false));
+            dockerModel.setTestTimeout(TomlHelper.getLong(toml, "settings.testTimeout", 0));
+            dockerModel.setStreamBuildContext(TomlHelper.getBoolean(toml, "settings.streamBuildContext", false));
+            dockerModel.setImageBuilder(TomlHelper.getString(toml, "settings.imageBuilder",
+                    DockerGenConstants.DOCKER_IMAGE_BUILDER));
+            dockerModel.setPushImage(TomlHelper.getBoolean(toml, "settings.pushImage", false));
             Set<CopyFileModel> copyFiles = new HashSet<>();
             for (Toml entry : toml.getTables("container.copy.files")) {
                 CopyFileModel copyFileModel = new CopyFileModel();
@@ -406,7 +555,7 @@ public class KubernetesUtils {
             final String mountPath = configMapModel.getMountPath();
             VolumeMountBuilder volumeMountBuilder = new VolumeMountBuilder()
                     .withMountPath(mountPath)
-                    .withName(configMapModel.getName() + "-volume")
+                    .withName(configMapModel.getName() + VOLUME_POSTFIX)
                     .withReadOnly(configMapModel.isReadOnly());
 
             if ((!configMapModel.isDir()) && (!configMapModel.isBallerinaConf())) {
@@ -422,7 +571,7 @@ public class KubernetesUtils {
         for (SecretModel secretModel : secretModels) {
             VolumeMountBuilder volumeMountBuilder = new VolumeMountBuilder()
                     .withMountPath(secretModel.getMountPath())
-                    .withName(secretModel.getName() + "-volume")
+                    .withName(secretModel.getName() + VOLUME_POSTFIX)
                     .withReadOnly(secretModel.isReadOnly());
             if ((!secretModel.isDir()) && (!secretModel.isBallerinaConf())) {
                 volumeMountBuilder.withSubPath(KubernetesUtils.getFileNameOfSecret(secretModel));
@@ -433,6 +582,61 @@ public class KubernetesUtils {
         return volumeMounts;
     }
 
+    public static Volume generateConfigMapVolume(ConfigMapModel configMapModel) {
+        VolumeBuilder volumeBuilder = new VolumeBuilder().withName(configMapModel.getName() + VOLUME_POSTFIX);
+        Integer defaultMode = configMapModel.getDefaultMode() > 0 ? configMapModel.getDefaultMode() : null;
+        if (configMapModel.getShards().isEmpty()) {
+            return volumeBuilder
+                    .withNewConfigMap()
+                    .withName(configMapModel.getName())
+                    .withDefaultMode(defaultMode)
+                    .endConfigMap()
+                    .build();
+        }
+        // Sharded config maps are projected back into a single directory.
+        List<VolumeProjection> sources = new ArrayList<>();
+        for (String shard : configMapModel.getShards()) {
+            sources.add(new VolumeProjectionBuilder()
+                    .withNewConfigMap()
+                    .withName(shard)
+                    .endConfigMap()
+                    .build());
+        }
+        return volumeBuilder
+                .withNewProjected()
+                .withSources(sources)
+                .withDefaultMode(defaultMode)
+                .endProjected()
+                .build();
+    }
+
+    public static Volume generateSecretVolume(SecretModel secretModel) {
+        VolumeBuilder volumeBuilder = new VolumeBuilder().withName(secretModel.getName() + VOLUME_POSTFIX);
+        Integer defaultMode = secretModel.getDefaultMode() > 0 ? secretModel.getDefaultMode() : null;
+        if (secretModel.getShards().isEmpty()) {
+            return volumeBuilder
+                    .withNewSecret()
+                    .withSecretName(secretModel.getName())
+                    .withDefaultMode(defaultMode)
+                    .endSecret()
+                    .build();
+        }
+        List<VolumeProjection> sources = new ArrayList<>();
+        for (String shard : secretModel.getShards()) {
+            sources.add(new VolumeProjectionBuilder()
+                    .withNewSecret()
+                    .withName(shard)
+                    .endSecret()
+                    .build());
+        }
+        return volumeBuilder
+                .withNewProjected()
+                .withSources(sources)
+                .withDefaultMode(defaultMode)
+                .endProjected()
+                .build();
+    }
+
     public static void validateFileExistence(File file) throws KubernetesPluginException {
         if (!file.exists()) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
@@ -441,61 +645,314 @@ public class KubernetesUtils {
         }
     }
 
-    public static void runCommand(String dockerImage) {
-        ProcessBuilder processBuilder;
+    /**
+     * Runs the given image and removes the container once it exits.
+     *
+     * @param dockerImage    image to run
+     * @param timeoutSeconds seconds the container may run before it is removed, or 0 to wait until it exits
+     */
+    public static void runCommand(String dockerImage, long timeoutSeconds) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            runContainer(client.get(), dockerImage, timeoutSeconds);
+            return;
+        }
+        Path cidFile;
+        try {
+            cidFile = Files.createTempDirectory("c2c-run-").resolve("container.id");
+        } catch (IOException e) {
+            printError("Error running the docker image: " + dockerImage);
+            return;
+        }
+        List<String> command = new ArrayList<>(List.of("docker", "run", "--rm", "--cidfile", cidFile.toString()));
         if (DebugUtils.isInDebugMode()) {
             String debugPort = System.getProperty("debug");
-            processBuilder = new ProcessBuilder("docker", "run", "--rm", "-p", debugPort + ":" + debugPort,
-                    dockerImage);
-        } else {
-            processBuilder = new ProcessBuilder("docker", "run", "--rm", dockerImage);
+            command.add("-p");
+            command.add(debugPort + ":" + debugPort);
         }
-        int exitCode = executeProcess(processBuilder);
-        if (exitCode != 0) {
+        command.add(dockerImage);
+        ProcessRunner runner = new ProcessRunner()
+                .withTimeout(timeoutSeconds > 0 ? Duration.ofSeconds(timeoutSeconds) : null);
+        Optional<ProcessRunner.ProcessResult> result = executeProcess(runner, new ProcessBuilder(command));
+        if (result.isPresent() && result.get().isTimedOut()) {
+            // stopping the docker client leaves the container running
+            printError("Timed out after " + timeoutSeconds + " seconds running the docker image: " + dockerImage);
+            try {
+                removeContainer(Files.readString(cidFile).trim());
+            } catch (IOException e) {
+                printError("Error removing the container of the docker image: " + dockerImage);
+            }
+        } else if (result.isEmpty() || !result.get().isSuccess()) {
             printError("Error running the docker image: " + dockerImage);
         }
-
+        try {
+            Files.deleteIfExists(cidFile);
+            Files.deleteIfExists(cidFile.getParent());
+        } catch (IOException ignored) {
+            //ignored
+        }
     }
 
-    private static int executeProcess(ProcessBuilder processBuilder) {
+    private static void runContainer(DockerEngineClient client, String dockerImage, long timeoutSeconds) {
+        List<Integer> ports = new ArrayList<>();
+        if (DebugUtils.isInDebugMode()) {
+            ports.add(Integer.parseInt(System.getProperty("debug")));
+        }
         try {
-            Process process = processBuilder.start();
-
-            // Get the output stream of the process
-            InputStream inputStream = process.getInputStream();
-            InputStream errorStream = process.getErrorStream();
-
-            // Handle output stream
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.contains("Untagged") || line.contains("Deleted")) {
-                        continue;
-                    }
-                    OUT.println(line);
-                }
+            ProcessRunner.ProcessResult result = client.runContainer(dockerImage, ports,
+                    timeoutSeconds > 0 ? Duration.ofSeconds(timeoutSeconds) : null);
+            if (result.isTimedOut()) {
+                printError("Timed out after " + timeoutSeconds + " seconds running the docker image: " +
+                        dockerImage);
+            } else if (!result.isSuccess()) {
+                printError("Error running the docker image: " + dockerImage);
             }
+        } catch (DockerGenException e) {
+            printError("Error running the docker image: " + dockerImage + ": " + e.getMessage());
+        }
+    }
 
-            // Handle error stream
-            try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(errorStream))) {
-                String errorLine;
-                while ((errorLine = errorReader.readLine()) != null) {
-                    ERR.println(errorLine);
-                }
-            }
+    /**
+     * Starts the given image in the background, publishing the given container ports on random local ports.
+     *
+     * @param dockerImage image to run
+     * @param ports       container ports to publish
+     * @return id of the started container, or empty if it could not be started
+     */
+    public static Optional<String> startContainer(String dockerImage, Collection<Integer> ports) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().startContainer(dockerImage, ports);
+        }
+        List<String> command = new ArrayList<>(List.of("docker", "run", "-d", "--rm"));
+        for (Integer port : ports) {
+            command.add("-p");
+            command.add("127.0.0.1::" + port);
+        }
+        command.add(dockerImage);
+        return readProcessOutput(new ProcessBuilder(command));
+    }
 
-            // Wait for the process to finish
-            return process.waitFor();
-        } catch (IOException | InterruptedException e) {
+    /**
+     * Resolves the local port a container port is published on.
+     *
+     * @param containerId   id of the running container
+     * @param containerPort published container port
+     * @return local port, or empty if the port is not published
+     */
+    public static Optional<Integer> getPublishedPort(String containerId, int containerPort) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().getPublishedPort(containerId, containerPort);
+        }
+        // `docker port` prints mappings such as `127.0.0.1:49153`
+        return readProcessOutput(new ProcessBuilder("docker", "port", containerId, containerPort + "/tcp"))
+                .flatMap(output -> output.lines().findFirst())
+                .filter(mapping -> mapping.lastIndexOf(':') > 0)
+                .map(mapping -> Integer.parseInt(mapping.substring(mapping.lastIndexOf(':') + 1).trim()));
+    }
+
+    /**
+     * Reads the current memory usage of a running container.
+     *
+     * @param containerId id of the running container
+     * @return memory usage in bytes, or empty if it could not be read
+     */
+    public static Optional<Long> getContainerMemoryUsage(String containerId) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().getMemoryUsage(containerId);
+        }
+        // `docker stats` prints the usage along with the limit, such as `52.4MiB / 7.667GiB`
+        return readProcessOutput(new ProcessBuilder("docker", "stats", "--no-stream", "--format",
+                "{{.MemUsage}}", containerId))
+                .map(output -> output.split("/")[0].trim())
+                .flatMap(KubernetesUtils::parseMemorySize);
+    }
+
+    private static Optional<Long> parseMemorySize(String size) {
+        int unitIndex = 0;
+        while (unitIndex < size.length() &&
+                (Character.isDigit(size.charAt(unitIndex)) || size.charAt(unitIndex) == '.')) {
+            unitIndex++;
+        }
+        if (unitIndex == 0) {
+            return Optional.empty();
+        }
+        double value = Double.parseDouble(size.substring(0, unitIndex));
+        long multiplier = switch (size.substring(unitIndex).trim()) {
+            case "KiB" -> 1L << 10;
+            case "MiB" -> 1L << 20;
+            case "GiB" -> 1L << 30;
+            case "kB" -> 1000L;
+            case "MB" -> 1000L * 1000;
+            case "GB" -> 1000L * 1000 * 1000;
+            default -> 1L;
+        };
+        return Optional.of((long) (value * multiplier));
+    }
+
+    public static void stopContainer(String containerId) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        boolean stopped = client.isPresent() ? client.get().stopContainer(containerId) :
+                readProcessOutput(new ProcessBuilder("docker", "stop", containerId)).isPresent();
+        if (!stopped) {
+            printError("Error stopping the docker container: " + containerId);
+        }
+    }
+
+    /**
+     * Checks whether an image is present in the local image store.
+     *
+     * @param dockerImage image name with the tag
+     * @return true if the image exists
+     */
+    public static boolean imageExists(String dockerImage) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().inspectImage(dockerImage).isPresent();
+        }
+        // `docker images -q` prints nothing rather than failing when the image is missing
+        return readProcessOutput(new ProcessBuilder("docker", "images", "-q", dockerImage))
+                .filter(output -> !output.isEmpty())
+                .isPresent();
+    }
+
+    /**
+     * Lists the tags of a repository in the local image store.
+     *
+     * @param repository image name without the tag
+     * @return tags of the repository, empty if there are none or the images could not be listed
+     */
+    public static List<String> listImageTags(String repository) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().listImageTags(repository);
+        }
+        return readProcessOutput(new ProcessBuilder("docker", "images", "--format", "{{.Tag}}", repository))
+                .map(output -> output.lines().map(String::trim).filter(tag -> !tag.isEmpty() && !"<none>".equals(tag))
+                        .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Creates a container of the given image without starting it.
+     *
+     * @param dockerImage image of the container
+     * @return id of the created container, or empty if it could not be created
+     */
+    public static Optional<String> createContainer(String dockerImage) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().createContainer(dockerImage);
+        }
+        return readProcessOutput(new ProcessBuilder("docker", "create", dockerImage));
+    }
+
+    /**
+     * Copies a local file or directory into a directory of a container.
+     *
+     * @param source         file or directory to copy
+     * @param containerId    id of the container
+     * @param destinationDir existing directory of the container to copy into
+     * @return true if the copy succeeded
+     */
+    public static boolean copyToContainer(Path source, String containerId, String destinationDir) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().copyToContainer(source, containerId, destinationDir);
+        }
+        return readProcessOutput(new ProcessBuilder("docker", "cp", source.toString(),
+                containerId + ":" + destinationDir + "/" + source.getFileName())).isPresent();
+    }
+
+    /**
+     * Copies the content of a directory of a container into a local directory.
+     *
+     * @param containerId    id of the container
+     * @param sourceDir      directory of the container whose content is copied
+     * @param destinationDir local directory to copy into
+     * @return true if the copy succeeded
+     */
+    public static boolean copyFromContainer(String containerId, String sourceDir, Path destinationDir) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            return client.get().copyFromContainer(containerId, sourceDir, destinationDir);
+        }
+        return readProcessOutput(new ProcessBuilder("docker", "cp", containerId + ":" + sourceDir + "/.",
+                destinationDir.toString())).isPresent();
+    }
+
+    public static void removeContainer(String containerId) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            // the client reports why the container could not be removed
+            client.get().removeContainer(containerId);
+            return;
+        }
+        if (readProcessOutput(new ProcessBuilder("docker", "rm", "-f", containerId)).isEmpty()) {
+            printError("Error removing the docker container: " + containerId);
+        }
+    }
+
+    private static Optional<String> readProcessOutput(ProcessBuilder processBuilder) {
+        // the lines are captured rather than printed, and a hung daemon cannot block the caller for good
+        PrintStream discarded = new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+        ProcessRunner runner = new ProcessRunner()
+                .withTimeout(DOCKER_CLI_TIMEOUT)
+                .withCapturedLines(Integer.MAX_VALUE)
+                .withPrintStreams(discarded, discarded);
+        ProcessRunner.ProcessResult result;
+        try {
+            result = runner.run(processBuilder);
+        } catch (IOException e) {
+            printDebug("unable to run " + processBuilder.command() + ": " + e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        if (result.isTimedOut()) {
+            printError("Timed out after " + DOCKER_CLI_TIMEOUT.toSeconds() + " seconds running " +
+                    String.join(" ", processBuilder.command()));
+            return Optional.empty();
+        }
+        if (!result.isSuccess()) {
+            printError("Error running " + String.join(" ", processBuilder.command()) +
+                    (result.getError().isEmpty() ? "" : ": " + String.join(System.lineSeparator(),
+                            result.getError())));
+            return Optional.empty();
+        }
+        return Optional.of(String.join("\n", result.getOutput()).trim());
+    }
+
+    private static Optional<ProcessRunner.ProcessResult> executeProcess(ProcessRunner runner,
+                                                                        ProcessBuilder processBuilder) {
+        try {
+            return Optional.of(runner.run(processBuilder));
+        } catch (IOException e) {
+            printError("Error executing the process: " + processBuilder.command());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             printError("Error executing the process: " + processBuilder.command());
-            return -1;
+            return Optional.empty();
         }
     }
 
     public static void deleteDockerImage(String imageName) {
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            if (!client.get().removeImage(imageName)) {
+                printError("Error deleting the docker image: " + imageName);
+            }
+            return;
+        }
         ProcessBuilder processBuilder = new ProcessBuilder("docker", "rmi", imageName);
-        int exitCode = executeProcess(processBuilder);
-        if (exitCode != 0) {
+        ProcessRunner runner = new ProcessRunner()
+                .withOutputFilter(line -> !(line.startsWith("Untagged") || line.startsWith("Deleted")));
+        Optional<ProcessRunner.ProcessResult> result = executeProcess(runner, processBuilder);
+        if (result.isEmpty() || !result.get().isSuccess()) {
             printError("Error deleting the docker image: " + imageName);
         }
     }
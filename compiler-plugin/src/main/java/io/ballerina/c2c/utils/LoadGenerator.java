@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import io.ballerina.c2c.models.PerfTargetModel;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open-loop HTTP load generator. Requests are sent at a fixed rate regardless of how fast the previous ones are
+ * answered, so a slow service shows up as latency rather than as a lower request rate.
+ *
+ * @since 4.0.0
+ */
+public class LoadGenerator implements AutoCloseable {
+
+    /**
+     * Placeholder in a payload template replaced with the sequence number of the request.
+     */
+    public static final String SEQUENCE_PLACEHOLDER = "{{sequence}}";
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public LoadGenerator() {
+        this(DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * @param requestTimeout time to wait for each request, and for the outstanding requests at the end of a run
+     */
+    public LoadGenerator(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    /**
+     * Sends requests to the given target at the given rate, and waits for the outstanding ones to complete. Requests
+     * still outstanding after the request timeout are counted as unfinished rather than as errors.
+     *
+     * @param host     host serving the target
+     * @param port     port serving the target
+     * @param target   request to send
+     * @param rps      requests per second
+     * @param duration time to keep sending requests
+     * @return latency, error and unfinished counts of the requests
+     * @throws InterruptedException if interrupted while waiting for the requests
+     */
+    public LoadResult run(String host, int port, PerfTargetModel target, int rps, Duration duration)
+            throws InterruptedException {
+        URI uri = URI.create("http://" + host + ":" + port + target.getPath());
+        LoadResult result = new LoadResult(duration);
+        AtomicLong sequence = new AtomicLong();
+        Queue<CompletableFuture<Void>> inFlight = new ConcurrentLinkedQueue<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "c2c-load-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            scheduler.scheduleAtFixedRate(() -> inFlight.add(send(uri, target, sequence.incrementAndGet(), result)),
+                    0, TimeUnit.SECONDS.toNanos(1) / rps, TimeUnit.NANOSECONDS);
+            Thread.sleep(duration.toMillis());
+        } finally {
+            scheduler.shutdownNow();
+        }
+        try {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+                    .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // failed and timed out requests are already recorded as errors
+        }
+        result.finish(sequence.get());
+        inFlight.forEach(future -> future.cancel(true));
+        return result;
+    }
+
+    /**
+     * Sends requests to the target until it answers, or the timeout elapses.
+     *
+     * @param host    host serving the target
+     * @param port    port serving the target
+     * @param target  request to send
+     * @param timeout time to wait for an answer
+     * @return true if the target answered within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitReady(String host, int port, PerfTargetModel target, Duration timeout)
+            throws InterruptedException {
+        URI uri = URI.create("http://" + host + ":" + port + target.getPath());
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                // any response means the listener is up, even an error status
+                client.send(createRequest(uri, target, 0), HttpResponse.BodyHandlers.discarding());
+                return true;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<Void> send(URI uri, PerfTargetModel target, long sequence, LoadResult result) {
+        long start = System.nanoTime();
+        return client.sendAsync(createRequest(uri, target, sequence), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    result.record(System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    return null;
+                });
+    }
+
+    private HttpRequest createRequest(URI uri, PerfTargetModel target, long sequence) {
+        HttpRequest.BodyPublisher body = target.getBody() == null ? HttpRequest.BodyPublishers.noBody() :
+                HttpRequest.BodyPublishers.ofString(target.getBody().replace(SEQUENCE_PLACEHOLDER,
+                        String.valueOf(sequence)));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .method(target.getMethod(), body);
+        if (target.getContentType() != null) {
+            builder.header("Content-Type", target.getContentType());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Aborts the requests still outstanding and releases the connections of the client.
+     */
+    @Override
+    public void close() {
+        client.shutdownNow();
+    }
+
+    /**
+     * Latencies and errors of the requests sent to a single target.
+     */
+    public static class LoadResult {
+        private final Duration duration;
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+        private long unfinished;
+        private boolean finished;
+
+        LoadResult(Duration duration) {
+            this.duration = duration;
+        }
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (finished) {
+                // already counted as unfinished
+                return;
+            }
+            latencies.add(latencyNanos);
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void finish(long sent) {
+            unfinished = sent - latencies.size();
+            finished = true;
+        }
+
+        public synchronized long getRequests() {
+            return latencies.size();
+        }
+
+        public synchronized long getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return requests that had not completed when the run ended, which are not part of the other counts
+         */
+        public synchronized long getUnfinished() {
+            return unfinished;
+        }
+
+        /**
+         * @return successful requests per second
+         */
+        public synchronized double getThroughput() {
+            return (latencies.size() - errors) / (duration.toMillis() / 1000.0);
+        }
+
+        /**
+         * @return percentage of the requests that failed
+         */
+        public synchronized double getErrorRate() {
+            return latencies.isEmpty() ? 0 : errors * 100.0 / latencies.size();
+        }
+
+        /**
+         * @param percentile percentile between 0 and 100
+         * @return latency of the given percentile in milliseconds
+         */
+        public synchronized double getLatencyMillis(double percentile) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+
+        /**
+         * @return number of requests per latency bucket, keyed by the upper bound of the bucket in milliseconds
+         */
+        public synchronized Map<String, Long> getHistogram() {
+            long[] counts = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+            for (long latency : latencies) {
+                int bucket = 0;
+                while (bucket < BUCKET_BOUNDS_MILLIS.length &&
+                        latency > TimeUnit.MILLISECONDS.toNanos(BUCKET_BOUNDS_MILLIS[bucket])) {
+                    bucket++;
+                }
+                counts[bucket]++;
+            }
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                histogram.put(String.valueOf(BUCKET_BOUNDS_MILLIS[i]), counts[i]);
+            }
+            histogram.put("+Inf", counts[BUCKET_BOUNDS_MILLIS.length]);
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,584 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.c2c.exceptions.DockerGenException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Assembles an image on top of a base image pulled from its registry, without a docker daemon.
+ * <p>
+ * Each layer is a gzipped tar whose entries have a fixed modified time and owner, so that the same files always give
+ * the same layer digest. The image is written as an OCI image layout, which also holds the {@code manifest.json} of
+ * a docker archive so that the layout can be loaded with {@code docker load} once packed as a tar.
+ *
+ * @since 4.0.0
+ */
+public class OciImageBuilder {
+
+    private static final String OCI_CONFIG = "application/vnd.oci.image.config.v1+json";
+    private static final String OCI_LAYER = "application/vnd.oci.image.layer.v1.tar+gzip";
+    private static final String DOCKER_LAYER = "application/vnd.docker.image.rootfs.diff.tar.gzip";
+    private static final String REF_NAME_ANNOTATION = "org.opencontainers.image.ref.name";
+    private static final String EPOCH = "1970-01-01T00:00:00Z";
+    private static final String BLOBS_DIR = "blobs";
+    private static final String SHA256 = "sha256";
+    private static final String WHITEOUT_PREFIX = ".wh.";
+    private static final int FIRST_SYSTEM_UID = 100;
+    private static final int FIRST_GID = 1000;
+
+    private final Path layoutDir;
+    private final Path blobsDir;
+    private final PrintStream outStream;
+    private final RegistryClient baseRegistry;
+    private final JsonObject baseManifest;
+    private final JsonObject config;
+    private final List<Layer> layers = new ArrayList<>();
+    private final List<String> history = new ArrayList<>();
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * Pulls the manifest and config of the base image, reusing the blobs already in the layout directory.
+     *
+     * @param baseImage base image of the image
+     * @param layoutDir directory to write the image layout to
+     * @param outStream stream to print the progress to
+     * @throws DockerGenException if the base image could not be pulled
+     */
+    public OciImageBuilder(String baseImage, Path layoutDir, PrintStream outStream) throws DockerGenException {
+        this.layoutDir = layoutDir;
+        this.blobsDir = layoutDir.resolve(BLOBS_DIR).resolve(SHA256);
+        this.outStream = outStream;
+        try {
+            Files.createDirectories(blobsDir);
+        } catch (IOException e) {
+            throw new DockerGenException("unable to create the image layout directory " + layoutDir);
+        }
+        this.baseRegistry = RegistryClient.forImage(baseImage);
+        this.baseManifest = baseRegistry.pullManifest("linux", getArchitecture());
+        JsonObject configDescriptor = baseManifest.getAsJsonObject("config");
+        Path configBlob = pullBlob(configDescriptor.get("digest").getAsString());
+        try {
+            this.config = JsonParser.parseString(Files.readString(configBlob)).getAsJsonObject();
+        } catch (IOException | RuntimeException e) {
+            throw new DockerGenException("unable to read the config of the base image " + baseImage);
+        }
+        for (JsonElement layer : baseManifest.getAsJsonArray("layers")) {
+            pullBlob(layer.getAsJsonObject().get("digest").getAsString());
+        }
+    }
+
+    private static String getArchitecture() {
+        String arch = System.getProperty("os.arch").toLowerCase(Locale.ROOT);
+        switch (arch) {
+            case "x86_64":
+            case "amd64":
+                return "amd64";
+            case "aarch64":
+            case "arm64":
+                return "arm64";
+            default:
+                return arch;
+        }
+    }
+
+    private Path pullBlob(String digest) throws DockerGenException {
+        Path blob = getBlobPath(digest);
+        if (!Files.exists(blob)) {
+            outStream.println("Pulling " + digest);
+            baseRegistry.pullBlob(digest, blob);
+        }
+        return blob;
+    }
+
+    private Path getBlobPath(String digest) {
+        return blobsDir.resolve(digest.substring(digest.indexOf(':') + 1));
+    }
+
+    /**
+     * Adds a layer holding the files written by the given writer.
+     *
+     * @param description description of the layer in the image history
+     * @param writer      writer of the files of the layer
+     * @throws DockerGenException if the layer could not be written
+     */
+    public void addLayer(String description, LayerWriter writer) throws DockerGenException {
+        try {
+            Path temp = Files.createTempFile(blobsDir, "layer-", ".tmp");
+            MessageDigest compressedDigest = DigestUtils.getSha256Digest();
+            MessageDigest diffDigest = DigestUtils.getSha256Digest();
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp));
+                 GZIPOutputStream gzip = new GZIPOutputStream(new DigestOutputStream(file, compressedDigest))) {
+                // the gzip header carries no timestamp, keeping the compressed digest reproducible as well
+                TarArchiveWriter tar = new TarArchiveWriter(new DigestOutputStream(gzip, diffDigest), 0L);
+                writer.write(tar);
+                tar.finish();
+            }
+            String digest = SHA256 + ":" + Hex.encodeHexString(compressedDigest.digest());
+            Files.move(temp, getBlobPath(digest), StandardCopyOption.REPLACE_EXISTING);
+            layers.add(new Layer(digest, SHA256 + ":" + Hex.encodeHexString(diffDigest.digest()),
+                    Files.size(getBlobPath(digest))));
+            history.add(description);
+        } catch (IOException e) {
+            throw new DockerGenException("unable to write the image layer `" + description + "`: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds a layer with a user and a group as {@code adduser} would, by extending the passwd and group files of the
+     * base image, along with the home directory of the user.
+     *
+     * @param user  name of the user
+     * @param group name of the primary group of the user
+     * @param home  home directory of the user
+     * @param shell login shell of the user
+     * @throws DockerGenException if the base image has no passwd file or the layer could not be written
+     */
+    public void addUser(String user, String group, String home, String shell) throws DockerGenException {
+        Map<String, String> files = readBaseFiles(Set.of("etc/passwd", "etc/group"));
+        String passwd = files.get("etc/passwd");
+        String groups = files.getOrDefault("etc/group", "");
+        if (passwd == null) {
+            throw new DockerGenException("base image does not have an /etc/passwd file to add the user " + user);
+        }
+        int gid = getFreeId(groups, FIRST_GID);
+        int uid = getFreeId(passwd, FIRST_SYSTEM_UID);
+        String passwdContent = appendLine(passwd, user + ":x:" + uid + ":" + gid + ":" + user + ":" + home + ":" +
+                shell);
+        String groupContent = appendLine(groups, group + ":x:" + gid + ":" + user);
+        addLayer("user " + user, tar -> {
+            tar.add("etc/group", groupContent.getBytes(StandardCharsets.UTF_8));
+            tar.add("etc/passwd", passwdContent.getBytes(StandardCharsets.UTF_8));
+            tar.addDirectory(trimRoot(home), uid, gid);
+        });
+    }
+
+    private static int getFreeId(String entries, int firstId) {
+        Set<Integer> ids = entries.lines()
+                .map(line -> line.split(":"))
+                .filter(fields -> fields.length > 2 && fields[2].matches("\\d+"))
+                .map(fields -> Integer.parseInt(fields[2]))
+                .collect(Collectors.toSet());
+        int id = firstId;
+        while (ids.contains(id)) {
+            id++;
+        }
+        return id;
+    }
+
+    private static String appendLine(String content, String line) {
+        return content.isEmpty() || content.endsWith("\n") ? content + line + "\n" : content + "\n" + line + "\n";
+    }
+
+    /**
+     * Reads files of the base image as they are after all its layers are applied.
+     */
+    private Map<String, String> readBaseFiles(Set<String> names) throws DockerGenException {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (JsonElement layer : baseManifest.getAsJsonArray("layers")) {
+            String digest = layer.getAsJsonObject().get("digest").getAsString();
+            try (InputStream in = new BufferedInputStream(new GZIPInputStream(
+                    Files.newInputStream(getBlobPath(digest))))) {
+                readTarFiles(in, names, files);
+            } catch (IOException e) {
+                throw new DockerGenException("unable to read the base image layer " + digest + ": " +
+                        e.getMessage());
+            }
+        }
+        return files;
+    }
+
+    private static void readTarFiles(InputStream in, Set<String> names, Map<String, String> files)
+            throws IOException {
+        byte[] header = new byte[512];
+        String longName = null;
+        while (in.readNBytes(header, 0, header.length) == header.length && header[0] != 0) {
+            long size = Long.parseLong(readString(header, 124, 12).trim().isEmpty() ? "0" :
+                    readString(header, 124, 12).trim(), 8);
+            byte type = header[156];
+            String name = longName != null ? longName : readString(header, 0, 100);
+            longName = null;
+            String prefix = readString(header, 345, 155);
+            if (!prefix.isEmpty() && name.equals(readString(header, 0, 100))) {
+                name = prefix + "/" + name;
+            }
+            byte[] content = null;
+            if (type == 'x' || type == 'L' || (type == '0' || type == 0) && names.contains(trimRoot(name))) {
+                content = in.readNBytes((int) size);
+            } else {
+                in.skipNBytes(size);
+            }
+            in.skipNBytes((512 - size % 512) % 512);
+            if (type == 'L') {
+                longName = new String(content, StandardCharsets.UTF_8).trim();
+            } else if (type == 'x') {
+                longName = getPaxPath(new String(content, StandardCharsets.UTF_8));
+            } else {
+                String path = trimRoot(name);
+                int slashIndex = path.lastIndexOf('/');
+                String fileName = path.substring(slashIndex + 1);
+                if (fileName.startsWith(WHITEOUT_PREFIX)) {
+                    files.remove(path.substring(0, slashIndex + 1) + fileName.substring(WHITEOUT_PREFIX.length()));
+                } else if (content != null) {
+                    files.put(path, new String(content, StandardCharsets.UTF_8));
+                }
+            }
+        }
+    }
+
+    private static String getPaxPath(String records) {
+        for (String record : records.split("\n")) {
+            int keyIndex = record.indexOf(" path=");
+            if (keyIndex > 0) {
+                return record.substring(keyIndex + " path=".length());
+            }
+        }
+        return null;
+    }
+
+    private static String readString(byte[] header, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && header[end] != 0) {
+            end++;
+        }
+        return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static String trimRoot(String path) {
+        String trimmed = path;
+        if (trimmed.startsWith("./")) {
+            trimmed = trimmed.substring(2);
+        }
+        while (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+        return trimmed;
+    }
+
+    public void setEntrypoint(List<String> entrypoint) {
+        setConfigList("Entrypoint", entrypoint);
+        // as with docker build, setting the entrypoint clears the command of the base image
+        getContainerConfig().remove("Cmd");
+    }
+
+    public void setCmd(List<String> cmd) {
+        setConfigList("Cmd", cmd);
+    }
+
+    public void setWorkingDir(String workingDir) {
+        getContainerConfig().addProperty("WorkingDir", workingDir);
+    }
+
+    public void setUser(String user) {
+        getContainerConfig().addProperty("User", user);
+    }
+
+    public void addEnv(String key, String value) {
+        JsonArray env = getContainerConfig().has("Env") && getContainerConfig().get("Env").isJsonArray() ?
+                getContainerConfig().getAsJsonArray("Env") : new JsonArray();
+        JsonArray updated = new JsonArray();
+        env.forEach(entry -> {
+            if (!entry.getAsString().startsWith(key + "=")) {
+                updated.add(entry);
+            }
+        });
+        updated.add(key + "=" + value);
+        getContainerConfig().add("Env", updated);
+    }
+
+    public void addExposedPort(int port) {
+        getContainerObject("ExposedPorts").add(port + "/tcp", new JsonObject());
+    }
+
+    public void addLabel(String key, String value) {
+        getContainerObject("Labels").addProperty(key, value);
+    }
+
+    private void setConfigList(String key, List<String> values) {
+        JsonArray array = new JsonArray();
+        values.forEach(array::add);
+        getContainerConfig().add(key, array);
+    }
+
+    private JsonObject getContainerObject(String key) {
+        JsonObject containerConfig = getContainerConfig();
+        if (!containerConfig.has(key) || !containerConfig.get(key).isJsonObject()) {
+            containerConfig.add(key, new JsonObject());
+        }
+        return containerConfig.getAsJsonObject(key);
+    }
+
+    private JsonObject getContainerConfig() {
+        if (!config.has("config") || !config.get("config").isJsonObject()) {
+            config.add("config", new JsonObject());
+        }
+        return config.getAsJsonObject("config");
+    }
+
+    /**
+     * Writes the image to the layout directory, tagged with the given name, and removes the blobs of earlier builds.
+     *
+     * @param imageName name of the image, with its tag
+     * @return the written image
+     * @throws DockerGenException if the image could not be written
+     */
+    public Image build(String imageName) throws DockerGenException {
+        JsonObject rootFs = config.has("rootfs") ? config.getAsJsonObject("rootfs") : new JsonObject();
+        JsonArray diffIds = rootFs.has("diff_ids") ? rootFs.getAsJsonArray("diff_ids") : new JsonArray();
+        layers.forEach(layer -> diffIds.add(layer.diffId));
+        rootFs.addProperty("type", "layers");
+        rootFs.add("diff_ids", diffIds);
+        config.add("rootfs", rootFs);
+        JsonArray configHistory = config.has("history") ? config.getAsJsonArray("history") : new JsonArray();
+        for (String description : history) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("created", EPOCH);
+            entry.addProperty("created_by", description);
+            configHistory.add(entry);
+        }
+        config.add("history", configHistory);
+        config.addProperty("created", EPOCH);
+        // fields describing the container the base image was committed from do not apply to this image
+        config.remove("container");
+        config.remove("container_config");
+
+        try {
+            Blob configBlob = writeBlob(gson.toJson(config).getBytes(StandardCharsets.UTF_8));
+            JsonObject manifest = new JsonObject();
+            manifest.addProperty("schemaVersion", 2);
+            manifest.addProperty("mediaType", RegistryClient.OCI_MANIFEST);
+            manifest.add("config", descriptor(OCI_CONFIG, configBlob.digest, configBlob.size));
+            JsonArray manifestLayers = new JsonArray();
+            List<String> layerDigests = new ArrayList<>();
+            for (JsonElement element : baseManifest.getAsJsonArray("layers")) {
+                JsonObject layer = element.getAsJsonObject();
+                String mediaType = layer.get("mediaType").getAsString();
+                // docker and OCI gzipped layers are the same, only their media types differ
+                manifestLayers.add(descriptor(DOCKER_LAYER.equals(mediaType) ? OCI_LAYER : mediaType,
+                        layer.get("digest").getAsString(), layer.get("size").getAsLong()));
+                layerDigests.add(layer.get("digest").getAsString());
+            }
+            for (Layer layer : layers) {
+                manifestLayers.add(descriptor(OCI_LAYER, layer.digest, layer.size));
+                layerDigests.add(layer.digest);
+            }
+            manifest.add("layers", manifestLayers);
+            byte[] manifestContent = gson.toJson(manifest).getBytes(StandardCharsets.UTF_8);
+            Blob manifestBlob = writeBlob(manifestContent);
+
+            JsonObject manifestDescriptor = descriptor(RegistryClient.OCI_MANIFEST, manifestBlob.digest,
+                    manifestBlob.size);
+            JsonObject annotations = new JsonObject();
+            annotations.addProperty(REF_NAME_ANNOTATION, imageName);
+            manifestDescriptor.add("annotations", annotations);
+            JsonObject index = new JsonObject();
+            index.addProperty("schemaVersion", 2);
+            index.addProperty("mediaType", RegistryClient.OCI_INDEX);
+            JsonArray manifests = new JsonArray();
+            manifests.add(manifestDescriptor);
+            index.add("manifests", manifests);
+            Files.writeString(layoutDir.resolve("index.json"), gson.toJson(index));
+            Files.writeString(layoutDir.resolve("oci-layout"), "{\"imageLayoutVersion\":\"1.0.0\"}");
+
+            JsonObject archiveManifest = new JsonObject();
+            archiveManifest.addProperty("Config", blobName(configBlob.digest));
+            JsonArray repoTags = new JsonArray();
+            repoTags.add(imageName);
+            archiveManifest.add("RepoTags", repoTags);
+            JsonArray archiveLayers = new JsonArray();
+            layerDigests.forEach(digest -> archiveLayers.add(blobName(digest)));
+            archiveManifest.add("Layers", archiveLayers);
+            JsonArray archiveManifests = new JsonArray();
+            archiveManifests.add(archiveManifest);
+            Files.writeString(layoutDir.resolve("manifest.json"), gson.toJson(archiveManifests));
+
+            Set<String> referenced = new HashSet<>(layerDigests);
+            referenced.add(configBlob.digest);
+            referenced.add(manifestBlob.digest);
+            // the config of the base image is kept so that the next build does not pull it again
+            referenced.add(baseManifest.getAsJsonObject("config").get("digest").getAsString());
+            removeUnreferencedBlobs(referenced);
+            return new Image(manifestBlob.digest, configBlob.digest, layerDigests, manifestContent);
+        } catch (IOException e) {
+            throw new DockerGenException("unable to write the image layout to " + layoutDir + ": " + e.getMessage());
+        }
+    }
+
+    private void removeUnreferencedBlobs(Set<String> referenced) throws IOException {
+        List<Path> blobs;
+        try (Stream<Path> paths = Files.list(blobsDir)) {
+            blobs = paths.collect(Collectors.toList());
+        }
+        for (Path blob : blobs) {
+            if (!referenced.contains(SHA256 + ":" + blob.getFileName().toString())) {
+                Files.delete(blob);
+            }
+        }
+    }
+
+    /**
+     * Writes the image layout as a tar archive, which can be loaded with {@code docker load}.
+     *
+     * @param archive path of the archive
+     * @throws DockerGenException if the archive could not be written
+     */
+    public void writeArchive(Path archive) throws DockerGenException {
+        try (TarArchiveWriter tar = new TarArchiveWriter(new BufferedOutputStream(Files.newOutputStream(archive)),
+                0L)) {
+            tar.add("", layoutDir);
+        } catch (IOException e) {
+            throw new DockerGenException("unable to write the image archive " + archive + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pushes the image to its registry.
+     *
+     * @param image     image written by {@link #build(String)}
+     * @param imageName name of the image, with its tag
+     * @throws DockerGenException if the image could not be pushed
+     */
+    public void push(Image image, String imageName) throws DockerGenException {
+        RegistryClient registry = RegistryClient.forImage(imageName);
+        Set<String> baseDigests = new HashSet<>();
+        baseManifest.getAsJsonArray("layers")
+                .forEach(layer -> baseDigests.add(layer.getAsJsonObject().get("digest").getAsString()));
+        String mountFrom = registry.getRegistry().equals(baseRegistry.getRegistry()) ?
+                baseRegistry.getRepository() : null;
+        for (String digest : image.getLayerDigests()) {
+            outStream.println("Pushing " + digest);
+            registry.pushBlob(digest, getBlobPath(digest), baseDigests.contains(digest) ? mountFrom : null);
+        }
+        registry.pushBlob(image.getConfigDigest(), getBlobPath(image.getConfigDigest()), null);
+        registry.pushManifest(image.manifest, RegistryClient.OCI_MANIFEST);
+        outStream.println("Pushed " + imageName + "@" + image.getDigest());
+    }
+
+    private Blob writeBlob(byte[] content) throws IOException {
+        String digest = SHA256 + ":" + DigestUtils.sha256Hex(content);
+        Files.write(getBlobPath(digest), content);
+        return new Blob(digest, content.length);
+    }
+
+    private static String blobName(String digest) {
+        return BLOBS_DIR + "/" + SHA256 + "/" + digest.substring(digest.indexOf(':') + 1);
+    }
+
+    private static JsonObject descriptor(String mediaType, String digest, long size) {
+        JsonObject descriptor = new JsonObject();
+        descriptor.addProperty("mediaType", mediaType);
+        descriptor.addProperty("digest", digest);
+        descriptor.addProperty("size", size);
+        return descriptor;
+    }
+
+    /**
+     * Writes the files of a layer.
+     */
+    @FunctionalInterface
+    public interface LayerWriter {
+
+        void write(TarArchiveWriter tar) throws IOException;
+    }
+
+    /**
+     * Digests of a written image.
+     */
+    public static class Image {
+
+        private final String digest;
+        private final String configDigest;
+        private final List<String> layerDigests;
+        private final byte[] manifest;
+
+        Image(String digest, String configDigest, List<String> layerDigests, byte[] manifest) {
+            this.digest = digest;
+            this.configDigest = configDigest;
+            this.layerDigests = layerDigests;
+            this.manifest = manifest;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public String getConfigDigest() {
+            return configDigest;
+        }
+
+        public List<String> getLayerDigests() {
+            return layerDigests;
+        }
+    }
+
+    private static class Layer {
+
+        private final String digest;
+        private final String diffId;
+        private final long size;
+
+        Layer(String digest, String diffId, long size) {
+            this.digest = digest;
+            this.diffId = diffId;
+            this.size = size;
+        }
+    }
+
+    private static class Blob {
+
+        private final String digest;
+        private final long size;
+
+        Blob(String digest, long size) {
+            this.digest = digest;
+            this.size = size;
+        }
+    }
+}
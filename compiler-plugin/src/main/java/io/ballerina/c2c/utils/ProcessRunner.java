@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Runs an external process, pumping its output and error streams concurrently so that neither pipe fills up
+ * while the other is read.
+ * <p>
+ * Lines are printed as they arrive, optionally prefixed and timestamped, and the last lines of each stream are kept
+ * in the {@link ProcessResult}. A process exceeding its timeout is destroyed.
+ *
+ * @since 4.0.0
+ */
+public class ProcessRunner {
+
+    private static final PrintStream OUT = System.out;
+    private static final PrintStream ERR = System.err;
+    private static final int DEFAULT_CAPTURED_LINES = 100;
+    private static final Duration DESTROY_GRACE_PERIOD = Duration.ofSeconds(10);
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_TIME;
+
+    private String prefix = "";
+    private boolean timestamps = DockerGenUtils.isDebugEnabled();
+    private Duration timeout;
+    private Predicate<String> outputFilter = line -> true;
+    private int capturedLines = DEFAULT_CAPTURED_LINES;
+    private PrintStream outputTarget = OUT;
+    private PrintStream errorTarget = ERR;
+
+    public ProcessRunner withPrefix(String prefix) {
+        this.prefix = prefix;
+        return this;
+    }
+
+    public ProcessRunner withTimestamps(boolean timestamps) {
+        this.timestamps = timestamps;
+        return this;
+    }
+
+    /**
+     * Sets the time the process is allowed to run before it is destroyed.
+     *
+     * @param timeout timeout, or null to wait until the process exits
+     * @return this runner
+     */
+    public ProcessRunner withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the filter of the lines of the output stream. Lines that do not match are neither printed nor captured.
+     *
+     * @param outputFilter filter of the output lines
+     * @return this runner
+     */
+    public ProcessRunner withOutputFilter(Predicate<String> outputFilter) {
+        this.outputFilter = outputFilter;
+        return this;
+    }
+
+    public ProcessRunner withCapturedLines(int capturedLines) {
+        this.capturedLines = capturedLines;
+        return this;
+    }
+
+    /**
+     * Sets the streams the output and error lines are printed to, instead of the standard streams.
+     *
+     * @param outputTarget stream the output lines are printed to
+     * @param errorTarget  stream the error lines are printed to
+     * @return this runner
+     */
+    public ProcessRunner withPrintStreams(PrintStream outputTarget, PrintStream errorTarget) {
+        this.outputTarget = outputTarget;
+        this.errorTarget = errorTarget;
+        return this;
+    }
+
+    /**
+     * Starts the process and waits until it exits or times out.
+     *
+     * @param processBuilder process to run
+     * @return result of the process
+     * @throws IOException          if the process could not be started
+     * @throws InterruptedException if interrupted while waiting, in which case the process is destroyed
+     */
+    public ProcessResult run(ProcessBuilder processBuilder) throws IOException, InterruptedException {
+        Process process = processBuilder.start();
+        Deque<String> output = new ArrayDeque<>();
+        Deque<String> error = new ArrayDeque<>();
+        Thread outputPump = Thread.ofVirtual().start(() -> pump(process.getInputStream(), outputTarget, outputFilter,
+                output));
+        Thread errorPump = Thread.ofVirtual().start(() -> pump(process.getErrorStream(), errorTarget, line -> true,
+                error));
+        boolean timedOut = false;
+        try {
+            if (timeout == null) {
+                process.waitFor();
+            } else if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                timedOut = true;
+                destroy(process);
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+        // the pipes may stay open if the process left children behind
+        outputPump.join(DESTROY_GRACE_PERIOD);
+        errorPump.join(DESTROY_GRACE_PERIOD);
+        synchronized (output) {
+            synchronized (error) {
+                return new ProcessResult(timedOut ? -1 : process.exitValue(), timedOut, List.copyOf(output),
+                        List.copyOf(error));
+            }
+        }
+    }
+
+    private static void destroy(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(DESTROY_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private void pump(InputStream stream, PrintStream target, Predicate<String> filter, Deque<String> captured) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!filter.test(line)) {
+                    continue;
+                }
+                synchronized (captured) {
+                    if (captured.size() == capturedLines) {
+                        captured.removeFirst();
+                    }
+                    captured.addLast(line);
+                }
+                target.println(format(line));
+            }
+        } catch (IOException e) {
+            // the stream is closed when the process is destroyed
+        }
+    }
+
+    private String format(String line) {
+        if (!timestamps) {
+            return prefix + line;
+        }
+        return LocalTime.now().truncatedTo(ChronoUnit.MILLIS).format(TIMESTAMP_FORMAT) + " " + prefix + line;
+    }
+
+    /**
+     * Result of a process along with the last lines of its output and error streams.
+     */
+    public static class ProcessResult {
+
+        private final int exitCode;
+        private final boolean timedOut;
+        private final List<String> output;
+        private final List<String> error;
+
+        ProcessResult(int exitCode, boolean timedOut, List<String> output, List<String> error) {
+            this.exitCode = exitCode;
+            this.timedOut = timedOut;
+            this.output = output;
+            this.error = error;
+        }
+
+        /**
+         * Returns the exit code of the process, or -1 if it timed out.
+         *
+         * @return exit code
+         */
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        public boolean isSuccess() {
+            return !timedOut && exitCode == 0;
+        }
+
+        public List<String> getOutput() {
+            return output;
+        }
+
+        public List<String> getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.c2c.exceptions.DockerGenException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Client of the registry API of an image, used to pull a base image and push a built image without a docker daemon.
+ * <p>
+ * Registries that hand out bearer tokens are authenticated with the token service they name, using the credentials
+ * stored by {@code docker login} in the docker config file when there are any.
+ *
+ * @since 4.0.0
+ */
+public class RegistryClient {
+
+    public static final String OCI_INDEX = "application/vnd.oci.image.index.v1+json";
+    public static final String OCI_MANIFEST = "application/vnd.oci.image.manifest.v1+json";
+    public static final String DOCKER_MANIFEST_LIST = "application/vnd.docker.distribution.manifest.list.v2+json";
+    public static final String DOCKER_MANIFEST = "application/vnd.docker.distribution.manifest.v2+json";
+
+    private static final String DOCKER_HUB = "docker.io";
+    private static final String DOCKER_HUB_REGISTRY = "registry-1.docker.io";
+    private static final String DOCKER_HUB_AUTH_KEY = "https://index.docker.io/v1/";
+    private static final Pattern CHALLENGE_PARAMETER = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    private final HttpClient httpClient;
+    private final String registry;
+    private final String repository;
+    private final String reference;
+    private final String credentials;
+    private String authorization;
+
+    private RegistryClient(String registry, String repository, String reference) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.registry = registry;
+        this.repository = repository;
+        this.reference = reference;
+        this.credentials = readCredentials(registry).orElse(null);
+    }
+
+    /**
+     * Creates a client of the repository an image belongs to. Images without a registry belong to Docker Hub.
+     *
+     * @param imageName image name, with an optional tag or digest
+     * @return client of the repository of the image
+     */
+    public static RegistryClient forImage(String imageName) {
+        String name = imageName;
+        String reference = "latest";
+        int digestIndex = name.indexOf('@');
+        if (digestIndex >= 0) {
+            reference = name.substring(digestIndex + 1);
+            name = name.substring(0, digestIndex);
+        }
+        int tagIndex = name.lastIndexOf(':');
+        if (tagIndex > name.lastIndexOf('/')) {
+            if (digestIndex < 0) {
+                reference = name.substring(tagIndex + 1);
+            }
+            name = name.substring(0, tagIndex);
+        }
+        int slashIndex = name.indexOf('/');
+        String domain = slashIndex > 0 ? name.substring(0, slashIndex) : null;
+        if (domain != null && (domain.contains(".") || domain.contains(":") || "localhost".equals(domain))) {
+            return new RegistryClient(domain, name.substring(slashIndex + 1), reference);
+        }
+        return new RegistryClient(DOCKER_HUB, slashIndex < 0 ? "library/" + name : name, reference);
+    }
+
+    public String getRegistry() {
+        return registry;
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * Pulls the manifest of the image. An image built for several platforms resolves to the manifest of the given
+     * platform.
+     *
+     * @param os           operating system of the image
+     * @param architecture architecture of the image
+     * @return manifest of the image
+     * @throws DockerGenException if the manifest could not be pulled
+     */
+    public JsonObject pullManifest(String os, String architecture) throws DockerGenException {
+        JsonObject manifest = getManifest(reference);
+        String mediaType = manifest.has("mediaType") ? manifest.get("mediaType").getAsString() : "";
+        if (!OCI_INDEX.equals(mediaType) && !DOCKER_MANIFEST_LIST.equals(mediaType)) {
+            return manifest;
+        }
+        for (JsonElement element : manifest.getAsJsonArray("manifests")) {
+            JsonObject platform = element.getAsJsonObject().getAsJsonObject("platform");
+            if (platform != null && os.equals(platform.get("os").getAsString()) &&
+                    architecture.equals(platform.get("architecture").getAsString())) {
+                return getManifest(element.getAsJsonObject().get("digest").getAsString());
+            }
+        }
+        throw new DockerGenException("image " + repository + ":" + reference + " is not available for " + os +
+                "/" + architecture);
+    }
+
+    private JsonObject getManifest(String manifestReference) throws DockerGenException {
+        URI uri = uri("/manifests/" + manifestReference);
+        HttpResponse<byte[]> response = send(() -> HttpRequest.newBuilder(uri)
+                .header("Accept", String.join(", ", OCI_INDEX, DOCKER_MANIFEST_LIST, OCI_MANIFEST, DOCKER_MANIFEST))
+                .GET(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new DockerGenException("unable to pull the manifest of " + repository + ":" + manifestReference +
+                    ": " + getError(response));
+        }
+        return JsonParser.parseString(new String(response.body(), StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    /**
+     * Pulls a blob, verifying its digest.
+     *
+     * @param digest digest of the blob
+     * @param target file to write the blob to
+     * @throws DockerGenException if the blob could not be pulled
+     */
+    public void pullBlob(String digest, Path target) throws DockerGenException {
+        URI uri = uri("/blobs/" + digest);
+        HttpResponse<InputStream> response = send(() -> HttpRequest.newBuilder(uri).GET(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try {
+            if (isRedirect(response.statusCode())) {
+                // blobs are usually served from a storage service that does not accept the registry token
+                URI location = uri.resolve(response.headers().firstValue("Location").orElseThrow());
+                response.body().close();
+                response = httpClient.send(HttpRequest.newBuilder(location).timeout(TIMEOUT).GET().build(),
+                        HttpResponse.BodyHandlers.ofInputStream());
+            }
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new DockerGenException("unable to pull the blob " + digest + " of " + repository +
+                        ": status " + response.statusCode());
+            }
+            Path temp = Files.createTempFile(target.getParent(), "blob-", ".tmp");
+            MessageDigest messageDigest = DigestUtils.getSha256Digest();
+            try (InputStream in = response.body(); OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[65536];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    messageDigest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (!digest.equals("sha256:" + Hex.encodeHexString(messageDigest.digest()))) {
+                Files.delete(temp);
+                throw new DockerGenException("digest of the blob " + digest + " of " + repository +
+                        " does not match");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new DockerGenException("unable to pull the blob " + digest + " of " + repository + ": " +
+                    e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerGenException("interrupted while pulling the blob " + digest);
+        }
+    }
+
+    /**
+     * Pushes a blob unless the repository already has it. Blobs of another repository in the same registry are
+     * mounted instead of being uploaded when the registry allows it.
+     *
+     * @param digest         digest of the blob
+     * @param source         file holding the blob
+     * @param fromRepository repository in the same registry which has the blob, or null
+     * @throws DockerGenException if the blob could not be pushed
+     */
+    public void pushBlob(String digest, Path source, String fromRepository) throws DockerGenException {
+        URI blobUri = uri("/blobs/" + digest);
+        if (send(() -> HttpRequest.newBuilder(blobUri).method("HEAD", HttpRequest.BodyPublishers.noBody()),
+                HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            return;
+        }
+        String query = fromRepository != null ?
+                "?mount=" + encode(digest) + "&from=" + encode(fromRepository) : "";
+        URI uploadUri = uri("/blobs/uploads/" + query);
+        HttpResponse<byte[]> upload = send(() -> HttpRequest.newBuilder(uploadUri)
+                .POST(HttpRequest.BodyPublishers.noBody()), HttpResponse.BodyHandlers.ofByteArray());
+        if (upload.statusCode() == 201) {
+            return;
+        }
+        if (upload.statusCode() != 202 || upload.headers().firstValue("Location").isEmpty()) {
+            throw new DockerGenException("unable to push the blob " + digest + " to " + repository + ": " +
+                    getError(upload));
+        }
+        String location = uploadUri.resolve(upload.headers().firstValue("Location").get()).toString();
+        URI putUri = URI.create(location + (location.contains("?") ? "&" : "?") + "digest=" + encode(digest));
+        HttpResponse<byte[]> put = send(() -> {
+            try {
+                return HttpRequest.newBuilder(putUri)
+                        .header("Content-Type", "application/octet-stream")
+                        .PUT(HttpRequest.BodyPublishers.ofFile(source));
+            } catch (IOException e) {
+                throw new IllegalStateException("unable to read " + source, e);
+            }
+        }, HttpResponse.BodyHandlers.ofByteArray());
+        if (put.statusCode() != 201) {
+            throw new DockerGenException("unable to push the blob " + digest + " to " + repository + ": " +
+                    getError(put));
+        }
+    }
+
+    /**
+     * Pushes a manifest under the tag of the image.
+     *
+     * @param manifest  content of the manifest
+     * @param mediaType media type of the manifest
+     * @throws DockerGenException if the manifest could not be pushed
+     */
+    public void pushManifest(byte[] manifest, String mediaType) throws DockerGenException {
+        URI uri = uri("/manifests/" + reference);
+        HttpResponse<byte[]> response = send(() -> HttpRequest.newBuilder(uri)
+                .header("Content-Type", mediaType)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(manifest)), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 201) {
+            throw new DockerGenException("unable to push the manifest to " + repository + ":" + reference + ": " +
+                    getError(response));
+        }
+    }
+
+    private <T> HttpResponse<T> send(Supplier<HttpRequest.Builder> request, HttpResponse.BodyHandler<T> handler)
+            throws DockerGenException {
+        try {
+            HttpResponse<T> response = httpClient.send(authorize(request.get()), handler);
+            if (response.statusCode() == 401) {
+                Optional<String> challenge = response.headers().firstValue("WWW-Authenticate");
+                if (response.body() instanceof InputStream) {
+                    ((InputStream) response.body()).close();
+                }
+                if (challenge.isPresent() && authenticate(challenge.get())) {
+                    response = httpClient.send(authorize(request.get()), handler);
+                }
+            }
+            return response;
+        } catch (IOException | IllegalStateException e) {
+            throw new DockerGenException("unable to reach the registry " + registry + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerGenException("interrupted while calling the registry " + registry);
+        }
+    }
+
+    private HttpRequest authorize(HttpRequest.Builder request) {
+        request.timeout(TIMEOUT);
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return request.build();
+    }
+
+    /**
+     * Answers an authentication challenge of the registry.
+     *
+     * @param challenge value of the WWW-Authenticate header
+     * @return true if the request can be retried with the new authorization
+     */
+    private boolean authenticate(String challenge) throws IOException, InterruptedException {
+        String scheme = challenge.split(" ", 2)[0].toLowerCase(Locale.ROOT);
+        if ("basic".equals(scheme)) {
+            if (credentials == null || authorization != null) {
+                return false;
+            }
+            authorization = "Basic " + credentials;
+            return true;
+        }
+        if (!"bearer".equals(scheme)) {
+            return false;
+        }
+        Map<String, String> parameters = new LinkedHashMap<>();
+        Matcher matcher = CHALLENGE_PARAMETER.matcher(challenge);
+        while (matcher.find()) {
+            parameters.put(matcher.group(1), matcher.group(2));
+        }
+        if (!parameters.containsKey("realm")) {
+            return false;
+        }
+        StringBuilder tokenUri = new StringBuilder(parameters.get("realm")).append('?');
+        if (parameters.containsKey("service")) {
+            tokenUri.append("service=").append(encode(parameters.get("service"))).append('&');
+        }
+        if (parameters.containsKey("scope")) {
+            tokenUri.append("scope=").append(encode(parameters.get("scope")));
+        }
+        HttpRequest.Builder tokenRequest = HttpRequest.newBuilder(URI.create(tokenUri.toString())).timeout(TIMEOUT);
+        if (credentials != null) {
+            tokenRequest.header("Authorization", "Basic " + credentials);
+        }
+        HttpResponse<String> response = httpClient.send(tokenRequest.GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        JsonObject token = JsonParser.parseString(response.body()).getAsJsonObject();
+        JsonElement value = token.has("token") ? token.get("token") : token.get("access_token");
+        if (value == null) {
+            return false;
+        }
+        authorization = "Bearer " + value.getAsString();
+        return true;
+    }
+
+    /**
+     * Reads the credentials stored by {@code docker login}. Credential helpers are not supported.
+     */
+    private static Optional<String> readCredentials(String registry) {
+        String configDir = System.getenv("DOCKER_CONFIG");
+        Path config = configDir != null ? Paths.get(configDir, "config.json") :
+                Paths.get(System.getProperty("user.home"), ".docker", "config.json");
+        if (!Files.exists(config)) {
+            return Optional.empty();
+        }
+        try {
+            JsonObject auths = JsonParser.parseString(Files.readString(config)).getAsJsonObject()
+                    .getAsJsonObject("auths");
+            if (auths == null) {
+                return Optional.empty();
+            }
+            JsonObject auth = auths.getAsJsonObject(DOCKER_HUB.equals(registry) ? DOCKER_HUB_AUTH_KEY : registry);
+            if (auth == null || !auth.has("auth")) {
+                return Optional.empty();
+            }
+            String encoded = auth.get("auth").getAsString();
+            // validate that the stored value is base64 encoded `user:password`
+            Base64.getDecoder().decode(encoded);
+            return Optional.of(encoded);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private URI uri(String path) {
+        String host = DOCKER_HUB.equals(registry) ? DOCKER_HUB_REGISTRY : registry;
+        // local registries are usually served over plain http
+        String scheme = host.startsWith("localhost") || host.startsWith("127.0.0.1") ? "http" : "https";
+        return URI.create(scheme + "://" + host + "/v2/" + repository + path);
+    }
+
+    private static boolean isRedirect(int statusCode) {
+        return statusCode == 301 || statusCode == 302 || statusCode == 303 || statusCode == 307 ||
+                statusCode == 308;
+    }
+
+    private static String getError(HttpResponse<byte[]> response) {
+        String body = new String(response.body(), StandardCharsets.UTF_8).trim();
+        try {
+            JsonArray errors = JsonParser.parseString(body).getAsJsonObject().getAsJsonArray("errors");
+            if (errors != null && errors.size() > 0) {
+                return errors.get(0).getAsJsonObject().get("message").getAsString();
+            }
+        } catch (RuntimeException e) {
+            // not an error document of the registry
+        }
+        return "status " + response.statusCode() + (body.isEmpty() ? "" : " " + body);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
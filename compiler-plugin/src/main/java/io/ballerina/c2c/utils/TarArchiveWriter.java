@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes a tar archive in the ustar format to a stream, using pax headers for entry names that do not fit in the
+ * ustar header.
+ *
+ * @since 4.0.0
+ */
+public class TarArchiveWriter implements Closeable {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int NAME_LENGTH = 100;
+    private static final int FILE_MODE = 0644;
+    private static final int EXECUTABLE_MODE = 0755;
+    private static final byte FILE_TYPE = '0';
+    private static final byte DIRECTORY_TYPE = '5';
+    private static final byte PAX_HEADER_TYPE = 'x';
+    // the size field holds eleven octal digits
+    private static final long MAX_SIZE = 077777777777L;
+
+    private final OutputStream out;
+    private final Long modifiedTime;
+    private boolean finished = false;
+
+    /**
+     * Creates a writer that keeps the modified times of the source files.
+     *
+     * @param out stream to write the archive to
+     */
+    public TarArchiveWriter(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * Creates a writer that sets the given modified time on every entry, so that the archive only depends on the
+     * content of the files.
+     *
+     * @param out          stream to write the archive to
+     * @param modifiedTime modified time of the entries in seconds since the epoch, or null to keep the file times
+     */
+    public TarArchiveWriter(OutputStream out, Long modifiedTime) {
+        this.out = out;
+        this.modifiedTime = modifiedTime;
+    }
+
+    /**
+     * Adds a file or a directory along with its content. Symbolic links to files are added as the files they point
+     * to, while symbolic links to directories are rejected as they may point back to a parent directory.
+     *
+     * @param name   name of the entry in the archive
+     * @param source file or directory to add
+     * @throws IOException if the source could not be read or the archive could not be written
+     */
+    public void add(String name, Path source) throws IOException {
+        if (Files.isDirectory(source)) {
+            if (Files.isSymbolicLink(source)) {
+                throw new IOException("symbolic links to directories are not supported: " + source);
+            }
+            addDirectory(name, source);
+            return;
+        }
+        long time = modifiedTime != null ? modifiedTime : Files.getLastModifiedTime(source).toMillis() / 1000;
+        int mode = Files.isExecutable(source) ? EXECUTABLE_MODE : FILE_MODE;
+        long size = Files.size(source);
+        writeHeader(name, size, mode, FILE_TYPE, time);
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            long copied = inputStream.transferTo(out);
+            if (copied != size) {
+                throw new IOException("file changed while adding it to the archive: " + source);
+            }
+        }
+        pad(size);
+    }
+
+    /**
+     * Adds a file with the given content.
+     *
+     * @param name    name of the entry in the archive
+     * @param content content of the file
+     * @throws IOException if the archive could not be written
+     */
+    public void add(String name, byte[] content) throws IOException {
+        long time = modifiedTime != null ? modifiedTime : System.currentTimeMillis() / 1000;
+        writeHeader(name, content.length, FILE_MODE, FILE_TYPE, time);
+        out.write(content);
+        pad(content.length);
+    }
+
+    /**
+     * Adds an empty directory owned by the given user and group.
+     *
+     * @param name name of the directory in the archive
+     * @param uid  id of the owner
+     * @param gid  id of the owning group
+     * @throws IOException if the archive could not be written
+     */
+    public void addDirectory(String name, int uid, int gid) throws IOException {
+        long time = modifiedTime != null ? modifiedTime : System.currentTimeMillis() / 1000;
+        writeHeader(name.endsWith("/") ? name : name + "/", 0, EXECUTABLE_MODE, DIRECTORY_TYPE, time, uid, gid);
+    }
+
+    private void addDirectory(String name, Path directory) throws IOException {
+        String prefix = name.isEmpty() || name.endsWith("/") ? name : name + "/";
+        if (!prefix.isEmpty()) {
+            long time = modifiedTime != null ? modifiedTime : Files.getLastModifiedTime(directory).toMillis() / 1000;
+            writeHeader(prefix, 0, EXECUTABLE_MODE, DIRECTORY_TYPE, time);
+        }
+        List<Path> children;
+        try (Stream<Path> paths = Files.list(directory)) {
+            children = paths.sorted().toList();
+        }
+        for (Path child : children) {
+            add(prefix + child.getFileName().toString(), child);
+        }
+    }
+
+    /**
+     * Writes the end of archive marker. The underlying stream is left open.
+     *
+     * @throws IOException if the archive could not be written
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            out.write(new byte[BLOCK_SIZE * 2]);
+            out.flush();
+            finished = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    private void writeHeader(String name, long size, int mode, byte type, long time) throws IOException {
+        writeHeader(name, size, mode, type, time, 0, 0);
+    }
+
+    private void writeHeader(String name, long size, int mode, byte type, long time, int uid, int gid)
+            throws IOException {
+        if (size > MAX_SIZE) {
+            throw new IOException("entry is too large for the archive: " + name);
+        }
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > NAME_LENGTH) {
+            byte[] record = paxRecord("path", name);
+            writeHeader("PaxHeaders/" + Math.abs(name.hashCode()), record.length, FILE_MODE, PAX_HEADER_TYPE,
+                    time);
+            out.write(record);
+            pad(record.length);
+            nameBytes = trimName(nameBytes);
+        }
+        byte[] header = new byte[BLOCK_SIZE];
+        System.arraycopy(nameBytes, 0, header, 0, nameBytes.length);
+        writeOctal(header, 100, 8, mode);
+        writeOctal(header, 108, 8, uid);
+        writeOctal(header, 116, 8, gid);
+        writeOctal(header, 124, 12, size);
+        writeOctal(header, 136, 12, time);
+        header[156] = type;
+        byte[] magic = "ustar\u000000".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(magic, 0, header, 257, magic.length);
+        // the checksum is computed with its own field filled with spaces
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xff;
+        }
+        writeOctal(header, 148, 7, checksum);
+        out.write(header);
+    }
+
+    private static byte[] paxRecord(String key, String value) {
+        // each record is prefixed by its own length in bytes, including the length digits
+        String content = " " + key + "=" + value + "\n";
+        int length = content.getBytes(StandardCharsets.UTF_8).length;
+        int total = length + String.valueOf(length).length();
+        if (String.valueOf(total).length() != String.valueOf(length).length()) {
+            total++;
+        }
+        return (total + content).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] trimName(byte[] nameBytes) {
+        byte[] trimmed = new byte[NAME_LENGTH];
+        System.arraycopy(nameBytes, nameBytes.length - NAME_LENGTH, trimmed, 0, NAME_LENGTH);
+        return trimmed;
+    }
+
+    private static void writeOctal(byte[] header, int offset, int length, long value) throws IOException {
+        String octal = Long.toOctalString(value);
+        // right aligned, zero padded and terminated by a NUL
+        int digits = length - 1;
+        if (value < 0 || octal.length() > digits) {
+            throw new IOException("value " + value + " does not fit in a tar header field of " + digits + " digits");
+        }
+        for (int i = 0; i < digits; i++) {
+            int index = octal.length() - digits + i;
+            header[offset + i] = (byte) (index < 0 ? '0' : octal.charAt(index));
+        }
+        header[offset + digits] = 0;
+    }
+
+    private void pad(long size) throws IOException {
+        int remainder = (int) (size % BLOCK_SIZE);
+        if (remainder != 0) {
+            out.write(new byte[BLOCK_SIZE - remainder]);
+        }
+    }
+}
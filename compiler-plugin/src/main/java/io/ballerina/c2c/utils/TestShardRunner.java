@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.ballerina.c2c.exceptions.DockerGenException;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DockerModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.NullLocation;
+import org.ballerinalang.test.runtime.entity.TestSuite;
+import org.ballerinalang.test.runtime.util.TesterinaConstants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static io.ballerina.c2c.DockerGenConstants.JACOCO_EXEC_EXTENSION;
+import static io.ballerina.c2c.DockerGenConstants.TEST_RESULTS_DIR;
+import static io.ballerina.c2c.DockerGenConstants.TEST_SHARDS_DIR;
+import static io.ballerina.c2c.utils.DockerGenUtils.getTargetDir;
+import static io.ballerina.c2c.utils.DockerGenUtils.getTestSuiteJsonCopiedDir;
+import static io.ballerina.c2c.utils.KubernetesUtils.printError;
+
+/**
+ * Runs the tests of a package across several containers of the test image at once.
+ * <p>
+ * The test suites of the modules are split into shards weighted by their test counts. Each shard runs in its own
+ * container with the test suite json of the image replaced by the suites of the shard. Once every shard completes,
+ * the target directories of the containers are merged, appending the coverage data of the shards to each other.
+ *
+ * @since 4.0.0
+ */
+public class TestShardRunner {
+
+    private static final PrintStream OUT = System.out;
+
+    private final DockerModel dockerModel;
+    private final Path outputDir;
+
+    public TestShardRunner(DockerModel dockerModel, Path outputDir) {
+        this.dockerModel = dockerModel;
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Runs the shards of the test image and merges their results.
+     *
+     * @return true if the tests of every shard passed
+     * @throws KubernetesPluginException if the shards could not be run
+     */
+    public boolean run() throws KubernetesPluginException {
+        Path shardsDir = outputDir.resolve(TEST_SHARDS_DIR);
+        Path resultsDir = outputDir.resolve(TEST_RESULTS_DIR);
+        KubernetesUtils.deleteDirectory(shardsDir);
+        KubernetesUtils.deleteDirectory(resultsDir);
+
+        List<Map<String, TestSuite>> shards = partition(readTestSuites(), dockerModel.getTestShards());
+        List<Path> shardDirs = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            Path shardDir = shardsDir.resolve("shard-" + i);
+            writeTestSuites(shards.get(i), shardDir);
+            shardDirs.add(shardDir);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(shardDirs.size());
+        boolean passed = true;
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Path shardDir : shardDirs) {
+                results.add(executor.submit(() -> runShard(shardDir)));
+            }
+            for (Future<Boolean> result : results) {
+                passed &= result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createException("interrupted while waiting for the shards");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof KubernetesPluginException) {
+                throw (KubernetesPluginException) e.getCause();
+            }
+            throw createException(e.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try {
+            mergeResults(shardDirs.stream().map(dir -> dir.resolve(ProjectConstants.TARGET_DIR_NAME)).toList(),
+                    resultsDir);
+        } catch (IOException e) {
+            throw createException("unable to merge the results of the shards: " + e.getMessage());
+        }
+        OUT.println("\nTest results of " + shardDirs.size() + " shards merged to " + resultsDir);
+        return passed;
+    }
+
+    /**
+     * Splits the test suites into shards so that each shard gets a similar number of tests. Modules are assigned
+     * from the heaviest to the lightest, each to the shard with the fewest tests so far.
+     *
+     * @param testSuites test suites by module
+     * @param shardCount maximum number of shards
+     * @return non-empty shards
+     */
+    public static List<Map<String, TestSuite>> partition(Map<String, TestSuite> testSuites, int shardCount) {
+        List<Map.Entry<String, TestSuite>> modules = new ArrayList<>(testSuites.entrySet());
+        modules.sort(Comparator.<Map.Entry<String, TestSuite>>comparingInt(module -> getWeight(module.getValue()))
+                .reversed().thenComparing(module -> module.getKey()));
+        int count = Math.max(1, Math.min(shardCount, modules.size()));
+        List<Map<String, TestSuite>> shards = new ArrayList<>();
+        int[] weights = new int[count];
+        for (int i = 0; i < count; i++) {
+            shards.add(new LinkedHashMap<>());
+        }
+        for (Map.Entry<String, TestSuite> module : modules) {
+            int lightest = 0;
+            for (int i = 1; i < count; i++) {
+                if (weights[i] < weights[lightest]) {
+                    lightest = i;
+                }
+            }
+            shards.get(lightest).put(module.getKey(), module.getValue());
+            weights[lightest] += getWeight(module.getValue());
+        }
+        return shards;
+    }
+
+    private static int getWeight(TestSuite testSuite) {
+        // every module pays for starting its test runtime even without tests
+        return testSuite.getTests() == null ? 1 : testSuite.getTests().size() + 1;
+    }
+
+    /**
+     * Merges the target directories of the shards. Coverage data files are appended to each other, as JaCoCo reads
+     * every session of a concatenated execution data file, and other files are copied over.
+     *
+     * @param shardTargets target directories of the shards
+     * @param resultsDir   directory to merge into
+     * @throws IOException if a file could not be copied
+     */
+    public static void mergeResults(List<Path> shardTargets, Path resultsDir) throws IOException {
+        for (Path shardTarget : shardTargets) {
+            if (!Files.isDirectory(shardTarget)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(shardTarget)) {
+                files = paths.filter(Files::isRegularFile).toList();
+            }
+            for (Path file : files) {
+                Path merged = resultsDir.resolve(shardTarget.relativize(file).toString());
+                Files.createDirectories(merged.getParent());
+                if (file.getFileName().toString().endsWith(JACOCO_EXEC_EXTENSION) && Files.exists(merged)) {
+                    Files.write(merged, Files.readAllBytes(file), StandardOpenOption.APPEND);
+                } else {
+                    Files.copy(file, merged, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private boolean runShard(Path shardDir) throws KubernetesPluginException {
+        String shardName = shardDir.getFileName().toString();
+        Optional<String> containerId = KubernetesUtils.createContainer(dockerModel.getName());
+        if (containerId.isEmpty()) {
+            throw createException("unable to create the container of " + shardName);
+        }
+        String container = containerId.get();
+        try {
+            if (!KubernetesUtils.copyToContainer(shardDir.resolve(TesterinaConstants.TESTERINA_TEST_SUITE),
+                    container, getTestSuiteJsonCopiedDir())) {
+                throw createException("unable to copy the test suites of " + shardName);
+            }
+            int exitCode = attach(container, shardName);
+            if (!KubernetesUtils.copyFromContainer(container, getTargetDir(),
+                    shardDir.resolve(ProjectConstants.TARGET_DIR_NAME))) {
+                printError("Error copying the test results of " + shardName);
+            }
+            return exitCode == 0;
+        } finally {
+            KubernetesUtils.removeContainer(container);
+        }
+    }
+
+    private int attach(String container, String shardName) throws KubernetesPluginException {
+        long timeoutSeconds = dockerModel.getTestTimeout();
+        Duration timeout = timeoutSeconds > 0 ? Duration.ofSeconds(timeoutSeconds) : null;
+        Optional<DockerEngineClient> client = DockerEngineClient.connect();
+        if (client.isPresent()) {
+            try {
+                ProcessRunner.ProcessResult result = client.get().attachContainer(container, "[" + shardName + "] ",
+                        timeout);
+                if (result.isTimedOut()) {
+                    printError("Timed out after " + timeoutSeconds + " seconds running " + shardName);
+                }
+                return result.getExitCode();
+            } catch (DockerGenException e) {
+                throw createException("unable to run " + shardName + ": " + e.getMessage());
+            }
+        }
+        // prefix the lines so that the interleaved output of the shards can be told apart
+        ProcessRunner runner = new ProcessRunner()
+                .withPrefix("[" + shardName + "] ")
+                .withTimeout(timeout);
+        try {
+            ProcessRunner.ProcessResult result = runner.run(new ProcessBuilder("docker", "start", "-a", container));
+            if (result.isTimedOut()) {
+                printError("Timed out after " + timeoutSeconds + " seconds running " + shardName);
+            }
+            return result.getExitCode();
+        } catch (IOException e) {
+            throw createException("unable to run " + shardName + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createException("interrupted while running " + shardName);
+        }
+    }
+
+    private Map<String, TestSuite> readTestSuites() throws KubernetesPluginException {
+        try (BufferedReader reader = Files.newBufferedReader(dockerModel.getTestSuiteJsonPath(),
+                StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(reader, new TestSuiteTypeToken().getType());
+        } catch (IOException e) {
+            throw createException("unable to read the test suite json: " + e.getMessage());
+        }
+    }
+
+    private static void writeTestSuites(Map<String, TestSuite> testSuites, Path shardDir)
+            throws KubernetesPluginException {
+        try {
+            Files.createDirectories(shardDir);
+            Files.writeString(shardDir.resolve(TesterinaConstants.TESTERINA_TEST_SUITE),
+                    new Gson().toJson(testSuites), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw createException("unable to write the test suites of " + shardDir.getFileName() + ": " +
+                    e.getMessage());
+        }
+    }
+
+    private static KubernetesPluginException createException(String message) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.TEST_SHARDS_FAILED,
+                new NullLocation(), message);
+        return new KubernetesPluginException(diagnostic);
+    }
+
+    private static class TestSuiteTypeToken extends TypeToken<Map<String, TestSuite>> {
+    }
+}
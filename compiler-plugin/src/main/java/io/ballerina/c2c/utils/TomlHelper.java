@@ -21,7 +21,9 @@ package io.ballerina.c2c.utils;
 import io.ballerina.projects.TomlDocument;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.TomlType;
+import io.ballerina.toml.semantic.ast.TomlArrayValueNode;
 import io.ballerina.toml.semantic.ast.TomlBooleanValueNode;
+import io.ballerina.toml.semantic.ast.TomlDoubleValueNodeNode;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
 import io.ballerina.toml.semantic.ast.TomlStringValueNode;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
@@ -32,6 +34,9 @@ import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
 import io.ballerina.toml.syntax.tree.SyntaxTree;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -83,6 +88,49 @@ public class TomlHelper {
         return output;
     }
 
+    public static Double getDouble(Toml toml, String key) {
+        Optional<TomlValueNode> valueNode = toml.get(key);
+        if (valueNode.isEmpty()) {
+            return null;
+        }
+        TomlValueNode tomlValueNode = valueNode.get();
+        if (tomlValueNode.kind() == TomlType.DOUBLE) {
+            return ((TomlDoubleValueNodeNode) tomlValueNode).getValue();
+        }
+        if (tomlValueNode.kind() == TomlType.INTEGER) {
+            return ((TomlLongValueNode) tomlValueNode).getValue().doubleValue();
+        }
+        return null;
+    }
+
+    public static List<Long> getLongList(Toml toml, String key) {
+        List<Long> values = new ArrayList<>();
+        for (TomlValueNode element : getArrayElements(toml, key)) {
+            if (element.kind() == TomlType.INTEGER) {
+                values.add(((TomlLongValueNode) element).getValue());
+            }
+        }
+        return values;
+    }
+
+    public static List<String> getStringList(Toml toml, String key) {
+        List<String> values = new ArrayList<>();
+        for (TomlValueNode element : getArrayElements(toml, key)) {
+            if (element.kind() == TomlType.STRING) {
+                values.add(((TomlStringValueNode) element).getValue());
+            }
+        }
+        return values;
+    }
+
+    private static List<TomlValueNode> getArrayElements(Toml toml, String key) {
+        Optional<TomlValueNode> valueNode = toml.get(key);
+        if (valueNode.isEmpty() || valueNode.get().kind() != TomlType.ARRAY) {
+            return Collections.emptyList();
+        }
+        return ((TomlArrayValueNode) valueNode.get()).elements();
+    }
+
     public static boolean getBoolean(Toml toml, String key, boolean defaultValue) {
         Optional<TomlValueNode> valueNode = toml.get(key);
         if (valueNode.isEmpty()) {